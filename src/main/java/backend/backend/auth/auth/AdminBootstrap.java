@@ -0,0 +1,69 @@
+package backend.backend.auth.auth;
+
+import backend.backend.core.user.user_repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides whether a registration is the very first one (which becomes ADMIN).
+ * The users table is looked at once; after that the answer lives in memory, so
+ * regular registrations never run a table count.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminBootstrap {
+
+    private static final int UNKNOWN = 0;
+    private static final int OPEN = 1;      // no user yet, the next registration gets ADMIN
+    private static final int CLAIMED = 2;   // a registration is inserting the first admin
+    private static final int DONE = 3;
+
+    private final UserRepository userRepository;
+    private final AtomicInteger state = new AtomicInteger(UNKNOWN);
+
+    /**
+     * Returns true for exactly one caller while no user exists yet.
+     * The claim is settled when the caller's transaction completes: a commit closes the
+     * bootstrap for good, a rollback lets the next registration try again.
+     */
+    public boolean tryClaimFirstUser() {
+        if (state.get() == DONE) {
+            return false;
+        }
+        resolve();
+        if (!state.compareAndSet(OPEN, CLAIMED)) {
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    state.set(status == STATUS_COMMITTED ? DONE : OPEN);
+                }
+            });
+        } else {
+            state.set(DONE);
+        }
+        return true;
+    }
+
+    private void resolve() {
+        if (state.get() != UNKNOWN) {
+            return;
+        }
+        synchronized (this) {
+            if (state.get() == UNKNOWN) {
+                boolean empty = userRepository.count() == 0;
+                state.set(empty ? OPEN : DONE);
+                log.info("Admin bootstrap resolved: {}", empty ? "waiting for first user" : "users already exist");
+            }
+        }
+    }
+}
@@ -48,13 +48,6 @@ public class AuthController {
                     "error", "Registration failed",
                     "message", e.getMessage()
             ));
-        } catch (Exception e) {
-            log.error("Unexpected registration error for username: {}",
-                    request.getUsername(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of(
-                    "error", "Internal server error",
-                    "message", "An unexpected error occurred during registration"
-            ));
         }
     }
 
@@ -75,13 +68,6 @@ public class AuthController {
                     "error", "Login failed",
                     "message", e.getMessage()
             ));
-        } catch (Exception e) {
-            log.error("Unexpected login error for username: {}",
-                    request.getUsername(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of(
-                    "error", "Internal server error",
-                    "message", "An unexpected error occurred during login"
-            ));
         }
     }
 
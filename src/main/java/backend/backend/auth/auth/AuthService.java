@@ -4,18 +4,28 @@ import backend.backend.auth.dto.AuthResponse;
 import backend.backend.auth.dto.LoginRequest;
 import backend.backend.auth.dto.RegisterRequest;
 import backend.backend.auth.exception.AuthException;
+import backend.backend.auth.login.LoginActivityRecorder;
+import backend.backend.auth.token.RefreshTokenService;
 import backend.backend.security.JwtService;
+import backend.backend.security.PasswordHashingBusyException;
 import backend.backend.enums.Role;
 import backend.backend.core.user.user_entity.User;
 import backend.backend.core.user.user_repository.UserRepository;
+import backend.backend.core.user.user_service.UserCounters;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
@@ -26,6 +36,11 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final RefreshTokenService refreshTokenService;
+    private final AdminBootstrap adminBootstrap;
+    private final LoginActivityRecorder loginActivityRecorder;
+    private final UserCounters userCounters;
+    private final PlatformTransactionManager transactionManager;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -33,28 +48,22 @@ public class AuthService {
             // 1. Validate input
             validateRegistrationRequest(request);
 
-            // 2. Check for existing users
-            if (userRepository.existsByUsername(request.getUsername())) {
-                throw new AuthException("Username is already taken");
-            }
-            if (userRepository.existsByEmail(request.getEmail())) {
-                throw new AuthException("Email is already registered");
-            }
+            // 2. Determine user role (ADMIN if first user, otherwise TOURIST)
+            boolean firstUser = adminBootstrap.tryClaimFirstUser();
+            Role assignedRole = determineUserRole(request, firstUser);
 
-            // 3. Determine user role (ADMIN if first user, otherwise TOURIST)
-            Role assignedRole = determineUserRole(request);
-
-            // 4. Create and save user
+            // 3. Create and insert user; duplicates are caught by the unique constraints
             User user = createUserFromRequest(request, assignedRole);
-            user = userRepository.save(user);
+            try {
+                user = userRepository.saveAndFlush(user);
+            } catch (DataIntegrityViolationException e) {
+                throw duplicateUserException(e, user);
+            }
+            userCounters.userAdded(user.getRole(), user.isActive());
 
-            // 5. Generate tokens using the User directly (implements UserDetails)
+            // 4. Generate tokens using the User directly (implements UserDetails)
             String accessToken = jwtService.generateToken(user);
-            String refreshToken = jwtService.generateRefreshToken(user);
-
-            // 6. Save refresh token
-            user.setRefreshToken(refreshToken);
-            userRepository.save(user);
+            String refreshToken = refreshTokenService.issue(user);
 
             log.info("User registered successfully: {} with role: {}", user.getUsername(), assignedRole);
 
@@ -65,7 +74,7 @@ public class AuthService {
                     .username(user.getUsername())
                     .build();
 
-        } catch (AuthException e) {
+        } catch (AuthException | PasswordHashingBusyException e) {
             log.error("Registration failed: {}", e.getMessage());
             throw e;
         } catch (Exception e) {
@@ -93,21 +102,12 @@ public class AuthService {
                 throw new AuthException("Account is deactivated");
             }
 
-            // 3. Generate tokens
+            // 3. Generate tokens (each login gets its own refresh token, other devices stay signed in)
             String accessToken = jwtService.generateToken(user);
-            // Convert User to UserDetails for refresh token generation
-            org.springframework.security.core.userdetails.User userDetails = 
-                new org.springframework.security.core.userdetails.User(
-                    user.getUsername(),
-                    user.getPassword(),
-                    true, true, true, true,
-                    user.getAuthorities()
-                );
-            String refreshToken = jwtService.generateRefreshToken(userDetails);
-
-            // 4. Save refresh token
-            user.setRefreshToken(refreshToken);
-            userRepository.save(user);
+            String refreshToken = refreshTokenService.issue(user);
+
+            // 4. lastLogin and the audit event are written behind, off the request path
+            loginActivityRecorder.recordSuccess(user.getId(), user.getUsername());
 
             log.info("User logged in: {}", user.getUsername());
 
@@ -121,41 +121,41 @@ public class AuthService {
 
         } catch (BadCredentialsException e) {
             log.warn("Login failed for user: {}", request.getUsername());
+            loginActivityRecorder.recordFailure(request.getUsername());
             throw new AuthException("Invalid username or password");
+        } catch (PasswordHashingBusyException | InternalAuthenticationServiceException e) {
+            // The provider wraps a saturated hashing pool; ApiExceptionHandler unwraps it into a 503
+            log.warn("Login shed for user {}: {}", request.getUsername(), e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("Login error: {}", e.getMessage(), e);
             throw new AuthException("Login failed: " + e.getMessage());
         }
     }
 
-    @Transactional
+    // Not transactional: rotate() is the boundary, so a detected reuse commits its family revocation
     public AuthResponse refreshToken(String refreshToken) {
         try {
-            // 1. Validate refresh token
-            String username = jwtService.extractUsername(refreshToken);
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new AuthException("User not found"));
-
-            // 2. Verify token validity and match with stored token
-            if (!jwtService.isTokenValid(refreshToken, user) ||
-                    !refreshToken.equals(user.getRefreshToken())) {
-                throw new AuthException("Invalid refresh token");
-            }
-
-            // 3. Generate new tokens
+            // 1. Validate and rotate the refresh token (a replayed token revokes its whole family)
+            RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken, userId -> {
+                User user = userRepository.findById(userId)
+                        .orElseThrow(() -> new AuthException("User not found"));
+                if (!user.isActive()) {
+                    throw new AuthException("Account is deactivated");
+                }
+                return user;
+            });
+            User user = rotation.user();
+
+            // 2. Generate new access token
             String newAccessToken = jwtService.generateToken(user);
-            String newRefreshToken = jwtService.generateRefreshToken(user);
 
-            // 4. Update refresh token in database
-            user.setRefreshToken(newRefreshToken);
-            userRepository.save(user);
+            log.info("Token refreshed for user: {}", user.getUsername());
 
-            log.info("Token refreshed for user: {}", username);
-
-            // 5. Return new tokens
+            // 3. Return new tokens
             return AuthResponse.builder()
                     .token(newAccessToken)
-                    .refreshToken(newRefreshToken)
+                    .refreshToken(rotation.refreshToken())
                     .role(user.getRole().name())
                     .username(user.getUsername())
                     .build();
@@ -169,17 +169,10 @@ public class AuthService {
     @Transactional
     public void logout(String refreshToken) {
         try {
-            // 1. Extract username from token
-            String username = jwtService.extractUsername(refreshToken);
-
-            // 2. Find user and clear refresh token
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new AuthException("User not found"));
+            // Only this device's refresh token is revoked; the users row is not touched
+            refreshTokenService.revoke(refreshToken);
 
-            user.setRefreshToken(null);
-            userRepository.save(user);
-
-            log.info("User logged out: {}", username);
+            log.info("User logged out");
 
         } catch (Exception e) {
             log.error("Logout error: {}", e.getMessage(), e);
@@ -212,8 +205,8 @@ public class AuthService {
      * - First user → ADMIN
      * - Subsequent users → Role from request or TOURIST by default
      */
-    private Role determineUserRole(RegisterRequest request) {
-        if (userRepository.count() == 0) {
+    private Role determineUserRole(RegisterRequest request, boolean firstUser) {
+        if (firstUser) {
             log.info("First user registration - assigning ADMIN role");
             return Role.ADMIN;
         }
@@ -221,6 +214,48 @@ public class AuthService {
         return request.getRole() != null ? request.getRole() : Role.TOURIST;
     }
 
+    /**
+     * Maps a unique constraint violation on users to the matching "already taken" error
+     * Databases created before the constraints were named keep generated names, so an
+     * unrecognised violation is resolved by looking the username and email up instead
+     */
+    private AuthException duplicateUserException(DataIntegrityViolationException e, User user) {
+        String constraint = null;
+        if (e.getCause() instanceof ConstraintViolationException cve) {
+            constraint = cve.getConstraintName();
+        }
+        if (constraint == null) {
+            constraint = e.getMostSpecificCause().getMessage();
+        }
+        String name = constraint != null ? constraint.toLowerCase() : "";
+
+        if (name.contains(User.UK_EMAIL)) {
+            return new AuthException("Email is already registered");
+        }
+        if (name.contains(User.UK_USERNAME)) {
+            return new AuthException("Username is already taken");
+        }
+
+        // The failed flush left this transaction unusable: look up in a fresh one
+        TransactionTemplate lookup = new TransactionTemplate(transactionManager);
+        lookup.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        lookup.setReadOnly(true);
+        AuthException duplicate = lookup.execute(status -> {
+            if (userRepository.existsByEmail(user.getEmail())) {
+                return new AuthException("Email is already registered");
+            }
+            if (userRepository.existsByUsername(user.getUsername())) {
+                return new AuthException("Username is already taken");
+            }
+            return null;
+        });
+        if (duplicate != null) {
+            return duplicate;
+        }
+        log.error("Unexpected constraint violation during registration", e);
+        return new AuthException("Registration failed: account could not be created");
+    }
+
     private User createUserFromRequest(RegisterRequest request, Role role) {
         return User.builder()
                 .firstName(request.getFirstName().trim())
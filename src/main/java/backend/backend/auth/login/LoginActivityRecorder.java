@@ -0,0 +1,228 @@
+package backend.backend.auth.login;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind recorder for login metadata.
+ *
+ * The login request only touches memory: last-login timestamps are coalesced per user
+ * (the latest one wins) and audit events are queued. A scheduled flush writes both in
+ * JDBC batches. If the event queue is full, the oldest events are dropped and counted
+ * rather than slowing logins down. A batch that fails to write stays pending for the next flush.
+ *
+ * X-Forwarded-For is only read when the connection comes from one of the configured
+ * trusted proxies; otherwise any client could choose the address that gets audited.
+ */
+@Slf4j
+@Component
+public class LoginActivityRecorder {
+
+    private static final String UPDATE_LAST_LOGIN =
+            "UPDATE users SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+    private static final String INSERT_EVENT =
+            "INSERT INTO login_events (id, user_id, username, success, ip_address, occurred_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final int maxPendingEvents;
+    private final Set<String> trustedProxies;
+
+    private final Map<UUID, LocalDateTime> lastLogins = new ConcurrentHashMap<>();
+    private final Queue<LoginEvent> events = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    public LoginActivityRecorder(
+            JdbcTemplate jdbcTemplate,
+            @Value("${auth.login-activity.batch-size:500}") int batchSize,
+            @Value("${auth.login-activity.max-pending-events:50000}") int maxPendingEvents,
+            @Value("${auth.login-activity.trusted-proxies:}") List<String> trustedProxies) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.maxPendingEvents = maxPendingEvents;
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    // =========================
+    // Recording (login path)
+    // =========================
+
+    public void recordSuccess(UUID userId, String username) {
+        LocalDateTime now = LocalDateTime.now();
+        lastLogins.merge(userId, now, (a, b) -> a.isAfter(b) ? a : b);
+        enqueue(new LoginEvent(UUID.randomUUID(), userId, username, true, clientIp(), now));
+    }
+
+    public void recordFailure(String username) {
+        if (username == null) {
+            return;
+        }
+        String name = username.length() > 150 ? username.substring(0, 150) : username;
+        enqueue(new LoginEvent(UUID.randomUUID(), null, name, false, clientIp(), LocalDateTime.now()));
+    }
+
+    // =========================
+    // Flush (background)
+    // =========================
+
+    @Scheduled(
+            initialDelayString = "${auth.login-activity.flush-interval-ms:5000}",
+            fixedDelayString = "${auth.login-activity.flush-interval-ms:5000}"
+    )
+    public synchronized void flush() {
+        // Independent writes: a failing last-login update must not hold back the audit events
+        int users = 0;
+        int written = 0;
+        try {
+            users = flushLastLogins();
+        } catch (Exception e) {
+            log.error("Last-login flush failed, {} users kept for retry: {}", lastLogins.size(), e.getMessage());
+        }
+        try {
+            written = flushEvents();
+        } catch (Exception e) {
+            log.error("Login event flush failed, {} events kept for retry: {}", pendingEvents.get(), e.getMessage());
+        }
+        if (users > 0 || written > 0) {
+            log.debug("Flushed login activity: {} last-login updates, {} audit events", users, written);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    private int flushLastLogins() {
+        List<Map.Entry<UUID, LocalDateTime>> batch = new ArrayList<>(Math.min(lastLogins.size(), batchSize));
+        int total = 0;
+        for (Map.Entry<UUID, LocalDateTime> entry : lastLogins.entrySet()) {
+            batch.add(Map.entry(entry.getKey(), entry.getValue()));
+            if (batch.size() >= batchSize) {
+                total += writeLastLogins(batch);
+            }
+        }
+        return total + writeLastLogins(batch);
+    }
+
+    // Entries are removed only once written; remove(key, value) keeps a newer timestamp recorded meanwhile
+    private int writeLastLogins(List<Map.Entry<UUID, LocalDateTime>> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, batch.stream()
+                .map(entry -> {
+                    Timestamp at = Timestamp.valueOf(entry.getValue());
+                    return new Object[]{at, entry.getKey(), at};
+                })
+                .toList());
+        batch.forEach(entry -> lastLogins.remove(entry.getKey(), entry.getValue()));
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private int flushEvents() {
+        List<LoginEvent> batch = new ArrayList<>(Math.min(pendingEvents.get(), batchSize));
+        int total = 0;
+        LoginEvent event;
+        while ((event = events.poll()) != null) {
+            pendingEvents.decrementAndGet();
+            batch.add(event);
+            if (batch.size() >= batchSize) {
+                total += writeEvents(batch);
+            }
+        }
+        return total + writeEvents(batch);
+    }
+
+    // A failed batch goes back on the queue (still subject to the max-pending cap)
+    private int writeEvents(List<LoginEvent> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_EVENT, batch.stream()
+                    .map(event -> new Object[]{
+                            event.getId(),
+                            event.getUserId(),
+                            event.getUsername(),
+                            event.isSuccess(),
+                            event.getIpAddress(),
+                            Timestamp.valueOf(event.getOccurredAt())
+                    })
+                    .toList());
+        } catch (RuntimeException e) {
+            batch.forEach(this::enqueue);
+            batch.clear();
+            throw e;
+        }
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private void enqueue(LoginEvent event) {
+        events.add(event);
+        if (pendingEvents.incrementAndGet() > maxPendingEvents && events.poll() != null) {
+            pendingEvents.decrementAndGet();
+            droppedEvents.incrementAndGet();
+        }
+    }
+
+    private String clientIp() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String ip = request.getRemoteAddr();
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded != null && trustedProxies.contains(ip)) {
+            // Rightmost hop not added by one of our proxies; anything left of it is client-supplied
+            String[] hops = forwarded.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (!hop.isEmpty()) {
+                    ip = hop;
+                    if (!trustedProxies.contains(hop)) {
+                        break;
+                    }
+                }
+            }
+        }
+        return ip != null && ip.length() > 64 ? ip.substring(0, 64) : ip;
+    }
+}
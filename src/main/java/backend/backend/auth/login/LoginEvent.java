@@ -0,0 +1,48 @@
+package backend.backend.auth.login;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Audit row for one login attempt. Rows are written in batches by {@link LoginActivityRecorder},
+ * never from the login request itself.
+ */
+@Entity
+@Table(
+        name = "login_events",
+        indexes = {
+                @Index(name = "idx_login_events_user", columnList = "user_id"),
+                @Index(name = "idx_login_events_occurred_at", columnList = "occurred_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class LoginEvent {
+
+    @Id
+    @Column(updatable = false, nullable = false)
+    private UUID id;
+
+    // Null for failed attempts on unknown usernames
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(nullable = false, length = 150)
+    private String username;
+
+    @Column(nullable = false)
+    private boolean success;
+
+    @Column(name = "ip_address", length = 64)
+    private String ipAddress;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
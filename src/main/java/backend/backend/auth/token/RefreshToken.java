@@ -0,0 +1,61 @@
+package backend.backend.auth.token;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One issued refresh token. Only the SHA-256 hash of the token is stored.
+ * Tokens issued by rotation share the family id of the login that started the chain,
+ * so a replayed (already rotated) token can revoke the whole chain at once.
+ */
+@Entity
+@Table(
+        name = "refresh_tokens",
+        indexes = {
+                @Index(name = "idx_refresh_tokens_user", columnList = "user_id"),
+                @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class RefreshToken {
+
+    // =========================
+    // Primary Key (token hash)
+    // =========================
+    @Id
+    @Column(name = "token_hash", length = 64, updatable = false, nullable = false)
+    private String tokenHash;
+
+    // =========================
+    // Ownership
+    // =========================
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "family_id", nullable = false, updatable = false)
+    private UUID familyId;
+
+    // =========================
+    // State
+    // =========================
+    @Column(name = "replaced_by", length = 64)
+    private String replacedBy;
+
+    @Column(nullable = false)
+    private boolean revoked;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private Instant expiresAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,48 @@
+package backend.backend.auth.token;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // Conditional update: only one caller can rotate a given token, a second attempt is a replay
+    @Modifying
+    @Transactional
+    @Query("""
+           UPDATE RefreshToken r SET r.replacedBy = :replacedBy
+           WHERE r.tokenHash = :tokenHash AND r.replacedBy IS NULL AND r.revoked = false AND r.expiresAt > :now
+           """)
+    int markRotated(@Param("tokenHash") String tokenHash,
+                    @Param("replacedBy") String replacedBy,
+                    @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.tokenHash = :tokenHash")
+    int revoke(@Param("tokenHash") String tokenHash);
+
+    // Own transaction: a detected replay must stay revoked even though the caller fails afterwards
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.familyId = :familyId")
+    int revokeFamily(@Param("familyId") UUID familyId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.userId = :userId")
+    int revokeAllForUser(@Param("userId") UUID userId);
+
+    @Query("SELECT r.tokenHash FROM RefreshToken r WHERE r.expiresAt < :now")
+    List<String> findExpiredHashes(@Param("now") Instant now, Pageable pageable);
+}
@@ -0,0 +1,199 @@
+package backend.backend.auth.token;
+
+import backend.backend.auth.exception.AuthException;
+import backend.backend.core.common.AfterCommit;
+import backend.backend.core.user.user_entity.User;
+import backend.backend.security.JwtService;
+import backend.backend.security.TokenDigests;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Multi-device refresh token store.
+ *
+ * Each login starts a token family; every refresh rotates the presented token into a new one
+ * of the same family. Presenting a token that was already rotated or revoked is treated as
+ * theft and revokes the whole family. The database row (keyed by token hash) is authoritative;
+ * the in-memory index only short-circuits lookups for tokens this node has already seen, and
+ * follows writes only once they commit: a rolled back rotation must leave the old token live.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtService jwtService;
+
+    private final Map<String, IndexEntry> index = new ConcurrentHashMap<>();
+
+    private record IndexEntry(UUID userId, UUID familyId, Instant expiresAt, boolean live) {
+
+        IndexEntry retired() {
+            return new IndexEntry(userId, familyId, expiresAt, false);
+        }
+    }
+
+    public record Rotation(User user, String refreshToken) {
+    }
+
+    // =========================
+    // Issue / rotate / revoke
+    // =========================
+
+    /**
+     * Issue a refresh token starting a new family (one per login or registration).
+     */
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID());
+    }
+
+    /**
+     * Validate the presented token, rotate it and issue its successor in the same family.
+     * The user is resolved through {@code userLoader}, which may throw to abort the rotation.
+     * A detected reuse still commits the family revocation before the AuthException reaches the caller.
+     */
+    @Transactional(noRollbackFor = AuthException.class)
+    public Rotation rotate(String refreshToken, Function<UUID, User> userLoader) {
+        String hash = hashOf(refreshToken);
+        IndexEntry entry = requireLive(hash);
+
+        User user = userLoader.apply(entry.userId());
+        String newToken = jwtService.generateRefreshToken(user);
+        String newHash = TokenDigests.sha256(newToken);
+
+        // Lost race with another rotation of the same token: that is a replay as well
+        if (refreshTokenRepository.markRotated(hash, newHash, Instant.now()) == 0) {
+            revokeFamily(entry.familyId());
+            throw new AuthException("Refresh token reuse detected");
+        }
+        AfterCommit.run(() -> index.put(hash, entry.retired()));
+
+        store(newHash, user.getId(), entry.familyId());
+        return new Rotation(user, newToken);
+    }
+
+    @Transactional
+    public void revoke(String refreshToken) {
+        String hash = hashOf(refreshToken);
+        IndexEntry entry = lookup(hash);
+        if (entry == null) {
+            throw new AuthException("Invalid refresh token");
+        }
+        refreshTokenRepository.revoke(hash);
+        AfterCommit.run(() -> index.put(hash, entry.retired()));
+    }
+
+    @Transactional
+    public void revokeAllForUser(UUID userId) {
+        refreshTokenRepository.revokeAllForUser(userId);
+        AfterCommit.run(() -> index.replaceAll(
+                (hash, entry) -> entry.userId().equals(userId) ? entry.retired() : entry));
+    }
+
+    // =========================
+    // Expiry sweep
+    // =========================
+
+    /**
+     * Delete expired tokens in batches of {@code batchSize}, each batch in its own statement,
+     * so a large backlog never holds long locks on the table.
+     */
+    public int sweepExpired(int batchSize) {
+        Instant now = Instant.now();
+        index.values().removeIf(entry -> entry.expiresAt().isBefore(now));
+
+        int deleted = 0;
+        List<String> batch;
+        do {
+            batch = refreshTokenRepository.findExpiredHashes(now, PageRequest.of(0, batchSize));
+            if (!batch.isEmpty()) {
+                refreshTokenRepository.deleteAllByIdInBatch(batch);
+                deleted += batch.size();
+            }
+        } while (batch.size() == batchSize);
+        return deleted;
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private String issue(User user, UUID familyId) {
+        String token = jwtService.generateRefreshToken(user);
+        store(TokenDigests.sha256(token), user.getId(), familyId);
+        return token;
+    }
+
+    private void store(String hash, UUID userId, UUID familyId) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(jwtService.getRefreshTokenTtl());
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash)
+                .userId(userId)
+                .familyId(familyId)
+                .revoked(false)
+                .expiresAt(expiresAt)
+                .createdAt(now)
+                .build());
+        AfterCommit.run(() -> index.put(hash, new IndexEntry(userId, familyId, expiresAt, true)));
+    }
+
+    private String hashOf(String refreshToken) {
+        // Signature and expiry first: forged or expired tokens never reach the store
+        if (refreshToken == null || jwtService.verify(refreshToken).isEmpty()) {
+            throw new AuthException("Invalid refresh token");
+        }
+        return TokenDigests.sha256(refreshToken);
+    }
+
+    private IndexEntry requireLive(String hash) {
+        IndexEntry entry = lookup(hash);
+        if (entry == null) {
+            throw new AuthException("Invalid refresh token");
+        }
+        if (!entry.live()) {
+            log.warn("Refresh token reuse detected for user {}, revoking token family", entry.userId());
+            revokeFamily(entry.familyId());
+            throw new AuthException("Refresh token reuse detected");
+        }
+        return entry;
+    }
+
+    private IndexEntry lookup(String hash) {
+        IndexEntry cached = index.get(hash);
+        if (cached != null) {
+            return cached;
+        }
+        return refreshTokenRepository.findById(hash)
+                .map(token -> {
+                    IndexEntry entry = new IndexEntry(
+                            token.getUserId(),
+                            token.getFamilyId(),
+                            token.getExpiresAt(),
+                            !token.isRevoked() && token.getReplacedBy() == null
+                    );
+                    index.put(hash, entry);
+                    return entry;
+                })
+                .orElse(null);
+    }
+
+    private void revokeFamily(UUID familyId) {
+        refreshTokenRepository.revokeFamily(familyId);
+        AfterCommit.run(() -> index.replaceAll(
+                (hash, entry) -> entry.familyId().equals(familyId) ? entry.retired() : entry));
+    }
+}
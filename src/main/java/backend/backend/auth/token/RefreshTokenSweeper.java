@@ -0,0 +1,32 @@
+package backend.backend.auth.token;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job removing expired refresh tokens.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenSweeper {
+
+    private final RefreshTokenService refreshTokenService;
+
+    @Value("${auth.refresh-tokens.sweep-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(
+            initialDelayString = "${auth.refresh-tokens.sweep-interval-ms:600000}",
+            fixedDelayString = "${auth.refresh-tokens.sweep-interval-ms:600000}"
+    )
+    public void sweep() {
+        int deleted = refreshTokenService.sweepExpired(batchSize);
+        if (deleted > 0) {
+            log.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+}
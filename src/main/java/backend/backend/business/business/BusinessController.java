@@ -1,5 +1,8 @@
 package backend.backend.business.business;
 
+import backend.backend.core.cache.CatalogVersioned;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.UUID;
 
 @RestController
+@CatalogVersioned("business")
 @RequestMapping("/api/businesses")
 @RequiredArgsConstructor
 public class BusinessController {
@@ -21,8 +25,8 @@ public class BusinessController {
     // VIEW (ALL USERS)
     // =========================
     @GetMapping
-    public ResponseEntity<List<Business>> getAll() {
-        return ResponseEntity.ok(businessService.getAllBusinesses());
+    public ResponseEntity<List<Business>> getAll(PageQuery page) {
+        return PageResponses.ok(businessService.getAllBusinesses(page));
     }
 
     @GetMapping("/{id}")
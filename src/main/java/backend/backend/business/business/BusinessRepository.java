@@ -1,13 +1,14 @@
 package backend.backend.business.business;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface BusinessRepository extends JpaRepository<Business, UUID> {
+public interface BusinessRepository extends JpaRepository<Business, UUID>, JpaSpecificationExecutor<Business> {
 
     List<Business> findByNameContainingIgnoreCase(String keyword);
 
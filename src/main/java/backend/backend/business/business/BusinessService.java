@@ -1,7 +1,22 @@
 package backend.backend.business.business;
 
+import backend.backend.core.bulk.ExportSource;
+import backend.backend.core.bulk.ImportTarget;
+import backend.backend.core.cache.CatalogCache;
+import backend.backend.core.cache.CatalogCaches;
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.TrigramIndex;
+import backend.backend.core.search.CitySearchHit;
+import backend.backend.core.search.CitySearchSource;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,22 +25,36 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-public class BusinessService {
+public class BusinessService implements CitySearchSource, ImportTarget<Business>, ExportSource<Business> {
+
+    private static final Catalog<Business> CATALOG = new Catalog<>("business", "/api/businesses", Business.class);
+
+    // Keyset order for list/search pages
+    private static final KeysetSort<Business> BY_NAME =
+            KeysetSort.asc("name", Business::getName, Business::getId);
 
     private final BusinessRepository businessRepository;
+    private final CatalogCaches catalogCaches;
+
+    // Serves the city-wide search over name, sector and address
+    private final TrigramIndex<Business> searchIndex =
+            TrigramIndex.of(CATALOG.type(), BY_NAME, Business::getName, Business::getSector, Business::getAddress);
+
+    // Read-through cache for list pages and single rows, dropped on every write
+    private CatalogCache cache() {
+        return catalogCaches.forCatalog(CATALOG.type());
+    }
 
     // =========================
     // READ
     // =========================
-    @Transactional(readOnly = true)
-    public List<Business> getAllBusinesses() {
-        return businessRepository.findAll();
+    public CursorPage<Business> getAllBusinesses(PageQuery page) {
+        return cache().get(page, () -> KeysetPager.page(businessRepository, BY_NAME, null, page));
     }
 
-    @Transactional(readOnly = true)
     public Business getBusinessById(UUID id) {
-        return businessRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Business not found"));
+        return cache().get(id, () -> businessRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Business not found")));
     }
 
     // =========================
@@ -33,7 +62,8 @@ public class BusinessService {
     // =========================
     @Transactional
     public Business createBusiness(Business business) {
-        return businessRepository.save(business);
+        cache().invalidateAfterCommit();
+        return searchIndex.indexAfterCommit(businessRepository.save(business));
     }
 
     // =========================
@@ -41,6 +71,7 @@ public class BusinessService {
     // =========================
     @Transactional
     public Business updateBusiness(UUID id, Business details) {
+        cache().invalidateAfterCommit();
         return businessRepository.findById(id)
                 .map(business -> {
                     business.setName(details.getName());
@@ -48,7 +79,7 @@ public class BusinessService {
                     business.setAddress(details.getAddress());
                     business.setDescription(details.getDescription());
                     business.setContact(details.getContact());
-                    return businessRepository.save(business);
+                    return searchIndex.indexAfterCommit(businessRepository.save(business));
                 })
                 .orElseThrow(() -> new EntityNotFoundException("Business not found"));
     }
@@ -58,6 +89,50 @@ public class BusinessService {
     // =========================
     @Transactional
     public void deleteBusiness(UUID id) {
+        cache().invalidateAfterCommit();
         businessRepository.deleteById(id);
+        searchIndex.removeAfterCommit(id);
+    }
+
+    // =========================
+    // BULK IMPORT
+    // =========================
+    @Override
+    @Transactional(readOnly = true)
+    public void afterImport() {
+        cache().invalidate();
+        rebuildSearchIndex();
+    }
+
+    // =========================
+    // CATALOG
+    // =========================
+    @Override
+    public Catalog<Business> catalog() {
+        return CATALOG;
+    }
+
+    // =========================
+    // CITY-WIDE SEARCH
+    // =========================
+    @Override
+    public List<TrigramIndex.Ranked<UUID>> rankCity(String query, int limit) {
+        return searchIndex.rank(query, limit);
+    }
+
+    @Override
+    public List<CitySearchHit> loadCity(List<TrigramIndex.Ranked<UUID>> ranked) {
+        return CitySearchHit.of(this, ranked, businessRepository::findAllById,
+                Business::getId, Business::getName, Business::getSector);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval-ms:900000}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:900000}"
+    )
+    @Transactional(readOnly = true)
+    public void rebuildSearchIndex() {
+        searchIndex.rebuild(businessRepository::findAll);
     }
 }
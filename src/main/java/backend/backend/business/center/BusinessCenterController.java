@@ -1,5 +1,8 @@
 package backend.backend.business.center;
 
+import backend.backend.core.cache.CatalogVersioned;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.UUID;
 
 @RestController
+@CatalogVersioned("business-center")
 @RequestMapping("/api/business-centers")
 @RequiredArgsConstructor
 public class BusinessCenterController {
@@ -19,8 +23,8 @@ public class BusinessCenterController {
 
     // ✅ VIEW
     @GetMapping
-    public ResponseEntity<List<BusinessCenter>> getAll() {
-        return ResponseEntity.ok(businessCenterService.getAllCenters());
+    public ResponseEntity<List<BusinessCenter>> getAll(PageQuery page) {
+        return PageResponses.ok(businessCenterService.getAllCenters(page));
     }
 
     @GetMapping("/{id}")
@@ -29,8 +33,8 @@ public class BusinessCenterController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<BusinessCenter>> search(@RequestParam String query) {
-        return ResponseEntity.ok(businessCenterService.searchCenters(query));
+    public ResponseEntity<List<BusinessCenter>> search(@RequestParam String query, PageQuery page) {
+        return PageResponses.ok(businessCenterService.searchCenters(query, page));
     }
 
     // 🔒 ADMIN ONLY
@@ -1,7 +1,22 @@
 package backend.backend.business.center;
 
+import backend.backend.core.bulk.ExportSource;
+import backend.backend.core.bulk.ImportTarget;
+import backend.backend.core.cache.CatalogCache;
+import backend.backend.core.cache.CatalogCaches;
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.TrigramIndex;
+import backend.backend.core.search.CitySearchHit;
+import backend.backend.core.search.CitySearchSource;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,49 +25,108 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-public class BusinessCenterService {
+public class BusinessCenterService implements CitySearchSource, ImportTarget<BusinessCenter>, ExportSource<BusinessCenter> {
+
+    private static final Catalog<BusinessCenter> CATALOG = new Catalog<>("business-center", "/api/business-centers", BusinessCenter.class);
+
+    // Keyset order for list/search pages
+    private static final KeysetSort<BusinessCenter> BY_NAME =
+            KeysetSort.asc("name", BusinessCenter::getName, BusinessCenter::getId);
 
     private final BusinessCenterRepository businessCenterRepository;
+    private final CatalogCaches catalogCaches;
+
+    // Serves search over name and address without LIKE scans
+    private final TrigramIndex<BusinessCenter> searchIndex =
+            TrigramIndex.of(CATALOG.type(), BY_NAME, BusinessCenter::getName, BusinessCenter::getAddress);
+
+    // Read-through cache for list pages and single rows, dropped on every write
+    private CatalogCache cache() {
+        return catalogCaches.forCatalog(CATALOG.type());
+    }
 
     // ✅ READ (all authenticated users)
-    @Transactional(readOnly = true)
-    public List<BusinessCenter> getAllCenters() {
-        return businessCenterRepository.findAll();
+    public CursorPage<BusinessCenter> getAllCenters(PageQuery page) {
+        return cache().get(page, () -> KeysetPager.page(businessCenterRepository, BY_NAME, null, page));
     }
 
-    @Transactional(readOnly = true)
     public BusinessCenter getCenterById(UUID id) {
-        return businessCenterRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Business center not found"));
+        return cache().get(id, () -> businessCenterRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Business center not found")));
     }
 
     @Transactional(readOnly = true)
-    public List<BusinessCenter> searchCenters(String query) {
-        return businessCenterRepository
-                .findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase(query, query);
+    public CursorPage<BusinessCenter> searchCenters(String query, PageQuery page) {
+        return searchIndex.search(query, page, businessCenterRepository::findAllById);
     }
 
     // 🔒 WRITE (ADMIN)
     @Transactional
     public BusinessCenter createCenter(BusinessCenter center) {
-        return businessCenterRepository.save(center);
+        cache().invalidateAfterCommit();
+        return searchIndex.indexAfterCommit(businessCenterRepository.save(center));
     }
 
     @Transactional
     public BusinessCenter updateCenter(UUID id, BusinessCenter details) {
+        cache().invalidateAfterCommit();
         return businessCenterRepository.findById(id)
                 .map(center -> {
                     center.setName(details.getName());
                     center.setSector(details.getSector());
                     center.setAddress(details.getAddress());
                     center.setDescription(details.getDescription());
-                    return businessCenterRepository.save(center);
+                    return searchIndex.indexAfterCommit(businessCenterRepository.save(center));
                 })
                 .orElseThrow(() -> new EntityNotFoundException("Business center not found"));
     }
 
     @Transactional
     public void deleteCenter(UUID id) {
+        cache().invalidateAfterCommit();
         businessCenterRepository.deleteById(id);
+        searchIndex.removeAfterCommit(id);
+    }
+
+    // =========================
+    // BULK IMPORT
+    // =========================
+    @Override
+    @Transactional(readOnly = true)
+    public void afterImport() {
+        cache().invalidate();
+        rebuildSearchIndex();
+    }
+
+    // =========================
+    // CATALOG
+    // =========================
+    @Override
+    public Catalog<BusinessCenter> catalog() {
+        return CATALOG;
+    }
+
+    // =========================
+    // CITY-WIDE SEARCH
+    // =========================
+    @Override
+    public List<TrigramIndex.Ranked<UUID>> rankCity(String query, int limit) {
+        return searchIndex.rank(query, limit);
+    }
+
+    @Override
+    public List<CitySearchHit> loadCity(List<TrigramIndex.Ranked<UUID>> ranked) {
+        return CitySearchHit.of(this, ranked, businessCenterRepository::findAllById,
+                BusinessCenter::getId, BusinessCenter::getName, BusinessCenter::getAddress);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval-ms:900000}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:900000}"
+    )
+    @Transactional(readOnly = true)
+    public void rebuildSearchIndex() {
+        searchIndex.rebuild(businessCenterRepository::findAll);
     }
 }
@@ -14,6 +14,10 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "business_news")
+@NamedEntityGraph(name = BusinessNews.WITH_REFS, attributeNodes = {
+        @NamedAttributeNode("industry"),
+        @NamedAttributeNode("createdBy")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -22,6 +26,9 @@ import java.util.UUID;
 @ToString(exclude = {"industry", "createdBy"})
 public class BusinessNews {
 
+    // Fetch plan for writes that answer with a BusinessNewsDTO (industry and author in the same select)
+    public static final String WITH_REFS = "BusinessNews.withRefs";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     @Column(updatable = false, nullable = false)
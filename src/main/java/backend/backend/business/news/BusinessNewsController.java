@@ -1,18 +1,24 @@
 package backend.backend.business.news;
 
-import backend.backend.core.user.user_entity.User;
+import backend.backend.core.cache.CatalogVersioned;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
+import backend.backend.core.sql.QueryBudget;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
+// Create: industry and author lookups (the author's tourist profile is one more) + insert
+@QueryBudget(4)
 @RestController
+@CatalogVersioned({"business-news", "industry"})
 @RequestMapping("/api/business-news")
 @RequiredArgsConstructor
 public class BusinessNewsController {
@@ -23,12 +29,12 @@ public class BusinessNewsController {
     // VIEW (ALL USERS)
     // =========================
     @GetMapping
-    public ResponseEntity<List<BusinessNews>> getAll() {
-        return ResponseEntity.ok(businessNewsService.getAllNews());
+    public ResponseEntity<List<BusinessNewsDTO>> getAll(PageQuery page) {
+        return PageResponses.ok(businessNewsService.getAllNews(page));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<BusinessNews> getById(@PathVariable UUID id) {
+    public ResponseEntity<BusinessNewsDTO> getById(@PathVariable UUID id) {
         return ResponseEntity.ok(businessNewsService.getById(id));
     }
 
@@ -37,14 +43,14 @@ public class BusinessNewsController {
     // =========================
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping
-    public ResponseEntity<BusinessNews> create(
+    public ResponseEntity<BusinessNewsDTO> create(
             @Valid @RequestBody BusinessNews news,
             @RequestParam UUID industryId,
-            @AuthenticationPrincipal User admin) {
+            Authentication authentication) {
 
-        BusinessNews created = businessNewsService.createNews(news, industryId, admin);
+        BusinessNewsDTO created = businessNewsService.createNews(news, industryId, authentication.getName());
 
-        return ResponseEntity.created(URI.create("/api/business-news/" + created.getId()))
+        return ResponseEntity.created(URI.create("/api/business-news/" + created.id()))
                 .body(created);
     }
 
@@ -53,7 +59,7 @@ public class BusinessNewsController {
     // =========================
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/{id}")
-    public ResponseEntity<BusinessNews> update(
+    public ResponseEntity<BusinessNewsDTO> update(
             @PathVariable UUID id,
             @Valid @RequestBody BusinessNews details) {
 
@@ -0,0 +1,40 @@
+package backend.backend.business.news;
+
+import backend.backend.core.common.EntityRef;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read view of a news item; industry is reduced to id and name, the author to id and username
+ * (the user row, password hash included, is never loaded or serialized).
+ * Selected directly by JPQL (see BusinessNewsService.VIEW).
+ */
+public record BusinessNewsDTO(
+        UUID id,
+        String title,
+        String summary,
+        String content,
+        String imageUrl,
+        EntityRef industry,
+        EntityRef createdBy,
+        Boolean active,
+        LocalDateTime publishedAt
+) {
+
+    // Flat form used by the constructor expression
+    public BusinessNewsDTO(UUID id, String title, String summary, String content, String imageUrl,
+                           UUID industryId, String industryName, UUID createdById, String createdByName,
+                           Boolean active, LocalDateTime publishedAt) {
+        this(id, title, summary, content, imageUrl, new EntityRef(industryId, industryName),
+                new EntityRef(createdById, createdByName), active, publishedAt);
+    }
+
+    // For write responses, built inside the transaction that saved the row
+    public static BusinessNewsDTO of(BusinessNews news) {
+        return new BusinessNewsDTO(news.getId(), news.getTitle(), news.getSummary(), news.getContent(),
+                news.getImageUrl(), news.getIndustry().getId(), news.getIndustry().getName(),
+                news.getCreatedBy().getId(), news.getCreatedBy().getUsername(),
+                news.getActive(), news.getPublishedAt());
+    }
+}
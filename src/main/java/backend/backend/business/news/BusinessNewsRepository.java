@@ -1,16 +1,20 @@
 package backend.backend.business.news;
 
 import backend.backend.job.industry.Industry;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface BusinessNewsRepository extends JpaRepository<BusinessNews, UUID> {
+public interface BusinessNewsRepository extends JpaRepository<BusinessNews, UUID>, JpaSpecificationExecutor<BusinessNews> {
 
     List<BusinessNews> findByIndustry(Industry industry);
 
-    List<BusinessNews> findByTitleContainingIgnoreCase(String keyword);
+    @EntityGraph(BusinessNews.WITH_REFS)
+    Optional<BusinessNews> findWithRefsById(UUID id);
 }
@@ -1,9 +1,21 @@
 package backend.backend.business.news;
 
+import backend.backend.core.bulk.ExportSource;
+import backend.backend.core.cache.CatalogCaches;
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.Projection;
 import backend.backend.core.user.user_entity.User;
+import backend.backend.core.user.user_repository.UserRepository;
 import backend.backend.job.industry.Industry;
 import backend.backend.job.industry.IndustryRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Join;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,22 +25,46 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-public class BusinessNewsService {
+public class BusinessNewsService implements ExportSource<BusinessNews> {
+
+    private static final Catalog<BusinessNews> CATALOG = new Catalog<>("business-news", "/api/business-news", BusinessNews.class);
+
+    // Keyset order for list/search pages
+    private static final KeysetSort<BusinessNewsDTO> BY_PUBLISHED_AT =
+            KeysetSort.desc("publishedAt", BusinessNewsDTO::publishedAt, BusinessNewsDTO::id);
+
+    // What every read returns: one statement joining industry and author, no managed entities
+    private static final Projection<BusinessNews, BusinessNewsDTO> VIEW = Projection.of(BusinessNews.class,
+            BusinessNewsDTO.class, root -> {
+                Join<?, ?> industry = root.join("industry");
+                Join<?, ?> createdBy = root.join("createdBy");
+                return List.of(root.get("id"), root.get("title"), root.get("summary"), root.get("content"),
+                        root.get("imageUrl"), industry.get("id"), industry.get("name"),
+                        createdBy.get("id"), createdBy.get("username"),
+                        root.get("active"), root.get("publishedAt"));
+            });
 
     private final BusinessNewsRepository businessNewsRepository;
     private final IndustryRepository industryRepository;
+    private final UserRepository userRepository;
+
+    // Rows are not cached (lazy associations); writes only bump the version behind the ETags
+    private final CatalogCaches catalogCaches;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     // =========================
     // READ (ALL USERS)
     // =========================
     @Transactional(readOnly = true)
-    public List<BusinessNews> getAllNews() {
-        return businessNewsRepository.findAll();
+    public CursorPage<BusinessNewsDTO> getAllNews(PageQuery page) {
+        return KeysetPager.page(entityManager, VIEW, BY_PUBLISHED_AT, null, page);
     }
 
     @Transactional(readOnly = true)
-    public BusinessNews getById(UUID id) {
-        return businessNewsRepository.findById(id)
+    public BusinessNewsDTO getById(UUID id) {
+        return VIEW.findById(entityManager, id)
                 .orElseThrow(() -> new EntityNotFoundException("Business news not found"));
     }
 
@@ -36,27 +72,33 @@ public class BusinessNewsService {
     // CREATE (ADMIN)
     // =========================
     @Transactional
-    public BusinessNews createNews(BusinessNews news, UUID industryId, User admin) {
+    // The principal may be built from token claims, so the author row is looked up by username
+    public BusinessNewsDTO createNews(BusinessNews news, UUID industryId, String username) {
+        catalogCaches.forCatalog(CATALOG.type()).invalidateAfterCommit();
 
         Industry industry = industryRepository.findById(industryId)
                 .orElseThrow(() -> new EntityNotFoundException("Industry not found"));
 
+        User admin = userRepository.findByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+
         news.setIndustry(industry);
         news.setCreatedBy(admin);
 
-        return businessNewsRepository.save(news);
+        return BusinessNewsDTO.of(businessNewsRepository.save(news));
     }
 
     // =========================
     // UPDATE (ADMIN)
     // =========================
     @Transactional
-    public BusinessNews updateNews(UUID id, BusinessNews details) {
-        return businessNewsRepository.findById(id)
+    public BusinessNewsDTO updateNews(UUID id, BusinessNews details) {
+        catalogCaches.forCatalog(CATALOG.type()).invalidateAfterCommit();
+        return businessNewsRepository.findWithRefsById(id)
                 .map(news -> {
                     news.setTitle(details.getTitle());
                     news.setContent(details.getContent());
-                    return businessNewsRepository.save(news);
+                    return BusinessNewsDTO.of(businessNewsRepository.save(news));
                 })
                 .orElseThrow(() -> new EntityNotFoundException("Business news not found"));
     }
@@ -66,6 +108,15 @@ public class BusinessNewsService {
     // =========================
     @Transactional
     public void deleteNews(UUID id) {
+        catalogCaches.forCatalog(CATALOG.type()).invalidateAfterCommit();
         businessNewsRepository.deleteById(id);
     }
+
+    // =========================
+    // CATALOG
+    // =========================
+    @Override
+    public Catalog<BusinessNews> catalog() {
+        return CATALOG;
+    }
 }
@@ -1,7 +1,10 @@
 package backend.backend.config;
 
 import backend.backend.security.JwtFilter;
+import backend.backend.security.StaticResourceMatcher;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,7 +13,9 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -26,6 +31,7 @@ public class SecurityConfig {
 
     private final JwtFilter jwtFilter;
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
     private final PasswordEncoder passwordEncoder;
 
     @Bean
@@ -37,58 +43,26 @@ public class SecurityConfig {
                 config.setAllowedOrigins(List.of("http://localhost:8080", "http://localhost:3000"));
                 config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
                 config.setAllowedHeaders(List.of("*"));
+                config.setExposedHeaders(List.of("Link", "X-Next-Cursor", "X-Total-Count", "ETag", "Last-Modified"));
                 config.setAllowCredentials(true);
                 return config;
             }))
             .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                // Public endpoints and static resources
+                // Async dispatches (streamed exports) finish a request that was authorized on its first dispatch
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
+                // Public endpoints
                 .requestMatchers(
                     "/",
                     "/index.html",
                     "/auth/**",
                     "/api/public/**",
-                    "/shared/**",
-                    "/services/**",
-                    "/modules/**",
-                    
-                    // Swagger UI
-                    "/swagger-ui/**",
-                    "/v3/api-docs/**",
-                    "/swagger-ui.html",
-                    "/swagger-resources/**",
-                    "/webjars/**",
-                    "/v3/api-docs",
-                    "/v3/api-docs.yaml",
-                    "/v3/api-docs/swagger-config",
-                    "/v3/api-docs/springdoc-defaults",
-                    "/v3/api-docs/springdoc-defaults.yaml",
-                    "/v3/api-docs/springdoc-defaults.json",
-                    "/error",
-                    
-                    // Static resources
-                    "/**/*.html",
-                    "/**/*.css",
-                    "/**/*.js",
-                    "/**/*.js.map",
-                    "/**/*.png",
-                    "/**/*.jpg",
-                    "/**/*.jpeg",
-                    "/**/*.gif",
-                    "/**/*.svg",
-                    "/**/*.ico",
-                    "/**/*.ttf",
-                    "/**/*.woff",
-                    "/**/*.woff2",
-                    "/**/assets/**",
-                    "/**/*.jpeg",
-                    "/**/*.gif",
-                    "/**/*.svg",
-                    "/**/*.ico",
-                    "/**/*.ttf",
-                    "/**/*.woff",
-                    "/**/*.woff2"
+                    "/error"
                 ).permitAll()
+
+                // Static resources and Swagger (GET/HEAD never get here, see staticResourcesBypass)
+                .requestMatchers(StaticResourceMatcher.defaults(false)).permitAll()
                 
                 // Booking endpoints: only TOURIST
                 .requestMatchers("/api/hotel-bookings/**").hasRole("TOURIST")
@@ -110,11 +84,32 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Static files and API docs are served without running the security filter chain
+     * (no JWT parsing, no pattern walk). Only GET/HEAD are bypassed; API paths never are.
+     */
+    @Bean
+    public WebSecurityCustomizer staticResourcesBypass() {
+        return web -> web.ignoring().requestMatchers(StaticResourceMatcher.defaults(true));
+    }
+
+    /**
+     * JwtFilter is a @Component, so Boot would also register it as a plain servlet filter
+     * running on every request, static files included. It only belongs in the security chain.
+     */
+    @Bean
+    public FilterRegistrationBean<JwtFilter> jwtFilterRegistration(JwtFilter filter) {
+        FilterRegistrationBean<JwtFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
@@ -1,20 +1,35 @@
 package backend.backend.config;
 
+import backend.backend.core.assets.AssetLinkResourceTransformer;
+import backend.backend.core.assets.ImmutableVersionResourceResolver;
+import backend.backend.core.cache.ConditionalGetInterceptor;
+import backend.backend.core.sql.QueryBudgetInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import org.springframework.web.servlet.resource.PathResourceResolver;
-
-import java.io.File;
-import java.io.IOException;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.TransformedResource;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private static final String[] STATIC_LOCATIONS = {
+            "classpath:/META-INF/resources/",
+            "classpath:/resources/",
+            "classpath:/static/",
+            "classpath:/public/"
+    };
+
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+    private final QueryBudgetInterceptor queryBudgetInterceptor;
+
     @Value("${cors.allowed-origins}")
     private String[] allowedOrigins;
 
@@ -27,6 +42,9 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${cors.allow-credentials}")
     private boolean allowCredentials;
 
+    @Value("${assets.production:false}")
+    private boolean productionAssets;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -37,22 +55,46 @@ public class WebConfig implements WebMvcConfigurer {
                 .maxAge(3600);
     }
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // SQL statements per API call (N+1 guard); first, so 304s are counted too
+        registry.addInterceptor(queryBudgetInterceptor).addPathPatterns("/api/**");
+        // ETag / 304 for catalog GETs
+        registry.addInterceptor(conditionalGetInterceptor).addPathPatterns("/api/**");
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // Serve static resources
-        registry.addResourceHandler("/**")
-                .addResourceLocations(
-                        "classpath:/META-INF/resources/",
-                        "classpath:/resources/",
-                        "classpath:/static/",
-                        "classpath:/public/"
-                )
-                .setCachePeriod(0)
-                .resourceChain(false);
+        if (productionAssets) {
+            addProductionStaticResources(registry);
+        } else {
+            // Development: every request reads the file again
+            registry.addResourceHandler("/**")
+                    .addResourceLocations(STATIC_LOCATIONS)
+                    .setCachePeriod(0)
+                    .resourceChain(false);
+        }
 
         // WebJars configuration
         registry.addResourceHandler("/webjars/**")
                 .addResourceLocations("classpath:/META-INF/resources/webjars/")
                 .setCachePeriod(0);
     }
+
+    // Production: fingerprinted asset URLs cached for a year, precompressed .gz variants (mvn -Pprod)
+    // sent as-is, pages and plain URLs revalidated. Resolved paths and rewritten pages are cached in memory.
+    private void addProductionStaticResources(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/**")
+                .addResourceLocations(STATIC_LOCATIONS)
+                .setCacheControl(CacheControl.noCache())
+                // Rewritten pages change when a linked asset does, even if their file did not
+                .setEtagGenerator(resource -> resource instanceof TransformedResource transformed
+                        ? DigestUtils.md5DigestAsHex(transformed.getByteArray())
+                        : null)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new ImmutableVersionResourceResolver().addContentVersionStrategy("/**"))
+                .addTransformer(new AssetLinkResourceTransformer());
+    }
 }
\ No newline at end of file
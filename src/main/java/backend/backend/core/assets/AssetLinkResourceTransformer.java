@@ -0,0 +1,106 @@
+package backend.backend.core.assets;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.ResourceTransformerChain;
+import org.springframework.web.servlet.resource.ResourceTransformerSupport;
+import org.springframework.web.servlet.resource.TransformedResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites the asset links of HTML pages (src / href) and stylesheets (url(...), @import) to their
+ * fingerprinted URLs, e.g. "../../shared/api.js" becomes "/shared/api-&lt;md5&gt;.js".
+ *
+ * Links are made absolute before they are resolved: relative links are cached by the resource chain
+ * under their own text, so "app.js" from two folders would otherwise share one answer. Links to pages,
+ * other hosts, anchors and data: URIs are left as they are, and so is anything the chain cannot resolve.
+ * Query strings (e.g. the old "?v=2027" cache busters) are kept.
+ */
+public class AssetLinkResourceTransformer extends ResourceTransformerSupport {
+
+    // Linked files worth fingerprinting; pages (.html) keep their address
+    static final Set<String> ASSET_EXTENSIONS = Set.of(
+            "js", "css", "map",
+            "png", "jpg", "jpeg", "gif", "svg", "ico", "webp",
+            "ttf", "woff", "woff2"
+    );
+
+    private static final Pattern HTML_LINK = Pattern.compile(
+            "\\b(?:src|href)\\s*=\\s*([\"'])([^\"'<>]+)\\1", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CSS_LINK = Pattern.compile(
+            "url\\(\\s*([\"']?)([^\"')]+)\\1\\s*\\)|@import\\s+([\"'])([^\"']+)\\3", Pattern.CASE_INSENSITIVE);
+
+    @Override
+    public Resource transform(HttpServletRequest request, Resource resource, ResourceTransformerChain chain)
+            throws IOException {
+        resource = chain.transform(request, resource);
+        String filename = resource.getFilename();
+        if (filename == null) {
+            return resource;
+        }
+        String lower = filename.toLowerCase(Locale.ROOT);
+        Pattern pattern = lower.endsWith(".html") ? HTML_LINK : lower.endsWith(".css") ? CSS_LINK : null;
+        if (pattern == null) {
+            return resource;
+        }
+
+        String content = new String(resource.getContentAsByteArray(), StandardCharsets.UTF_8);
+        Matcher matcher = pattern.matcher(content);
+        StringBuilder rewritten = new StringBuilder(content.length() + 256);
+        boolean changed = false;
+        while (matcher.find()) {
+            int group = matcher.group(2) != null ? 2 : 4;
+            String link = matcher.group(group);
+            String versioned = rewrite(link, request, resource, chain);
+            if (versioned == null) {
+                continue;
+            }
+            changed = true;
+            String replacement = content.substring(matcher.start(), matcher.start(group)) + versioned
+                    + content.substring(matcher.end(group), matcher.end());
+            matcher.appendReplacement(rewritten, Matcher.quoteReplacement(replacement));
+        }
+        if (!changed) {
+            return resource;
+        }
+        matcher.appendTail(rewritten);
+        return new TransformedResource(resource, rewritten.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // The fingerprinted form of link, or null when it is not a local asset the chain knows
+    private String rewrite(String link, HttpServletRequest request, Resource resource, ResourceTransformerChain chain) {
+        String trimmed = link.trim();
+        int end = indexOfAny(trimmed, '?', '#');
+        String path = trimmed.substring(0, end);
+        if (!isLocalAsset(path)) {
+            return null;
+        }
+        String versioned = resolveUrlPath(toAbsolutePath(path, request), request, resource, chain);
+        return versioned == null ? null : versioned + trimmed.substring(end);
+    }
+
+    static boolean isLocalAsset(String path) {
+        if (path.isEmpty() || path.startsWith("//") || path.indexOf(':') >= 0) {
+            return false; // other host, or a scheme (http:, data:, mailto:, javascript:)
+        }
+        int dot = path.lastIndexOf('.');
+        return dot > path.lastIndexOf('/')
+                && ASSET_EXTENSIONS.contains(path.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    private static int indexOfAny(String text, char first, char second) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == first || c == second) {
+                return i;
+            }
+        }
+        return text.length();
+    }
+}
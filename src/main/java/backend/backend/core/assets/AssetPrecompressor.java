@@ -0,0 +1,106 @@
+package backend.backend.core.assets;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Build step of the production asset mode (mvn -Pprod): writes a .gz next to each static file that is
+ * served byte for byte, so the resource chain sends it as-is instead of compressing on every request.
+ *
+ * HTML and CSS are left out: their links are rewritten to fingerprinted URLs when served, and the
+ * rewritten copy is compressed by the connector (server.compression).
+ */
+public final class AssetPrecompressor {
+
+    static final Set<String> EXTENSIONS = Set.of("js", "mjs", "map", "json", "svg", "txt", "xml");
+    // Below this a gzip header costs about what it saves (same floor as server.compression.min-response-size)
+    static final long MIN_SIZE = 1024;
+    // Keep the variant only when it saves at least this much
+    private static final double MAX_RATIO = 0.9;
+
+    private AssetPrecompressor() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: AssetPrecompressor <static directory>");
+        }
+        List<Path> written = compressAll(Path.of(args[0]));
+        System.out.println("Precompressed " + written.size() + " static assets in " + args[0]);
+    }
+
+    /**
+     * Compresses every eligible file under root whose .gz is missing or older; returns the variants written
+     */
+    static List<Path> compressAll(Path root) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            List<Path> candidates = files
+                    .filter(Files::isRegularFile)
+                    .filter(AssetPrecompressor::eligible)
+                    .toList();
+            List<Path> written = new ArrayList<>();
+            for (Path file : candidates) {
+                Path gzip = file.resolveSibling(file.getFileName() + ".gz");
+                if (Files.exists(gzip) && !Files.getLastModifiedTime(gzip).toInstant()
+                        .isBefore(Files.getLastModifiedTime(file).toInstant())) {
+                    continue;
+                }
+                if (compress(file, gzip)) {
+                    written.add(gzip);
+                }
+            }
+            return written;
+        }
+    }
+
+    private static boolean eligible(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        int dot = name.lastIndexOf('.');
+        try {
+            return dot > 0 && EXTENSIONS.contains(name.substring(dot + 1)) && Files.size(file) >= MIN_SIZE;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // Written to a temp file first: a half-written .gz would be served as a valid variant
+    private static boolean compress(Path file, Path gzip) throws IOException {
+        Path temp = Files.createTempFile(file.getParent(), ".gz-", ".part");
+        try {
+            try (InputStream in = Files.newInputStream(file);
+                 OutputStream out = new BestGzipOutputStream(Files.newOutputStream(temp))) {
+                in.transferTo(out);
+            }
+            if (Files.size(temp) > Files.size(file) * MAX_RATIO) {
+                Files.deleteIfExists(gzip);
+                return false;
+            }
+            Files.move(temp, gzip, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Compressed once at build time, so the slowest level is free
+    private static final class BestGzipOutputStream extends GZIPOutputStream {
+        BestGzipOutputStream(OutputStream out) throws IOException {
+            super(out, 64 * 1024);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
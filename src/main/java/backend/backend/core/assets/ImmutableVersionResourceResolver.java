@@ -0,0 +1,127 @@
+package backend.backend.core.assets;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Content-hash versioning (e.g. /shared/api-&lt;md5&gt;.js) where only the versioned URLs are cached forever.
+ *
+ * The resource handler's own cache control (no-cache) still applies to plain URLs: pages and scripts
+ * loaded by path from JavaScript keep revalidating, while a fingerprinted URL, whose bytes can never
+ * change, is sent with "public, max-age=31536000, immutable".
+ *
+ * Stylesheets are the exception: their hash covers the file, not the fingerprinted links written into
+ * it, so once rewritten they come back as plain resources and revalidate against a content ETag.
+ */
+public class ImmutableVersionResourceResolver extends VersionResourceResolver {
+
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+            .getHeaderValue();
+
+    @Override
+    protected Resource resolveResourceInternal(@Nullable HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource != null) {
+            return resource; // plain URL
+        }
+        Resource versioned = super.resolveResourceInternal(request, requestPath, locations, chain);
+        return versioned == null ? null : new ImmutableResource(versioned);
+    }
+
+    // Delegates to the versioned resource and adds the immutable Cache-Control to its headers (ETag = version)
+    private static final class ImmutableResource extends AbstractResource implements HttpResource {
+
+        private final Resource delegate;
+
+        ImmutableResource(Resource delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            if (delegate instanceof HttpResource httpResource) {
+                headers.putAll(httpResource.getResponseHeaders());
+            }
+            headers.setCacheControl(IMMUTABLE);
+            return headers;
+        }
+
+        @Override
+        public boolean exists() {
+            return delegate.exists();
+        }
+
+        @Override
+        public boolean isReadable() {
+            return delegate.isReadable();
+        }
+
+        @Override
+        public boolean isFile() {
+            return delegate.isFile();
+        }
+
+        @Override
+        public URL getURL() throws IOException {
+            return delegate.getURL();
+        }
+
+        @Override
+        public URI getURI() throws IOException {
+            return delegate.getURI();
+        }
+
+        @Override
+        public File getFile() throws IOException {
+            return delegate.getFile();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return delegate.getInputStream();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return delegate.lastModified();
+        }
+
+        // The encoded (.gz) variant is looked up next to the original
+        @Override
+        public Resource createRelative(String relativePath) throws IOException {
+            return delegate.createRelative(relativePath);
+        }
+
+        @Override
+        public String getFilename() {
+            return delegate.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return delegate.getDescription();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package backend.backend.core.bulk;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class CatalogExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private final CatalogExporter catalogExporter;
+
+    // Exports stream for as long as the client reads; other async requests keep the container's default timeout
+    @Value("${catalog.export.timeout-ms:3600000}")
+    private long timeoutMs;
+
+    // =========================
+    // VIEW (ALL AUTH USERS) – only catalogs the caller may read
+    // =========================
+
+    @GetMapping
+    public ResponseEntity<List<String>> exportTypes(Authentication authentication) {
+        return ResponseEntity.ok(catalogExporter.exportTypes(authentication));
+    }
+
+    // e.g. /api/export/hotel  (one JSON object per line)
+    @GetMapping("/{type}")
+    public WebAsyncTask<Void> exportNdjson(@PathVariable String type, Authentication authentication,
+                                           HttpServletResponse response) {
+        return download(type + ".ndjson", NDJSON, catalogExporter.ndjson(type, authentication), response);
+    }
+
+    // e.g. /api/export/hotel?format=csv
+    @GetMapping(value = "/{type}", params = "format=csv")
+    public WebAsyncTask<Void> exportCsv(@PathVariable String type, Authentication authentication,
+                                        HttpServletResponse response) {
+        return download(type + ".csv", CSV, catalogExporter.csv(type, authentication), response);
+    }
+
+    // Written straight to the response from an async task, which carries the export timeout
+    private WebAsyncTask<Void> download(String filename, MediaType type, StreamingResponseBody body,
+                                        HttpServletResponse response) {
+        response.setContentType(type.toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        return new WebAsyncTask<>(timeoutMs, () -> {
+            body.writeTo(response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,305 @@
+package backend.backend.core.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnitUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Streams a whole catalog out as NDJSON or CSV with flat memory use.
+ *
+ * Rows come from a forward-only, read-only query with a fixed JDBC fetch size, inside one read-only
+ * transaction. Rows are written fetchSize at a time, so the lazy collections of a chunk load in batches
+ * (hibernate.default_batch_fetch_size) rather than one query per row, and the persistence context is
+ * cleared after each chunk so loaded entities do not pile up. Associations are written as {"id": ...}
+ * without loading them (CSV column "industry.id"), which is also what the bulk import reads back.
+ *
+ * An export holds a connection for as long as the client reads, so at most maxConcurrent run at once;
+ * further requests get 503 rather than waiting for a connection.
+ */
+@Slf4j
+@Service
+public class CatalogExporter {
+
+    private final Map<String, ExportSource<?>> sources = new TreeMap<>();
+    private final WebInvocationPrivilegeEvaluator privilegeEvaluator;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter rowWriter;
+    private final ObjectMapper exportMapper;
+    private final int fetchSize;
+    private final Semaphore running;
+    private final int retryAfterSeconds;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CatalogExporter(
+            List<ExportSource<?>> sources,
+            WebInvocationPrivilegeEvaluator privilegeEvaluator,
+            PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory,
+            ObjectMapper objectMapper,
+            @Value("${catalog.export.fetch-size:1000}") int fetchSize,
+            @Value("${catalog.export.max-concurrent:4}") int maxConcurrent,
+            @Value("${catalog.export.retry-after-seconds:30}") int retryAfterSeconds) {
+        sources.forEach(source -> this.sources.put(source.catalog().type(), source));
+        this.privilegeEvaluator = privilegeEvaluator;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.exportMapper = objectMapper.copy()
+                .registerModule(referencesAsIds(entityManagerFactory.getPersistenceUnitUtil()));
+        this.rowWriter = exportMapper.writer();
+        this.fetchSize = Math.max(1, fetchSize);
+        this.running = new Semaphore(Math.max(1, maxConcurrent));
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    // =========================
+    // Entry points
+    // =========================
+
+    /**
+     * Catalogs the caller may export
+     */
+    public List<String> exportTypes(Authentication authentication) {
+        return sources.values().stream()
+                .filter(source -> privilegeEvaluator.isAllowed(source.catalog().path(), authentication))
+                .map(source -> source.catalog().type())
+                .toList();
+    }
+
+    /**
+     * One JSON object per line. The catalog and the caller's access are checked before anything is written.
+     */
+    public StreamingResponseBody ndjson(String type, Authentication authentication) {
+        ExportSource<?> source = source(type, authentication);
+        return whileRunning(out -> {
+            Writer writer = writer(out);
+            long rows = stream(source, row -> {
+                try {
+                    writer.write(rowWriter.writeValueAsString(row));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            log.info("Exported {} '{}' rows as NDJSON", rows, type);
+        });
+    }
+
+    /**
+     * Header from the entity's serialized properties, so it is the same for every row and for an empty catalog;
+     * nested objects become "a.b" columns, arrays are joined with commas
+     */
+    public StreamingResponseBody csv(String type, Authentication authentication) {
+        ExportSource<?> source = source(type, authentication);
+        List<String> header = columns(source.catalog().entity());
+        return whileRunning(out -> {
+            Writer writer = writer(out);
+            CsvWriter csv = new CsvWriter(writer);
+            csv.write(header);
+            long rows = stream(source, row -> {
+                Map<String, String> columns = new LinkedHashMap<>();
+                flatten("", exportMapper.valueToTree(row), columns);
+                try {
+                    List<String> values = new ArrayList<>(header.size());
+                    header.forEach(column -> values.add(columns.get(column)));
+                    csv.write(values);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            log.info("Exported {} '{}' rows as CSV", rows, type);
+        });
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private ExportSource<?> source(String type, Authentication authentication) {
+        ExportSource<?> source = sources.get(type);
+        if (source == null) {
+            throw new EntityNotFoundException("No exportable catalog '" + type + "'");
+        }
+        if (!privilegeEvaluator.isAllowed(source.catalog().path(), authentication)) {
+            throw new AccessDeniedException("Not allowed to read " + source.catalog().path());
+        }
+        return source;
+    }
+
+    // Takes a slot before the response starts and gives it back once the body is written (or fails)
+    private StreamingResponseBody whileRunning(StreamingResponseBody body) {
+        if (!running.tryAcquire()) {
+            throw new ExportBusyException(retryAfterSeconds);
+        }
+        return out -> {
+            try {
+                body.writeTo(out);
+            } finally {
+                running.release();
+            }
+        };
+    }
+
+    // Streams every row of the catalog to the consumer; returns the row count
+    private <T> long stream(ExportSource<T> source, Consumer<Object> consumer) throws IOException {
+        try {
+            Long rows = readOnlyTransaction.execute(status -> {
+                String entity = entityManager.getMetamodel().entity(source.catalog().entity()).getName();
+                long count = 0;
+                try (Stream<T> stream = entityManager
+                        .createQuery("SELECT e FROM " + entity + " e", source.catalog().entity())
+                        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                        .setHint(HibernateHints.HINT_READ_ONLY, true)
+                        .getResultStream()) {
+                    Iterator<T> rowIterator = stream.iterator();
+                    List<T> chunk = new ArrayList<>(fetchSize);
+                    while (rowIterator.hasNext()) {
+                        chunk.add(rowIterator.next());
+                        if (chunk.size() == fetchSize || !rowIterator.hasNext()) {
+                            chunk.forEach(consumer);
+                            count += chunk.size();
+                            chunk.clear();
+                            entityManager.clear();
+                        }
+                    }
+                }
+                return count;
+            });
+            return rows == null ? 0 : rows;
+        } catch (UncheckedIOException e) {
+            // Usually the client went away: stop reading and let the container drop the response
+            throw e.getCause();
+        }
+    }
+
+    private static Writer writer(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    private List<String> columns(Class<?> entity) {
+        List<String> columns = new ArrayList<>();
+        addColumns("", entity, columns);
+        return columns;
+    }
+
+    // Walks the same serializers that write the rows: beans are expanded, entity references are their "id"
+    private void addColumns(String prefix, Class<?> type, List<String> columns) {
+        JsonSerializer<Object> serializer = serializer(type);
+        if (!(serializer instanceof BeanSerializerBase)) {
+            columns.add(prefix.substring(0, Math.max(0, prefix.length() - 1)));
+            return;
+        }
+        serializer.properties().forEachRemaining(property -> {
+            Class<?> propertyType = property.getType().getRawClass();
+            if (propertyType.isAnnotationPresent(Entity.class)) {
+                columns.add(prefix + property.getName() + ".id");
+            } else if (property.getType().isContainerType() || propertyType == type) {
+                columns.add(prefix + property.getName());
+            } else {
+                addColumns(prefix + property.getName() + ".", propertyType, columns);
+            }
+        });
+    }
+
+    private JsonSerializer<Object> serializer(Class<?> type) {
+        try {
+            return exportMapper.getSerializerProviderInstance().findValueSerializer(type);
+        } catch (JsonMappingException e) {
+            throw new IllegalStateException("Cannot export " + type.getSimpleName() + ": " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static void flatten(String prefix, JsonNode node, Map<String, String> columns) {
+        if (node.isObject() && !node.isEmpty()) {
+            node.fields().forEachRemaining(field -> flatten(prefix + field.getKey() + ".", field.getValue(), columns));
+            return;
+        }
+        String column = prefix.substring(0, Math.max(0, prefix.length() - 1));
+        if (node.isArray()) {
+            List<String> items = new ArrayList<>();
+            node.forEach(item -> items.add(item.isValueNode() ? item.asText() : item.toString()));
+            columns.put(column, String.join(",", items));
+        } else {
+            columns.put(column, node.isNull() || node.isMissingNode() ? null : node.isValueNode() ? node.asText() : node.toString());
+        }
+    }
+
+    // Entity-typed properties are written as {"id": ...}: no lazy loading, no N+1, no nested rows
+    private static SimpleModule referencesAsIds(PersistenceUnitUtil persistenceUnitUtil) {
+        JsonSerializer<Object> reference = new JsonSerializer<>() {
+            @Override
+            public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+                generator.writeStartObject();
+                generator.writeObjectField("id", persistenceUnitUtil.getIdentifier(value));
+                generator.writeEndObject();
+            }
+        };
+        JsonSerializer<Object> nullReference = new JsonSerializer<>() {
+            @Override
+            public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+                generator.writeStartObject();
+                generator.writeNullField("id");
+                generator.writeEndObject();
+            }
+        };
+        return new SimpleModule("catalog-export").setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription description,
+                                                             List<BeanPropertyWriter> properties) {
+                for (BeanPropertyWriter property : properties) {
+                    if (property.getType().getRawClass().isAnnotationPresent(Entity.class)) {
+                        property.assignSerializer(reference);
+                        property.assignNullSerializer(nullReference);
+                    }
+                }
+                return properties;
+            }
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package backend.backend.core.bulk;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+public class CatalogImportController {
+
+    private final CatalogImporter catalogImporter;
+
+    // =========================
+    // ADMIN ONLY
+    // =========================
+
+    // Catalog tags accepted by the import endpoints
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    public ResponseEntity<List<String>> importTypes() {
+        return ResponseEntity.ok(catalogImporter.importTypes());
+    }
+
+    // e.g. curl -X POST -H 'Content-Type: text/csv' --data-binary @hotels.csv /api/import/hotel
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/{type}", consumes = "text/csv")
+    public ResponseEntity<ImportReport> importCsv(@PathVariable String type, InputStream body) throws IOException {
+        return ResponseEntity.ok(catalogImporter.importCsv(type, body));
+    }
+
+    // One JSON object per line
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/{type}", consumes = {"application/x-ndjson", "application/jsonl"})
+    public ResponseEntity<ImportReport> importNdjson(@PathVariable String type, InputStream body) throws IOException {
+        return ResponseEntity.ok(catalogImporter.importNdjson(type, body));
+    }
+}
@@ -0,0 +1,383 @@
+package backend.backend.core.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming bulk import into a catalog, from CSV or NDJSON.
+ *
+ * The body is read one row at a time and never held in memory as a whole. Each row is mapped onto
+ * the catalog's entity with Jackson, prepared by the catalog a chunk at a time (references resolved
+ * once per chunk), and checked with its Bean Validation constraints; rejected rows are reported with their line and the import moves on. Valid rows are
+ * written in chunks, one transaction of JDBC-batched inserts per chunk (see hibernate.jdbc.batch_size),
+ * on a writer thread while the request thread reads and validates the next chunk. A chunk the
+ * database refuses is retried row by row so only the offending rows are reported.
+ *
+ * CSV: the first record names the columns after the entity's JSON properties; "a.b" columns fill
+ * nested objects (e.g. industry.id) and empty cells are left null.
+ */
+@Slf4j
+@Service
+public class CatalogImporter {
+
+    private static final int MAX_MESSAGE_LENGTH = 300;
+
+    private final Map<String, ImportTarget<?>> targets = new TreeMap<>();
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxErrors;
+    private final ExecutorService writers;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CatalogImporter(
+            List<ImportTarget<?>> targets,
+            ObjectMapper objectMapper,
+            Validator validator,
+            TransactionTemplate transactionTemplate,
+            @Value("${catalog.import.batch-size:500}") int batchSize,
+            @Value("${catalog.import.max-errors:1000}") int maxErrors,
+            @Value("${catalog.import.writer-threads:2}") int writerThreads) {
+        targets.forEach(target -> this.targets.put(target.catalog().type(), target));
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxErrors = maxErrors;
+        AtomicInteger count = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(Math.max(1, writerThreads), runnable -> {
+            Thread thread = new Thread(runnable, "catalog-import-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // One row of the body: its JSON form, or why it could not be read
+    private record Row(long line, JsonNode node, String error) {
+    }
+
+    private record Parsed<T>(Row row, T entity) {
+    }
+
+    @FunctionalInterface
+    private interface RowReader {
+        Row next() throws IOException;
+    }
+
+    // Rejected rows are reported, the rest of the file is still imported
+    private static final class InvalidRowException extends RuntimeException {
+        private final List<String> messages;
+
+        InvalidRowException(List<String> messages) {
+            super(String.join("; ", messages));
+            this.messages = messages;
+        }
+    }
+
+    // =========================
+    // Entry points
+    // =========================
+
+    public List<String> importTypes() {
+        return List.copyOf(targets.keySet());
+    }
+
+    public ImportReport importCsv(String type, InputStream body) throws IOException {
+        ImportTarget<?> target = target(type);
+        CsvReader csv = new CsvReader(reader(body));
+        List<String> header = csv.next();
+        if (header == null) {
+            return new Progress(type).report();
+        }
+        List<String> columns = header.stream().map(String::trim).toList();
+        return run(target, () -> {
+            try {
+                List<String> record = csv.next();
+                return record == null ? null : new Row(csv.recordLine(), toNode(columns, record), null);
+            } catch (IllegalArgumentException e) {
+                return new Row(csv.recordLine(), null, e.getMessage());
+            }
+        });
+    }
+
+    public ImportReport importNdjson(String type, InputStream body) throws IOException {
+        ImportTarget<?> target = target(type);
+        BufferedReader lines = reader(body);
+        long[] number = {0};
+        return run(target, () -> {
+            String text;
+            do {
+                text = lines.readLine();
+                number[0]++;
+            } while (text != null && text.isBlank());
+            if (text == null) {
+                return null;
+            }
+            try {
+                JsonNode node = objectMapper.readTree(text);
+                return node.isObject()
+                        ? new Row(number[0], node, null)
+                        : new Row(number[0], null, "Expected a JSON object");
+            } catch (JsonProcessingException e) {
+                return new Row(number[0], null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writers.shutdownNow();
+    }
+
+    // =========================
+    // Pipeline
+    // =========================
+
+    private <T> ImportReport run(ImportTarget<T> target, RowReader rows) throws IOException {
+        Progress progress = new Progress(target.catalog().type());
+        List<Parsed<T>> chunk = new ArrayList<>(batchSize);
+        CompletableFuture<Void> writing = CompletableFuture.completedFuture(null);
+        try {
+            Row row;
+            while ((row = rows.next()) != null) {
+                progress.received++;
+                if (row.error() != null) {
+                    progress.reject(row.line(), List.of(row.error()));
+                    continue;
+                }
+                try {
+                    chunk.add(new Parsed<>(row, toEntity(target, row.node())));
+                } catch (InvalidRowException e) {
+                    progress.reject(row.line(), e.messages);
+                }
+                if (chunk.size() >= batchSize) {
+                    List<Parsed<T>> valid = prepare(target, chunk, progress);
+                    // At most one chunk in flight per import: reading stays one chunk ahead of the database
+                    await(writing);
+                    writing = CompletableFuture.runAsync(() -> write(target, valid, progress), writers);
+                    chunk = new ArrayList<>(batchSize);
+                }
+            }
+            List<Parsed<T>> valid = prepare(target, chunk, progress);
+            await(writing);
+            write(target, valid, progress);
+        } finally {
+            writing.exceptionally(e -> null).join();
+            if (progress.imported() > 0) {
+                target.afterImport();
+            }
+        }
+        ImportReport report = progress.report();
+        log.info("Imported {} of {} '{}' rows ({} rejected)",
+                report.imported(), report.received(), report.type(), report.failed());
+        return report;
+    }
+
+    private <T> void write(ImportTarget<T> target, List<Parsed<T>> chunk, Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> chunk.forEach(p -> entityManager.persist(p.entity())));
+            progress.imported(chunk.size());
+        } catch (RuntimeException chunkFailure) {
+            // Persist assigned ids to the failed entities: retry from the rows, one transaction each
+            List<Parsed<T>> remapped = new ArrayList<>(chunk.size());
+            for (Parsed<T> parsed : chunk) {
+                try {
+                    remapped.add(new Parsed<>(parsed.row(), toEntity(target, parsed.row().node())));
+                } catch (InvalidRowException e) {
+                    progress.reject(parsed.row().line(), e.messages);
+                }
+            }
+            for (Parsed<T> parsed : prepare(target, remapped, progress)) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> entityManager.persist(parsed.entity()));
+                    progress.imported(1);
+                } catch (RuntimeException e) {
+                    progress.reject(parsed.row().line(), List.of(databaseMessage(e)));
+                }
+            }
+        }
+    }
+
+    private <T> T toEntity(ImportTarget<T> target, JsonNode node) {
+        T entity;
+        try {
+            entity = objectMapper.treeToValue(node, target.catalog().entity());
+        } catch (JsonProcessingException e) {
+            throw new InvalidRowException(List.of(describe(e)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRowException(List.of(e.getMessage()));
+        }
+        if (entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity) != null) {
+            throw new InvalidRowException(List.of("id: assigned by the server, leave it out"));
+        }
+        return entity;
+    }
+
+    // The target sees the whole chunk first (one lookup per reference kind), then each row is prepared and validated
+    private <T> List<Parsed<T>> prepare(ImportTarget<T> target, List<Parsed<T>> chunk, Progress progress) {
+        if (chunk.isEmpty()) {
+            return chunk;
+        }
+        Consumer<T> preparer = target.importPreparer(chunk.stream().map(Parsed::entity).toList());
+        List<Parsed<T>> valid = new ArrayList<>(chunk.size());
+        for (Parsed<T> parsed : chunk) {
+            try {
+                preparer.accept(parsed.entity());
+            } catch (IllegalArgumentException | EntityNotFoundException e) {
+                progress.reject(parsed.row().line(), List.of(e.getMessage()));
+                continue;
+            }
+            List<String> violations = validator.validate(parsed.entity()).stream()
+                    .map(CatalogImporter::describe)
+                    .sorted()
+                    .toList();
+            if (violations.isEmpty()) {
+                valid.add(parsed);
+            } else {
+                progress.reject(parsed.row().line(), violations);
+            }
+        }
+        return valid;
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private ImportTarget<?> target(String type) {
+        ImportTarget<?> target = targets.get(type);
+        if (target == null) {
+            throw new EntityNotFoundException("No importable catalog '" + type + "'");
+        }
+        return target;
+    }
+
+    private static BufferedReader reader(InputStream body) {
+        return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    // "a.b" columns become nested objects; empty cells stay absent (null)
+    private ObjectNode toNode(List<String> columns, List<String> record) {
+        if (record.size() > columns.size()) {
+            throw new IllegalArgumentException(record.size() + " values for " + columns.size() + " columns");
+        }
+        ObjectNode node = objectMapper.createObjectNode();
+        for (int i = 0; i < record.size(); i++) {
+            String value = record.get(i);
+            if (value.isEmpty() || columns.get(i).isEmpty()) {
+                continue;
+            }
+            String[] path = columns.get(i).split("\\.");
+            ObjectNode parent = node;
+            for (int p = 0; p < path.length - 1; p++) {
+                parent = parent.get(path[p]) instanceof ObjectNode child ? child : parent.putObject(path[p]);
+            }
+            parent.put(path[path.length - 1], value);
+        }
+        return node;
+    }
+
+    private static void await(CompletableFuture<Void> writing) {
+        try {
+            writing.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // e.g. "starRating: Cannot deserialize value of type `java.lang.Integer` from String "five" ..."
+    private static String describe(JsonProcessingException e) {
+        if (e instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            String field = mapping.getPath().stream()
+                    .map(ref -> ref.getFieldName() != null ? ref.getFieldName() : String.valueOf(ref.getIndex()))
+                    .collect(Collectors.joining("."));
+            return field + ": " + e.getOriginalMessage();
+        }
+        return e.getOriginalMessage();
+    }
+
+    private static String describe(ConstraintViolation<?> violation) {
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+
+    private static String databaseMessage(RuntimeException e) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        return message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+    }
+
+    // Counters shared by the reading thread and the writer
+    private final class Progress {
+        private final String type;
+        private final List<ImportReport.RowError> errors = new ArrayList<>();
+        private long received;
+        private long imported;
+        private long failed;
+
+        Progress(String type) {
+            this.type = type;
+        }
+
+        synchronized void reject(long line, List<String> messages) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportReport.RowError(line, messages));
+            }
+        }
+
+        synchronized void imported(int rows) {
+            imported += rows;
+        }
+
+        synchronized long imported() {
+            return imported;
+        }
+
+        synchronized ImportReport report() {
+            List<ImportReport.RowError> sorted = errors.stream()
+                    .sorted((a, b) -> Long.compare(a.line(), b.line()))
+                    .toList();
+            return new ImportReport(type, received, imported, failed, sorted, failed > errors.size());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package backend.backend.core.bulk;
+
+/**
+ * Thrown when the allowed number of exports is already streaming and another one is refused instead of queued.
+ */
+public class ExportBusyException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public ExportBusyException(int retryAfterSeconds) {
+        super("Too many exports running, please retry later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,16 @@
+package backend.backend.core.bulk;
+
+import backend.backend.core.common.Catalog;
+
+/**
+ * A catalog that can be exported in full (/api/export/{type}).
+ * Implemented by the catalog services; every Spring bean implementing it is exportable.
+ */
+public interface ExportSource<T> {
+
+    /**
+     * Tag used in the export path, the API path callers must be allowed to read to export it,
+     * and the entity streamed out (one row per instance)
+     */
+    Catalog<T> catalog();
+}
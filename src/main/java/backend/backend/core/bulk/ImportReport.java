@@ -0,0 +1,20 @@
+package backend.backend.core.bulk;
+
+import java.util.List;
+
+/**
+ * Outcome of one bulk import.
+ *
+ * @param received        rows read from the body
+ * @param errors          the first rejected rows (capped by catalog.import.max-errors)
+ * @param errorsTruncated more rows failed than are listed
+ */
+public record ImportReport(String type, long received, long imported, long failed,
+                           List<RowError> errors, boolean errorsTruncated) {
+
+    /**
+     * @param line line of the body the row starts on (the CSV header is line 1)
+     */
+    public record RowError(long line, List<String> messages) {
+    }
+}
@@ -0,0 +1,38 @@
+package backend.backend.core.bulk;
+
+import backend.backend.core.common.Catalog;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A catalog that accepts bulk imports (/api/import/{type}).
+ * Implemented by the catalog services; every Spring bean implementing it is importable.
+ */
+public interface ImportTarget<T> {
+
+    /**
+     * Tag used in the import path, and the entity each CSV record / NDJSON line is read into
+     */
+    Catalog<T> catalog();
+
+    /**
+     * Fills derived fields and resolves references before the row is validated.
+     * Throwing IllegalArgumentException or EntityNotFoundException rejects the row.
+     */
+    default void prepareImport(T row) {
+    }
+
+    /**
+     * Prepares the rows of one chunk: sees the whole chunk first, so references can be loaded in one query,
+     * then returns what prepares each row (same contract as prepareImport). Defaults to prepareImport.
+     */
+    default Consumer<T> importPreparer(List<T> rows) {
+        return this::prepareImport;
+    }
+
+    /**
+     * Called once an import has written rows: drop cached pages and reload the in-memory indexes
+     */
+    void afterImport();
+}
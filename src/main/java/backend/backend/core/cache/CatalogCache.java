@@ -0,0 +1,133 @@
+package backend.backend.core.cache;
+
+import backend.backend.core.common.AfterCommit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for one catalog (list pages and single rows).
+ *
+ * Every entry is stamped with the catalog version current when its load started. Writes bump the
+ * version after commit, which retires every entry at once, list pages included, without having to
+ * know which keys a change affects. A load racing a write keeps the old stamp and is never served.
+ *
+ * Only misses open a (read-only) transaction, so a hit never borrows a DB connection.
+ */
+public final class CatalogCache {
+
+    private final String name;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final TransactionTemplate readOnlyTx;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile long lastModified = System.currentTimeMillis();
+    private final Map<Object, Cached> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private record Cached(Object value, long version, long expiresAt) {
+    }
+
+    public record Stats(String name, boolean enabled, int size, int maxEntries, long ttlSeconds,
+                        long version, long hits, long misses, long evictions, double hitRatio) {
+    }
+
+    CatalogCache(String name, boolean enabled, int maxEntries, Duration ttl, TransactionTemplate readOnlyTx) {
+        this.name = name;
+        this.enabled = enabled && maxEntries > 0;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.readOnlyTx = readOnlyTx;
+    }
+
+    // =========================
+    // Reads
+    // =========================
+
+    @SuppressWarnings("unchecked")
+    public <V> V get(Object key, Supplier<V> loader) {
+        if (!enabled) {
+            return readOnlyTx.execute(status -> loader.get());
+        }
+
+        long now = System.nanoTime();
+        long current = version.get();
+        Cached cached = entries.get(key);
+        if (cached != null && cached.version() == current && now - cached.expiresAt() < 0) {
+            hits.increment();
+            return (V) cached.value();
+        }
+        if (cached != null && entries.remove(key, cached)) {
+            evictions.increment();
+        }
+
+        misses.increment();
+        V value = readOnlyTx.execute(status -> loader.get());
+        if (value != null) {
+            if (entries.size() >= maxEntries) {
+                evict(now);
+            }
+            entries.put(key, new Cached(value, current, now + ttlNanos));
+        }
+        return value;
+    }
+
+    // =========================
+    // Invalidation
+    // =========================
+
+    // Called from write methods: everything cached so far is stale once the transaction commits
+    public void invalidateAfterCommit() {
+        AfterCommit.run(this::invalidate);
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+        lastModified = System.currentTimeMillis();
+        int dropped = entries.size();
+        entries.clear();
+        evictions.add(dropped);
+    }
+
+    // Bumped by every committed write (and by admin flushes); read by HTTP conditional GETs
+    public long version() {
+        return version.get();
+    }
+
+    public long lastModified() {
+        return lastModified;
+    }
+
+    public Stats stats() {
+        long h = hits.sum();
+        long m = misses.sum();
+        return new Stats(name, enabled, entries.size(), maxEntries, ttlNanos / 1_000_000_000L,
+                version.get(), h, m, evictions.sum(), h + m == 0 ? 0 : (double) h / (h + m));
+    }
+
+    // Stale and expired entries go first; if the cache is still full, drop an arbitrary tenth of it
+    private void evict(long now) {
+        long current = version.get();
+        int before = entries.size();
+        entries.values().removeIf(c -> c.version() != current || now - c.expiresAt() >= 0);
+        if (entries.size() >= maxEntries) {
+            int toDrop = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+            Iterator<Object> it = entries.keySet().iterator();
+            while (toDrop-- > 0 && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        evictions.add(Math.max(0, before - entries.size()));
+    }
+}
@@ -0,0 +1,43 @@
+package backend.backend.core.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/catalog-cache")
+@RequiredArgsConstructor
+public class CatalogCacheController {
+
+    private final CatalogCaches catalogCaches;
+
+    // ADMIN ONLY: hits, misses, evictions and size per catalog
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/stats")
+    public ResponseEntity<List<CatalogCache.Stats>> getStats() {
+        return ResponseEntity.ok(catalogCaches.stats());
+    }
+
+    // ADMIN ONLY: drop one catalog's cache (e.g. after editing rows directly in the DB)
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/{catalog}")
+    public ResponseEntity<Void> invalidate(@PathVariable String catalog) {
+        catalogCaches.invalidate(catalog);
+        return ResponseEntity.noContent().build();
+    }
+
+    // ADMIN ONLY: drop every catalog cache
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping
+    public ResponseEntity<Void> invalidateAll() {
+        catalogCaches.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+}
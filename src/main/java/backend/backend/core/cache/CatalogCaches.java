@@ -0,0 +1,93 @@
+package backend.backend.core.cache;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the per-catalog caches. Size, TTL and the on/off switches come from catalog.cache.*;
+ * a catalog listed in catalog.cache.disabled always reads through to the database.
+ */
+@Component
+public class CatalogCaches {
+
+    private final TransactionTemplate readOnlyTx;
+    private final boolean enabled;
+    private final Set<String> disabled;
+    private final int maxEntries;
+    private final Duration ttl;
+
+    private final Map<String, CatalogCache> caches = new ConcurrentHashMap<>();
+
+    // Versions restart at 0 on boot; the epoch keeps ETags from before a restart from matching
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    public CatalogCaches(
+            PlatformTransactionManager transactionManager,
+            @Value("${catalog.cache.enabled:true}") boolean enabled,
+            @Value("${catalog.cache.disabled:}") Set<String> disabled,
+            @Value("${catalog.cache.max-entries:2000}") int maxEntries,
+            @Value("${catalog.cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.enabled = enabled;
+        this.disabled = disabled;
+        this.maxEntries = maxEntries;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public CatalogCache forCatalog(String name) {
+        return caches.computeIfAbsent(name, n ->
+                new CatalogCache(n, enabled && !disabled.contains(n), maxEntries, ttl, readOnlyTx));
+    }
+
+    // =========================
+    // HTTP validators
+    // =========================
+
+    // Weak ETag over the versions of every catalog a response is built from
+    public String etag(String... catalogs) {
+        StringBuilder tag = new StringBuilder("W/\"").append(epoch);
+        for (String catalog : catalogs) {
+            tag.append('-').append(forCatalog(catalog).version());
+        }
+        return tag.append('"').toString();
+    }
+
+    public long lastModified(String... catalogs) {
+        long latest = 0;
+        for (String catalog : catalogs) {
+            latest = Math.max(latest, forCatalog(catalog).lastModified());
+        }
+        return latest;
+    }
+
+    public List<CatalogCache.Stats> stats() {
+        return caches.values().stream()
+                .map(CatalogCache::stats)
+                .sorted(Comparator.comparing(CatalogCache.Stats::name))
+                .toList();
+    }
+
+    public void invalidate(String name) {
+        CatalogCache cache = caches.get(name);
+        if (cache == null) {
+            throw new EntityNotFoundException("No catalog cache named " + name);
+        }
+        cache.invalidate();
+    }
+
+    public void invalidateAll() {
+        caches.values().forEach(CatalogCache::invalidate);
+    }
+}
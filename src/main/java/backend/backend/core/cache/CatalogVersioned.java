@@ -0,0 +1,20 @@
+package backend.backend.core.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a catalog controller whose GET responses only change when the listed catalogs are written.
+ * Such GETs carry ETag / Last-Modified and are answered with 304 before the handler runs when the
+ * client's copy is still current (see {@link ConditionalGetInterceptor}).
+ *
+ * List every catalog that ends up in the JSON, e.g. job listings embed company and industry.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CatalogVersioned {
+
+    String[] value();
+}
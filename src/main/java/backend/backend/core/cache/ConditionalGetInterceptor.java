@@ -0,0 +1,46 @@
+package backend.backend.core.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * ETag / Last-Modified for {@link CatalogVersioned} controllers, computed from the in-memory catalog
+ * versions. A matching If-None-Match (or If-Modified-Since) gets its 304 here, before any query or
+ * serialization runs.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    // Responses depend on the caller's token: let the browser keep them, but revalidate every time
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final CatalogCaches catalogCaches;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method)
+                || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return true;
+        }
+        CatalogVersioned versioned = method.getBeanType().getAnnotation(CatalogVersioned.class);
+        if (versioned == null) {
+            return true;
+        }
+
+        // Also stops Spring Security from writing its no-store default
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+
+        // Sets the validators on the response; returns true once it has turned it into a 304
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        return !webRequest.checkNotModified(
+                catalogCaches.etag(versioned.value()),
+                catalogCaches.lastModified(versioned.value()));
+    }
+}
@@ -0,0 +1,12 @@
+package backend.backend.core.common;
+
+/**
+ * Identity of a catalog, read by every cross-catalog feature it takes part in
+ * (city search, places, open-now, import, export).
+ *
+ * @param type   tag used in the cross-catalog paths and put on their results, e.g. "hotel"
+ * @param path   base path of the catalog API; callers only reach catalogs they are allowed to read there
+ * @param entity the catalog's entity
+ */
+public record Catalog<T>(String type, String path, Class<T> entity) {
+}
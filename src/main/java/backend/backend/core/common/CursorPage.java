@@ -0,0 +1,40 @@
+package backend.backend.core.common;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list. nextCursor is null on the last page;
+ * total is only filled in when the client asked for it (count=true).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CursorPage<T>(List<T> items, String nextCursor, boolean hasMore, Long total) {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    /**
+     * Builds a page from a query that fetched size + 1 rows; the extra row only tells whether more exist.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, KeysetCursor> keyOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null, false, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        String next = keyOf.apply(items.get(size - 1)).encode();
+        return new CursorPage<>(List.copyOf(items), next, true, null);
+    }
+
+    public CursorPage<T> withTotal(long total) {
+        return new CursorPage<>(items, nextCursor, hasMore, total);
+    }
+
+    public static int clampSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+}
@@ -0,0 +1,10 @@
+package backend.backend.core.common;
+
+import java.util.UUID;
+
+/**
+ * A related row as read views show it: its id and display name (e.g. a job listing's company).
+ * Serializes like the nested entity did for the fields clients use ({"id": ..., "name": ...}).
+ */
+public record EntityRef(UUID id, String name) {
+}
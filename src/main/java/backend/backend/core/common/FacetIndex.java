@@ -0,0 +1,663 @@
+package backend.backend.core.common;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Columnar in-memory snapshot of a catalog behind its filter endpoint.
+ *
+ * Every row lives in a numbered slot. Term fields (a handful of values: star ratings, cuisines, flags)
+ * keep one bitmap over the slots per value; range fields (ratings, prices) keep a primitive double column.
+ * A query ANDs one bitmap per filtered field, takes the top rows of the result in the requested order and
+ * counts every facet value under the other fields' filters, so picking a value never hides its alternatives.
+ * Only the ids of the returned rows are loaded from the database.
+ *
+ * The snapshot is built from the repository at startup and on a schedule. Between rebuilds, the
+ * service's create/update/delete calls apply changes after their transaction commits.
+ */
+@Slf4j
+public final class FacetIndex<T> {
+
+    public static final int DEFAULT_LIMIT = 20;
+
+    private final String name;
+    private final KeysetSort<T> sort;
+    private final List<TermField<T>> termFields;
+    private final List<RangeField<T>> rangeFields;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state;
+    private final RebuildJournal<String, Row, State> journal =
+            new RebuildJournal<>(lock.writeLock(), Row::id, State::new, State::put, State::remove);
+
+    private record TermField<T>(String name, Function<T, ?> value) {
+    }
+
+    // bounds: ascending lower edges of the facet buckets; the last bucket is open-ended
+    private record RangeField<T>(String name, Function<T, ? extends Number> value, double[] bounds, String[] labels) {
+    }
+
+    // A row reduced to what the snapshot stores: raw term values and range values (NaN when null)
+    private record Row(UUID id, Comparable<Object> key, Object[] terms, double[] ranges) {
+    }
+
+    public static <T> Builder<T> builder(String name, KeysetSort<T> sort) {
+        return new Builder<>(name, sort);
+    }
+
+    public static final class Builder<T> {
+
+        private final String name;
+        private final KeysetSort<T> sort;
+        private final List<TermField<T>> termFields = new ArrayList<>();
+        private final List<RangeField<T>> rangeFields = new ArrayList<>();
+
+        private Builder(String name, KeysetSort<T> sort) {
+            this.name = name;
+            this.sort = sort;
+        }
+
+        // Filtered by value (?field=a,b) and counted per value
+        public Builder<T> term(String field, Function<T, ?> value) {
+            termFields.add(new TermField<>(field, value));
+            return this;
+        }
+
+        // Filtered by bounds (?field.min=&field.max=), sortable, and counted per bucket starting at each bound
+        public Builder<T> range(String field, Function<T, ? extends Number> value, double... bounds) {
+            double[] sorted = bounds.clone();
+            Arrays.sort(sorted);
+            String[] labels = new String[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                labels[i] = i + 1 < sorted.length
+                        ? format(sorted[i]) + "-" + format(sorted[i + 1])
+                        : format(sorted[i]) + "+";
+            }
+            rangeFields.add(new RangeField<>(field, value, sorted, labels));
+            return this;
+        }
+
+        public FacetIndex<T> build() {
+            return new FacetIndex<>(name, sort, List.copyOf(termFields), List.copyOf(rangeFields));
+        }
+
+        private static String format(double bound) {
+            return BigDecimal.valueOf(bound).stripTrailingZeros().toPlainString();
+        }
+    }
+
+    private FacetIndex(String name, KeysetSort<T> sort, List<TermField<T>> termFields, List<RangeField<T>> rangeFields) {
+        this.name = name;
+        this.sort = sort;
+        this.termFields = termFields;
+        this.rangeFields = rangeFields;
+        this.state = new State();
+    }
+
+    // =========================
+    // Maintenance
+    // =========================
+
+    /**
+     * Replaces the whole snapshot with the rows returned by the loader.
+     * Changes committed while the loader runs are kept.
+     */
+    public void rebuild(Supplier<? extends Iterable<T>> loader) {
+        journal.rebuild(name, loader, this::rowOf, this::install);
+    }
+
+    /**
+     * Starts a rebuild whose rows are loaded by the caller (see {@link Rebuild#run})
+     */
+    public Rebuild<T> beginRebuild() {
+        return journal.begin(name, this::rowOf, this::install);
+    }
+
+    // Called from create/update: the row is read now, the snapshot changes once the transaction commits
+    public T indexAfterCommit(T row) {
+        Row extracted = rowOf(row);
+        AfterCommit.run(() -> put(extracted));
+        return row;
+    }
+
+    public void removeAfterCommit(UUID id) {
+        AfterCommit.run(() -> remove(id));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // =========================
+    // Query
+    // =========================
+
+    /**
+     * The first rows matching every filter in the requested order, the match count and the facet counts.
+     *
+     * @param loader loads rows by id (e.g. repository::findAllById); rows it does not return are skipped
+     */
+    public FacetResult<T> filter(FacetQuery query, Function<List<UUID>, List<T>> loader) {
+        Plan plan = plan(query);
+        List<UUID> ids;
+        long total;
+        Map<String, Map<String, Integer>> facets;
+        lock.readLock().lock();
+        if (!state.isSorted()) {
+            lock.readLock().unlock();
+            lock.writeLock().lock();
+            try {
+                if (!state.isSorted()) {
+                    state.sort();
+                }
+                lock.readLock().lock();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        try {
+            long[][] termMasks = new long[termFields.size()][];
+            long[][] rangeMasks = new long[rangeFields.size()][];
+            plan.terms.forEach((field, values) -> termMasks[field] = state.termMask(field, values));
+            plan.ranges.forEach((field, range) -> rangeMasks[field] = state.rangeMask(field, range));
+
+            long[] match = state.and(termMasks, rangeMasks, -1, -1);
+            total = popCount(match);
+            ids = state.top(match, plan.sortField, plan.descending, plan.limit);
+            facets = state.facets(termMasks, rangeMasks, match);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new FacetResult<>(load(ids, loader), total, facets);
+    }
+
+    // Query with field names resolved to positions and term values normalized
+    private record Plan(Map<Integer, Set<String>> terms, Map<Integer, FacetQuery.Range> ranges,
+                        int sortField, boolean descending, int limit) {
+    }
+
+    private Plan plan(FacetQuery query) {
+        Map<Integer, Set<String>> terms = new LinkedHashMap<>();
+        query.terms().forEach((field, values) -> terms.put(termField(field),
+                values.stream().map(FacetIndex::termKey).collect(Collectors.toSet())));
+        Map<Integer, FacetQuery.Range> ranges = new LinkedHashMap<>();
+        query.ranges().forEach((field, range) -> ranges.put(rangeField(field), range));
+
+        int sortField = -1;
+        if (query.sort() != null && !query.sort().equals(sort.attribute())) {
+            sortField = rangeField(query.sort());
+        }
+        return new Plan(terms, ranges, sortField, query.descending(), CursorPage.clampSize(
+                query.limit() == null ? DEFAULT_LIMIT : query.limit()));
+    }
+
+    private int termField(String field) {
+        for (int i = 0; i < termFields.size(); i++) {
+            if (termFields.get(i).name().equals(field)) {
+                return i;
+            }
+        }
+        throw new InvalidFacetQueryException("Unknown filter '" + field + "'");
+    }
+
+    private int rangeField(String field) {
+        for (int i = 0; i < rangeFields.size(); i++) {
+            if (rangeFields.get(i).name().equals(field)) {
+                return i;
+            }
+        }
+        throw new InvalidFacetQueryException("Unknown range or sort field '" + field + "'");
+    }
+
+    // =========================
+    // Snapshot state
+    // =========================
+
+    /**
+     * Slots are reused after removals. live marks the occupied slots; value bitmaps may be shorter than
+     * live (missing words are zero) because they only grow when one of their slots is set.
+     *
+     * Range fields also keep one bitmap per facet bucket, so every facet count is a bitmap AND + popcount.
+     * The sorted views (slots in name order, and per range field the slots with a value in value order)
+     * serve range filters by binary search and top-k by walking the order; writes only mark them stale,
+     * and the next query re-sorts them once.
+     */
+    private final class State {
+
+        private final Map<UUID, Integer> slotById = new HashMap<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private int slotCount;
+
+        private UUID[] ids = new UUID[64];
+        private Object[] keys = new Object[64];
+        private long[] live = new long[1];
+        // Per term field: value ordinal of each slot (-1 when null) and the value dictionary
+        private final int[][] ordinals = new int[termFields.size()][64];
+        private final List<List<TermValue>> values = new ArrayList<>();
+        private final List<Map<String, Integer>> ordinalByKey = new ArrayList<>();
+        // Per range field: value of each slot (NaN when null) and one bitmap per facet bucket
+        private final double[][] columns = new double[rangeFields.size()][64];
+        private final long[][][] buckets = new long[rangeFields.size()][][];
+
+        private boolean sorted;
+        private int[] byKey;
+        private final int[][] byValue = new int[rangeFields.size()][];
+
+        State() {
+            for (int i = 0; i < termFields.size(); i++) {
+                values.add(new ArrayList<>());
+                ordinalByKey.add(new HashMap<>());
+            }
+            for (int i = 0; i < rangeFields.size(); i++) {
+                buckets[i] = new long[rangeFields.get(i).bounds().length][1];
+            }
+        }
+
+        void put(Row row) {
+            remove(row.id());
+            int slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+            ensureCapacity(slot + 1);
+            slotById.put(row.id(), slot);
+            ids[slot] = row.id();
+            keys[slot] = row.key();
+            live = set(live, slot);
+            for (int field = 0; field < termFields.size(); field++) {
+                Object raw = row.terms()[field];
+                int ordinal = raw == null ? -1 : ordinal(field, raw);
+                ordinals[field][slot] = ordinal;
+                if (ordinal >= 0) {
+                    TermValue value = values.get(field).get(ordinal);
+                    value.bits = set(value.bits, slot);
+                    value.count++;
+                }
+            }
+            for (int field = 0; field < rangeFields.size(); field++) {
+                double value = row.ranges()[field];
+                columns[field][slot] = value;
+                int bucket = bucket(rangeFields.get(field).bounds(), value);
+                if (bucket >= 0) {
+                    buckets[field][bucket] = set(buckets[field][bucket], slot);
+                }
+            }
+            sorted = false;
+        }
+
+        void remove(UUID id) {
+            Integer slot = slotById.remove(id);
+            if (slot == null) {
+                return;
+            }
+            freeSlots.push(slot);
+            ids[slot] = null;
+            keys[slot] = null;
+            clear(live, slot);
+            for (int field = 0; field < termFields.size(); field++) {
+                int ordinal = ordinals[field][slot];
+                if (ordinal >= 0) {
+                    TermValue value = values.get(field).get(ordinal);
+                    clear(value.bits, slot);
+                    value.count--;
+                }
+            }
+            for (int field = 0; field < rangeFields.size(); field++) {
+                int bucket = bucket(rangeFields.get(field).bounds(), columns[field][slot]);
+                if (bucket >= 0) {
+                    clear(buckets[field][bucket], slot);
+                }
+            }
+            sorted = false;
+        }
+
+        long[] termMask(int field, Set<String> keys) {
+            long[] mask = new long[live.length];
+            for (String key : keys) {
+                Integer ordinal = ordinalByKey.get(field).get(key);
+                if (ordinal != null) {
+                    orInto(mask, values.get(field).get(ordinal).bits);
+                }
+            }
+            return mask;
+        }
+
+        // Slots between the bounds, found by binary search in the field's value order
+        long[] rangeMask(int field, FacetQuery.Range range) {
+            long[] mask = new long[live.length];
+            int[] order = byValue[field];
+            double[] column = columns[field];
+            int from = range.min() == null ? 0 : lowerBound(order, column, range.min(), false);
+            int to = range.max() == null ? order.length : lowerBound(order, column, range.max(), true);
+            for (int i = from; i < to; i++) {
+                int slot = order[i];
+                mask[slot >>> 6] |= 1L << slot;
+            }
+            return mask;
+        }
+
+        // live AND every mask except the skipped term / range field
+        long[] and(long[][] termMasks, long[][] rangeMasks, int skipTerm, int skipRange) {
+            long[] result = live.clone();
+            for (int i = 0; i < termMasks.length; i++) {
+                if (i != skipTerm && termMasks[i] != null) {
+                    andInto(result, termMasks[i]);
+                }
+            }
+            for (int i = 0; i < rangeMasks.length; i++) {
+                if (i != skipRange && rangeMasks[i] != null) {
+                    andInto(result, rangeMasks[i]);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * The first matches in the requested order, found by walking the sorted view.
+         * Range sorts keep equal values in name order and rows without a value last, in both directions.
+         */
+        List<UUID> top(long[] match, int sortField, boolean descending, int limit) {
+            List<UUID> top = new ArrayList<>(limit);
+            if (sortField < 0) {
+                for (int i = 0; i < byKey.length && top.size() < limit; i++) {
+                    collect(match, byKey[descending ? byKey.length - 1 - i : i], top);
+                }
+                return top;
+            }
+
+            int[] order = byValue[sortField];
+            double[] column = columns[sortField];
+            if (!descending) {
+                for (int i = 0; i < order.length && top.size() < limit; i++) {
+                    collect(match, order[i], top);
+                }
+            } else {
+                for (int end = order.length; end > 0 && top.size() < limit; ) {
+                    int start = end - 1;
+                    while (start > 0 && column[order[start - 1]] == column[order[end - 1]]) {
+                        start--;
+                    }
+                    for (int i = start; i < end && top.size() < limit; i++) {
+                        collect(match, order[i], top);
+                    }
+                    end = start;
+                }
+            }
+            for (int i = 0; i < byKey.length && top.size() < limit; i++) {
+                int slot = byKey[i];
+                if (Double.isNaN(column[slot])) {
+                    collect(match, slot, top);
+                }
+            }
+            return top;
+        }
+
+        Map<String, Map<String, Integer>> facets(long[][] termMasks, long[][] rangeMasks, long[] match) {
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            for (int field = 0; field < termFields.size(); field++) {
+                long[] base = termMasks[field] == null ? match : and(termMasks, rangeMasks, field, -1);
+                Map<String, Integer> counts = new LinkedHashMap<>();
+                for (TermValue value : sorted(values.get(field))) {
+                    counts.put(value.label, popCount(value.bits, base));
+                }
+                facets.put(termFields.get(field).name(), counts);
+            }
+            for (int field = 0; field < rangeFields.size(); field++) {
+                long[] base = rangeMasks[field] == null ? match : and(termMasks, rangeMasks, -1, field);
+                String[] labels = rangeFields.get(field).labels();
+                Map<String, Integer> counts = new LinkedHashMap<>();
+                for (int bucket = 0; bucket < labels.length; bucket++) {
+                    counts.put(labels[bucket], popCount(buckets[field][bucket], base));
+                }
+                facets.put(rangeFields.get(field).name(), counts);
+            }
+            return facets;
+        }
+
+        boolean isSorted() {
+            return sorted;
+        }
+
+        // Rebuilds the sorted views; ties on a range value fall back to name order
+        @SuppressWarnings("unchecked")
+        void sort() {
+            Integer[] slots = slotById.values().toArray(new Integer[0]);
+            Arrays.sort(slots, Comparator
+                    .comparing((Integer slot) -> (Comparable<Object>) keys[slot],
+                            Comparator.nullsLast(Comparator.<Comparable<Object>>naturalOrder()))
+                    .thenComparing(slot -> ids[slot]));
+            byKey = new int[slots.length];
+            int[] rank = new int[ids.length];
+            for (int i = 0; i < slots.length; i++) {
+                byKey[i] = slots[i];
+                rank[slots[i]] = i;
+            }
+            for (int field = 0; field < rangeFields.size(); field++) {
+                double[] column = columns[field];
+                Integer[] withValue = Arrays.stream(slots).filter(slot -> !Double.isNaN(column[slot])).toArray(Integer[]::new);
+                Arrays.sort(withValue, Comparator.<Integer>comparingDouble(slot -> column[slot])
+                        .thenComparingInt(slot -> rank[slot]));
+                byValue[field] = Arrays.stream(withValue).mapToInt(Integer::intValue).toArray();
+            }
+            sorted = true;
+        }
+
+        private void collect(long[] match, int slot, List<UUID> top) {
+            if ((match[slot >>> 6] & (1L << slot)) != 0) {
+                top.add(ids[slot]);
+            }
+        }
+
+        private int ordinal(int field, Object raw) {
+            String key = termKey(raw);
+            Integer ordinal = ordinalByKey.get(field).get(key);
+            if (ordinal == null) {
+                ordinal = values.get(field).size();
+                values.get(field).add(new TermValue(raw));
+                ordinalByKey.get(field).put(key, ordinal);
+            }
+            return ordinal;
+        }
+
+        private void ensureCapacity(int slots) {
+            if (slots <= ids.length) {
+                return;
+            }
+            int capacity = Math.max(slots, ids.length * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            for (int field = 0; field < ordinals.length; field++) {
+                ordinals[field] = Arrays.copyOf(ordinals[field], capacity);
+            }
+            for (int field = 0; field < columns.length; field++) {
+                columns[field] = Arrays.copyOf(columns[field], capacity);
+            }
+        }
+    }
+
+    // One distinct value of a term field; the label keeps the first spelling seen
+    private static final class TermValue {
+
+        private final Object raw;
+        private final String label;
+        private long[] bits = new long[1];
+        private int count;
+
+        TermValue(Object raw) {
+            this.raw = raw;
+            this.label = raw instanceof String text ? text.trim() : String.valueOf(raw);
+        }
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private void install(State fresh) {
+        state = fresh;
+        log.debug("Facet index '{}' rebuilt with {} rows", name, fresh.slotById.size());
+    }
+
+    private void put(Row row) {
+        lock.writeLock().lock();
+        try {
+            state.put(row);
+            journal.put(name, row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            state.remove(id);
+            journal.remove(name, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Row rowOf(T row) {
+        Object[] terms = new Object[termFields.size()];
+        for (int i = 0; i < terms.length; i++) {
+            Object value = termFields.get(i).value().apply(row);
+            terms[i] = value instanceof String text && text.isBlank() ? null : value;
+        }
+        double[] ranges = new double[rangeFields.size()];
+        for (int i = 0; i < ranges.length; i++) {
+            Number value = rangeFields.get(i).value().apply(row);
+            ranges[i] = value == null ? Double.NaN : value.doubleValue();
+        }
+        return new Row(sort.id().apply(row), (Comparable<Object>) sort.key().apply(row), terms, ranges);
+    }
+
+    private List<T> load(List<UUID> ids, Function<List<UUID>, List<T>> loader) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, T> byId = new HashMap<>();
+        for (T row : loader.apply(ids)) {
+            byId.put(sort.id().apply(row), row);
+        }
+        List<T> rows = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            T row = byId.get(id);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    // Values present in the catalog, numbers and flags in natural order, text alphabetically
+    private static List<TermValue> sorted(List<TermValue> values) {
+        return values.stream()
+                .filter(value -> value.count > 0)
+                .sorted((a, b) -> {
+                    if (a.raw instanceof Number x && b.raw instanceof Number y) {
+                        return Double.compare(x.doubleValue(), y.doubleValue());
+                    }
+                    if (a.raw instanceof Boolean x && b.raw instanceof Boolean y) {
+                        return Boolean.compare(x, y);
+                    }
+                    return a.label.compareToIgnoreCase(b.label);
+                })
+                .toList();
+    }
+
+    // Term values match case-insensitively, so "Italian" and "italian " are one value
+    private static String termKey(Object value) {
+        return String.valueOf(value).trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Last bucket whose lower bound is <= value; -1 below the first bound or when there is no value
+    private static int bucket(double[] bounds, double value) {
+        if (value != value) {
+            return -1;
+        }
+        int at = Arrays.binarySearch(bounds, value);
+        return at >= 0 ? at : -at - 2;
+    }
+
+    private static long[] set(long[] bits, int slot) {
+        int word = slot >>> 6;
+        if (word >= bits.length) {
+            bits = Arrays.copyOf(bits, Math.max(word + 1, bits.length * 2));
+        }
+        bits[word] |= 1L << slot;
+        return bits;
+    }
+
+    private static void clear(long[] bits, int slot) {
+        int word = slot >>> 6;
+        if (word < bits.length) {
+            bits[word] &= ~(1L << slot);
+        }
+    }
+
+    // Position of the first value >= bound (> bound when after is set) in the field's value order
+    private static int lowerBound(int[] order, double[] column, double bound, boolean after) {
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            double value = column[order[mid]];
+            if (value < bound || (after && value == bound)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void orInto(long[] target, long[] bits) {
+        for (int w = 0; w < bits.length && w < target.length; w++) {
+            target[w] |= bits[w];
+        }
+    }
+
+    private static void andInto(long[] target, long[] mask) {
+        for (int w = 0; w < target.length; w++) {
+            target[w] &= w < mask.length ? mask[w] : 0;
+        }
+    }
+
+    private static int popCount(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static int popCount(long[] bits, long[] mask) {
+        int count = 0;
+        for (int w = 0; w < bits.length && w < mask.length; w++) {
+            count += Long.bitCount(bits[w] & mask[w]);
+        }
+        return count;
+    }
+}
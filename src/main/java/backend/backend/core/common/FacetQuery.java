@@ -0,0 +1,85 @@
+package backend.backend.core.common;
+
+import org.springframework.util.MultiValueMap;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Filter, sort and limit for a {@link FacetIndex}, read from the query string:
+ * <pre>
+ *   ?starRating=4,5&amp;active=true          term fields: any of the listed values
+ *   &amp;rating.min=4&amp;startingPrice.max=800  range fields: inclusive bounds
+ *   &amp;sort=-rating&amp;limit=20               sort by a range field (- for descending), default by name
+ * </pre>
+ */
+public record FacetQuery(
+        Map<String, Set<String>> terms,
+        Map<String, Range> ranges,
+        String sort,
+        boolean descending,
+        Integer limit
+) {
+
+    private static final String MIN_SUFFIX = ".min";
+    private static final String MAX_SUFFIX = ".max";
+
+    /**
+     * Inclusive bounds; either side may be open (null).
+     */
+    public record Range(Double min, Double max) {
+
+        boolean contains(double value) {
+            return (min == null || value >= min) && (max == null || value <= max);
+        }
+    }
+
+    public static FacetQuery from(MultiValueMap<String, String> params) {
+        Map<String, Set<String>> terms = new LinkedHashMap<>();
+        Map<String, Range> ranges = new LinkedHashMap<>();
+        String sort = null;
+        boolean descending = false;
+        Integer limit = null;
+
+        for (Map.Entry<String, List<String>> param : params.entrySet()) {
+            String key = param.getKey();
+            String value = String.join(",", param.getValue()).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            if (key.equals("sort")) {
+                descending = value.startsWith("-");
+                sort = descending ? value.substring(1) : value;
+            } else if (key.equals("limit")) {
+                limit = (int) number(key, value);
+            } else if (key.endsWith(MIN_SUFFIX)) {
+                String field = key.substring(0, key.length() - MIN_SUFFIX.length());
+                Range range = ranges.getOrDefault(field, new Range(null, null));
+                ranges.put(field, new Range(number(key, value), range.max()));
+            } else if (key.endsWith(MAX_SUFFIX)) {
+                String field = key.substring(0, key.length() - MAX_SUFFIX.length());
+                Range range = ranges.getOrDefault(field, new Range(null, null));
+                ranges.put(field, new Range(range.min(), number(key, value)));
+            } else {
+                Set<String> values = terms.computeIfAbsent(key, k -> new LinkedHashSet<>());
+                for (String term : value.split(",")) {
+                    if (!term.isBlank()) {
+                        values.add(term.trim());
+                    }
+                }
+            }
+        }
+        return new FacetQuery(terms, ranges, sort, descending, limit);
+    }
+
+    private static double number(String param, String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidFacetQueryException("Parameter '" + param + "' must be a number");
+        }
+    }
+}
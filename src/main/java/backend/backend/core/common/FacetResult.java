@@ -0,0 +1,13 @@
+package backend.backend.core.common;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Top rows of a faceted filter.
+ *
+ * @param total  number of rows matching every filter
+ * @param facets field -> value (or range bucket) -> matching rows, counted under the other fields' filters
+ */
+public record FacetResult<T>(List<T> items, long total, Map<String, Map<String, Integer>> facets) {
+}
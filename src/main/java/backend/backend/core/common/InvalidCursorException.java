@@ -0,0 +1,8 @@
+package backend.backend.core.common;
+
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package backend.backend.core.common;
+
+public class InvalidFacetQueryException extends IllegalArgumentException {
+
+    public InvalidFacetQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,48 @@
+package backend.backend.core.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a list ordered by (sort key, id): the sort key value of the last row
+ * returned and its id. Encoded as an opaque URL-safe string so clients just hand back
+ * what they received.
+ */
+public record KeysetCursor(String key, UUID id) {
+
+    public static KeysetCursor of(Object key, UUID id) {
+        return new KeysetCursor(String.valueOf(key), id);
+    }
+
+    public LocalDateTime keyAsDateTime() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor key: " + key);
+        }
+    }
+
+    public String encode() {
+        String raw = key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns null for a missing cursor (first page).
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // The id never contains '|', the key might
+            int sep = raw.lastIndexOf('|');
+            return new KeysetCursor(raw.substring(0, sep), UUID.fromString(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package backend.backend.core.common;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Shared keyset pagination for catalog repositories (anything implementing JpaSpecificationExecutor).
+ *
+ * A page is "WHERE filter AND (key, id) > (cursor key, cursor id) ORDER BY key, id LIMIT size + 1":
+ * the cost of a page does not depend on how deep the client has scrolled, and no page ever
+ * loads more than size + 1 rows.
+ */
+public final class KeysetPager {
+
+    private KeysetPager() {
+    }
+
+    public static <T> CursorPage<T> page(JpaSpecificationExecutor<T> repository, KeysetSort<T> sort,
+                                         Specification<T> filter, PageQuery query) {
+        int size = query.pageSize();
+        KeysetCursor after = KeysetCursor.decode(query.cursor());
+
+        Specification<T> spec = Specification.where(filter).and(after(sort, after));
+        Sort.Direction direction = sort.descending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort order = Sort.by(direction, sort.attribute()).and(Sort.by(direction, "id"));
+
+        List<T> rows = repository.findBy(spec, q -> q.sortBy(order).limit(size + 1).all());
+        CursorPage<T> page = CursorPage.of(rows, size,
+                row -> KeysetCursor.of(sort.key().apply(row), sort.id().apply(row)));
+
+        return query.withTotal() ? page.withTotal(repository.count(Specification.where(filter))) : page;
+    }
+
+    /**
+     * Same page, selected as read views (see Projection); sort reads its key and id from the view
+     */
+    public static <E, V> CursorPage<V> page(EntityManager entityManager, Projection<E, V> projection,
+                                            KeysetSort<V> sort, Specification<E> filter, PageQuery query) {
+        int size = query.pageSize();
+        KeysetCursor after = KeysetCursor.decode(query.cursor());
+
+        Specification<E> spec = Specification.where(filter).and(after(sort, after));
+        List<V> rows = projection.query(entityManager, spec, sort).setMaxResults(size + 1).getResultList();
+        CursorPage<V> page = CursorPage.of(rows, size,
+                row -> KeysetCursor.of(sort.key().apply(row), sort.id().apply(row)));
+
+        return query.withTotal() ? page.withTotal(projection.count(entityManager, filter)) : page;
+    }
+
+    // =========================
+    // Filters
+    // =========================
+
+    /**
+     * Equality on an attribute or a dotted path, e.g. "company.id"
+     */
+    public static <T> Specification<T> equalTo(String attribute, Object value) {
+        return (root, cq, cb) -> cb.equal(path(root, attribute), value);
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    // The sort only names the attribute here, so it may be typed on the entity or on a view of it
+    private static <T> Specification<T> after(KeysetSort<?> sort, KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return (root, cq, cb) -> {
+            Path<Comparable<Object>> key = root.get(sort.attribute());
+            Path<UUID> id = root.get("id");
+            Comparable<Object> value = convertKey(cursor, key.getJavaType());
+            return cb.or(
+                    beyond(cb, key, value, sort.descending()),
+                    cb.and(cb.equal(key, value), beyond(cb, id, cursor.id(), sort.descending()))
+            );
+        };
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate beyond(CriteriaBuilder cb, Expression<? extends Y> path,
+                                                                     Y value, boolean descending) {
+        return descending ? cb.lessThan(path, value) : cb.greaterThan(path, value);
+    }
+
+    // Cursor keys travel as strings; turn one back into the sort attribute's type
+    @SuppressWarnings("unchecked")
+    static Comparable<Object> convertKey(KeysetCursor cursor, Class<?> type) {
+        try {
+            Object value;
+            if (type == LocalDateTime.class) {
+                value = cursor.keyAsDateTime();
+            } else if (type == LocalDate.class) {
+                value = LocalDate.parse(cursor.key());
+            } else if (type == Integer.class || type == int.class) {
+                value = Integer.valueOf(cursor.key());
+            } else if (type == Long.class || type == long.class) {
+                value = Long.valueOf(cursor.key());
+            } else if (type == java.math.BigDecimal.class) {
+                value = new java.math.BigDecimal(cursor.key());
+            } else {
+                value = cursor.key();
+            }
+            return (Comparable<Object>) value;
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor key: " + cursor.key());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Y> Expression<Y> path(Root<?> root, String attribute) {
+        Path<?> path = root;
+        for (String part : attribute.split("\\.")) {
+            path = path.get(part);
+        }
+        return (Expression<Y>) path;
+    }
+}
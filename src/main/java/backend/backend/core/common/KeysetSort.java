@@ -0,0 +1,23 @@
+package backend.backend.core.common;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Stable order for keyset pagination: a non-null entity attribute, then the id as tie-breaker.
+ *
+ * @param attribute  entity attribute used as the sort key (must be NOT NULL)
+ * @param key        reads that attribute from a loaded row
+ * @param id         reads the row id
+ * @param descending newest/largest first when true
+ */
+public record KeysetSort<T>(String attribute, Function<T, ?> key, Function<T, UUID> id, boolean descending) {
+
+    public static <T> KeysetSort<T> asc(String attribute, Function<T, ?> key, Function<T, UUID> id) {
+        return new KeysetSort<>(attribute, key, id, false);
+    }
+
+    public static <T> KeysetSort<T> desc(String attribute, Function<T, ?> key, Function<T, UUID> id) {
+        return new KeysetSort<>(attribute, key, id, true);
+    }
+}
@@ -0,0 +1,16 @@
+package backend.backend.core.common;
+
+/**
+ * Paging query parameters shared by list endpoints: ?cursor=&size=&count=
+ * Bound straight from the query string (no annotation needed on the controller parameter).
+ */
+public record PageQuery(String cursor, Integer size, Boolean count) {
+
+    public int pageSize() {
+        return CursorPage.clampSize(size);
+    }
+
+    public boolean withTotal() {
+        return Boolean.TRUE.equals(count);
+    }
+}
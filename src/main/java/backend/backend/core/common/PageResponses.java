@@ -0,0 +1,36 @@
+package backend.backend.core.common;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * Turns a CursorPage into a list response: the body stays a plain JSON array and the paging
+ * information travels in headers (RFC 8288 Link rel="next", X-Next-Cursor, X-Total-Count).
+ */
+public final class PageResponses {
+
+    public static final String NEXT_CURSOR = "X-Next-Cursor";
+    public static final String TOTAL_COUNT = "X-Total-Count";
+
+    private PageResponses() {
+    }
+
+    public static <T> ResponseEntity<List<T>> ok(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasMore()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .build()
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+            response.header(NEXT_CURSOR, page.nextCursor());
+        }
+        if (page.total() != null) {
+            response.header(TOTAL_COUNT, String.valueOf(page.total()));
+        }
+        return response.body(page.items());
+    }
+}
@@ -0,0 +1,89 @@
+package backend.backend.core.common;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read view of an entity, selected with a constructor expression (SELECT new View(...)).
+ *
+ * Rows come back as plain records: nothing enters the persistence context, no dirty-check snapshots
+ * are kept, and the associations a view needs (e.g. root.get("company").get("name")) are joined into
+ * the same statement instead of being loaded per row, or failing outside the transaction.
+ *
+ * @param entity  queried entity
+ * @param view    built from the selected columns; needs a constructor taking them in order
+ * @param columns the selected columns
+ */
+public record Projection<E, V>(Class<E> entity, Class<V> view, Function<Root<E>, List<Selection<?>>> columns) {
+
+    public static <E, V> Projection<E, V> of(Class<E> entity, Class<V> view,
+                                             Function<Root<E>, List<Selection<?>>> columns) {
+        return new Projection<>(entity, view, columns);
+    }
+
+    // =========================
+    // Queries
+    // =========================
+
+    public Optional<V> findById(EntityManager entityManager, UUID id) {
+        return query(entityManager, (root, cq, cb) -> cb.equal(root.get("id"), id), null)
+                .getResultStream()
+                .findFirst();
+    }
+
+    /**
+     * Views of the given rows in one statement, in no particular order; missing ids are skipped
+     */
+    public List<V> findAllById(EntityManager entityManager, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return query(entityManager, (root, cq, cb) -> root.get("id").in(ids), null).getResultList();
+    }
+
+    public List<V> findAll(EntityManager entityManager, Specification<E> filter) {
+        return query(entityManager, filter, null).getResultList();
+    }
+
+    public long count(EntityManager entityManager, Specification<E> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<E> root = cq.from(entity);
+        cq.select(cb.count(root));
+        Predicate where = filter == null ? null : filter.toPredicate(root, cq, cb);
+        if (where != null) {
+            cq.where(where);
+        }
+        return entityManager.createQuery(cq).getSingleResult();
+    }
+
+    // Ordered by (sort attribute, id) when sort is given (keyset pages)
+    TypedQuery<V> query(EntityManager entityManager, Specification<E> filter, KeysetSort<?> sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<V> cq = cb.createQuery(view);
+        Root<E> root = cq.from(entity);
+        cq.select(cb.construct(view, columns.apply(root).toArray(Selection[]::new)));
+        Predicate where = filter == null ? null : filter.toPredicate(root, cq, cb);
+        if (where != null) {
+            cq.where(where);
+        }
+        if (sort != null) {
+            cq.orderBy(sort.descending()
+                    ? List.of(cb.desc(root.get(sort.attribute())), cb.desc(root.get("id")))
+                    : List.of(cb.asc(root.get(sort.attribute())), cb.asc(root.get("id"))));
+        }
+        return entityManager.createQuery(cq);
+    }
+}
@@ -0,0 +1,81 @@
+package backend.backend.core.common;
+
+import java.util.function.Supplier;
+
+/**
+ * A started rebuild of an in-memory index (see {@link RebuildJournal}): the index journals its writes
+ * until the loaded rows are handed over with {@link #finish}, or the rebuild is given up with {@link #abort}.
+ *
+ * A catalog service starts all the rebuilds over its table first and then loads the rows once
+ * ({@link #run}), so every index gets the same rows and none misses a write committed during the load.
+ */
+public interface Rebuild<T> {
+
+    /**
+     * Loads the rows once and hands them to every rebuild; if loading fails, they are all aborted.
+     * A rebuild that fails to finish is aborted without stopping the others; the first failure is rethrown.
+     */
+    @SafeVarargs
+    static <T> void run(Supplier<? extends Iterable<? extends T>> loader, Rebuild<T>... rebuilds) {
+        Iterable<? extends T> rows;
+        try {
+            rows = loader.get();
+        } catch (RuntimeException | Error e) {
+            for (Rebuild<T> rebuild : rebuilds) {
+                abortQuietly(rebuild, e);
+            }
+            throw e;
+        }
+        Throwable failure = null;
+        for (Rebuild<T> rebuild : rebuilds) {
+            try {
+                rebuild.finish(rows);
+            } catch (RuntimeException | Error e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+                abortQuietly(rebuild, failure);
+            }
+        }
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+    }
+
+    // An abort that throws must not keep the other rebuilds open
+    private static void abortQuietly(Rebuild<?> rebuild, Throwable failure) {
+        try {
+            rebuild.abort();
+        } catch (RuntimeException | Error e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Builds the fresh state from the rows and swaps it in with the journaled changes replayed
+     */
+    void finish(Iterable<? extends T> rows);
+
+    /**
+     * Stops journaling and keeps the current state
+     */
+    void abort();
+
+    // Returned when the same index (or catalog) is already being rebuilt
+    static <T> Rebuild<T> skipped() {
+        return new Rebuild<>() {
+            @Override
+            public void finish(Iterable<? extends T> rows) {
+            }
+
+            @Override
+            public void abort() {
+            }
+        };
+    }
+}
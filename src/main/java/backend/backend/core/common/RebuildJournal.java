@@ -0,0 +1,141 @@
+package backend.backend.core.common;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Rebuild-with-journal shared by the in-memory indexes (search, facet, place, opening hours).
+ *
+ * A rebuild loads the rows into a fresh state outside the index lock. Meanwhile the index keeps serving
+ * and applying committed writes, which it also reports here; once the rows are in, the journaled puts and
+ * removals are replayed onto the fresh state and it is swapped in, so nothing committed during the load
+ * is lost. Keys let one index rebuild its catalogs independently (e.g. by place type).
+ *
+ * Not thread-safe on its own: {@link #put} and {@link #remove} are called under the index's write lock,
+ * and the journal takes that same lock for the rest.
+ *
+ * @param <K> what is rebuilt independently (catalog type, or the index name for single-catalog indexes)
+ * @param <E> the entries the index stores
+ * @param <S> the index state a rebuild fills and swaps in
+ */
+public final class RebuildJournal<K, E, S> {
+
+    private final Lock writeLock;
+    private final Function<E, UUID> id;
+    private final Supplier<S> emptyState;
+    private final BiConsumer<S, E> putInto;
+    private final BiConsumer<S, UUID> removeFrom;
+    private final Map<K, Changes<E>> open = new HashMap<>();
+
+    private static final class Changes<E> {
+        final Map<UUID, E> puts = new HashMap<>();
+        final Set<UUID> removals = new HashSet<>();
+    }
+
+    public RebuildJournal(Lock writeLock, Function<E, UUID> id, Supplier<S> emptyState,
+                          BiConsumer<S, E> putInto, BiConsumer<S, UUID> removeFrom) {
+        this.writeLock = writeLock;
+        this.id = id;
+        this.emptyState = emptyState;
+        this.putInto = putInto;
+        this.removeFrom = removeFrom;
+    }
+
+    /**
+     * Loads rows into a fresh state and installs it (under the write lock) with the journal replayed.
+     * Does nothing when the key is already being rebuilt; a failing loader leaves the current state in place.
+     *
+     * @param entryOf converts a loaded row; null skips it
+     */
+    public <T> void rebuild(K key, Supplier<? extends Iterable<? extends T>> loader,
+                            Function<? super T, E> entryOf, Consumer<S> install) {
+        Rebuild.run(loader, begin(key, entryOf, install));
+    }
+
+    /**
+     * Starts journaling the key; the rows are handed to the returned rebuild once loaded.
+     * When the key is already being rebuilt, the returned rebuild ignores them.
+     */
+    public <T> Rebuild<T> begin(K key, Function<? super T, E> entryOf, Consumer<S> install) {
+        Changes<E> changes = new Changes<>();
+        writeLock.lock();
+        try {
+            if (open.putIfAbsent(key, changes) != null) {
+                return Rebuild.skipped();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        return new Rebuild<>() {
+            @Override
+            public void finish(Iterable<? extends T> rows) {
+                S state = null;
+                try {
+                    S filling = emptyState.get();
+                    for (T row : rows) {
+                        E entry = entryOf.apply(row);
+                        if (entry != null) {
+                            putInto.accept(filling, entry);
+                        }
+                    }
+                    state = filling;
+                } finally {
+                    close(key, changes, state, install);
+                }
+            }
+
+            @Override
+            public void abort() {
+                close(key, changes, null, install);
+            }
+        };
+    }
+
+    // Called by the index under its write lock, after applying the change to the live state
+    public void put(K key, E entry) {
+        Changes<E> changes = open.get(key);
+        if (changes != null) {
+            UUID entryId = id.apply(entry);
+            changes.removals.remove(entryId);
+            changes.puts.put(entryId, entry);
+        }
+    }
+
+    // Same, for a removal
+    public void remove(K key, UUID entryId) {
+        Changes<E> changes = open.get(key);
+        if (changes != null) {
+            changes.puts.remove(entryId);
+            changes.removals.add(entryId);
+        }
+    }
+
+    private void close(K key, Changes<E> changes, S state, Consumer<S> install) {
+        writeLock.lock();
+        try {
+            if (open.get(key) != changes) {
+                return; // already finished or aborted
+            }
+            try {
+                if (state != null) {
+                    changes.puts.values().forEach(entry -> putInto.accept(state, entry));
+                    changes.removals.forEach(entryId -> removeFrom.accept(state, entryId));
+                    install.accept(state);
+                }
+            } finally {
+                open.remove(key); // a failed install keeps the current state, but must not block later rebuilds
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,517 @@
+package backend.backend.core.common;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory trigram inverted index behind a catalog search endpoint.
+ *
+ * Each row is reduced to its lower-cased searchable fields and its keyset sort key. A query narrows
+ * the rows down through its rarest trigram (or 1-/2-gram when shorter) and confirms each with a plain
+ * substring check, so results are exactly those of the old LOWER(field) LIKE '%query%' search.
+ * Matches come out in the catalog's keyset order, and only the ids of one page are loaded from the database.
+ *
+ * The index is built from the repository at startup and on a schedule. Between rebuilds, the
+ * service's create/update/delete calls apply changes after their transaction commits.
+ */
+@Slf4j
+public final class TrigramIndex<T> {
+
+    // Separates fields in the stored text so a match can never span two fields
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final String name;
+    private final KeysetSort<T> sort;
+    private final List<Function<T, String>> fields;
+    private final Comparator<Entry> order;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state;
+    private final RebuildJournal<String, Entry, State> journal;
+
+    private record Entry(UUID id, Comparable<Object> key, String text) {
+
+        boolean matches(String query) {
+            return query.isEmpty() || text.contains(query);
+        }
+
+        /**
+         * Relevance of a match: whole field > field prefix > word prefix > inside a word,
+         * nudged up for tighter matches; the first field (the name) counts more than the others.
+         */
+        double score(String query) {
+            double best = 0;
+            int field = 0;
+            int start = 0;
+            while (start <= text.length()) {
+                int end = text.indexOf(FIELD_SEPARATOR, start);
+                if (end < 0) {
+                    end = text.length();
+                }
+                int at = text.indexOf(query, start);
+                if (at >= 0 && at + query.length() <= end) {
+                    int length = end - start;
+                    double quality = length == query.length() ? 1.0
+                            : at == start ? 0.8
+                            : startsWord(at, start, end, query) ? 0.6
+                            : 0.4;
+                    quality += 0.2 * query.length() / length;
+                    best = Math.max(best, field == 0 ? quality : quality * 0.6);
+                }
+                field++;
+                start = end + 1;
+            }
+            return best;
+        }
+
+        private boolean startsWord(int at, int start, int end, String query) {
+            for (int i = at; i >= 0 && i + query.length() <= end; i = text.indexOf(query, i + 1)) {
+                if (i == start || !Character.isLetterOrDigit(text.charAt(i - 1))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A row with its relevance score for the query (higher is better, at most 1.2).
+     */
+    public record Ranked<T>(T row, double score) {
+    }
+
+    @SafeVarargs
+    public static <T> TrigramIndex<T> of(String name, KeysetSort<T> sort, Function<T, String>... fields) {
+        return new TrigramIndex<>(name, sort, List.of(fields));
+    }
+
+    private TrigramIndex(String name, KeysetSort<T> sort, List<Function<T, String>> fields) {
+        this.name = name;
+        this.sort = sort;
+        this.fields = fields;
+        Comparator<Entry> ascending = Comparator
+                .comparing(Entry::key, Comparator.nullsLast(Comparator.<Comparable<Object>>naturalOrder()))
+                .thenComparing(Entry::id);
+        this.order = sort.descending() ? ascending.reversed() : ascending;
+        this.state = new State(order);
+        this.journal = new RebuildJournal<>(lock.writeLock(), Entry::id,
+                () -> new State(order), State::put, State::remove);
+    }
+
+    // =========================
+    // Maintenance
+    // =========================
+
+    /**
+     * Replaces the whole index with the rows returned by the loader.
+     * Changes committed while the loader runs are kept.
+     */
+    public void rebuild(Supplier<? extends Iterable<T>> loader) {
+        journal.rebuild(name, loader, this::entryOf, this::install);
+    }
+
+    /**
+     * Starts a rebuild whose rows are loaded by the caller (see {@link Rebuild#run})
+     */
+    public Rebuild<T> beginRebuild() {
+        return journal.begin(name, this::entryOf, this::install);
+    }
+
+    // Called from create/update: the row is read now, the index changes once the transaction commits
+    public T indexAfterCommit(T row) {
+        Entry entry = entryOf(row);
+        AfterCommit.run(() -> put(entry));
+        return row;
+    }
+
+    public void removeAfterCommit(UUID id) {
+        AfterCommit.run(() -> remove(id));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // =========================
+    // Search
+    // =========================
+
+    /**
+     * One page of rows matching the query, in keyset order. A blank query matches every row.
+     *
+     * @param loader loads rows by id (e.g. repository::findAllById); rows it does not return are skipped
+     */
+    public CursorPage<T> search(String query, PageQuery page, Function<List<UUID>, List<T>> loader) {
+        String needle = normalize(query);
+        int size = page.pageSize();
+        KeysetCursor after = KeysetCursor.decode(page.cursor());
+
+        List<Entry> hits;
+        Long total = null;
+        lock.readLock().lock();
+        try {
+            hits = state.page(needle, after, size + 1);
+            if (page.withTotal()) {
+                total = state.count(needle);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<T> rows = load(hits, loader);
+        CursorPage<T> result = CursorPage.of(rows, size,
+                row -> KeysetCursor.of(sort.key().apply(row), sort.id().apply(row)));
+        return total != null ? result.withTotal(total) : result;
+    }
+
+    /**
+     * Ids of the best-scoring rows for a non-blank query, highest score first (used by the city-wide search).
+     * Memory only: callers load the rows they end up keeping.
+     */
+    public List<Ranked<UUID>> rank(String query, int limit) {
+        String needle = normalize(query);
+        if (needle.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<UUID, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            return state.rank(needle, limit, scores).stream()
+                    .map(entry -> new Ranked<>(entry.id(), scores.get(entry.id())))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // =========================
+    // Index state
+    // =========================
+
+    /**
+     * Rows live in numbered slots; each 1-, 2- and 3-gram maps to the sorted slots of the rows containing it.
+     * Every match holds all grams of the query, so the rarest gram's posting bounds the work: rows are
+     * first walked in keyset order (cheap when matches are common), and if that has not filled the page
+     * within |posting| steps the posting itself is scanned.
+     */
+    private static final class State {
+
+        private final Map<UUID, Integer> slotById = new HashMap<>();
+        private final List<Entry> slots = new ArrayList<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private final Comparator<Entry> order;
+        private final NavigableSet<Entry> ordered;
+        private final Map<Long, Posting> postings = new HashMap<>();
+
+        State(Comparator<Entry> order) {
+            this.order = order;
+            this.ordered = new TreeSet<>(order);
+        }
+
+        void put(Entry entry) {
+            remove(entry.id());
+            int slot;
+            if (freeSlots.isEmpty()) {
+                slot = slots.size();
+                slots.add(entry);
+            } else {
+                slot = freeSlots.pop();
+                slots.set(slot, entry);
+            }
+            slotById.put(entry.id(), slot);
+            ordered.add(entry);
+            for (long gram : grams(entry.text(), 1, 3)) {
+                postings.computeIfAbsent(gram, g -> new Posting()).add(slot);
+            }
+        }
+
+        void remove(UUID id) {
+            Integer slot = slotById.remove(id);
+            if (slot == null) {
+                return;
+            }
+            Entry old = slots.set(slot, null);
+            freeSlots.push(slot);
+            ordered.remove(old);
+            for (long gram : grams(old.text(), 1, 3)) {
+                Posting posting = postings.get(gram);
+                if (posting != null && posting.remove(slot) && posting.size == 0) {
+                    postings.remove(gram);
+                }
+            }
+        }
+
+        int size() {
+            return slotById.size();
+        }
+
+        List<Entry> page(String needle, KeysetCursor after, int limit) {
+            Entry anchor = anchor(after);
+            if (needle.isEmpty()) {
+                return walk(needle, anchor, limit, Integer.MAX_VALUE);
+            }
+            Posting posting = rarestPosting(needle);
+            if (posting == null) {
+                return List.of();
+            }
+            if (posting.size > limit) {
+                List<Entry> hits = walk(needle, anchor, limit, posting.size);
+                if (hits != null) {
+                    return hits;
+                }
+            }
+            return scan(posting, needle, anchor, limit);
+        }
+
+        long count(String needle) {
+            if (needle.isEmpty()) {
+                return size();
+            }
+            Posting posting = rarestPosting(needle);
+            if (posting == null) {
+                return 0;
+            }
+            long count = 0;
+            for (int i = 0; i < posting.size; i++) {
+                if (slots.get(posting.slots[i]).matches(needle)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        // Every match is scored, so the cost is that of scanning the rarest posting
+        List<Entry> rank(String needle, int limit, Map<UUID, Double> scores) {
+            Posting posting = rarestPosting(needle);
+            if (posting == null) {
+                return List.of();
+            }
+            Comparator<Entry> byScore = Comparator.<Entry>comparingDouble(entry -> scores.get(entry.id()))
+                    .reversed()
+                    .thenComparing(order);
+            PriorityQueue<Entry> best = new PriorityQueue<>(limit, byScore.reversed());
+            for (int i = 0; i < posting.size; i++) {
+                Entry entry = slots.get(posting.slots[i]);
+                if (!entry.matches(needle)) {
+                    continue;
+                }
+                scores.put(entry.id(), entry.score(needle));
+                best.add(entry);
+                if (best.size() > limit) {
+                    scores.remove(best.poll().id());
+                }
+            }
+            List<Entry> ranked = new ArrayList<>(best);
+            ranked.sort(byScore);
+            return ranked;
+        }
+
+        // Rows in keyset order from the cursor; null if the page is not full after maxSteps rows
+        private List<Entry> walk(String needle, Entry anchor, int limit, int maxSteps) {
+            Collection<Entry> tail = anchor == null ? ordered : ordered.tailSet(anchor, false);
+            List<Entry> hits = new ArrayList<>(limit);
+            int steps = 0;
+            for (Entry entry : tail) {
+                if (steps++ == maxSteps) {
+                    return null;
+                }
+                if (entry.matches(needle)) {
+                    hits.add(entry);
+                    if (hits.size() == limit) {
+                        break;
+                    }
+                }
+            }
+            return hits;
+        }
+
+        // Every row of the posting, keeping only the first `limit` hits past the cursor
+        private List<Entry> scan(Posting posting, String needle, Entry anchor, int limit) {
+            PriorityQueue<Entry> best = new PriorityQueue<>(limit, order.reversed());
+            for (int i = 0; i < posting.size; i++) {
+                Entry entry = slots.get(posting.slots[i]);
+                if (!entry.matches(needle) || (anchor != null && order.compare(entry, anchor) <= 0)) {
+                    continue;
+                }
+                if (best.size() < limit) {
+                    best.add(entry);
+                } else if (order.compare(entry, best.peek()) < 0) {
+                    best.poll();
+                    best.add(entry);
+                }
+            }
+            List<Entry> hits = new ArrayList<>(best);
+            hits.sort(order);
+            return hits;
+        }
+
+        // Null when some gram of the query appears in no row at all
+        private Posting rarestPosting(String needle) {
+            int n = Math.min(needle.length(), 3);
+            Posting rarest = null;
+            for (long gram : grams(needle, n, n)) {
+                Posting posting = postings.get(gram);
+                if (posting == null) {
+                    return null;
+                }
+                if (rarest == null || posting.size < rarest.size) {
+                    rarest = posting;
+                }
+            }
+            return rarest;
+        }
+
+        // Probe entry sitting exactly at the cursor position, so paging matches the DB keyset semantics
+        private Entry anchor(KeysetCursor after) {
+            if (after == null || ordered.isEmpty()) {
+                return null;
+            }
+            Object sample = ordered.first().key() != null ? ordered.first().key() : ordered.last().key();
+            Class<?> keyType = sample != null ? sample.getClass() : String.class;
+            return new Entry(after.id(), KeysetPager.convertKey(after, keyType), "");
+        }
+    }
+
+    // Sorted, growable int array of slots
+    private static final class Posting {
+
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            int at = Arrays.binarySearch(slots, 0, size, slot);
+            if (at >= 0) {
+                return;
+            }
+            at = -at - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, at, slots, at + 1, size - at);
+            slots[at] = slot;
+            size++;
+        }
+
+        boolean remove(int slot) {
+            int at = Arrays.binarySearch(slots, 0, size, slot);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(slots, at + 1, slots, at, size - at - 1);
+            size--;
+            return true;
+        }
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private void install(State fresh) {
+        state = fresh;
+        log.debug("Search index '{}' rebuilt with {} rows", name, fresh.size());
+    }
+
+    private void put(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            state.put(entry);
+            journal.put(name, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            state.remove(id);
+            journal.remove(name, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Entry entryOf(T row) {
+        StringBuilder text = new StringBuilder();
+        // Empty fields still get their slot so field positions stay meaningful for scoring
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                text.append(FIELD_SEPARATOR);
+            }
+            String value = fields.get(i).apply(row);
+            if (value != null) {
+                text.append(value.toLowerCase(Locale.ROOT));
+            }
+        }
+        return new Entry(sort.id().apply(row), (Comparable<Object>) sort.key().apply(row), text.toString());
+    }
+
+    private List<T> load(List<Entry> hits, Function<List<UUID>, List<T>> loader) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = hits.stream().map(Entry::id).toList();
+        Map<UUID, T> byId = new HashMap<>();
+        for (T row : loader.apply(ids)) {
+            byId.put(sort.id().apply(row), row);
+        }
+        List<T> rows = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            T row = byId.get(id);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private static String normalize(String query) {
+        return query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Grams of min..max chars, packed into one long with their length; windows crossing a field separator are skipped
+    private static Set<Long> grams(String text, int min, int max) {
+        Set<Long> grams = new HashSet<>();
+        for (int n = min; n <= max; n++) {
+            for (int i = 0; i + n <= text.length(); i++) {
+                long gram = n;
+                for (int j = i; j < i + n && gram != -1; j++) {
+                    char c = text.charAt(j);
+                    gram = c == FIELD_SEPARATOR ? -1 : (gram << 16) | c;
+                }
+                if (gram != -1) {
+                    grams.add(gram);
+                }
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,48 @@
+package backend.backend.core.geo;
+
+import backend.backend.core.cache.CatalogVersioned;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@CatalogVersioned({"hotel", "restaurant", "theatre", "attraction", "atm"})
+@RequestMapping("/api/map")
+@RequiredArgsConstructor
+public class MapController {
+
+    private final PlaceService placeService;
+
+    // VIEW: any authenticated user; only catalogs the caller may read are included
+    // bbox is west,south,east,north (Leaflet's LatLngBounds.toBBoxString())
+    @GetMapping("/markers")
+    public ResponseEntity<MapMarkers> markers(
+            @RequestParam @Size(min = 4, max = 4) List<Double> bbox,
+            @RequestParam @Min(0) @Max(22) int zoom,
+            @RequestParam(required = false) List<String> types,
+            Authentication authentication
+    ) {
+        double west = clampLng(bbox.get(0));
+        double east = clampLng(bbox.get(2));
+        double south = Math.max(-90, bbox.get(1));
+        double north = Math.min(90, bbox.get(3));
+        return ResponseEntity.ok(placeService.markers(south, west, north, east, zoom, types, authentication));
+    }
+
+    // Leaflet reports longitudes past +/-180 once the map has been panned around the world
+    private static double clampLng(double lng) {
+        if (lng < -180 || lng > 180) {
+            lng = ((lng + 180) % 360 + 360) % 360 - 180;
+        }
+        return lng;
+    }
+}
@@ -0,0 +1,12 @@
+package backend.backend.core.geo;
+
+import java.util.List;
+
+/**
+ * Markers for one map viewport, as positional arrays to keep the payload small.
+ *
+ * @param clusters [latitude, longitude, count] for every cell holding two or more places
+ * @param points   [type, id, latitude, longitude, name] for single places
+ */
+public record MapMarkers(int zoom, List<double[]> clusters, List<Object[]> points) {
+}
@@ -0,0 +1,193 @@
+package backend.backend.core.geo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Map marker clusters, precomputed for every zoom level from 0 to maxZoom.
+ *
+ * At each zoom the Web Mercator plane is cut into square cells of CELL_PIXELS screen pixels and each
+ * cell keeps a running count and coordinate sum per catalog, so adding, moving or removing a place
+ * touches one cell per zoom level. The id sums make a single-place cell name its place.
+ *
+ * Not thread-safe: owned by {@link PlaceIndex}, which guards it with its lock.
+ */
+final class MarkerClusters {
+
+    // Cluster size on screen: places closer than this at the current zoom share a marker
+    static final int CELL_PIXELS = 64;
+    private static final int CELLS_PER_TILE_SHIFT = 2; // 256 px tiles / 64 px cells = 4 = 1 << 2
+    private static final double MAX_MERCATOR_LAT = 85.05112878;
+
+    private final int maxZoom;
+    // type -> zoom -> cell -> cluster
+    private final Map<String, List<Map<Long, Cell>>> levelsByType = new HashMap<>();
+
+    /**
+     * A cell of one zoom level, merged over the requested catalogs.
+     * type and id are only set when the cell holds a single place.
+     */
+    record Bucket(double latitude, double longitude, int count, String type, UUID id) {
+    }
+
+    private static final class Cell {
+        int count;
+        double sumLat;
+        double sumLng;
+        // Wrapping sums of the ids' two halves: with one place left they are its id
+        long idHigh;
+        long idLow;
+
+        void add(Place place, int sign) {
+            count += sign;
+            sumLat += sign * place.latitude();
+            sumLng += sign * place.longitude();
+            idHigh += sign * place.id().getMostSignificantBits();
+            idLow += sign * place.id().getLeastSignificantBits();
+        }
+    }
+
+    MarkerClusters(int maxZoom) {
+        this.maxZoom = maxZoom;
+    }
+
+    int maxZoom() {
+        return maxZoom;
+    }
+
+    // =========================
+    // Maintenance
+    // =========================
+
+    void add(Place place) {
+        update(levels(place.type()), place, 1);
+    }
+
+    void remove(Place place) {
+        update(levels(place.type()), place, -1);
+    }
+
+    void replace(String type, Collection<Place> places) {
+        List<Map<Long, Cell>> fresh = newLevels();
+        for (Place place : places) {
+            update(fresh, place, 1);
+        }
+        levelsByType.put(type, fresh);
+    }
+
+    private void update(List<Map<Long, Cell>> levels, Place place, int sign) {
+        double x = x(place.longitude());
+        double y = y(place.latitude());
+        for (int zoom = 0; zoom <= maxZoom; zoom++) {
+            long cells = cellsPerAxis(zoom);
+            long key = cell(y, cells) * cells + cell(x, cells);
+            Map<Long, Cell> level = levels.get(zoom);
+            Cell cell = level.computeIfAbsent(key, k -> new Cell());
+            cell.add(place, sign);
+            if (cell.count <= 0) {
+                level.remove(key);
+            }
+        }
+    }
+
+    // =========================
+    // Query
+    // =========================
+
+    /**
+     * The non-empty cells of one zoom level inside the box, merged over the given catalogs
+     */
+    List<Bucket> query(int zoom, double south, double west, double north, double east, Collection<String> types) {
+        long cells = cellsPerAxis(zoom);
+        long x0 = cell(x(west), cells), x1 = cell(x(east), cells);
+        long y0 = cell(y(north), cells), y1 = cell(y(south), cells);
+
+        Map<Long, Cell> merged = new HashMap<>();
+        Map<Long, String> singleType = new HashMap<>();
+        for (String type : types) {
+            List<Map<Long, Cell>> levels = levelsByType.get(type);
+            if (levels == null) {
+                continue;
+            }
+            Map<Long, Cell> level = levels.get(zoom);
+            if ((x1 - x0 + 1) * (y1 - y0 + 1) > level.size()) {
+                // Sparse level: cheaper to filter its cells than to probe the whole box
+                level.forEach((key, cell) -> {
+                    long cx = key % cells, cy = key / cells;
+                    if (cx >= x0 && cx <= x1 && cy >= y0 && cy <= y1) {
+                        merge(merged, singleType, key, cell, type);
+                    }
+                });
+            } else {
+                for (long cy = y0; cy <= y1; cy++) {
+                    for (long cx = x0; cx <= x1; cx++) {
+                        long key = cy * cells + cx;
+                        Cell cell = level.get(key);
+                        if (cell != null) {
+                            merge(merged, singleType, key, cell, type);
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Bucket> buckets = new ArrayList<>(merged.size());
+        merged.forEach((key, cell) -> buckets.add(new Bucket(
+                cell.sumLat / cell.count,
+                cell.sumLng / cell.count,
+                cell.count,
+                cell.count == 1 ? singleType.get(key) : null,
+                cell.count == 1 ? new UUID(cell.idHigh, cell.idLow) : null
+        )));
+        return buckets;
+    }
+
+    private static void merge(Map<Long, Cell> merged, Map<Long, String> singleType, long key, Cell cell, String type) {
+        Cell target = merged.computeIfAbsent(key, k -> new Cell());
+        target.count += cell.count;
+        target.sumLat += cell.sumLat;
+        target.sumLng += cell.sumLng;
+        target.idHigh += cell.idHigh;
+        target.idLow += cell.idLow;
+        singleType.put(key, type);
+    }
+
+    // =========================
+    // Web Mercator
+    // =========================
+
+    private static long cellsPerAxis(int zoom) {
+        return 1L << (zoom + CELLS_PER_TILE_SHIFT);
+    }
+
+    private static long cell(double unit, long cells) {
+        return Math.max(0, Math.min(cells - 1, (long) Math.floor(unit * cells)));
+    }
+
+    // Longitude to [0, 1), west to east
+    private static double x(double lng) {
+        return (lng + 180) / 360;
+    }
+
+    // Latitude to [0, 1], north to south
+    private static double y(double lat) {
+        double sin = Math.sin(Math.toRadians(Math.max(-MAX_MERCATOR_LAT, Math.min(MAX_MERCATOR_LAT, lat))));
+        return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+    }
+
+    private List<Map<Long, Cell>> levels(String type) {
+        return levelsByType.computeIfAbsent(type, t -> newLevels());
+    }
+
+    private List<Map<Long, Cell>> newLevels() {
+        List<Map<Long, Cell>> levels = new ArrayList<>(maxZoom + 1);
+        for (int zoom = 0; zoom <= maxZoom; zoom++) {
+            levels.add(new HashMap<>());
+        }
+        return levels;
+    }
+}
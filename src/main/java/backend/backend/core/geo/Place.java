@@ -0,0 +1,14 @@
+package backend.backend.core.geo;
+
+import java.util.UUID;
+
+/**
+ * A point of interest as kept in the {@link PlaceIndex}: just what the map and the nearby queries
+ * need, loaded with a constructor projection rather than full entities.
+ *
+ * @param type   catalog tag, e.g. "atm"
+ * @param active false for rows switched off by an admin (catalogs without the flag are always active)
+ */
+public record Place(String type, UUID id, String name, String address,
+                    double latitude, double longitude, boolean active) {
+}
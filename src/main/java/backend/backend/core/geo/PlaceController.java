@@ -0,0 +1,71 @@
+package backend.backend.core.geo;
+
+import backend.backend.core.cache.CatalogVersioned;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@CatalogVersioned({"hotel", "restaurant", "theatre", "attraction", "atm"})
+@RequestMapping("/api/places")
+@RequiredArgsConstructor
+public class PlaceController {
+
+    private final PlaceService placeService;
+
+    // =========================
+    // VIEW (ALL AUTH USERS) – only catalogs the caller may read are included
+    // =========================
+
+    // e.g. /api/places/nearest?lat=33.59&lng=-7.61&k=5&types=atm&activeOnly=true
+    @GetMapping("/nearest")
+    public ResponseEntity<List<PlaceHit>> nearest(
+            @RequestParam @DecimalMin("-90") @DecimalMax("90") double lat,
+            @RequestParam @DecimalMin("-180") @DecimalMax("180") double lng,
+            @RequestParam(required = false) Integer k,
+            @RequestParam(required = false) Double maxDistance,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(defaultValue = "false") boolean activeOnly,
+            Authentication authentication
+    ) {
+        return ResponseEntity.ok(placeService.nearest(lat, lng, k, maxDistance, types, activeOnly, authentication));
+    }
+
+    // Radius in meters, nearest first
+    @GetMapping("/within")
+    public ResponseEntity<List<PlaceHit>> within(
+            @RequestParam @DecimalMin("-90") @DecimalMax("90") double lat,
+            @RequestParam @DecimalMin("-180") @DecimalMax("180") double lng,
+            @RequestParam @Positive double radius,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(defaultValue = "false") boolean activeOnly,
+            Authentication authentication
+    ) {
+        return ResponseEntity.ok(placeService.within(lat, lng, radius, limit, types, activeOnly, authentication));
+    }
+
+    // Map viewport; west > east means the box crosses the antimeridian
+    @GetMapping("/box")
+    public ResponseEntity<List<PlaceHit>> box(
+            @RequestParam @DecimalMin("-90") @DecimalMax("90") double south,
+            @RequestParam @DecimalMin("-180") @DecimalMax("180") double west,
+            @RequestParam @DecimalMin("-90") @DecimalMax("90") double north,
+            @RequestParam @DecimalMin("-180") @DecimalMax("180") double east,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(defaultValue = "false") boolean activeOnly,
+            Authentication authentication
+    ) {
+        return ResponseEntity.ok(placeService.box(south, west, north, east, limit, types, activeOnly, authentication));
+    }
+}
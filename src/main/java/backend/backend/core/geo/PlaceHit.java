@@ -0,0 +1,13 @@
+package backend.backend.core.geo;
+
+import java.util.UUID;
+
+/**
+ * One result of a place query.
+ *
+ * @param path           API path of the full record
+ * @param distanceMeters great-circle distance from the query point (from the box centre for box queries)
+ */
+public record PlaceHit(String type, UUID id, String path, String name, String address,
+                       double latitude, double longitude, boolean active, double distanceMeters) {
+}
@@ -0,0 +1,477 @@
+package backend.backend.core.geo;
+
+import backend.backend.core.common.AfterCommit;
+import backend.backend.core.common.Rebuild;
+import backend.backend.core.common.RebuildJournal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory spatial index over the catalogs' places: a uniform latitude/longitude grid per catalog.
+ *
+ * Nearest-k walks rings of cells outward from the query point and stops as soon as the next ring
+ * cannot hold anything closer than the k-th hit; radius and box queries read the covering cells.
+ * When a query would touch more cells than the catalogs have places, it scans the places instead,
+ * so sparse catalogs never pay for wide searches.
+ *
+ * The same writes keep the map's marker clusters ({@link MarkerClusters}) up to date.
+ *
+ * Each catalog is rebuilt from its repository at startup and on a schedule. Between rebuilds, the
+ * services' create/update/delete calls apply changes after their transaction commits.
+ */
+@Slf4j
+@Component
+public class PlaceIndex {
+
+    static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    // Shortest degree of latitude / longest degree of longitude, in meters
+    private static final double MIN_METERS_PER_DEGREE_LAT = 110_574.0;
+    private static final double METERS_PER_DEGREE_LNG_AT_EQUATOR = 111_320.0;
+
+    private final double cellDegrees;
+    private final int rows;
+    private final int cols;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Grid> grids = new HashMap<>();
+    private final MarkerClusters clusters;
+    private final RebuildJournal<String, Place, Grid> journal =
+            new RebuildJournal<>(lock.writeLock(), Place::id, Grid::new, Grid::put, Grid::remove);
+
+    public record Hit(Place place, double distanceMeters) {
+    }
+
+    /**
+     * A map marker: a cluster of count places at their centroid, or a single place
+     */
+    public record Marker(double latitude, double longitude, int count, Place place) {
+    }
+
+    public PlaceIndex(
+            @Value("${geo.index.cell-degrees:0.01}") double cellDegrees,
+            @Value("${map.cluster.max-zoom:16}") int maxClusterZoom
+    ) {
+        if (!(cellDegrees > 0 && cellDegrees <= 10)) {
+            throw new IllegalArgumentException("geo.index.cell-degrees must be in (0, 10]");
+        }
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180 / cellDegrees) + 1;
+        this.cols = (int) Math.ceil(360 / cellDegrees) + 1;
+        if (maxClusterZoom < 0 || maxClusterZoom > 20) {
+            throw new IllegalArgumentException("map.cluster.max-zoom must be in [0, 20]");
+        }
+        this.clusters = new MarkerClusters(maxClusterZoom);
+    }
+
+    // =========================
+    // Maintenance
+    // =========================
+
+    /**
+     * Replaces one catalog's places with those returned by the loader.
+     * Changes committed while the loader runs are kept.
+     */
+    public void rebuild(String type, Supplier<? extends Collection<Place>> loader) {
+        journal.rebuild(type, loader, place -> place, fresh -> install(type, fresh));
+    }
+
+    /**
+     * Starts rebuilding one catalog from rows the caller loads (see {@link Rebuild#run})
+     *
+     * @param placeOf the row's place; null for rows without coordinates
+     */
+    public <T> Rebuild<T> beginRebuild(String type, Function<? super T, Place> placeOf) {
+        return journal.begin(type, placeOf, fresh -> install(type, fresh));
+    }
+
+    // Called from create/update: the place is read now, the index changes once the transaction commits.
+    // A row without coordinates is taken off the map.
+    public void putAfterCommit(String type, UUID id, Place place) {
+        AfterCommit.run(() -> {
+            if (place == null) {
+                remove(type, id);
+            } else {
+                put(place);
+            }
+        });
+    }
+
+    public void removeAfterCommit(String type, UUID id) {
+        AfterCommit.run(() -> remove(type, id));
+    }
+
+    public int size(String type) {
+        lock.readLock().lock();
+        try {
+            Grid grid = grids.get(type);
+            return grid == null ? 0 : grid.byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // =========================
+    // Queries
+    // =========================
+
+    /**
+     * The k places closest to the point, nearest first, no further than maxMeters
+     */
+    public List<Hit> nearest(double lat, double lng, int k, Collection<String> types,
+                             boolean activeOnly, double maxMeters) {
+        lock.readLock().lock();
+        try {
+            List<Grid> selected = select(types);
+            TopK top = new TopK(k);
+            if (cellsAround(lat, maxMeters) > places(selected)) {
+                for (Grid grid : selected) {
+                    for (Place place : grid.byId.values()) {
+                        top.offer(place, lat, lng, activeOnly, maxMeters);
+                    }
+                }
+                return top.sorted();
+            }
+
+            int row0 = row(lat);
+            int col0 = col(lng);
+            for (int ring = 0; ring < rows; ring++) {
+                // Nothing in this ring or beyond is closer than this
+                double reach = ringDistance(ring, lat);
+                if (reach > maxMeters || (top.isFull() && top.worst() <= reach)) {
+                    break;
+                }
+                for (int r = row0 - ring; r <= row0 + ring; r++) {
+                    boolean edgeRow = r == row0 - ring || r == row0 + ring;
+                    int step = edgeRow ? 1 : 2 * ring;
+                    for (int c = col0 - ring; c <= col0 + ring; c += step) {
+                        for (Grid grid : selected) {
+                            for (Place place : grid.cell(r, c)) {
+                                top.offer(place, lat, lng, activeOnly, maxMeters);
+                            }
+                        }
+                    }
+                }
+            }
+            return top.sorted();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Places within radiusMeters of the point, nearest first, at most limit of them
+     */
+    public List<Hit> within(double lat, double lng, double radiusMeters, Collection<String> types,
+                            boolean activeOnly, int limit) {
+        double dLat = radiusMeters / MIN_METERS_PER_DEGREE_LAT;
+        double dLng = lngDegrees(radiusMeters, Math.min(90, Math.abs(lat) + dLat));
+        lock.readLock().lock();
+        try {
+            TopK top = new TopK(limit);
+            scanBox(select(types), lat - dLat, lng - dLng, lat + dLat, lng + dLng,
+                    place -> top.offer(place, lat, lng, activeOnly, radiusMeters));
+            return top.sorted();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Places inside the box, closest to its centre first, at most limit of them.
+     * A box with west > east crosses the antimeridian.
+     */
+    public List<Hit> box(double south, double west, double north, double east, Collection<String> types,
+                         boolean activeOnly, int limit) {
+        double centerLat = (south + north) / 2;
+        double centerLng = west <= east ? (west + east) / 2 : normalizeLng((west + east + 360) / 2);
+        lock.readLock().lock();
+        try {
+            List<Grid> selected = select(types);
+            TopK top = new TopK(limit);
+            if (west <= east) {
+                scanBox(selected, south, west, north, east,
+                        place -> top.offer(place, centerLat, centerLng, activeOnly, Double.MAX_VALUE));
+            } else {
+                scanBox(selected, south, west, north, 180,
+                        place -> top.offer(place, centerLat, centerLng, activeOnly, Double.MAX_VALUE));
+                scanBox(selected, south, -180, north, east,
+                        place -> top.offer(place, centerLat, centerLng, activeOnly, Double.MAX_VALUE));
+            }
+            return top.sorted();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Markers for a map viewport at the given zoom: clusters up to the max cluster zoom,
+     * single places (at most limit) beyond it. A box with west > east crosses the antimeridian.
+     */
+    public List<Marker> markers(int zoom, double south, double west, double north, double east,
+                                Collection<String> types, int limit) {
+        if (zoom > clusters.maxZoom()) {
+            return box(south, west, north, east, types, false, limit).stream()
+                    .map(hit -> new Marker(hit.place().latitude(), hit.place().longitude(), 1, hit.place()))
+                    .toList();
+        }
+        lock.readLock().lock();
+        try {
+            List<MarkerClusters.Bucket> buckets = new ArrayList<>();
+            if (west <= east) {
+                buckets.addAll(clusters.query(zoom, south, west, north, east, types));
+            } else {
+                buckets.addAll(clusters.query(zoom, south, west, north, 180, types));
+                buckets.addAll(clusters.query(zoom, south, -180, north, east, types));
+            }
+            List<Marker> markers = new ArrayList<>(buckets.size());
+            for (MarkerClusters.Bucket bucket : buckets) {
+                Place single = bucket.id() == null ? null : grids.get(bucket.type()).byId.get(bucket.id());
+                markers.add(new Marker(bucket.latitude(), bucket.longitude(), bucket.count(), single));
+            }
+            return markers;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int maxClusterZoom() {
+        return clusters.maxZoom();
+    }
+
+    // =========================
+    // Geometry
+    // =========================
+
+    static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // A lower bound on the distance from a point to any cell `ring` cells away from its own
+    private double ringDistance(int ring, double lat) {
+        if (ring <= 1) {
+            return 0;
+        }
+        double worstLat = Math.min(90, Math.abs(lat) + ring * cellDegrees);
+        double metersPerDegree = Math.min(MIN_METERS_PER_DEGREE_LAT,
+                METERS_PER_DEGREE_LNG_AT_EQUATOR * Math.cos(Math.toRadians(worstLat)));
+        return (ring - 1) * cellDegrees * metersPerDegree;
+    }
+
+    private static double lngDegrees(double meters, double atLat) {
+        double metersPerDegree = METERS_PER_DEGREE_LNG_AT_EQUATOR * Math.cos(Math.toRadians(atLat));
+        return metersPerDegree <= 1 ? 360 : Math.min(360, meters / metersPerDegree);
+    }
+
+    private static double normalizeLng(double lng) {
+        return lng > 180 ? lng - 360 : lng;
+    }
+
+    // How many cells a square of half-side `meters` around the point covers
+    private double cellsAround(double lat, double meters) {
+        double dLat = meters / MIN_METERS_PER_DEGREE_LAT;
+        double dLng = lngDegrees(meters, Math.min(90, Math.abs(lat) + dLat));
+        return (2 * dLat / cellDegrees + 1) * (2 * dLng / cellDegrees + 1);
+    }
+
+    private int row(double lat) {
+        return clamp((int) Math.floor((lat + 90) / cellDegrees), rows);
+    }
+
+    private int col(double lng) {
+        return clamp((int) Math.floor((lng + 180) / cellDegrees), cols);
+    }
+
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+
+    private long cellKey(double lat, double lng) {
+        return (long) row(lat) * cols + col(lng);
+    }
+
+    // =========================
+    // Internals
+    // =========================
+
+    private List<Grid> select(Collection<String> types) {
+        List<Grid> selected = new ArrayList<>();
+        for (String type : types) {
+            Grid grid = grids.get(type);
+            if (grid != null) {
+                selected.add(grid);
+            }
+        }
+        return selected;
+    }
+
+    private static long places(List<Grid> selected) {
+        long count = 0;
+        for (Grid grid : selected) {
+            count += grid.byId.size();
+        }
+        return count;
+    }
+
+    private void scanBox(List<Grid> selected, double south, double west, double north, double east,
+                         Consumer<Place> visitor) {
+        int r0 = row(south), r1 = row(north);
+        int c0 = col(west), c1 = col(east);
+        long cells = (long) (r1 - r0 + 1) * (c1 - c0 + 1);
+        if (cells > places(selected)) {
+            for (Grid grid : selected) {
+                for (Place place : grid.byId.values()) {
+                    if (inBox(place, south, west, north, east)) {
+                        visitor.accept(place);
+                    }
+                }
+            }
+            return;
+        }
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                for (Grid grid : selected) {
+                    for (Place place : grid.cell(r, c)) {
+                        if (inBox(place, south, west, north, east)) {
+                            visitor.accept(place);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean inBox(Place place, double south, double west, double north, double east) {
+        return place.latitude() >= south && place.latitude() <= north
+                && place.longitude() >= west && place.longitude() <= east;
+    }
+
+    private void put(Place place) {
+        lock.writeLock().lock();
+        try {
+            Place old = grids.computeIfAbsent(place.type(), t -> new Grid()).put(place);
+            if (old != null) {
+                clusters.remove(old);
+            }
+            clusters.add(place);
+            journal.put(place.type(), place);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(String type, UUID id) {
+        lock.writeLock().lock();
+        try {
+            Grid grid = grids.get(type);
+            Place old = grid == null ? null : grid.remove(id);
+            if (old != null) {
+                clusters.remove(old);
+            }
+            journal.remove(type, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void install(String type, Grid fresh) {
+        grids.put(type, fresh);
+        clusters.replace(type, fresh.byId.values());
+        log.debug("Place index '{}' rebuilt with {} places", type, fresh.byId.size());
+    }
+
+    // One catalog's places, bucketed by cell
+    private final class Grid {
+        final Map<UUID, Place> byId = new HashMap<>();
+        final Map<Long, List<Place>> cells = new HashMap<>();
+
+        // Both return the place that was there before, if any
+        Place put(Place place) {
+            Place old = remove(place.id());
+            byId.put(place.id(), place);
+            cells.computeIfAbsent(cellKey(place.latitude(), place.longitude()), k -> new ArrayList<>()).add(place);
+            return old;
+        }
+
+        Place remove(UUID id) {
+            Place old = byId.remove(id);
+            if (old == null) {
+                return null;
+            }
+            long key = cellKey(old.latitude(), old.longitude());
+            List<Place> cell = cells.get(key);
+            cell.removeIf(p -> p.id().equals(id));
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+            return old;
+        }
+
+        List<Place> cell(int row, int col) {
+            if (row < 0 || row >= rows || col < 0 || col >= cols) {
+                return List.of();
+            }
+            return cells.getOrDefault((long) row * cols + col, List.of());
+        }
+    }
+
+    // Keeps the k closest hits seen so far (farthest on top)
+    private static final class TopK {
+        final int k;
+        final PriorityQueue<Hit> heap =
+                new PriorityQueue<>(Comparator.comparingDouble(Hit::distanceMeters).reversed());
+
+        TopK(int k) {
+            this.k = k;
+        }
+
+        void offer(Place place, double lat, double lng, boolean activeOnly, double maxMeters) {
+            if (activeOnly && !place.active()) {
+                return;
+            }
+            double distance = distanceMeters(lat, lng, place.latitude(), place.longitude());
+            if (distance > maxMeters) {
+                return;
+            }
+            if (heap.size() < k) {
+                heap.add(new Hit(place, distance));
+            } else if (distance < heap.peek().distanceMeters()) {
+                heap.poll();
+                heap.add(new Hit(place, distance));
+            }
+        }
+
+        boolean isFull() {
+            return heap.size() >= k;
+        }
+
+        double worst() {
+            return heap.peek().distanceMeters();
+        }
+
+        List<Hit> sorted() {
+            List<Hit> hits = new ArrayList<>(heap);
+            hits.sort(Comparator.comparingDouble(Hit::distanceMeters));
+            return hits;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package backend.backend.core.geo;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Nearest / radius / box queries and map markers over the places of every catalog the caller may read,
+ * answered from the in-memory {@link PlaceIndex} without touching the database.
+ */
+@Service
+public class PlaceService {
+
+    public static final int DEFAULT_K = 5;
+    public static final int MAX_K = 100;
+    public static final int DEFAULT_LIMIT = 200;
+    public static final int MAX_LIMIT = 1000;
+
+    private final List<PlaceSource> sources;
+    private final PlaceIndex placeIndex;
+    private final WebInvocationPrivilegeEvaluator privilegeEvaluator;
+
+    // Upper bound for radius queries and for how far nearest-k looks
+    @Value("${geo.query.max-radius-m:50000}")
+    private double maxRadiusMeters;
+
+    public PlaceService(List<PlaceSource> sources, PlaceIndex placeIndex,
+                        WebInvocationPrivilegeEvaluator privilegeEvaluator) {
+        this.sources = sources;
+        this.placeIndex = placeIndex;
+        this.privilegeEvaluator = privilegeEvaluator;
+    }
+
+    public List<PlaceHit> nearest(double lat, double lng, Integer k, Double maxDistance,
+                                  List<String> types, boolean activeOnly, Authentication authentication) {
+        Map<String, PlaceSource> readable = readable(types, authentication);
+        int size = k == null || k <= 0 ? DEFAULT_K : Math.min(k, MAX_K);
+        double reach = maxDistance == null || maxDistance <= 0 ? maxRadiusMeters : Math.min(maxDistance, maxRadiusMeters);
+        return toHits(placeIndex.nearest(lat, lng, size, readable.keySet(), activeOnly, reach), readable);
+    }
+
+    public List<PlaceHit> within(double lat, double lng, double radius, Integer limit,
+                                 List<String> types, boolean activeOnly, Authentication authentication) {
+        Map<String, PlaceSource> readable = readable(types, authentication);
+        return toHits(placeIndex.within(lat, lng, Math.min(radius, maxRadiusMeters), readable.keySet(),
+                activeOnly, clampLimit(limit)), readable);
+    }
+
+    public List<PlaceHit> box(double south, double west, double north, double east, Integer limit,
+                              List<String> types, boolean activeOnly, Authentication authentication) {
+        Map<String, PlaceSource> readable = readable(types, authentication);
+        return toHits(placeIndex.box(south, west, north, east, readable.keySet(), activeOnly, clampLimit(limit)),
+                readable);
+    }
+
+    public MapMarkers markers(double south, double west, double north, double east, int zoom,
+                              List<String> types, Authentication authentication) {
+        Map<String, PlaceSource> readable = readable(types, authentication);
+        List<double[]> clusters = new ArrayList<>();
+        List<Object[]> points = new ArrayList<>();
+        for (PlaceIndex.Marker marker : placeIndex.markers(zoom, south, west, north, east, readable.keySet(), MAX_LIMIT)) {
+            Place place = marker.place();
+            if (place == null) {
+                clusters.add(new double[]{round(marker.latitude()), round(marker.longitude()), marker.count()});
+            } else {
+                points.add(new Object[]{place.type(), place.id(), place.latitude(), place.longitude(), place.name()});
+            }
+        }
+        return new MapMarkers(zoom, clusters, points);
+    }
+
+    // Requested catalogs (all when none given) that the caller is allowed to read
+    private Map<String, PlaceSource> readable(List<String> types, Authentication authentication) {
+        Map<String, PlaceSource> readable = new LinkedHashMap<>();
+        for (PlaceSource source : sources) {
+            if ((types == null || types.isEmpty() || types.contains(source.catalog().type()))
+                    && privilegeEvaluator.isAllowed(source.catalog().path(), authentication)) {
+                readable.put(source.catalog().type(), source);
+            }
+        }
+        return readable;
+    }
+
+    // Cluster centroids only need ~1 m precision
+    private static double round(double degrees) {
+        return Math.round(degrees * 1e5) / 1e5;
+    }
+
+    private static int clampLimit(Integer limit) {
+        return limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+    }
+
+    private static List<PlaceHit> toHits(Collection<PlaceIndex.Hit> hits, Map<String, PlaceSource> sources) {
+        return hits.stream()
+                .map(hit -> {
+                    Place place = hit.place();
+                    return new PlaceHit(place.type(), place.id(), sources.get(place.type()).catalog().path() + "/" + place.id(),
+                            place.name(), place.address(), place.latitude(), place.longitude(), place.active(),
+                            hit.distanceMeters());
+                })
+                .toList();
+    }
+}
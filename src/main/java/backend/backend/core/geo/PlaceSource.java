@@ -0,0 +1,15 @@
+package backend.backend.core.geo;
+
+import backend.backend.core.common.Catalog;
+
+/**
+ * A catalog whose rows have coordinates and show up in the place queries (/api/places).
+ * Implemented by the catalog services; every Spring bean implementing it is indexed.
+ */
+public interface PlaceSource {
+
+    /**
+     * Tag put on this catalog's places and the API path callers must be allowed to read to see them
+     */
+    Catalog<?> catalog();
+}
@@ -0,0 +1,15 @@
+package backend.backend.core.hours;
+
+import backend.backend.core.common.Catalog;
+
+/**
+ * A catalog whose rows have opening hours and show up in the open-now query (/api/open-now).
+ * Implemented by the catalog services; every Spring bean implementing it is indexed.
+ */
+public interface HoursSource {
+
+    /**
+     * Tag put on this catalog's rows and the API path callers must be allowed to read to see them
+     */
+    Catalog<?> catalog();
+}
@@ -0,0 +1,8 @@
+package backend.backend.core.hours;
+
+public class InvalidOpeningHoursException extends IllegalArgumentException {
+
+    public InvalidOpeningHoursException(String message) {
+        super(message);
+    }
+}
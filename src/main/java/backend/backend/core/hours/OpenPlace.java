@@ -0,0 +1,14 @@
+package backend.backend.core.hours;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One result of the open-now query.
+ *
+ * @param path     API path of the full record
+ * @param hours    the weekly schedule in its canonical text form
+ * @param closesAt when the current opening ends; null for places that never close
+ */
+public record OpenPlace(String type, UUID id, String path, String name, String hours, LocalDateTime closesAt) {
+}
@@ -0,0 +1,11 @@
+package backend.backend.core.hours;
+
+import java.util.UUID;
+
+/**
+ * A row's weekly schedule as kept by the {@link OpeningHoursIndex}.
+ *
+ * @param type catalog tag, e.g. "library"
+ */
+public record OpeningHours(String type, UUID id, String name, WeeklySchedule schedule) {
+}
@@ -0,0 +1,47 @@
+package backend.backend.core.hours;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/open-now")
+@RequiredArgsConstructor
+public class OpeningHoursController {
+
+    private final OpeningHoursService openingHoursService;
+
+    // VIEW: any authenticated user; only catalogs the caller may read are included
+    // e.g. /api/open-now?forMinutes=60&types=library,university
+    //      /api/open-now?at=2024-06-14T21:30
+    // Not @CatalogVersioned: the answer changes with the clock, not only with the catalogs
+    @GetMapping
+    public ResponseEntity<List<OpenPlace>> openNow(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+            @RequestParam(required = false) @Min(0) @Max(WeeklySchedule.MINUTES_PER_WEEK) Integer forMinutes,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication
+    ) {
+        List<OpenPlace> open = openingHoursService.openAt(at, forMinutes, types, limit, authentication);
+        if (at != null) {
+            return ResponseEntity.ok(open);
+        }
+        // "now" moves on; a minute of staleness is fine for a list of open places
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS).cachePrivate())
+                .body(open);
+    }
+}
@@ -0,0 +1,230 @@
+package backend.backend.core.hours;
+
+import backend.backend.core.common.AfterCommit;
+import backend.backend.core.common.Rebuild;
+import backend.backend.core.common.RebuildJournal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static backend.backend.core.hours.WeeklySchedule.MINUTES_PER_WEEK;
+
+/**
+ * In-memory interval index over the catalogs' weekly schedules.
+ *
+ * The week is cut into hour buckets and every opening interval is listed in each bucket it overlaps,
+ * so "open at T" only reads the intervals of T's hour; "open for the next N minutes" additionally
+ * checks how long the interval holding T still runs. Places that never close are kept aside and
+ * always match.
+ *
+ * Each catalog is rebuilt from its repository at startup and on a schedule. Between rebuilds, the
+ * services' create/update/delete calls apply changes after their transaction commits.
+ */
+@Slf4j
+@Component
+public class OpeningHoursIndex {
+
+    private static final int BUCKET_MINUTES = 60;
+    private static final int BUCKETS = MINUTES_PER_WEEK / BUCKET_MINUTES;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Catalog> catalogs = new HashMap<>();
+    private final RebuildJournal<String, OpeningHours, Catalog> journal =
+            new RebuildJournal<>(lock.writeLock(), OpeningHours::id, Catalog::new, Catalog::put, Catalog::remove);
+
+    /**
+     * A place open at the queried minute
+     *
+     * @param minutesLeft minutes until it closes; Integer.MAX_VALUE when it never does
+     */
+    public record Open(OpeningHours place, int minutesLeft) {
+    }
+
+    // =========================
+    // Maintenance
+    // =========================
+
+    /**
+     * Replaces one catalog's schedules with those returned by the loader.
+     * Changes committed while the loader runs are kept.
+     */
+    public void rebuild(String type, Supplier<? extends Collection<OpeningHours>> loader) {
+        journal.rebuild(type, loader, hours -> hours, fresh -> install(type, fresh));
+    }
+
+    /**
+     * Starts rebuilding one catalog from rows the caller loads (see {@link Rebuild#run})
+     *
+     * @param hoursOf the row's schedule; null for rows without one
+     */
+    public <T> Rebuild<T> beginRebuild(String type, Function<? super T, OpeningHours> hoursOf) {
+        return journal.begin(type, hoursOf, fresh -> install(type, fresh));
+    }
+
+    // Called from create/update: the schedule is read now, the index changes once the transaction commits.
+    // A row without a schedule is taken out.
+    public void putAfterCommit(String type, UUID id, OpeningHours hours) {
+        AfterCommit.run(() -> {
+            if (hours == null) {
+                remove(type, id);
+            } else {
+                put(hours);
+            }
+        });
+    }
+
+    public void removeAfterCommit(String type, UUID id) {
+        AfterCommit.run(() -> remove(type, id));
+    }
+
+    public int size(String type) {
+        lock.readLock().lock();
+        try {
+            Catalog catalog = catalogs.get(type);
+            return catalog == null ? 0 : catalog.byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // =========================
+    // Queries
+    // =========================
+
+    /**
+     * Places of the given catalogs open at minuteOfWeek (0 = Monday 00:00) and staying open for at least forMinutes
+     */
+    public List<Open> openAt(int minuteOfWeek, int forMinutes, Collection<String> types) {
+        int minute = Math.floorMod(minuteOfWeek, MINUTES_PER_WEEK);
+        List<Open> open = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (String type : types) {
+                Catalog catalog = catalogs.get(type);
+                if (catalog == null) {
+                    continue;
+                }
+                for (OpeningHours hours : catalog.alwaysOpen) {
+                    open.add(new Open(hours, Integer.MAX_VALUE));
+                }
+                for (Entry entry : catalog.buckets.get(minute / BUCKET_MINUTES)) {
+                    int left = entry.minutesLeft(minute);
+                    if (left > 0 && left >= forMinutes) {
+                        open.add(new Open(entry.hours(), left));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return open;
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private void install(String type, Catalog fresh) {
+        catalogs.put(type, fresh);
+        log.debug("Opening hours index '{}' rebuilt with {} places", type, fresh.byId.size());
+    }
+
+    private void put(OpeningHours hours) {
+        lock.writeLock().lock();
+        try {
+            catalogs.computeIfAbsent(hours.type(), t -> new Catalog()).put(hours);
+            journal.put(hours.type(), hours);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(String type, UUID id) {
+        lock.writeLock().lock();
+        try {
+            Catalog catalog = catalogs.get(type);
+            if (catalog != null) {
+                catalog.remove(id);
+            }
+            journal.remove(type, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // One opening interval of a place: [start, end) in minutes from Monday 00:00, end possibly past the week
+    private record Entry(OpeningHours hours, int start, int end) {
+
+        // Minutes the place stays open from minute (in [0, week)); 0 or less when this interval does not hold it
+        int minutesLeft(int minute) {
+            if (start <= minute && minute < end) {
+                return end - minute;
+            }
+            int nextWeek = minute + MINUTES_PER_WEEK;
+            return start <= nextWeek && nextWeek < end ? end - nextWeek : 0;
+        }
+    }
+
+    // One catalog's schedules, bucketed by the hours of the week they cover
+    private static final class Catalog {
+        final Map<UUID, OpeningHours> byId = new HashMap<>();
+        final List<OpeningHours> alwaysOpen = new ArrayList<>();
+        final List<List<Entry>> buckets = new ArrayList<>(BUCKETS);
+
+        Catalog() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.add(new ArrayList<>());
+            }
+        }
+
+        void put(OpeningHours hours) {
+            remove(hours.id());
+            byId.put(hours.id(), hours);
+            WeeklySchedule schedule = hours.schedule();
+            if (schedule.isAlwaysOpen()) {
+                alwaysOpen.add(hours);
+                return;
+            }
+            for (int i = 0; i < schedule.intervalCount(); i++) {
+                Entry entry = new Entry(hours, schedule.start(i), schedule.end(i));
+                forEachBucket(entry, bucket -> bucket.add(entry));
+            }
+        }
+
+        void remove(UUID id) {
+            OpeningHours old = byId.remove(id);
+            if (old == null) {
+                return;
+            }
+            WeeklySchedule schedule = old.schedule();
+            if (schedule.isAlwaysOpen()) {
+                alwaysOpen.removeIf(hours -> hours.id().equals(id));
+                return;
+            }
+            for (int i = 0; i < schedule.intervalCount(); i++) {
+                forEachBucket(new Entry(old, schedule.start(i), schedule.end(i)),
+                        bucket -> bucket.removeIf(entry -> entry.hours().id().equals(id)));
+            }
+        }
+
+        // Buckets from the interval's first hour to its last, wrapping past Sunday midnight
+        private void forEachBucket(Entry entry, Consumer<List<Entry>> action) {
+            int first = entry.start() / BUCKET_MINUTES;
+            int last = (entry.end() - 1) / BUCKET_MINUTES;
+            for (int bucket = first; bucket <= last; bucket++) {
+                action.accept(buckets.get(bucket % BUCKETS));
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package backend.backend.core.hours;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * "Open now" / "open for the next N minutes" over every catalog with opening hours the caller may read,
+ * answered from the in-memory {@link OpeningHoursIndex} without touching the database.
+ */
+@Service
+public class OpeningHoursService {
+
+    public static final int DEFAULT_LIMIT = 200;
+    public static final int MAX_LIMIT = 1000;
+
+    private final List<HoursSource> sources;
+    private final OpeningHoursIndex hoursIndex;
+    private final WebInvocationPrivilegeEvaluator privilegeEvaluator;
+
+    // Zone the stored opening hours are expressed in; blank = the server's zone
+    @Value("${hours.zone:}")
+    private String zone;
+
+    public OpeningHoursService(List<HoursSource> sources, OpeningHoursIndex hoursIndex,
+                               WebInvocationPrivilegeEvaluator privilegeEvaluator) {
+        this.sources = sources;
+        this.hoursIndex = hoursIndex;
+        this.privilegeEvaluator = privilegeEvaluator;
+    }
+
+    /**
+     * Places open at the given local time (now when null) that stay open for at least forMinutes,
+     * sorted by name
+     */
+    public List<OpenPlace> openAt(LocalDateTime at, Integer forMinutes, List<String> types, Integer limit,
+                                  Authentication authentication) {
+        LocalDateTime time = at != null ? at : LocalDateTime.now(zoneId());
+        int minute = WeeklySchedule.minuteOfWeek(time.getDayOfWeek(), time.toLocalTime());
+        int staying = forMinutes == null || forMinutes < 0 ? 0 : forMinutes;
+        Map<String, HoursSource> readable = readable(types, authentication);
+        LocalDateTime start = time.withSecond(0).withNano(0);
+
+        return hoursIndex.openAt(minute, staying, readable.keySet()).stream()
+                .sorted(Comparator.comparing((OpeningHoursIndex.Open open) -> open.place().name(),
+                        Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+                .limit(clampLimit(limit))
+                .map(open -> {
+                    OpeningHours place = open.place();
+                    LocalDateTime closesAt = open.minutesLeft() == Integer.MAX_VALUE
+                            ? null
+                            : start.plusMinutes(open.minutesLeft());
+                    return new OpenPlace(place.type(), place.id(),
+                            readable.get(place.type()).catalog().path() + "/" + place.id(),
+                            place.name(), place.schedule().toString(), closesAt);
+                })
+                .toList();
+    }
+
+    // Requested catalogs (all when none given) that the caller is allowed to read
+    private Map<String, HoursSource> readable(List<String> types, Authentication authentication) {
+        Map<String, HoursSource> readable = new LinkedHashMap<>();
+        for (HoursSource source : sources) {
+            if ((types == null || types.isEmpty() || types.contains(source.catalog().type()))
+                    && privilegeEvaluator.isAllowed(source.catalog().path(), authentication)) {
+                readable.put(source.catalog().type(), source);
+            }
+        }
+        return readable;
+    }
+
+    private ZoneId zoneId() {
+        return zone == null || zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+    }
+
+    private static int clampLimit(Integer limit) {
+        return limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+    }
+}
@@ -0,0 +1,486 @@
+package backend.backend.core.hours;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Opening hours as a set of intervals over the week, in minutes from Monday 00:00.
+ *
+ * Intervals are sorted and merged, and an interval running past Sunday midnight is kept as one piece
+ * that ends after the end of the week, so "Sat-Sun 20:00-02:00" is open from Sunday night into Monday.
+ * Built from free text ({@link #parse}) or a daily open/close pair ({@link #daily}); {@link #toString}
+ * gives a canonical text that parses back to the same schedule and is what gets stored.
+ */
+public final class WeeklySchedule {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private static final WeeklySchedule ALWAYS = new WeeklySchedule(new int[]{0}, new int[]{MINUTES_PER_WEEK}, true);
+    private static final String[] DAY_NAMES = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+
+    // starts[i] < ends[i]; starts ascending within the week, ends may go past MINUTES_PER_WEEK
+    private final int[] starts;
+    private final int[] ends;
+    private final boolean alwaysOpen;
+
+    private WeeklySchedule(int[] starts, int[] ends, boolean alwaysOpen) {
+        this.starts = starts;
+        this.ends = ends;
+        this.alwaysOpen = alwaysOpen;
+    }
+
+    // =========================
+    // Construction
+    // =========================
+
+    /**
+     * Same hours every day; a close time at or before the open time closes the next day. Null when either is missing.
+     */
+    public static WeeklySchedule daily(LocalTime open, LocalTime close) {
+        if (open == null || close == null) {
+            return null;
+        }
+        List<int[]> intervals = new ArrayList<>();
+        for (int day = 0; day < 7; day++) {
+            intervals.add(shift(day, open.getHour() * 60 + open.getMinute(), close.getHour() * 60 + close.getMinute()));
+        }
+        return of(intervals);
+    }
+
+    /**
+     * Parses opening hours written by hand, e.g.
+     * <pre>
+     *   8:00 AM - 10:00 PM
+     *   Mon-Fri 09:00-18:00; Sat 10:00-14:00; Sun closed
+     *   Tue-Sun 12:00-15:00, 19:00-23:30
+     *   Fri, Sat 20h-2h
+     *   24/7
+     * </pre>
+     * Rules without days apply to every day; later rules replace earlier ones for their days.
+     * English and French day names are understood. Null for blank text.
+     *
+     * @throws InvalidOpeningHoursException when the text cannot be read
+     */
+    @JsonCreator
+    public static WeeklySchedule parse(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        return new Parser(text).parse();
+    }
+
+    /**
+     * Merges raw intervals (minutes from Monday 00:00, end exclusive, possibly past the end of the week)
+     */
+    static WeeklySchedule of(List<int[]> raw) {
+        // Fold into one week: pieces past Sunday midnight wrap to Monday
+        List<int[]> pieces = new ArrayList<>();
+        for (int[] interval : raw) {
+            int start = Math.floorMod(interval[0], MINUTES_PER_WEEK);
+            int end = start + Math.min(interval[1] - interval[0], MINUTES_PER_WEEK);
+            if (end <= MINUTES_PER_WEEK) {
+                pieces.add(new int[]{start, end});
+            } else {
+                pieces.add(new int[]{start, MINUTES_PER_WEEK});
+                pieces.add(new int[]{0, end - MINUTES_PER_WEEK});
+            }
+        }
+        pieces.sort((a, b) -> Integer.compare(a[0], b[0]));
+
+        List<int[]> merged = new ArrayList<>();
+        for (int[] piece : pieces) {
+            int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && piece[0] <= last[1]) {
+                last[1] = Math.max(last[1], piece[1]);
+            } else {
+                merged.add(piece.clone());
+            }
+        }
+        if (merged.size() == 1 && merged.get(0)[0] == 0 && merged.get(0)[1] == MINUTES_PER_WEEK) {
+            return ALWAYS;
+        }
+        // Join the Sunday-night piece with the Monday-morning one it runs into
+        if (merged.size() > 1 && merged.get(0)[0] == 0 && merged.get(merged.size() - 1)[1] == MINUTES_PER_WEEK) {
+            int[] first = merged.remove(0);
+            merged.get(merged.size() - 1)[1] = MINUTES_PER_WEEK + first[1];
+        }
+
+        int[] starts = new int[merged.size()];
+        int[] ends = new int[merged.size()];
+        for (int i = 0; i < merged.size(); i++) {
+            starts[i] = merged.get(i)[0];
+            ends[i] = merged.get(i)[1];
+        }
+        return new WeeklySchedule(starts, ends, false);
+    }
+
+    // =========================
+    // Queries
+    // =========================
+
+    public boolean isAlwaysOpen() {
+        return alwaysOpen;
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    /**
+     * Minute (from the same Monday 00:00, possibly past the end of the week) at which the place closes
+     * when it is open at minuteOfWeek; -1 when it is closed then. Always-open schedules return Integer.MAX_VALUE.
+     */
+    public int openUntil(int minuteOfWeek) {
+        if (alwaysOpen) {
+            return Integer.MAX_VALUE;
+        }
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] <= minuteOfWeek && minuteOfWeek < ends[i]) {
+                return ends[i];
+            }
+            if (starts[i] <= minuteOfWeek + MINUTES_PER_WEEK && minuteOfWeek + MINUTES_PER_WEEK < ends[i]) {
+                return ends[i] - MINUTES_PER_WEEK;
+            }
+        }
+        return -1;
+    }
+
+    int intervalCount() {
+        return starts.length;
+    }
+
+    int start(int interval) {
+        return starts[interval];
+    }
+
+    int end(int interval) {
+        return ends[interval];
+    }
+
+    public static int minuteOfWeek(DayOfWeek day, LocalTime time) {
+        return (day.getValue() - 1) * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    // =========================
+    // Canonical text
+    // =========================
+
+    /**
+     * e.g. "Mon-Fri 09:00-18:00; Sat 10:00-14:00, 19:00-02:00". Days without hours are left out.
+     */
+    @JsonValue
+    @Override
+    public String toString() {
+        if (alwaysOpen) {
+            return "24/7";
+        }
+        // Shifts by the day they start on; a shift shorter than a day may run past midnight
+        List<List<String>> byDay = new ArrayList<>();
+        for (int day = 0; day < 7; day++) {
+            byDay.add(new ArrayList<>());
+        }
+        for (int i = 0; i < starts.length; i++) {
+            int cursor = starts[i];
+            while (cursor < ends[i]) {
+                int dayEnd = (cursor / MINUTES_PER_DAY + 1) * MINUTES_PER_DAY;
+                int end = ends[i] - cursor <= MINUTES_PER_DAY ? ends[i] : Math.min(ends[i], dayEnd);
+                byDay.get(cursor / MINUTES_PER_DAY % 7).add(
+                        time(cursor % MINUTES_PER_DAY) + "-" + (end == dayEnd ? "24:00" : time(end % MINUTES_PER_DAY)));
+                cursor = end;
+            }
+        }
+        for (List<String> shifts : byDay) {
+            shifts.sort(null);
+        }
+
+        StringBuilder text = new StringBuilder();
+        for (int day = 0; day < 7; ) {
+            int last = day;
+            while (last + 1 < 7 && byDay.get(last + 1).equals(byDay.get(day))) {
+                last++;
+            }
+            if (!byDay.get(day).isEmpty()) {
+                if (!text.isEmpty()) {
+                    text.append("; ");
+                }
+                text.append(DAY_NAMES[day]);
+                if (last > day) {
+                    text.append(last == day + 1 ? ", " : "-").append(DAY_NAMES[last]);
+                }
+                text.append(' ').append(String.join(", ", byDay.get(day)));
+            }
+            day = last + 1;
+        }
+        return text.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof WeeklySchedule that
+                && alwaysOpen == that.alwaysOpen
+                && Arrays.equals(starts, that.starts)
+                && Arrays.equals(ends, that.ends);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(starts) + Arrays.hashCode(ends);
+    }
+
+    private static String time(int minuteOfDay) {
+        return String.format("%02d:%02d", minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    // from == to means 24 hours; to before from runs past midnight
+    private static int[] shift(int day, int from, int to) {
+        int start = day * MINUTES_PER_DAY + from;
+        int length = to > from ? to - from : to + MINUTES_PER_DAY - from;
+        return new int[]{start, start + length};
+    }
+
+    // =========================
+    // Parser
+    // =========================
+
+    /**
+     * Hand-written tokenizer + recursive descent over: rule (';' rule)*, where
+     * rule = [days] (shift (',' shift)* | 'closed'), days = day ['-' day] (',' day ['-' day])*,
+     * shift = time '-' time. A day name right after a shift also starts a new rule.
+     */
+    private static final class Parser {
+
+        private static final Pattern TOKEN = Pattern.compile(
+                "\\s*(?:(?<always>24\\s*/\\s*7)|(?<time>\\d{1,2}(?:[:h.]\\d{2}|h)?\\s*(?:[ap]\\.?m\\.?)?)"
+                        + "|(?<word>\\p{L}+\\.?)|(?<dash>[-–—])|(?<comma>[,&/+])|(?<semi>[;|\\n]))",
+                Pattern.CASE_INSENSITIVE);
+
+        private static final Map<String, Integer> DAYS = Map.ofEntries(
+                Map.entry("mon", 0), Map.entry("monday", 0), Map.entry("lun", 0), Map.entry("lundi", 0),
+                Map.entry("tue", 1), Map.entry("tues", 1), Map.entry("tuesday", 1), Map.entry("mar", 1), Map.entry("mardi", 1),
+                Map.entry("wed", 2), Map.entry("wednesday", 2), Map.entry("mer", 2), Map.entry("mercredi", 2),
+                Map.entry("thu", 3), Map.entry("thur", 3), Map.entry("thurs", 3), Map.entry("thursday", 3),
+                Map.entry("jeu", 3), Map.entry("jeudi", 3),
+                Map.entry("fri", 4), Map.entry("friday", 4), Map.entry("ven", 4), Map.entry("vendredi", 4),
+                Map.entry("sat", 5), Map.entry("saturday", 5), Map.entry("sam", 5), Map.entry("samedi", 5),
+                Map.entry("sun", 6), Map.entry("sunday", 6), Map.entry("dim", 6), Map.entry("dimanche", 6)
+        );
+
+        private enum Kind { TIME, DAY, EVERY_DAY, CLOSED, ALWAYS, DASH, COMMA, SEMI }
+
+        private record Token(Kind kind, String text, int value) {
+        }
+
+        private final String text;
+        private final List<Token> tokens = new ArrayList<>();
+        private int at;
+
+        Parser(String text) {
+            this.text = text.trim();
+        }
+
+        WeeklySchedule parse() {
+            tokenize();
+            if (tokens.size() == 1 && tokens.get(0).kind() == Kind.ALWAYS) {
+                return ALWAYS;
+            }
+            // Shifts per day; a later rule replaces the hours of the days it names
+            List<List<int[]>> week = new ArrayList<>();
+            for (int day = 0; day < 7; day++) {
+                week.add(new ArrayList<>());
+            }
+            while (at < tokens.size()) {
+                if (peek(Kind.SEMI) || peek(Kind.COMMA)) {
+                    at++;
+                    continue;
+                }
+                rule(week);
+            }
+            List<int[]> intervals = new ArrayList<>();
+            for (int day = 0; day < 7; day++) {
+                for (int[] shift : week.get(day)) {
+                    intervals.add(shift(day, shift[0], shift[1]));
+                }
+            }
+            return of(intervals);
+        }
+
+        private void rule(List<List<int[]>> week) {
+            // "Closed Sunday" names its days after the keyword
+            boolean closedFirst = peek(Kind.CLOSED) && at + 1 < tokens.size()
+                    && (tokens.get(at + 1).kind() == Kind.DAY || tokens.get(at + 1).kind() == Kind.EVERY_DAY);
+            if (closedFirst) {
+                at++;
+            }
+            boolean[] days = days();
+            List<int[]> shifts = new ArrayList<>();
+            if (closedFirst) {
+                setDays(week, days, List.of());
+                return;
+            }
+            if (peek(Kind.CLOSED)) {
+                at++;
+            } else if (peek(Kind.ALWAYS)) {
+                at++;
+                shifts.add(new int[]{0, 0});
+            } else {
+                shifts.add(shiftTokens());
+                // More shifts for the same days, until the next rule starts
+                while (peek(Kind.TIME) || (peek(Kind.COMMA) && at + 1 < tokens.size() && tokens.get(at + 1).kind() == Kind.TIME)) {
+                    if (peek(Kind.COMMA)) {
+                        at++;
+                    }
+                    shifts.add(shiftTokens());
+                }
+            }
+            setDays(week, days, shifts);
+        }
+
+        private static void setDays(List<List<int[]>> week, boolean[] days, List<int[]> shifts) {
+            for (int day = 0; day < 7; day++) {
+                if (days[day]) {
+                    week.set(day, shifts);
+                }
+            }
+        }
+
+        // Every day when the rule names none
+        private boolean[] days() {
+            boolean[] days = new boolean[7];
+            boolean any = false;
+            while (at < tokens.size()) {
+                Token token = tokens.get(at);
+                if (token.kind() == Kind.EVERY_DAY) {
+                    Arrays.fill(days, true);
+                    any = true;
+                    at++;
+                } else if (token.kind() == Kind.DAY) {
+                    at++;
+                    int last = token.value();
+                    if (peek(Kind.DASH) && at + 1 < tokens.size() && tokens.get(at + 1).kind() == Kind.DAY) {
+                        last = tokens.get(at + 1).value();
+                        at += 2;
+                    }
+                    for (int day = token.value(); ; day = (day + 1) % 7) {
+                        days[day] = true;
+                        if (day == last) {
+                            break;
+                        }
+                    }
+                    any = true;
+                } else if (any && token.kind() == Kind.COMMA) {
+                    at++;
+                } else {
+                    break;
+                }
+            }
+            if (!any) {
+                Arrays.fill(days, true);
+            }
+            return days;
+        }
+
+        private int[] shiftTokens() {
+            int from = expect(Kind.TIME).value();
+            expect(Kind.DASH);
+            int to = expect(Kind.TIME).value();
+            return new int[]{from, to == MINUTES_PER_DAY ? 0 : to};
+        }
+
+        private boolean peek(Kind kind) {
+            return at < tokens.size() && tokens.get(at).kind() == kind;
+        }
+
+        private Token expect(Kind kind) {
+            if (!peek(kind)) {
+                String near = at < tokens.size() ? "near '" + tokens.get(at).text() + "'" : "at the end";
+                throw new InvalidOpeningHoursException(
+                        "Could not read opening hours '" + text + "': expected " + kind.name().toLowerCase(Locale.ROOT).replace('_', ' ') + " " + near);
+            }
+            return tokens.get(at++);
+        }
+
+        private void tokenize() {
+            Matcher matcher = TOKEN.matcher(text);
+            int position = 0;
+            while (position < text.length()) {
+                if (!matcher.find(position) || matcher.start() != position || matcher.end() == position) {
+                    if (text.substring(position).isBlank()) {
+                        break;
+                    }
+                    throw new InvalidOpeningHoursException(
+                            "Could not read opening hours '" + text + "' near '" + text.substring(position).trim() + "'");
+                }
+                position = matcher.end();
+                String token = matcher.group().trim();
+                if (matcher.group("always") != null) {
+                    tokens.add(new Token(Kind.ALWAYS, token, 0));
+                } else if (matcher.group("time") != null) {
+                    tokens.add(new Token(Kind.TIME, token, minutes(token)));
+                } else if (matcher.group("dash") != null) {
+                    tokens.add(new Token(Kind.DASH, token, 0));
+                } else if (matcher.group("comma") != null) {
+                    tokens.add(new Token(Kind.COMMA, token, 0));
+                } else if (matcher.group("semi") != null) {
+                    tokens.add(new Token(Kind.SEMI, token, 0));
+                } else {
+                    Token word = word(token);
+                    if (word != null) {
+                        tokens.add(word);
+                    }
+                }
+            }
+        }
+
+        // Null for filler words that carry no meaning
+        private Token word(String token) {
+            String word = token.toLowerCase(Locale.ROOT).replace(".", "");
+            Integer day = DAYS.getOrDefault(word, word.endsWith("s") ? DAYS.get(word.substring(0, word.length() - 1)) : null);
+            if (day != null) {
+                return new Token(Kind.DAY, token, day);
+            }
+            return switch (word) {
+                case "to", "till", "until", "à", "a", "au" -> new Token(Kind.DASH, token, 0);
+                case "and", "et" -> new Token(Kind.COMMA, token, 0);
+                case "on", "from", "de", "du", "le", "les" -> null;
+                case "daily", "everyday", "tlj" -> new Token(Kind.EVERY_DAY, token, 0);
+                case "closed", "off", "ferme", "fermé" -> new Token(Kind.CLOSED, token, 0);
+                case "noon", "midi" -> new Token(Kind.TIME, token, 12 * 60);
+                case "midnight", "minuit" -> new Token(Kind.TIME, token, 0);
+                default -> throw new InvalidOpeningHoursException(
+                        "Could not read opening hours '" + text + "': unknown word '" + token + "'");
+            };
+        }
+
+        // 9, 9am, 9:30, 9.30, 9h, 9h30, 9:30 PM; "24:00" is allowed as a closing time
+        private int minutes(String token) {
+            String value = token.toLowerCase(Locale.ROOT).replace(".", ":").replaceAll("\\s+", "");
+            boolean pm = value.contains("p");
+            boolean am = value.contains("a");
+            value = value.replaceAll("[apm:]*$", "").replaceAll("[apm]", "");
+            String[] parts = value.split("[:h]", -1);
+            int hour = Integer.parseInt(parts[0]);
+            int minute = parts.length > 1 && !parts[1].isEmpty() ? Integer.parseInt(parts[1]) : 0;
+            if (am || pm) {
+                if (hour < 1 || hour > 12) {
+                    throw new InvalidOpeningHoursException("Could not read opening hours '" + text + "': bad time '" + token + "'");
+                }
+                hour = hour % 12 + (pm ? 12 : 0);
+            }
+            if (minute > 59 || hour > 24 || (hour == 24 && minute > 0)) {
+                throw new InvalidOpeningHoursException("Could not read opening hours '" + text + "': bad time '" + token + "'");
+            }
+            return hour * 60 + minute;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package backend.backend.core.hours;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a {@link WeeklySchedule} as its canonical text, e.g. "Mon-Fri 09:00-18:00; Sat 10:00-14:00".
+ */
+@Converter
+public class WeeklyScheduleConverter implements AttributeConverter<WeeklySchedule, String> {
+
+    @Override
+    public String convertToDatabaseColumn(WeeklySchedule schedule) {
+        return schedule == null ? null : schedule.toString();
+    }
+
+    @Override
+    public WeeklySchedule convertToEntityAttribute(String text) {
+        return WeeklySchedule.parse(text);
+    }
+}
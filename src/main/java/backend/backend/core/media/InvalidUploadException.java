@@ -0,0 +1,11 @@
+package backend.backend.core.media;
+
+/**
+ * Rejected upload: unknown folder, not an image, or too large.
+ */
+public class InvalidUploadException extends IllegalArgumentException {
+
+    public InvalidUploadException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,106 @@
+package backend.backend.core.media;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+@RestController
+@RequiredArgsConstructor
+public class MediaController {
+
+    // Tomcat's sendfile contract (see its DefaultServlet): the connector writes the file itself, kernel to socket
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private final MediaStore mediaStore;
+
+    // =========================
+    // PUBLIC
+    // =========================
+
+    @GetMapping("/uploads/{folder}/{name}")
+    public void original(@PathVariable String folder, @PathVariable String name,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        send(mediaStore.original(folder, name), request, response);
+    }
+
+    @GetMapping("/uploads/{folder}/thumbs/{name}")
+    public void thumbnail(@PathVariable String folder, @PathVariable String name,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        send(mediaStore.thumbnail(folder, name), request, response);
+    }
+
+    // =========================
+    // ADMIN ONLY
+    // =========================
+
+    // Form upload, field "file"; the URL returned goes into imageUrl / logoUrl
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/api/uploads/{folder}", consumes = "multipart/form-data")
+    public ResponseEntity<StoredImage> upload(@PathVariable String folder,
+                                              @RequestPart("file") MultipartFile file) throws IOException {
+        return ResponseEntity.ok(mediaStore.store(folder, file.getInputStream()));
+    }
+
+    // e.g. curl -X POST -H 'Content-Type: image/jpeg' --data-binary @photo.jpg /api/uploads/hotels
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/api/uploads/{folder}", consumes = {"image/jpeg", "image/png", "image/gif", "image/webp"})
+    public ResponseEntity<StoredImage> uploadRaw(@PathVariable String folder, InputStream body) throws IOException {
+        return ResponseEntity.ok(mediaStore.store(folder, body));
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private static void send(MediaStore.Media media, HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        String etag = "\"" + media.etag() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, media.immutable() ? IMMUTABLE : "no-cache");
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        try (FileChannel file = FileChannel.open(media.path(), StandardOpenOption.READ)) {
+            long size = file.size();
+            response.setContentType(media.contentType());
+            response.setContentLengthLong(size);
+            if ("HEAD".equals(request.getMethod())) {
+                return;
+            }
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                request.setAttribute(SENDFILE_FILENAME, media.path().toString());
+                request.setAttribute(SENDFILE_START, 0L);
+                request.setAttribute(SENDFILE_END, size);
+                return;
+            }
+            // No sendfile (e.g. HTTP/2 or TLS without it): transferTo still skips the copy into a heap buffer
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += file.transferTo(position, size - position, out);
+            }
+        }
+    }
+}
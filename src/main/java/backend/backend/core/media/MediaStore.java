@@ -0,0 +1,252 @@
+package backend.backend.core.media;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed image storage under media.storage.dir.
+ *
+ * Uploads are streamed to a temporary file while their SHA-256 is computed, then moved to
+ * {folder}/{sha-256}.{ext}: the same bytes uploaded twice are stored once, and a stored file never
+ * changes, so it can be cached forever. Thumbnails ({folder}/thumbs/{sha-256}.jpg) are generated after
+ * the upload on a small bounded pool; when the pool is busy they are generated on first request instead.
+ * Formats ImageIO cannot read (WebP) get no thumbnail: their thumbnailUrl is the original.
+ */
+@Slf4j
+@Service
+public class MediaStore {
+
+    public static final String URL_PREFIX = "/uploads/";
+
+    private static final Pattern ORIGINAL = Pattern.compile("([0-9a-f]{64})\\.([a-z]{3,4})");
+    private static final Pattern THUMBNAIL = Pattern.compile("([0-9a-f]{64})\\.jpg");
+    private static final String THUMBNAILS = "thumbs";
+
+    private final Path root;
+    private final Set<String> folders;
+    private final long maxBytes;
+    private final Thumbnailer thumbnailer;
+    private final ThreadPoolExecutor thumbnailPool;
+    // Thumbnails queued or being written, so a burst of requests does not queue the same one twice
+    private final Set<Path> pending = ConcurrentHashMap.newKeySet();
+    // Thumbnails that could not be made (corrupt or oversized originals): the original is served, nothing is queued
+    private final Set<Path> failed = ConcurrentHashMap.newKeySet();
+
+    public MediaStore(
+            @Value("${media.storage.dir:uploads}") String root,
+            @Value("${media.upload.folders}") List<String> folders,
+            @Value("${media.upload.max-bytes:10485760}") long maxBytes,
+            @Value("${media.thumbnail.width:480}") int thumbnailWidth,
+            @Value("${media.thumbnail.height:320}") int thumbnailHeight,
+            @Value("${media.thumbnail.threads:2}") int threads,
+            @Value("${media.thumbnail.queue-capacity:200}") int queueCapacity) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.folders = Set.copyOf(folders);
+        this.maxBytes = maxBytes;
+        this.thumbnailer = new Thumbnailer(thumbnailWidth, thumbnailHeight);
+        AtomicInteger count = new AtomicInteger();
+        this.thumbnailPool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "thumbnail-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * A stored file and how to serve it
+     *
+     * @param immutable the bytes behind this URL never change (false while a thumbnail is still missing)
+     */
+    public record Media(Path path, String contentType, String etag, boolean immutable) {
+    }
+
+    // =========================
+    // Upload
+    // =========================
+
+    public StoredImage store(String folder, InputStream body) throws IOException {
+        Path directory = folder(folder);
+        Path temp = Files.createTempFile(Files.createDirectories(root.resolve(".tmp")), "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            byte[] head = new byte[ImageFormat.SIGNATURE_LENGTH];
+            int headLength = 0;
+            long size = 0;
+            try (InputStream in = body; OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new InvalidUploadException("File exceeds " + maxBytes + " bytes");
+                    }
+                    if (headLength < head.length) {
+                        int copied = Math.min(read, head.length - headLength);
+                        System.arraycopy(buffer, 0, head, headLength, copied);
+                        headLength += copied;
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            ImageFormat format = ImageFormat.sniff(head, headLength)
+                    .orElseThrow(() -> new InvalidUploadException("Not a JPEG, PNG, GIF or WebP image"));
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = directory.resolve(hash + "." + format.extension());
+            boolean duplicate = Files.exists(target);
+            if (!duplicate) {
+                Files.createDirectories(directory);
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    duplicate = true; // same bytes uploaded concurrently
+                }
+            }
+            String url = URL_PREFIX + folder + "/" + target.getFileName();
+            String thumbnailUrl = url;
+            if (format.thumbnailable()) {
+                Path thumbnail = thumbnailPath(directory, hash);
+                if (!Files.exists(thumbnail)) {
+                    scheduleThumbnail(target, thumbnail);
+                }
+                thumbnailUrl = URL_PREFIX + folder + "/" + THUMBNAILS + "/" + thumbnail.getFileName();
+            }
+            return new StoredImage(url, thumbnailUrl, format.contentType(), size, duplicate);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // =========================
+    // Serving
+    // =========================
+
+    public Media original(String folder, String name) {
+        Matcher matcher = ORIGINAL.matcher(name);
+        if (!matcher.matches()) {
+            throw notFound();
+        }
+        ImageFormat format = ImageFormat.fromExtension(matcher.group(2)).orElseThrow(MediaStore::notFound);
+        Path path = servedFolder(folder).resolve(name);
+        if (!Files.isRegularFile(path)) {
+            throw notFound();
+        }
+        return new Media(path, format.contentType(), matcher.group(1), true);
+    }
+
+    /**
+     * The thumbnail if it exists; otherwise the original (not cacheable) while the thumbnail is generated
+     */
+    public Media thumbnail(String folder, String name) {
+        Matcher matcher = THUMBNAIL.matcher(name);
+        if (!matcher.matches()) {
+            throw notFound();
+        }
+        String hash = matcher.group(1);
+        Path directory = servedFolder(folder);
+        Path thumbnail = thumbnailPath(directory, hash);
+        if (Files.isRegularFile(thumbnail)) {
+            return new Media(thumbnail, ImageFormat.JPEG.contentType(), "t-" + hash, true);
+        }
+        for (ImageFormat format : ImageFormat.values()) {
+            Path original = directory.resolve(hash + "." + format.extension());
+            if (Files.isRegularFile(original)) {
+                if (format.thumbnailable() && !failed.contains(thumbnail)) {
+                    scheduleThumbnail(original, thumbnail);
+                }
+                return new Media(original, format.contentType(), hash, false);
+            }
+        }
+        throw notFound();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        thumbnailPool.shutdownNow();
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private void scheduleThumbnail(Path original, Path thumbnail) {
+        if (!pending.add(thumbnail)) {
+            return;
+        }
+        try {
+            thumbnailPool.execute(() -> {
+                try {
+                    Files.createDirectories(thumbnail.getParent());
+                    if (!thumbnailer.write(original, thumbnail)) {
+                        failed.add(thumbnail);
+                        log.debug("No thumbnail for {}: not readable by ImageIO or too large", original.getFileName());
+                    }
+                } catch (IOException | RuntimeException e) {
+                    failed.add(thumbnail);
+                    log.warn("Thumbnail for {} failed: {}", original.getFileName(), e.getMessage());
+                } finally {
+                    pending.remove(thumbnail);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Pool saturated: the original is served until a later request queues it again
+            pending.remove(thumbnail);
+        }
+    }
+
+    private Path folder(String folder) {
+        if (!folders.contains(folder)) {
+            throw new InvalidUploadException("Unknown upload folder '" + folder + "'");
+        }
+        return root.resolve(folder);
+    }
+
+    private Path servedFolder(String folder) {
+        if (!folders.contains(folder)) {
+            throw notFound();
+        }
+        return root.resolve(folder);
+    }
+
+    private static Path thumbnailPath(Path directory, String hash) {
+        return directory.resolve(THUMBNAILS).resolve(hash + ".jpg");
+    }
+
+    private static EntityNotFoundException notFound() {
+        return new EntityNotFoundException("File not found");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
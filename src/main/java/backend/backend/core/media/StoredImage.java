@@ -0,0 +1,12 @@
+package backend.backend.core.media;
+
+/**
+ * Result of an upload.
+ *
+ * @param url          path to store in imageUrl / logoUrl, e.g. "/uploads/hotels/&lt;sha-256&gt;.jpg"
+ * @param thumbnailUrl fixed-size JPEG for cards and lists (served from the original until it is ready);
+ *                     the original itself for formats that get no thumbnail (WebP)
+ * @param duplicate    the same bytes were already stored, nothing new was written
+ */
+public record StoredImage(String url, String thumbnailUrl, String contentType, long size, boolean duplicate) {
+}
@@ -0,0 +1,100 @@
+package backend.backend.core.media;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+
+/**
+ * Fixed-size JPEG thumbnails with ImageIO: the image is scaled to cover the box and centre-cropped.
+ *
+ * Large sources are decoded with subsampling (every n-th pixel) down to about twice the box, so a
+ * camera photo never has to be held in memory at full resolution.
+ */
+final class Thumbnailer {
+
+    // Decoding more than this would be a decompression bomb rather than a photo
+    private static final long MAX_SOURCE_PIXELS = 100_000_000L;
+
+    private final int width;
+    private final int height;
+
+    Thumbnailer(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Writes the thumbnail of source to target (atomically). False when ImageIO cannot read the format.
+     */
+    boolean write(Path source, Path target) throws IOException {
+        BufferedImage image = read(source);
+        if (image == null) {
+            return false;
+        }
+        BufferedImage thumbnail = cover(image);
+        Path temp = Files.createTempFile(target.getParent(), "thumb-", ".part");
+        try {
+            if (!ImageIO.write(thumbnail, "jpg", temp.toFile())) {
+                return false;
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private BufferedImage read(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > MAX_SOURCE_PIXELS) {
+                    return null;
+                }
+                int step = Math.max(1, Math.min(sourceWidth / (2 * width), sourceHeight / (2 * height)));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage cover(BufferedImage image) {
+        double scale = Math.max((double) width / image.getWidth(), (double) height / image.getHeight());
+        int scaledWidth = (int) Math.ceil(image.getWidth() * scale);
+        int scaledHeight = (int) Math.ceil(image.getHeight() * scale);
+
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG has no alpha: transparent pixels become white
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, (width - scaledWidth) / 2, (height - scaledHeight) / 2, scaledWidth, scaledHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return thumbnail;
+    }
+}
@@ -0,0 +1,27 @@
+package backend.backend.core.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class CitySearchController {
+
+    private final CitySearchService citySearchService;
+
+    //  VIEW: any authenticated user; only catalogs the caller may read are searched
+    @GetMapping
+    public ResponseEntity<CitySearchResponse> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication
+    ) {
+        return ResponseEntity.ok(citySearchService.search(q, limit, authentication));
+    }
+}
@@ -0,0 +1,53 @@
+package backend.backend.core.search;
+
+import backend.backend.core.common.TrigramIndex;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * One result of the city-wide search, tagged with the catalog it comes from.
+ *
+ * @param type     catalog tag, e.g. "hotel" or "job-listing"
+ * @param path     API path of the full record
+ * @param title    display name of the row
+ * @param subtitle secondary line (address, sector...), may be null
+ * @param score    relevance, comparable across catalogs (higher is better)
+ */
+public record CitySearchHit(String type, UUID id, String path, String title, String subtitle, double score) {
+
+    /**
+     * Hits for the ranked ids, in ranked order; rows the loader does not return (deleted since) are skipped
+     *
+     * @param loader loads rows by id in one statement (e.g. repository::findAllById)
+     */
+    public static <T> List<CitySearchHit> of(CitySearchSource source, List<TrigramIndex.Ranked<UUID>> ranked,
+                                             Function<List<UUID>, List<T>> loader,
+                                             Function<T, UUID> id, Function<T, String> title,
+                                             Function<T, String> subtitle) {
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, T> rows = new HashMap<>();
+        for (T row : loader.apply(ranked.stream().map(TrigramIndex.Ranked::row).toList())) {
+            rows.put(id.apply(row), row);
+        }
+        return ranked.stream()
+                .filter(r -> rows.containsKey(r.row()))
+                .map(r -> {
+                    T row = rows.get(r.row());
+                    return new CitySearchHit(
+                            source.catalog().type(),
+                            r.row(),
+                            source.catalog().path() + "/" + r.row(),
+                            title.apply(row),
+                            subtitle.apply(row),
+                            r.score()
+                    );
+                })
+                .toList();
+    }
+}
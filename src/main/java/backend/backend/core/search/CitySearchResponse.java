@@ -0,0 +1,24 @@
+package backend.backend.core.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merged result of the city-wide search.
+ *
+ * @param sources status of every catalog queried; partial is true when any of them is not OK
+ */
+public record CitySearchResponse(
+        String query,
+        List<CitySearchHit> hits,
+        Map<String, SourceStatus> sources,
+        boolean partial,
+        long tookMs
+) {
+
+    public enum SourceStatus {
+        OK,
+        TIMEOUT,
+        ERROR
+    }
+}
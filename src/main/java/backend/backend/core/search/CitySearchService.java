@@ -0,0 +1,140 @@
+package backend.backend.core.search;
+
+import backend.backend.core.common.TrigramIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * City-wide search: ranks every catalog the caller may read in parallel (one virtual thread each,
+ * against the in-memory search indexes only), keeps the best ids overall and then loads just those
+ * rows in one read-only transaction on the request thread.
+ *
+ * Ranking shares one deadline, so a slow catalog costs at most the budget: it is reported as
+ * TIMEOUT and the response carries whatever the other catalogs returned. No worker touches the
+ * database, so a search holds one pooled connection however many catalogs there are.
+ */
+@Slf4j
+@Service
+public class CitySearchService {
+
+    public static final int MIN_QUERY_LENGTH = 2;
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final List<CitySearchSource> sources;
+    private final WebInvocationPrivilegeEvaluator privilegeEvaluator;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${search.city.source-timeout-ms:300}")
+    private long sourceTimeoutMs;
+
+    private record Candidate(CitySearchSource source, TrigramIndex.Ranked<UUID> ranked) {
+    }
+
+    public CitySearchService(List<CitySearchSource> sources, WebInvocationPrivilegeEvaluator privilegeEvaluator,
+                             PlatformTransactionManager transactionManager) {
+        this.sources = sources;
+        this.privilegeEvaluator = privilegeEvaluator;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public CitySearchResponse search(String query, Integer limit, Authentication authentication) {
+        long started = System.nanoTime();
+        String q = query == null ? "" : query.trim();
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        if (q.length() < MIN_QUERY_LENGTH) {
+            return new CitySearchResponse(q, List.of(), Map.of(), false, 0);
+        }
+
+        // Rank in parallel (memory only)
+        Map<CitySearchSource, Future<List<TrigramIndex.Ranked<UUID>>>> calls = new LinkedHashMap<>();
+        for (CitySearchSource source : sources) {
+            if (privilegeEvaluator.isAllowed(source.catalog().path(), authentication)) {
+                calls.put(source, executor.submit(() -> source.rankCity(q, size)));
+            }
+        }
+
+        // Collect until the shared deadline
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(sourceTimeoutMs);
+        List<Candidate> candidates = new ArrayList<>();
+        Map<String, CitySearchResponse.SourceStatus> statuses = new LinkedHashMap<>();
+        for (Map.Entry<CitySearchSource, Future<List<TrigramIndex.Ranked<UUID>>>> call : calls.entrySet()) {
+            CitySearchSource source = call.getKey();
+            String type = source.catalog().type();
+            try {
+                call.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)
+                        .forEach(ranked -> candidates.add(new Candidate(source, ranked)));
+                statuses.put(type, CitySearchResponse.SourceStatus.OK);
+            } catch (TimeoutException e) {
+                call.getValue().cancel(false);
+                statuses.put(type, CitySearchResponse.SourceStatus.TIMEOUT);
+                log.warn("City search source '{}' timed out after {} ms", type, sourceTimeoutMs);
+            } catch (ExecutionException e) {
+                statuses.put(type, CitySearchResponse.SourceStatus.ERROR);
+                log.warn("City search source '{}' failed: {}", type, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                call.getValue().cancel(false);
+                statuses.put(type, CitySearchResponse.SourceStatus.TIMEOUT);
+            }
+        }
+
+        // Keep the best ids overall, then load only those
+        candidates.sort(Comparator.comparingDouble((Candidate c) -> c.ranked().score()).reversed());
+        Map<CitySearchSource, List<TrigramIndex.Ranked<UUID>>> winners = new LinkedHashMap<>();
+        for (Candidate candidate : candidates.subList(0, Math.min(size, candidates.size()))) {
+            winners.computeIfAbsent(candidate.source(), source -> new ArrayList<>()).add(candidate.ranked());
+        }
+        List<CitySearchHit> hits = winners.isEmpty() ? new ArrayList<>() : load(winners, statuses);
+
+        // Merge
+        hits.sort(Comparator.comparingDouble(CitySearchHit::score).reversed()
+                .thenComparing(CitySearchHit::title, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+        boolean partial = statuses.values().stream().anyMatch(s -> s != CitySearchResponse.SourceStatus.OK);
+        long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        return new CitySearchResponse(q, hits, statuses, partial, tookMs);
+    }
+
+    // One transaction (one connection) for every catalog's winners
+    private List<CitySearchHit> load(Map<CitySearchSource, List<TrigramIndex.Ranked<UUID>>> winners,
+                                     Map<String, CitySearchResponse.SourceStatus> statuses) {
+        return readOnlyTransaction.execute(status -> {
+            List<CitySearchHit> hits = new ArrayList<>();
+            winners.forEach((source, ranked) -> {
+                try {
+                    hits.addAll(source.loadCity(ranked));
+                } catch (RuntimeException e) {
+                    statuses.put(source.catalog().type(), CitySearchResponse.SourceStatus.ERROR);
+                    log.warn("City search source '{}' failed to load hits: {}", source.catalog().type(), e.getMessage());
+                }
+            });
+            return hits;
+        });
+    }
+}
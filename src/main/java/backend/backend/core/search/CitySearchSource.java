@@ -0,0 +1,32 @@
+package backend.backend.core.search;
+
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.TrigramIndex;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A catalog taking part in the city-wide search (/api/search).
+ * Implemented by the catalog services; every Spring bean implementing it is queried.
+ */
+public interface CitySearchSource {
+
+    /**
+     * Tag put on this catalog's hits and the API path callers must be allowed to read to get them
+     */
+    Catalog<?> catalog();
+
+    /**
+     * Ids of the best matches for the query, highest score first.
+     * Runs on a search worker thread, so it must only read memory (the catalog's search index).
+     */
+    List<TrigramIndex.Ranked<UUID>> rankCity(String query, int limit);
+
+    /**
+     * Hits for ranked ids this catalog returned, loaded in one statement.
+     * Runs on the request thread, inside the search's single read-only transaction. Implementations
+     * should not be @Transactional themselves: a failure would mark that shared transaction rollback-only.
+     */
+    List<CitySearchHit> loadCity(List<TrigramIndex.Ranked<UUID>> ranked);
+}
@@ -0,0 +1,20 @@
+package backend.backend.core.sql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Most SQL statements one call of the endpoint should need. On a controller it covers every method;
+ * a method's own budget wins. Endpoints without one get query-budget.default.
+ *
+ * Going over is logged with the most repeated statement, which is usually a lazy association loaded
+ * row by row (see {@link QueryBudgetInterceptor}).
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
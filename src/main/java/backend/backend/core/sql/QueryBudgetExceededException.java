@@ -0,0 +1,11 @@
+package backend.backend.core.sql;
+
+/**
+ * Thrown by the statement that goes over an endpoint's budget when query-budget.fail-fast is on
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,76 @@
+package backend.backend.core.sql;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * N+1 guard: counts the SQL statements each API call runs (through {@link StatementCounter}) and
+ * logs a warning when an endpoint goes over its {@link QueryBudget}. With query-budget.fail-fast
+ * the statement that goes over throws instead, which fails the request (meant for development
+ * and tests).
+ *
+ * Only the handler is counted: the JWT filter runs before it, and async bodies (streamed exports)
+ * run on other threads.
+ */
+@Slf4j
+@Component
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private final boolean enabled;
+    private final int defaultBudget;
+    private final boolean failFast;
+
+    public QueryBudgetInterceptor(
+            @Value("${query-budget.enabled:true}") boolean enabled,
+            @Value("${query-budget.default:25}") int defaultBudget,
+            @Value("${query-budget.fail-fast:false}") boolean failFast) {
+        this.enabled = enabled;
+        this.defaultBudget = defaultBudget;
+        this.failFast = failFast;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (enabled && handler instanceof HandlerMethod method) {
+            StatementCounter.open(endpoint(request), budget(method), failFast);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // The thread goes back to the pool; the async dispatch opens a new scope
+        StatementCounter.close();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        StatementCounter.Scope scope = StatementCounter.close();
+        if (scope != null && scope.exceeded()) {
+            log.warn(scope.report());
+        }
+    }
+
+    private int budget(HandlerMethod method) {
+        QueryBudget budget = method.getMethodAnnotation(QueryBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(method.getBeanType(), QueryBudget.class);
+        }
+        return budget != null ? budget.value() : defaultBudget;
+    }
+
+    // e.g. "GET /api/job-listings/{id}", so every id reports under one endpoint
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
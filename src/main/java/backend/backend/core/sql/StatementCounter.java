@@ -0,0 +1,98 @@
+package backend.backend.core.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a request is being handled
+ * (see {@link QueryBudgetInterceptor}). Registered as the session factory's statement inspector
+ * (hibernate.session_factory.statement_inspector); the SQL itself is passed through unchanged.
+ */
+public class StatementCounter implements StatementInspector {
+
+    // Distinct statements remembered per request; an N+1 repeats one of the first few
+    static final int MAX_DISTINCT = 32;
+    private static final int MAX_SQL_IN_REPORT = 200;
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.record(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting on this thread, replacing any scope a previous request left behind
+     */
+    static Scope open(String endpoint, int budget, boolean failFast) {
+        Scope scope = new Scope(endpoint, budget, failFast);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Stops counting on this thread; returns the finished scope, or null when none was open
+     */
+    static Scope close() {
+        Scope scope = CURRENT.get();
+        CURRENT.remove();
+        return scope;
+    }
+
+    static final class Scope {
+
+        private final String endpoint;
+        private final int budget;
+        private final boolean failFast;
+        private final Map<String, Integer> repeats = new HashMap<>();
+        private int count;
+
+        Scope(String endpoint, int budget, boolean failFast) {
+            this.endpoint = endpoint;
+            this.budget = budget;
+            this.failFast = failFast;
+        }
+
+        void record(String sql) {
+            count++;
+            if (repeats.size() < MAX_DISTINCT || repeats.containsKey(sql)) {
+                repeats.merge(sql, 1, Integer::sum);
+            }
+            // Only the first statement over budget throws: the rollback and error handling may still need SQL
+            if (failFast && count == budget + 1) {
+                throw new QueryBudgetExceededException(report());
+            }
+        }
+
+        int count() {
+            return count;
+        }
+
+        boolean exceeded() {
+            return count > budget;
+        }
+
+        String report() {
+            StringBuilder report = new StringBuilder()
+                    .append(endpoint).append(" ran ").append(count)
+                    .append(" SQL statements (budget ").append(budget).append(')');
+            repeats.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .filter(top -> top.getValue() > 1)
+                    .ifPresent(top -> report.append("; most repeated (").append(top.getValue()).append("x): ")
+                            .append(abbreviate(top.getKey())));
+            return report.toString();
+        }
+
+        private static String abbreviate(String sql) {
+            String line = sql.replaceAll("\\s+", " ").trim();
+            return line.length() <= MAX_SQL_IN_REPORT ? line : line.substring(0, MAX_SQL_IN_REPORT) + "...";
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package backend.backend.core.user.user_controller;
 
+import backend.backend.core.sql.QueryBudget;
 import backend.backend.core.user.user_dto.TouristProfileRequestDTO;
 import backend.backend.core.user.user_dto.TouristProfileResponseDTO;
 import backend.backend.core.user.user_service.TouristProfileService;
@@ -22,6 +23,7 @@ public class TouristProfileController {
 
     // ✅ ADMIN ONLY
     @PreAuthorize("hasRole('ADMIN')")
+    @QueryBudget(1) // profiles with their interests in one select
     @GetMapping
     public ResponseEntity<List<TouristProfileResponseDTO>> getAllTouristProfiles() {
         return ResponseEntity.ok(touristProfileService.getAllTouristProfiles());
@@ -29,6 +31,7 @@ public class TouristProfileController {
 
     // ✅ ADMIN ONLY
     @PreAuthorize("hasRole('ADMIN')")
+    @QueryBudget(1)
     @GetMapping("/{id}")
     public ResponseEntity<TouristProfileResponseDTO> getTouristProfileById(@PathVariable UUID id) {
         return ResponseEntity.ok(touristProfileService.getTouristProfileById(id));
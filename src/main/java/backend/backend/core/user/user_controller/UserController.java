@@ -2,16 +2,31 @@ package backend.backend.core.user.user_controller;
 
 import backend.backend.auth.auth.AuthService;
 import backend.backend.auth.dto.RegisterRequest;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
+import backend.backend.core.user.user_dto.UserStatsDTO;
+import backend.backend.core.user.user_dto.UserSummaryDTO;
 import backend.backend.core.user.user_entity.User;
+import backend.backend.core.user.user_entity.UserPurgeJob;
+import backend.backend.core.user.user_service.UserPurgeService;
 import backend.backend.core.user.user_service.UserService;
+import backend.backend.enums.Role;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -21,16 +36,49 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UserController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int EXPORT_BATCH_SIZE = CursorPage.MAX_SIZE;
+
     private final UserService userService;
     private final AuthService authService;
+    private final UserPurgeService userPurgeService;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * GET /api/users?cursor=&size=&count=&role=&active=
+     * Keyset-paginated like the catalogs: an array body, the following page in Link / X-Next-Cursor.
+     */
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<List<UserSummaryDTO>> getAllUsers(
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) Boolean active,
+            PageQuery page
+    ) {
+        return PageResponses.ok(userService.listUsers(role, active, page));
+    }
+
+    // ADMIN ONLY: streams every matching user as NDJSON (one JSON object per line)
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void exportUsers(
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) Boolean active,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.ndjson\"");
+
+        OutputStream out = response.getOutputStream();
+        userService.exportUsers(role, active, EXPORT_BATCH_SIZE, user -> {
+            out.write(objectMapper.writeValueAsBytes(user));
+            out.write('\n');
+        });
+        out.flush();
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<User> getUserById(@PathVariable UUID id) {
+    public ResponseEntity<UserSummaryDTO> getUserById(@PathVariable UUID id) {
         return ResponseEntity.ok(userService.getUserById(id));
     }
 
@@ -47,7 +95,7 @@ public class UserController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<User> updateUser(
+    public ResponseEntity<UserSummaryDTO> updateUser(
             @PathVariable UUID id,
             @Valid @RequestBody User userDetails
     ) {
@@ -60,12 +108,34 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
 
+    // ADMIN ONLY: account status changes
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/{id}/active")
+    public ResponseEntity<UserSummaryDTO> setActive(
+            @PathVariable UUID id,
+            @RequestParam boolean active
+    ) {
+        return ResponseEntity.ok(userService.setActive(id, active));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/{id}/role/{role}")
+    public ResponseEntity<UserSummaryDTO> changeRole(
+            @PathVariable UUID id,
+            @PathVariable String role
+    ) {
+        return ResponseEntity.ok(userService.changeRole(id, role));
+    }
+
     // -----------------------
     // Role-based endpoints
     // -----------------------
     @GetMapping("/role/{role}")
-    public ResponseEntity<List<User>> getUsersByRole(@PathVariable String role) {
-        return ResponseEntity.ok(userService.getUsersByRole(role));
+    public ResponseEntity<List<UserSummaryDTO>> getUsersByRole(
+            @PathVariable String role,
+            PageQuery page
+    ) {
+        return PageResponses.ok(userService.getUsersByRole(role, page));
     }
 
     @GetMapping("/{id}/role/{role}")
@@ -76,23 +146,32 @@ public class UserController {
         return ResponseEntity.ok(userService.existsByIdAndRole(id, role));
     }
 
+    // ADMIN ONLY: user counts per role (total/active) for the dashboards, from in-memory counters
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/stats")
+    public ResponseEntity<UserStatsDTO> getStats() {
+        return ResponseEntity.ok(userService.getStats());
+    }
+
     @GetMapping("/count/role/{role}")
     public ResponseEntity<Long> countByRole(@PathVariable String role) {
         return ResponseEntity.ok(userService.countByRole(role));
     }
 
+    // ADMIN ONLY: starts a chunked purge job; poll /api/users/purge-jobs/{id} for progress
+    @PreAuthorize("hasRole('ADMIN')")
     @DeleteMapping("/role/{role}")
-    public ResponseEntity<Void> deleteByRole(@PathVariable String role) {
-        userService.deleteByRole(role);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<UserPurgeJob> deleteByRole(@PathVariable String role) {
+        return accepted(userService.deleteByRole(role));
     }
 
     @GetMapping("/active/role/{role}")
-    public ResponseEntity<List<User>> findActiveUsersByRole(
+    public ResponseEntity<List<UserSummaryDTO>> findActiveUsersByRole(
             @PathVariable String role,
-            @RequestParam(defaultValue = "true") boolean enabled
+            @RequestParam(defaultValue = "true") boolean enabled,
+            PageQuery page
     ) {
-        return ResponseEntity.ok(userService.findActiveUsersByRole(role, enabled));
+        return PageResponses.ok(userService.findActiveUsersByRole(role, enabled, page));
     }
 
     @PutMapping("/roles/{oldRole}/update-to/{newRole}")
@@ -103,12 +182,46 @@ public class UserController {
         return ResponseEntity.ok(userService.updateRoleForAllUsersWithRole(oldRole, newRole));
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
     @DeleteMapping("/inactive/role/{role}")
-    public ResponseEntity<Integer> deleteInactiveUsersByRole(
+    public ResponseEntity<UserPurgeJob> deleteInactiveUsersByRole(
             @PathVariable String role,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate beforeDate
     ) {
-        return ResponseEntity.ok(userService.deleteInactiveUsersByRole(role, beforeDate));
+        return accepted(userService.deleteInactiveUsersByRole(role, beforeDate));
+    }
+
+    // -----------------------
+    // Purge jobs (ADMIN ONLY)
+    // -----------------------
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/purge-jobs")
+    public ResponseEntity<List<UserPurgeJob>> getPurgeJobs() {
+        return ResponseEntity.ok(userPurgeService.recentJobs());
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/purge-jobs/{id}")
+    public ResponseEntity<UserPurgeJob> getPurgeJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(userPurgeService.getJob(id));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/purge-jobs/{id}/resume")
+    public ResponseEntity<UserPurgeJob> resumePurgeJob(@PathVariable UUID id) {
+        return accepted(userPurgeService.resume(id));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/purge-jobs/{id}/cancel")
+    public ResponseEntity<UserPurgeJob> cancelPurgeJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(userPurgeService.cancel(id));
+    }
+
+    private static ResponseEntity<UserPurgeJob> accepted(UserPurgeJob job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/users/purge-jobs/" + job.getId()))
+                .body(job);
     }
 
     // -----------------------
@@ -119,7 +232,7 @@ public class UserController {
      * Existing: GET /api/users/email/{email}
      */
     @GetMapping("/email/{email}")
-    public ResponseEntity<User> getUserByEmail(@PathVariable String email) {
+    public ResponseEntity<UserSummaryDTO> getUserByEmail(@PathVariable String email) {
         return ResponseEntity.ok(userService.getUserByEmail(email));
     }
 
@@ -128,7 +241,7 @@ public class UserController {
      * This supports frontend usersApi.getByUsername("tourist")
      */
     @GetMapping("/username/{username}")
-    public ResponseEntity<User> getUserByUsername(@PathVariable String username) {
+    public ResponseEntity<UserSummaryDTO> getUserByUsername(@PathVariable String username) {
         return ResponseEntity.ok(userService.getUserByUsername(username));
     }
 
@@ -137,7 +250,7 @@ public class UserController {
      * Uses authenticated principal (JWT) and avoids hardcoding username/email in frontend.
      */
     @GetMapping("/me")
-    public ResponseEntity<User> getMe(Authentication authentication) {
+    public ResponseEntity<UserSummaryDTO> getMe(Authentication authentication) {
         String username = authentication.getName();
         return ResponseEntity.ok(userService.getUserByUsername(username));
     }
@@ -0,0 +1,25 @@
+package backend.backend.core.user.user_dto;
+
+import backend.backend.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStatsDTO {
+
+    private long total;
+    private long active;
+    private Map<Role, RoleCount> byRole;
+    private LocalDateTime reconciledAt;
+
+    public record RoleCount(long total, long active) {
+    }
+}
@@ -0,0 +1,38 @@
+package backend.backend.core.user.user_dto;
+
+import backend.backend.core.user.user_entity.User;
+import backend.backend.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Admin list view of a user, selected directly by JPQL (the entity, its password hash
+ * and its tourist profile are never loaded). Also what the single-user endpoints return.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryDTO {
+
+    private UUID id;
+    private String firstName;
+    private String lastName;
+    private String username;
+    private String email;
+    private Role role;
+    private boolean active;
+    private LocalDateTime createdAt;
+    private LocalDateTime lastLogin;
+
+    // For write responses, where the entity is already loaded
+    public static UserSummaryDTO of(User user) {
+        return new UserSummaryDTO(user.getId(), user.getFirstName(), user.getLastName(), user.getUsername(),
+                user.getEmail(), user.getRole(), user.isActive(), user.getCreatedAt(), user.getLastLogin());
+    }
+}
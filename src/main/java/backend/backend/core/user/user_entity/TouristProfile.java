@@ -13,6 +13,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "tourist_profiles")
+@NamedEntityGraph(name = TouristProfile.WITH_INTERESTS, attributeNodes = @NamedAttributeNode("interests"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,6 +26,9 @@ import java.util.UUID;
 })
 public class TouristProfile {
 
+    // Fetch plan for profile responses: interests in the same select instead of one query per profile
+    public static final String WITH_INTERESTS = "TouristProfile.withInterests";
+
     // =========================
     // Shared Primary Key with User (via @MapsId)
     // =========================
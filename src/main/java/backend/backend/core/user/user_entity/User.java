@@ -20,7 +20,17 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "users")
+@Table(
+        name = "users",
+        uniqueConstraints = {
+                @UniqueConstraint(name = User.UK_USERNAME, columnNames = "username"),
+                @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email")
+        },
+        indexes = {
+                @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_users_role_created_at_id", columnList = "role, created_at, id")
+        }
+)
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -30,6 +40,10 @@ import java.util.UUID;
 @AllArgsConstructor
 public class User implements UserDetails {
 
+    // Constraint names are matched by AuthService to report duplicate registrations
+    public static final String UK_USERNAME = "uk_users_username";
+    public static final String UK_EMAIL = "uk_users_email";
+
     // =========================
     // Primary Key
     // =========================
@@ -60,13 +74,13 @@ public class User implements UserDetails {
     // =========================
     @NotBlank(message = "Username is required")
     @Size(min = 4, max = 150)
-    @Column(nullable = false, unique = true, length = 150)
+    @Column(nullable = false, length = 150)
     private String username;
 
     @NotBlank(message = "Email is required")
     @Email(message = "Email must be valid")
     @Size(max = 200)
-    @Column(nullable = false, unique = true, length = 200)
+    @Column(nullable = false, length = 200)
     private String email;
 
     @NotBlank(message = "Password is required")
@@ -94,12 +108,6 @@ public class User implements UserDetails {
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private TouristProfile touristProfile;
 
-
-   /// =========================
-
-    @Column(name = "refresh_token", length = 1000)
-    private String refreshToken;
-
     // =========================
     // UserDetails Implementation
     // =========================
@@ -128,19 +136,6 @@ public class User implements UserDetails {
         return active;
     }
 
-    // =========================
-    // Getters and Setters
-    // =========================
-    public String getRefreshToken() {
-        return this.refreshToken;
-    }
-
-    public void setRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-    }
-
-
-
     // =========================
     // Auditing
     // =========================
@@ -0,0 +1,75 @@
+package backend.backend.core.user.user_entity;
+
+import backend.backend.enums.PurgeStatus;
+import backend.backend.enums.Role;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of a bulk user purge. Committed after every chunk, so a purge interrupted by
+ * a failure or a restart picks up where it stopped (the criteria simply match fewer users).
+ */
+@Entity
+@Table(name = "user_purge_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class UserPurgeJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(updatable = false, nullable = false)
+    private UUID id;
+
+    // =========================
+    // Criteria
+    // =========================
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private Role role;
+
+    // Null purges every user with the role; otherwise only users whose last login is older
+    @Column(name = "last_login_before")
+    private LocalDateTime lastLoginBefore;
+
+    @Column(name = "chunk_size", nullable = false)
+    private int chunkSize;
+
+    // =========================
+    // Progress
+    // =========================
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PurgeStatus status;
+
+    @Column(name = "users_deleted", nullable = false)
+    private long usersDeleted;
+
+    @Column(name = "bookings_deleted", nullable = false)
+    private long bookingsDeleted;
+
+    // Users kept because other records (business news) still reference them
+    @Column(name = "users_skipped", nullable = false)
+    private long usersSkipped;
+
+    @Column(nullable = false)
+    private int chunks;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
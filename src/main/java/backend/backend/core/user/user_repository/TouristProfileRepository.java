@@ -1,6 +1,7 @@
 package backend.backend.core.user.user_repository;
 
 import backend.backend.core.user.user_entity.TouristProfile;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,6 +22,13 @@ public interface TouristProfileRepository extends JpaRepository<TouristProfile,
 
     boolean existsByUser_Id(UUID userId);
 
+    @EntityGraph(TouristProfile.WITH_INTERESTS)
+    @Query("SELECT t FROM TouristProfile t")
+    List<TouristProfile> findAllWithInterests();
+
+    @EntityGraph(TouristProfile.WITH_INTERESTS)
+    Optional<TouristProfile> findWithInterestsById(UUID id);
+
     // =========================
     // Filtering
     // =========================
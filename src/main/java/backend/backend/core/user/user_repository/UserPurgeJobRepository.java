@@ -0,0 +1,17 @@
+package backend.backend.core.user.user_repository;
+
+import backend.backend.core.user.user_entity.UserPurgeJob;
+import backend.backend.enums.PurgeStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserPurgeJobRepository extends JpaRepository<UserPurgeJob, UUID> {
+
+    List<UserPurgeJob> findByStatus(PurgeStatus status);
+
+    List<UserPurgeJob> findTop20ByOrderByStartedAtDesc();
+}
@@ -1,5 +1,6 @@
 package backend.backend.core.user.user_repository;
 
+import backend.backend.core.user.user_dto.UserSummaryDTO;
 import backend.backend.core.user.user_entity.User;
 import backend.backend.enums.Role;  // Make sure to import your Role enum
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,24 +15,41 @@ import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
+    String SUMMARY_FIELDS =
+            "u.id, u.firstName, u.lastName, u.username, u.email, u.role, u.active, u.createdAt, u.lastLogin";
+
     // Existing methods
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
 
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.username = :username")
+    int updatePasswordByUsername(@Param("username") String username, @Param("password") String password);
 
+    @Query("SELECT u.username FROM User u WHERE u.active = false")
+    List<String> findInactiveUsernames();
 
+    @Query("SELECT new backend.backend.core.user.user_dto.UserSummaryDTO(" + SUMMARY_FIELDS + ") FROM User u " +
+            "WHERE u.id = :id")
+    Optional<UserSummaryDTO> findSummaryById(@Param("id") UUID id);
 
+    @Query("SELECT new backend.backend.core.user.user_dto.UserSummaryDTO(" + SUMMARY_FIELDS + ") FROM User u " +
+            "WHERE u.username = :username")
+    Optional<UserSummaryDTO> findSummaryByUsername(@Param("username") String username);
 
-
-
+    @Query("SELECT new backend.backend.core.user.user_dto.UserSummaryDTO(" + SUMMARY_FIELDS + ") FROM User u " +
+            "WHERE u.email = :email")
+    Optional<UserSummaryDTO> findSummaryByEmail(@Param("email") String email);
 
     // New role-based methods
     List<User> findByRole(Role role);
     boolean existsByIdAndRole(UUID id, Role role);
     long countByRole(Role role);
-    void deleteByRole(Role role);
+
+    @Query("SELECT u.role, u.active, COUNT(u) FROM User u GROUP BY u.role, u.active")
+    List<Object[]> countGroupedByRoleAndActive();
 
     // Advanced query methods
     @Query("SELECT u FROM User u WHERE u.role = :role AND u.active = :active")
@@ -43,11 +61,4 @@ public interface UserRepository extends JpaRepository<User, UUID> {
             @Param("oldRole") Role oldRole,
             @Param("newRole") Role newRole
     );
-
-    @Modifying
-    @Query("DELETE FROM User u WHERE u.role = :role AND u.lastLogin < :date")
-    int deleteInactiveUsersByRole(
-            @Param("role") Role role,
-            @Param("date") java.time.LocalDate date
-    );
 }
\ No newline at end of file
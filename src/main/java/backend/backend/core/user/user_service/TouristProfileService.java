@@ -26,7 +26,7 @@ public class TouristProfileService {
     // ADMIN only (controller will enforce)
     @Transactional(readOnly = true)
     public List<TouristProfileResponseDTO> getAllTouristProfiles() {
-        return touristProfileRepository.findAll()
+        return touristProfileRepository.findAllWithInterests()
                 .stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
@@ -35,7 +35,7 @@ public class TouristProfileService {
     // ADMIN only (controller will enforce)
     @Transactional(readOnly = true)
     public TouristProfileResponseDTO getTouristProfileById(UUID id) {
-        TouristProfile profile = touristProfileRepository.findById(id)
+        TouristProfile profile = touristProfileRepository.findWithInterestsById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Tourist profile not found"));
         return mapToResponse(profile);
     }
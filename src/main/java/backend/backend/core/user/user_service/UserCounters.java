@@ -0,0 +1,157 @@
+package backend.backend.core.user.user_service;
+
+import backend.backend.core.common.AfterCommit;
+import backend.backend.core.user.user_dto.UserStatsDTO;
+import backend.backend.core.user.user_repository.UserRepository;
+import backend.backend.enums.Role;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory user counts per role (total and active), kept up to date by the services that
+ * create, delete or change users. Changes are applied only once their transaction commits.
+ * A periodic GROUP BY query corrects any drift (e.g. rows changed outside the application).
+ *
+ * The correction is applied as a difference (counted minus what the counter held when the query
+ * started), so updates landing while the query runs are kept. A write that commits just before the
+ * query reads but reaches its after-commit hook only after the query started is counted twice;
+ * that off-by-a-few stays until the next reconciliation, which is accepted for dashboard stats.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCounters {
+
+    private final UserRepository userRepository;
+
+    private final Map<Role, AtomicLong> totals = newCounters();
+    private final Map<Role, AtomicLong> actives = newCounters();
+    private volatile LocalDateTime reconciledAt;
+
+    // =========================
+    // Updates (applied after commit)
+    // =========================
+
+    public void userAdded(Role role, boolean active) {
+        AfterCommit.run(() -> add(role, active, 1));
+    }
+
+    public void userRemoved(Role role, boolean active) {
+        AfterCommit.run(() -> add(role, active, -1));
+    }
+
+    public void usersRemoved(Role role, long total, long active) {
+        AfterCommit.run(() -> {
+            totals.get(role).addAndGet(-total);
+            actives.get(role).addAndGet(-active);
+        });
+    }
+
+    public void roleChanged(Role from, Role to, boolean active) {
+        if (from == to) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            add(from, active, -1);
+            add(to, active, 1);
+        });
+    }
+
+    public void activeChanged(Role role, boolean wasActive, boolean active) {
+        if (wasActive == active) {
+            return;
+        }
+        AfterCommit.run(() -> actives.get(role).addAndGet(active ? 1 : -1));
+    }
+
+    // Every user of a role moved to another role; the moved amount is only known exactly by the DB
+    public void roleRemapped() {
+        AfterCommit.run(this::reconcile);
+    }
+
+    // =========================
+    // Reads
+    // =========================
+
+    public long countByRole(Role role) {
+        return Math.max(0, totals.get(role).get());
+    }
+
+    public UserStatsDTO stats() {
+        Map<Role, UserStatsDTO.RoleCount> byRole = new EnumMap<>(Role.class);
+        long total = 0;
+        long active = 0;
+        for (Role role : Role.values()) {
+            long roleTotal = Math.max(0, totals.get(role).get());
+            long roleActive = Math.max(0, actives.get(role).get());
+            byRole.put(role, new UserStatsDTO.RoleCount(roleTotal, roleActive));
+            total += roleTotal;
+            active += roleActive;
+        }
+        return new UserStatsDTO(total, active, byRole, reconciledAt);
+    }
+
+    // =========================
+    // Reconciliation
+    // =========================
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${users.stats.reconcile-interval-ms:300000}",
+            fixedDelayString = "${users.stats.reconcile-interval-ms:300000}"
+    )
+    public synchronized void reconcile() {
+        Map<Role, Long> totalsBefore = snapshot(totals);
+        Map<Role, Long> activesBefore = snapshot(actives);
+        Map<Role, Long> freshTotals = new EnumMap<>(Role.class);
+        Map<Role, Long> freshActives = new EnumMap<>(Role.class);
+        for (Object[] row : userRepository.countGroupedByRoleAndActive()) {
+            Role role = (Role) row[0];
+            long count = ((Number) row[2]).longValue();
+            freshTotals.merge(role, count, Long::sum);
+            if (Boolean.TRUE.equals(row[1])) {
+                freshActives.merge(role, count, Long::sum);
+            }
+        }
+        for (Role role : Role.values()) {
+            totals.get(role).addAndGet(freshTotals.getOrDefault(role, 0L) - totalsBefore.get(role));
+            actives.get(role).addAndGet(freshActives.getOrDefault(role, 0L) - activesBefore.get(role));
+        }
+        reconciledAt = LocalDateTime.now();
+        log.debug("User counters reconciled: {}", freshTotals);
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private void add(Role role, boolean active, long delta) {
+        totals.get(role).addAndGet(delta);
+        if (active) {
+            actives.get(role).addAndGet(delta);
+        }
+    }
+
+    private static Map<Role, Long> snapshot(Map<Role, AtomicLong> counters) {
+        Map<Role, Long> values = new EnumMap<>(Role.class);
+        counters.forEach((role, counter) -> values.put(role, counter.get()));
+        return values;
+    }
+
+    private static Map<Role, AtomicLong> newCounters() {
+        Map<Role, AtomicLong> counters = new EnumMap<>(Role.class);
+        for (Role role : Role.values()) {
+            counters.put(role, new AtomicLong());
+        }
+        return counters;
+    }
+}
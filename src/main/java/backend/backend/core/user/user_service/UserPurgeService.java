@@ -0,0 +1,285 @@
+package backend.backend.core.user.user_service;
+
+import backend.backend.core.common.AfterCommit;
+import backend.backend.core.user.user_entity.UserPurgeJob;
+import backend.backend.core.user.user_repository.UserPurgeJobRepository;
+import backend.backend.enums.PurgeStatus;
+import backend.backend.enums.Role;
+import backend.backend.security.AccountStatusRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Bulk user deletion in bounded chunks.
+ *
+ * Each chunk is one short transaction: pick up to chunkSize matching users, delete their
+ * dependents with set-based statements (interests, bookings, tourist profile, refresh tokens),
+ * delete the users, and record progress on the job row. Locks are therefore held for one chunk
+ * only, and a failed or interrupted job resumes from the remaining matching users.
+ * Users still referenced as business news authors are skipped and counted.
+ */
+@Slf4j
+@Service
+public class UserPurgeService {
+
+    private static final String MATCHING_USERS = "FROM users u WHERE u.role = :role";
+    private static final String LAST_LOGIN_FILTER = " AND u.last_login < :before";
+    private static final String NEWS_AUTHOR = "EXISTS (SELECT 1 FROM business_news n WHERE n.created_by = u.id)";
+
+    // Dependents first, users last
+    private static final List<String> BOOKING_DELETES = List.of(
+            "DELETE FROM hotel_bookings WHERE tourist_profile_id IN (:ids)",
+            "DELETE FROM restaurant_reservations WHERE tourist_profile_id IN (:ids)",
+            "DELETE FROM theatre_bookings WHERE tourist_profile_id IN (:ids)"
+    );
+    private static final List<String> PROFILE_DELETES = List.of(
+            "DELETE FROM tourist_interests WHERE user_id IN (:ids)",
+            "DELETE FROM tourist_profiles WHERE user_id IN (:ids)",
+            "DELETE FROM refresh_tokens WHERE user_id IN (:ids)",
+            "DELETE FROM users WHERE id IN (:ids)"
+    );
+
+    private final UserPurgeJobRepository jobRepository;
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountStatusRegistry accountStatusRegistry;
+    private final UserCounters userCounters;
+    private final int chunkSize;
+    private final long pauseMs;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<UUID> scheduled = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> cancelRequested = ConcurrentHashMap.newKeySet();
+
+    public UserPurgeService(
+            UserPurgeJobRepository jobRepository,
+            NamedParameterJdbcTemplate jdbc,
+            TransactionTemplate transactionTemplate,
+            AccountStatusRegistry accountStatusRegistry,
+            UserCounters userCounters,
+            @Value("${users.purge.chunk-size:500}") int chunkSize,
+            @Value("${users.purge.pause-ms:50}") long pauseMs) {
+        this.jobRepository = jobRepository;
+        this.jdbc = jdbc;
+        this.transactionTemplate = transactionTemplate;
+        this.accountStatusRegistry = accountStatusRegistry;
+        this.userCounters = userCounters;
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+    }
+
+    private record Chunk(List<String> usernames, long bookings) {
+    }
+
+    // =========================
+    // Job control
+    // =========================
+
+    public UserPurgeJob start(Role role, LocalDateTime lastLoginBefore) {
+        // The same purge already running is returned instead of started twice
+        for (UserPurgeJob running : jobRepository.findByStatus(PurgeStatus.RUNNING)) {
+            if (running.getRole() == role && Objects.equals(running.getLastLoginBefore(), lastLoginBefore)) {
+                return running;
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        UserPurgeJob job = jobRepository.save(UserPurgeJob.builder()
+                .role(role)
+                .lastLoginBefore(lastLoginBefore)
+                .chunkSize(chunkSize)
+                .status(PurgeStatus.RUNNING)
+                .startedAt(now)
+                .updatedAt(now)
+                .build());
+        submit(job.getId());
+        log.info("User purge {} started for role {} (last login before {})", job.getId(), role, lastLoginBefore);
+        return job;
+    }
+
+    public UserPurgeJob resume(UUID id) {
+        UserPurgeJob job = getJob(id);
+        if (job.getStatus() == PurgeStatus.COMPLETED) {
+            return job;
+        }
+        job.setStatus(PurgeStatus.RUNNING);
+        job.setError(null);
+        job.setFinishedAt(null);
+        job.setUpdatedAt(LocalDateTime.now());
+        job = jobRepository.save(job);
+        submit(id);
+        return job;
+    }
+
+    public UserPurgeJob cancel(UUID id) {
+        UserPurgeJob job = getJob(id);
+        if (job.getStatus() == PurgeStatus.RUNNING) {
+            cancelRequested.add(id);
+            if (!scheduled.contains(id)) {
+                finish(id, PurgeStatus.CANCELLED, null);
+            }
+        }
+        return getJob(id);
+    }
+
+    public UserPurgeJob getJob(UUID id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Purge job not found"));
+    }
+
+    public List<UserPurgeJob> recentJobs() {
+        return jobRepository.findTop20ByOrderByStartedAtDesc();
+    }
+
+    // Jobs that were running when the application stopped carry on from where they were
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        for (UserPurgeJob job : jobRepository.findByStatus(PurgeStatus.RUNNING)) {
+            log.info("Resuming interrupted user purge {}", job.getId());
+            submit(job.getId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // =========================
+    // Execution
+    // =========================
+
+    private void submit(UUID id) {
+        if (scheduled.add(id)) {
+            executor.execute(() -> {
+                try {
+                    run(id);
+                } finally {
+                    scheduled.remove(id);
+                    cancelRequested.remove(id);
+                }
+            });
+        }
+    }
+
+    private void run(UUID id) {
+        try {
+            while (true) {
+                if (cancelRequested.contains(id) || Thread.currentThread().isInterrupted()) {
+                    finish(id, PurgeStatus.CANCELLED, null);
+                    return;
+                }
+
+                Chunk chunk = transactionTemplate.execute(status -> purgeChunk(id));
+                if (chunk == null || chunk.usernames().isEmpty()) {
+                    finish(id, PurgeStatus.COMPLETED, null);
+                    return;
+                }
+                if (pauseMs > 0) {
+                    Thread.sleep(pauseMs);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("User purge {} failed: {}", id, e.getMessage(), e);
+            finish(id, PurgeStatus.FAILED, e.getMessage());
+        }
+    }
+
+    private Chunk purgeChunk(UUID id) {
+        UserPurgeJob job = getJob(id);
+        MapSqlParameterSource criteria = new MapSqlParameterSource()
+                .addValue("role", job.getRole().name())
+                .addValue("before", job.getLastLoginBefore())
+                .addValue("limit", job.getChunkSize());
+
+        List<UUID> ids = new ArrayList<>();
+        List<String> usernames = new ArrayList<>();
+        long[] active = {0};
+        String candidates = "SELECT u.id, u.username, u.active " + matching(job) + " AND NOT " + NEWS_AUTHOR
+                + " ORDER BY u.id LIMIT :limit";
+        jdbc.query(candidates, criteria, rs -> {
+            ids.add(rs.getObject("id", UUID.class));
+            usernames.add(rs.getString("username"));
+            if (rs.getBoolean("active")) {
+                active[0]++;
+            }
+        });
+        if (ids.isEmpty()) {
+            return new Chunk(usernames, 0);
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        long bookings = 0;
+        for (String sql : BOOKING_DELETES) {
+            bookings += jdbc.update(sql, params);
+        }
+        for (String sql : PROFILE_DELETES) {
+            jdbc.update(sql, params);
+        }
+
+        userCounters.usersRemoved(job.getRole(), ids.size(), active[0]);
+        // Live access tokens of the deleted users stop working once the chunk commits
+        AfterCommit.run(() -> usernames.forEach(accountStatusRegistry::markDeleted));
+
+        job.setUsersDeleted(job.getUsersDeleted() + ids.size());
+        job.setBookingsDeleted(job.getBookingsDeleted() + bookings);
+        job.setChunks(job.getChunks() + 1);
+        job.setUpdatedAt(LocalDateTime.now());
+        jobRepository.save(job);
+
+        log.debug("User purge {}: chunk {} deleted {} users", id, job.getChunks(), ids.size());
+        return new Chunk(usernames, bookings);
+    }
+
+    private void finish(UUID id, PurgeStatus status, String error) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            UserPurgeJob job = getJob(id);
+            if (status == PurgeStatus.COMPLETED) {
+                String countSkipped = "SELECT COUNT(*) " + matching(job) + " AND " + NEWS_AUTHOR;
+                Long skipped = jdbc.queryForObject(countSkipped, new MapSqlParameterSource()
+                        .addValue("role", job.getRole().name())
+                        .addValue("before", job.getLastLoginBefore()), Long.class);
+                job.setUsersSkipped(skipped != null ? skipped : 0);
+            }
+            job.setStatus(status);
+            job.setError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+            job.setUpdatedAt(LocalDateTime.now());
+            job.setFinishedAt(LocalDateTime.now());
+            jobRepository.save(job);
+            log.info("User purge {} {}: {} users, {} bookings deleted", id, status, job.getUsersDeleted(),
+                    job.getBookingsDeleted());
+        });
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private static String matching(UserPurgeJob job) {
+        return job.getLastLoginBefore() != null ? MATCHING_USERS + LAST_LOGIN_FILTER : MATCHING_USERS;
+    }
+}
@@ -1,53 +1,161 @@
 package backend.backend.core.user.user_service;
 
+import backend.backend.auth.token.RefreshTokenService;
+import backend.backend.core.common.AfterCommit;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.Projection;
+import backend.backend.core.user.user_dto.UserStatsDTO;
+import backend.backend.core.user.user_dto.UserSummaryDTO;
 import backend.backend.core.user.user_entity.User;
+import backend.backend.core.user.user_entity.UserPurgeJob;
 import backend.backend.core.user.user_repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 import backend.backend.enums.Role;
+import backend.backend.security.AccountStatusRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
+    // Keyset order of the admin list and the export
+    private static final KeysetSort<UserSummaryDTO> BY_CREATED_AT =
+            KeysetSort.asc("createdAt", UserSummaryDTO::getCreatedAt, UserSummaryDTO::getId);
+
+    // The list view; the password hash and the tourist profile are never loaded
+    private static final Projection<User, UserSummaryDTO> SUMMARY = Projection.of(User.class, UserSummaryDTO.class,
+            root -> List.of(root.get("id"), root.get("firstName"), root.get("lastName"), root.get("username"),
+                    root.get("email"), root.get("role"), root.get("active"), root.get("createdAt"),
+                    root.get("lastLogin")));
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AccountStatusRegistry accountStatusRegistry;
+    private final RefreshTokenService refreshTokenService;
+    private final UserPurgeService userPurgeService;
+    private final UserCounters userCounters;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // =========================
+    // Admin listing (keyset pages of projections)
+    // =========================
 
     @Transactional(readOnly = true)
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public CursorPage<UserSummaryDTO> listUsers(Role role, Boolean active, PageQuery page) {
+        return KeysetPager.page(entityManager, SUMMARY, BY_CREATED_AT, filter(role, active), page);
+    }
+
+    /**
+     * Writes every user matching the filters as one JSON object per line, one keyset batch at a time
+     */
+    public void exportUsers(Role role, Boolean active, int batchSize, SummaryWriter writer) throws IOException {
+        String cursor = null;
+        do {
+            CursorPage<UserSummaryDTO> batch = listUsers(role, active, new PageQuery(cursor, batchSize, false));
+            for (UserSummaryDTO user : batch.items()) {
+                writer.write(user);
+            }
+            cursor = batch.nextCursor();
+        } while (cursor != null);
+    }
+
+    @FunctionalInterface
+    public interface SummaryWriter {
+        void write(UserSummaryDTO user) throws IOException;
+    }
+
+    // Only the filters actually given end up in the WHERE clause, so each combination gets a plain
+    // range scan on (created_at, id) or (role, created_at, id) rather than one catch-all plan
+    private static Specification<User> filter(Role role, Boolean active) {
+        Specification<User> filter = Specification.where(null);
+        if (role != null) {
+            filter = filter.and(KeysetPager.equalTo("role", role));
+        }
+        if (active != null) {
+            filter = filter.and(KeysetPager.equalTo("active", active));
+        }
+        return filter;
     }
 
     @Transactional(readOnly = true)
-    public User getUserById(UUID id) {
-        return userRepository.findById(id)
+    public UserSummaryDTO getUserById(UUID id) {
+        return userRepository.findSummaryById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
     }
 
     @Transactional
-    public User updateUser(UUID id, User userDetails) {
+    public UserSummaryDTO updateUser(UUID id, User userDetails) {
         return userRepository.findById(id)
                 .map(user -> {
+                    String previousUsername = user.getUsername();
+                    if (!previousUsername.equals(userDetails.getUsername())) {
+                        AfterCommit.run(() -> accountStatusRegistry.markDeleted(previousUsername));
+                    }
                     user.setUsername(userDetails.getUsername());
                     user.setEmail(userDetails.getEmail());
                     if (userDetails.getPassword() != null && !userDetails.getPassword().isEmpty()) {
                         user.setPassword(passwordEncoder.encode(userDetails.getPassword()));
                     }
-                    return userRepository.save(user);
+                    return UserSummaryDTO.of(userRepository.save(user));
                 })
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
     }
 
     @Transactional
     public void deleteUser(UUID id) {
+        userRepository.findById(id)
+                .ifPresent(user -> {
+                    AfterCommit.run(() -> accountStatusRegistry.markDeleted(user.getUsername()));
+                    userCounters.userRemoved(user.getRole(), user.isActive());
+                });
         userRepository.deleteById(id);
     }
 
+    // Committed account status changes are pushed to the registry so live access tokens follow them
+    @Transactional
+    public UserSummaryDTO setActive(UUID id, boolean active) {
+        User user = findUser(id);
+        boolean wasActive = user.isActive();
+        user.setActive(active);
+        User saved = userRepository.save(user);
+        AfterCommit.run(() -> accountStatusRegistry.markActive(saved.getUsername(), active, saved.getRole()));
+        userCounters.activeChanged(saved.getRole(), wasActive, active);
+        if (!active) {
+            refreshTokenService.revokeAllForUser(saved.getId());
+        }
+        return UserSummaryDTO.of(saved);
+    }
+
+    @Transactional
+    public UserSummaryDTO changeRole(UUID id, String role) {
+        User user = findUser(id);
+        Role previous = user.getRole();
+        user.setRole(Role.valueOf(role.toUpperCase()));
+        User saved = userRepository.save(user);
+        AfterCommit.run(() -> accountStatusRegistry.markRoleChanged(saved.getUsername(), saved.getRole()));
+        userCounters.roleChanged(previous, saved.getRole(), saved.isActive());
+        return UserSummaryDTO.of(saved);
+    }
+
+    private User findUser(UUID id) {
+        return userRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+    }
+
 
 
 
@@ -56,8 +164,8 @@ public class UserService {
 
     // Role-based methods
     @Transactional(readOnly = true)
-    public List<User> getUsersByRole(String role) {
-        return userRepository.findByRole(Role.valueOf(role.toUpperCase()));
+    public CursorPage<UserSummaryDTO> getUsersByRole(String role, PageQuery page) {
+        return listUsers(Role.valueOf(role.toUpperCase()), null, page);
     }
 
     @Transactional(readOnly = true)
@@ -65,45 +173,50 @@ public class UserService {
         return userRepository.existsByIdAndRole(id, Role.valueOf(role.toUpperCase()));
     }
 
-    @Transactional(readOnly = true)
+    // Served from the in-memory counters, no COUNT(*) per call
     public long countByRole(String role) {
-        return userRepository.countByRole(Role.valueOf(role.toUpperCase()));
+        return userCounters.countByRole(Role.valueOf(role.toUpperCase()));
     }
 
-    @Transactional
-    public void deleteByRole(String role) {
-        userRepository.deleteByRole(Role.valueOf(role.toUpperCase()));
+    public UserStatsDTO getStats() {
+        return userCounters.stats();
+    }
+
+    // Bulk deletes run as chunked purge jobs (see UserPurgeService)
+    public UserPurgeJob deleteByRole(String role) {
+        return userPurgeService.start(Role.valueOf(role.toUpperCase()), null);
     }
 
     @Transactional(readOnly = true)
-    public List<User> findActiveUsersByRole(String role, boolean enabled) {
-        return userRepository.findActiveUsersByRole(Role.valueOf(role.toUpperCase()), enabled);
+    public CursorPage<UserSummaryDTO> findActiveUsersByRole(String role, boolean enabled, PageQuery page) {
+        return listUsers(Role.valueOf(role.toUpperCase()), enabled, page);
     }
 
     @Transactional
     public int updateRoleForAllUsersWithRole(String oldRole, String newRole) {
-        return userRepository.updateRoleForAllUsersWithRole(
-            Role.valueOf(oldRole.toUpperCase()),
-            Role.valueOf(newRole.toUpperCase())
-        );
+        Role from = Role.valueOf(oldRole.toUpperCase());
+        Role to = Role.valueOf(newRole.toUpperCase());
+        int updated = userRepository.updateRoleForAllUsersWithRole(from, to);
+        AfterCommit.run(() -> accountStatusRegistry.markRoleRemapped(from, to));
+        userCounters.roleRemapped();
+        return updated;
     }
 
-    @Transactional
-    public int deleteInactiveUsersByRole(String role, java.time.LocalDate date) {
-        return userRepository.deleteInactiveUsersByRole(Role.valueOf(role.toUpperCase()), date);
+    public UserPurgeJob deleteInactiveUsersByRole(String role, java.time.LocalDate date) {
+        return userPurgeService.start(Role.valueOf(role.toUpperCase()), date.atStartOfDay());
     }
 
     @Transactional(readOnly = true)
-    public User getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
+    public UserSummaryDTO getUserByEmail(String email) {
+        return userRepository.findSummaryByEmail(email)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with email: " + email));
     }
 
     // Helper
 
     @Transactional(readOnly = true)
-    public User getUserByUsername(String username) {
-        return userRepository.findByUsername(username)
+    public UserSummaryDTO getUserByUsername(String username) {
+        return userRepository.findSummaryByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
     }
 
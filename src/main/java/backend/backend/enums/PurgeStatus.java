@@ -0,0 +1,9 @@
+package backend.backend.enums;
+
+public enum PurgeStatus {
+
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
@@ -12,6 +12,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "companies")
+@NamedEntityGraph(name = Company.WITH_REFS, attributeNodes = @NamedAttributeNode("industry"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,6 +20,9 @@ import java.util.UUID;
 @ToString(exclude = "industry")
 public class Company {
 
+    // Fetch plan for writes that answer with a CompanyDTO (industry in the same select)
+    public static final String WITH_REFS = "Company.withRefs";
+
     // =========================
     // Primary Key
     // =========================
@@ -68,7 +72,7 @@ public class Company {
     @Column(length = 200)
     private String website;
 
-    // URL/path e.g. "/uploads/companies/<uuid>.jpg"
+    // URL/path e.g. "/uploads/companies/<sha-256>.png", as returned by POST /api/uploads/companies
     @Size(max = 500)
     @Column(name = "company_logo", length = 500)
     private String logoUrl;
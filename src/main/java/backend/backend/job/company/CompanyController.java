@@ -1,5 +1,9 @@
 package backend.backend.job.company;
 
+import backend.backend.core.cache.CatalogVersioned;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
+import backend.backend.core.sql.QueryBudget;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -10,7 +14,10 @@ import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
+// Pages: rows + count; create: industry lookup + insert
+@QueryBudget(3)
 @RestController
+@CatalogVersioned({"company", "industry"})
 @RequestMapping("/api/companies")
 @RequiredArgsConstructor
 public class CompanyController {
@@ -21,18 +28,18 @@ public class CompanyController {
     // VIEW (ALL AUTH USERS)
     // =========================
     @GetMapping
-    public ResponseEntity<List<Company>> getAll() {
-        return ResponseEntity.ok(companyService.getAllCompanies());
+    public ResponseEntity<List<CompanyDTO>> getAll(PageQuery page) {
+        return PageResponses.ok(companyService.getAllCompanies(page));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Company> getById(@PathVariable UUID id) {
+    public ResponseEntity<CompanyDTO> getById(@PathVariable UUID id) {
         return ResponseEntity.ok(companyService.getCompanyById(id));
     }
 
     @GetMapping("/industry/{industryId}")
-    public ResponseEntity<List<Company>> getByIndustry(@PathVariable UUID industryId) {
-        return ResponseEntity.ok(companyService.getCompaniesByIndustry(industryId));
+    public ResponseEntity<List<CompanyDTO>> getByIndustry(@PathVariable UUID industryId, PageQuery page) {
+        return PageResponses.ok(companyService.getCompaniesByIndustry(industryId, page));
     }
 
     // =========================
@@ -40,19 +47,19 @@ public class CompanyController {
     // =========================
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping
-    public ResponseEntity<Company> create(
+    public ResponseEntity<CompanyDTO> create(
             @RequestParam UUID industryId,
             @Valid @RequestBody Company company) {
 
-        Company created = companyService.createCompany(company, industryId);
+        CompanyDTO created = companyService.createCompany(company, industryId);
         return ResponseEntity
-                .created(URI.create("/api/companies/" + created.getId()))
+                .created(URI.create("/api/companies/" + created.id()))
                 .body(created);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/{id}")
-    public ResponseEntity<Company> update(
+    public ResponseEntity<CompanyDTO> update(
             @PathVariable UUID id,
             @Valid @RequestBody Company details) {
 
@@ -0,0 +1,45 @@
+package backend.backend.job.company;
+
+import backend.backend.core.common.EntityRef;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read view of a company; its industry is reduced to id and name.
+ * Selected directly by JPQL (see CompanyService.VIEW), so no entity is loaded to build it.
+ */
+public record CompanyDTO(
+        UUID id,
+        String name,
+        String contactNumber,
+        String email,
+        String sector,
+        String address,
+        String location,
+        String description,
+        String website,
+        String logoUrl,
+        Boolean active,
+        EntityRef industry,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    // Flat form used by the constructor expression
+    public CompanyDTO(UUID id, String name, String contactNumber, String email, String sector, String address,
+                      String location, String description, String website, String logoUrl, Boolean active,
+                      UUID industryId, String industryName, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, name, contactNumber, email, sector, address, location, description, website, logoUrl, active,
+                new EntityRef(industryId, industryName), createdAt, updatedAt);
+    }
+
+    // For write responses, built inside the transaction that saved the row
+    public static CompanyDTO of(Company company) {
+        return new CompanyDTO(company.getId(), company.getName(), company.getContactNumber(), company.getEmail(),
+                company.getSector(), company.getAddress(), company.getLocation(), company.getDescription(),
+                company.getWebsite(), company.getLogoUrl(), company.getActive(),
+                company.getIndustry().getId(), company.getIndustry().getName(),
+                company.getCreatedAt(), company.getUpdatedAt());
+    }
+}
@@ -1,15 +1,19 @@
 package backend.backend.job.company;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CompanyRepository extends JpaRepository<Company, UUID> {
-
-    List<Company> findByIndustry_Id(UUID industryId);
+public interface CompanyRepository extends JpaRepository<Company, UUID>, JpaSpecificationExecutor<Company> {
 
     List<Company> findByNameContainingIgnoreCase(String name);
+
+    @EntityGraph(Company.WITH_REFS)
+    Optional<Company> findWithRefsById(UUID id);
 }
@@ -1,70 +1,152 @@
 package backend.backend.job.company;
 
+import backend.backend.core.bulk.ExportSource;
+import backend.backend.core.bulk.ImportTarget;
+import backend.backend.core.cache.CatalogCaches;
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.Projection;
 import backend.backend.job.industry.Industry;
 import backend.backend.job.industry.IndustryRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Join;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-public class CompanyService {
+public class CompanyService implements ImportTarget<Company>, ExportSource<Company> {
+
+    private static final Catalog<Company> CATALOG = new Catalog<>("company", "/api/companies", Company.class);
+
+    // Keyset order for list/search pages
+    private static final KeysetSort<CompanyDTO> BY_NAME =
+            KeysetSort.asc("name", CompanyDTO::name, CompanyDTO::id);
+
+    // What every read returns: one statement joining the industry, no managed entities
+    private static final Projection<Company, CompanyDTO> VIEW = Projection.of(Company.class, CompanyDTO.class,
+            root -> {
+                Join<?, ?> industry = root.join("industry");
+                return List.of(root.get("id"), root.get("name"), root.get("contactNumber"), root.get("email"),
+                        root.get("sector"), root.get("address"), root.get("location"), root.get("description"),
+                        root.get("website"), root.get("logoUrl"), root.get("active"),
+                        industry.get("id"), industry.get("name"),
+                        root.get("createdAt"), root.get("updatedAt"));
+            });
 
     private final CompanyRepository companyRepository;
     private final IndustryRepository industryRepository;
 
+    // Rows are not cached (lazy associations); writes only bump the version behind the ETags
+    private final CatalogCaches catalogCaches;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     // =========================
     // READ
     // =========================
     @Transactional(readOnly = true)
-    public List<Company> getAllCompanies() {
-        return companyRepository.findAll();
+    public CursorPage<CompanyDTO> getAllCompanies(PageQuery page) {
+        return KeysetPager.page(entityManager, VIEW, BY_NAME, null, page);
     }
 
     @Transactional(readOnly = true)
-    public Company getCompanyById(UUID id) {
-        return companyRepository.findById(id)
+    public CompanyDTO getCompanyById(UUID id) {
+        return VIEW.findById(entityManager, id)
                 .orElseThrow(() -> new EntityNotFoundException("Company not found"));
     }
 
     @Transactional(readOnly = true)
-    public List<Company> getCompaniesByIndustry(UUID industryId) {
-        return companyRepository.findByIndustry_Id(industryId);
+    public CursorPage<CompanyDTO> getCompaniesByIndustry(UUID industryId, PageQuery page) {
+        return KeysetPager.page(entityManager, VIEW, BY_NAME,
+                KeysetPager.equalTo("industry.id", industryId), page);
     }
 
     // =========================
     // WRITE (ADMIN)
     // =========================
     @Transactional
-    public Company createCompany(Company company, UUID industryId) {
+    public CompanyDTO createCompany(Company company, UUID industryId) {
+        catalogCaches.forCatalog(CATALOG.type()).invalidateAfterCommit();
 
         Industry industry = industryRepository.findById(industryId)
                 .orElseThrow(() -> new EntityNotFoundException("Industry not found"));
 
         company.setIndustry(industry);
-        return companyRepository.save(company);
+        return CompanyDTO.of(companyRepository.save(company));
     }
 
     @Transactional
-    public Company updateCompany(UUID id, Company details) {
-        return companyRepository.findById(id)
+    public CompanyDTO updateCompany(UUID id, Company details) {
+        catalogCaches.forCatalog(CATALOG.type()).invalidateAfterCommit();
+        return companyRepository.findWithRefsById(id)
                 .map(company -> {
                     company.setName(details.getName());
                     company.setContactNumber(details.getContactNumber());
                     company.setEmail(details.getEmail());
                     company.setSector(details.getSector());
                     company.setAddress(details.getAddress());
-                    return companyRepository.save(company);
+                    return CompanyDTO.of(companyRepository.save(company));
                 })
                 .orElseThrow(() -> new EntityNotFoundException("Company not found"));
     }
 
     @Transactional
     public void deleteCompany(UUID id) {
+        catalogCaches.forCatalog(CATALOG.type()).invalidateAfterCommit();
         companyRepository.deleteById(id);
     }
+
+    // =========================
+    // BULK IMPORT (ADMIN)
+    // =========================
+    // Rows name their industry by id ("industry.id" column in CSV); one lookup resolves the whole chunk
+    @Override
+    public Consumer<Company> importPreparer(List<Company> rows) {
+        Set<UUID> ids = rows.stream()
+                .map(Company::getIndustry)
+                .filter(industry -> industry != null && industry.getId() != null)
+                .map(Industry::getId)
+                .collect(Collectors.toSet());
+        Map<UUID, Industry> industries = industryRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Industry::getId, Function.identity()));
+        return company -> {
+            if (company.getIndustry() == null || company.getIndustry().getId() == null) {
+                throw new IllegalArgumentException("industry.id: is required");
+            }
+            Industry industry = industries.get(company.getIndustry().getId());
+            if (industry == null) {
+                throw new EntityNotFoundException("Industry not found");
+            }
+            company.setIndustry(industry);
+        };
+    }
+
+    @Override
+    public void afterImport() {
+        catalogCaches.forCatalog(CATALOG.type()).invalidate();
+    }
+
+    // =========================
+    // CATALOG
+    // =========================
+    @Override
+    public Catalog<Company> catalog() {
+        return CATALOG;
+    }
 }
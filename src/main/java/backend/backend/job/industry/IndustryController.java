@@ -1,5 +1,8 @@
 package backend.backend.job.industry;
 
+import backend.backend.core.cache.CatalogVersioned;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.UUID;
 
 @RestController
+@CatalogVersioned("industry")
 @RequestMapping("/api/industries")
 @RequiredArgsConstructor
 public class IndustryController {
@@ -19,8 +23,8 @@ public class IndustryController {
 
     // ✅ VIEW — all authenticated users
     @GetMapping
-    public ResponseEntity<List<Industry>> getAll() {
-        return ResponseEntity.ok(industryService.getAllIndustries());
+    public ResponseEntity<List<Industry>> getAll(PageQuery page) {
+        return PageResponses.ok(industryService.getAllIndustries(page));
     }
 
     @GetMapping("/{id}")
@@ -1,13 +1,14 @@
 package backend.backend.job.industry;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface IndustryRepository extends JpaRepository<Industry, UUID> {
+public interface IndustryRepository extends JpaRepository<Industry, UUID>, JpaSpecificationExecutor<Industry> {
 
     Optional<Industry> findByNameIgnoreCase(String name);
 }
@@ -1,37 +1,56 @@
 package backend.backend.job.industry;
 
+import backend.backend.core.bulk.ExportSource;
+import backend.backend.core.cache.CatalogCache;
+import backend.backend.core.cache.CatalogCaches;
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-public class IndustryService {
+public class IndustryService implements ExportSource<Industry> {
+
+    private static final Catalog<Industry> CATALOG = new Catalog<>("industry", "/api/industries", Industry.class);
+
+    // Keyset order for list/search pages
+    private static final KeysetSort<Industry> BY_NAME =
+            KeysetSort.asc("name", Industry::getName, Industry::getId);
 
     private final IndustryRepository industryRepository;
+    private final CatalogCaches catalogCaches;
+
+    // Read-through cache for list pages and single rows, dropped on every write
+    private CatalogCache cache() {
+        return catalogCaches.forCatalog(CATALOG.type());
+    }
 
-    @Transactional(readOnly = true)
-    public List<Industry> getAllIndustries() {
-        return industryRepository.findAll();
+    public CursorPage<Industry> getAllIndustries(PageQuery page) {
+        return cache().get(page, () -> KeysetPager.page(industryRepository, BY_NAME, null, page));
     }
 
-    @Transactional(readOnly = true)
     public Industry getIndustryById(UUID id) {
-        return industryRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Industry not found"));
+        return cache().get(id, () -> industryRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Industry not found")));
     }
 
     @Transactional
     public Industry createIndustry(Industry industry) {
+        cache().invalidateAfterCommit();
         return industryRepository.save(industry);
     }
 
     @Transactional
     public Industry updateIndustry(UUID id, Industry details) {
+        cache().invalidateAfterCommit();
         return industryRepository.findById(id)
                 .map(industry -> {
                     industry.setName(details.getName());
@@ -43,6 +62,15 @@ public class IndustryService {
 
     @Transactional
     public void deleteIndustry(UUID id) {
+        cache().invalidateAfterCommit();
         industryRepository.deleteById(id);
     }
+
+    // =========================
+    // CATALOG
+    // =========================
+    @Override
+    public Catalog<Industry> catalog() {
+        return CATALOG;
+    }
 }
@@ -14,6 +14,10 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "job_listings")
+@NamedEntityGraph(name = JobListing.WITH_REFS, attributeNodes = {
+        @NamedAttributeNode("company"),
+        @NamedAttributeNode("industry")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -23,6 +27,9 @@ import java.util.UUID;
 @ToString(exclude = {"company", "industry"})
 public class JobListing {
 
+    // Fetch plan for writes that answer with a JobListingDTO (company and industry in the same select)
+    public static final String WITH_REFS = "JobListing.withRefs";
+
     // =========================
     // Primary Key
     // =========================
@@ -1,5 +1,9 @@
 package backend.backend.job.joblisting;
 
+import backend.backend.core.cache.CatalogVersioned;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
+import backend.backend.core.sql.QueryBudget;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -10,7 +14,10 @@ import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
+// Pages: rows + count; create: company and industry lookups + insert
+@QueryBudget(3)
 @RestController
+@CatalogVersioned({"job-listing", "company", "industry"})
 @RequestMapping("/api/job-listings")
 @RequiredArgsConstructor
 public class JobListingController {
@@ -21,28 +28,28 @@ public class JobListingController {
     // VIEW (ALL AUTH USERS)
     // =========================
     @GetMapping
-    public ResponseEntity<List<JobListing>> getAll() {
-        return ResponseEntity.ok(jobListingService.getAllJobListings());
+    public ResponseEntity<List<JobListingDTO>> getAll(PageQuery page) {
+        return PageResponses.ok(jobListingService.getAllJobListings(page));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<JobListing> getById(@PathVariable UUID id) {
+    public ResponseEntity<JobListingDTO> getById(@PathVariable UUID id) {
         return ResponseEntity.ok(jobListingService.getJobListingById(id));
     }
 
     @GetMapping("/company/{companyId}")
-    public ResponseEntity<List<JobListing>> getByCompany(@PathVariable UUID companyId) {
-        return ResponseEntity.ok(jobListingService.getJobListingsByCompany(companyId));
+    public ResponseEntity<List<JobListingDTO>> getByCompany(@PathVariable UUID companyId, PageQuery page) {
+        return PageResponses.ok(jobListingService.getJobListingsByCompany(companyId, page));
     }
 
     @GetMapping("/industry/{industryId}")
-    public ResponseEntity<List<JobListing>> getByIndustry(@PathVariable UUID industryId) {
-        return ResponseEntity.ok(jobListingService.getJobListingsByIndustry(industryId));
+    public ResponseEntity<List<JobListingDTO>> getByIndustry(@PathVariable UUID industryId, PageQuery page) {
+        return PageResponses.ok(jobListingService.getJobListingsByIndustry(industryId, page));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<JobListing>> search(@RequestParam String keyword) {
-        return ResponseEntity.ok(jobListingService.searchJobListings(keyword));
+    public ResponseEntity<List<JobListingDTO>> search(@RequestParam String keyword, PageQuery page) {
+        return PageResponses.ok(jobListingService.searchJobListings(keyword, page));
     }
 
     // =========================
@@ -50,21 +57,21 @@ public class JobListingController {
     // =========================
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping
-    public ResponseEntity<JobListing> create(
+    public ResponseEntity<JobListingDTO> create(
             @RequestParam UUID companyId,
             @RequestParam UUID industryId,
             @Valid @RequestBody JobListing jobListing) {
 
-        JobListing created = jobListingService.createJobListing(jobListing, companyId, industryId);
+        JobListingDTO created = jobListingService.createJobListing(jobListing, companyId, industryId);
 
         return ResponseEntity
-                .created(URI.create("/api/job-listings/" + created.getId()))
+                .created(URI.create("/api/job-listings/" + created.id()))
                 .body(created);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/{id}")
-    public ResponseEntity<JobListing> update(
+    public ResponseEntity<JobListingDTO> update(
             @PathVariable UUID id,
             @Valid @RequestBody JobListing details) {
 
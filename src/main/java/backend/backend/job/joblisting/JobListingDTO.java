@@ -0,0 +1,41 @@
+package backend.backend.job.joblisting;
+
+import backend.backend.core.common.EntityRef;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read view of a job listing; company and industry are reduced to id and name.
+ * Selected directly by JPQL (see JobListingService.VIEW), so no entity is loaded to build it.
+ */
+public record JobListingDTO(
+        UUID id,
+        String title,
+        String description,
+        BigDecimal salary,
+        String contactNumber,
+        String email,
+        EntityRef company,
+        EntityRef industry,
+        LocalDateTime postedAt
+) {
+
+    // Flat form used by the constructor expression
+    public JobListingDTO(UUID id, String title, String description, BigDecimal salary, String contactNumber,
+                         String email, UUID companyId, String companyName, UUID industryId, String industryName,
+                         LocalDateTime postedAt) {
+        this(id, title, description, salary, contactNumber, email,
+                new EntityRef(companyId, companyName), new EntityRef(industryId, industryName), postedAt);
+    }
+
+    // For write responses, built inside the transaction that saved the row
+    public static JobListingDTO of(JobListing job) {
+        return new JobListingDTO(job.getId(), job.getTitle(), job.getDescription(), job.getSalary(),
+                job.getContactNumber(), job.getEmail(),
+                job.getCompany().getId(), job.getCompany().getName(),
+                job.getIndustry().getId(), job.getIndustry().getName(),
+                job.getPostedAt());
+    }
+}
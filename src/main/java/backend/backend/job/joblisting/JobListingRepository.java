@@ -1,17 +1,16 @@
 package backend.backend.job.joblisting;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface JobListingRepository extends JpaRepository<JobListing, UUID> {
+public interface JobListingRepository extends JpaRepository<JobListing, UUID>, JpaSpecificationExecutor<JobListing> {
 
-    List<JobListing> findByCompany_Id(UUID companyId);
-
-    List<JobListing> findByIndustry_Id(UUID industryId);
-
-    List<JobListing> findByTitleContainingIgnoreCase(String keyword);
+    @EntityGraph(JobListing.WITH_REFS)
+    Optional<JobListing> findWithRefsById(UUID id);
 }
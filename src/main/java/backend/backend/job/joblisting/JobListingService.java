@@ -1,11 +1,28 @@
 package backend.backend.job.joblisting;
 
+import backend.backend.core.bulk.ExportSource;
+import backend.backend.core.cache.CatalogCaches;
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.Projection;
+import backend.backend.core.common.TrigramIndex;
+import backend.backend.core.search.CitySearchHit;
+import backend.backend.core.search.CitySearchSource;
 import backend.backend.job.company.Company;
 import backend.backend.job.company.CompanyRepository;
 import backend.backend.job.industry.Industry;
 import backend.backend.job.industry.IndustryRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Join;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,46 +31,76 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-public class JobListingService {
+public class JobListingService implements CitySearchSource, ExportSource<JobListing> {
+
+    private static final Catalog<JobListing> CATALOG = new Catalog<>("job-listing", "/api/job-listings", JobListing.class);
+
+    // Keyset order for list/search pages
+    private static final KeysetSort<JobListingDTO> BY_POSTED_AT =
+            KeysetSort.desc("postedAt", JobListingDTO::postedAt, JobListingDTO::id);
+
+    // What every read returns: one statement joining company and industry, no managed entities
+    private static final Projection<JobListing, JobListingDTO> VIEW = Projection.of(JobListing.class, JobListingDTO.class,
+            root -> {
+                Join<?, ?> company = root.join("company");
+                Join<?, ?> industry = root.join("industry");
+                return List.of(root.get("id"), root.get("title"), root.get("description"), root.get("salary"),
+                        root.get("contactNumber"), root.get("email"),
+                        company.get("id"), company.get("name"), industry.get("id"), industry.get("name"),
+                        root.get("postedAt"));
+            });
 
     private final JobListingRepository jobListingRepository;
     private final CompanyRepository companyRepository;
     private final IndustryRepository industryRepository;
 
+    // Rows are not cached (lazy associations); writes only bump the version behind the ETags
+    private final CatalogCaches catalogCaches;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Serves search over title without LIKE scans
+    private final TrigramIndex<JobListingDTO> searchIndex =
+            TrigramIndex.of(CATALOG.type(), BY_POSTED_AT, JobListingDTO::title);
+
     // =========================
     // READ
     // =========================
     @Transactional(readOnly = true)
-    public List<JobListing> getAllJobListings() {
-        return jobListingRepository.findAll();
+    public CursorPage<JobListingDTO> getAllJobListings(PageQuery page) {
+        return KeysetPager.page(entityManager, VIEW, BY_POSTED_AT, null, page);
     }
 
     @Transactional(readOnly = true)
-    public JobListing getJobListingById(UUID id) {
-        return jobListingRepository.findById(id)
+    public JobListingDTO getJobListingById(UUID id) {
+        return VIEW.findById(entityManager, id)
                 .orElseThrow(() -> new EntityNotFoundException("Job listing not found"));
     }
 
     @Transactional(readOnly = true)
-    public List<JobListing> getJobListingsByCompany(UUID companyId) {
-        return jobListingRepository.findByCompany_Id(companyId);
+    public CursorPage<JobListingDTO> getJobListingsByCompany(UUID companyId, PageQuery page) {
+        return KeysetPager.page(entityManager, VIEW, BY_POSTED_AT,
+                KeysetPager.equalTo("company.id", companyId), page);
     }
 
     @Transactional(readOnly = true)
-    public List<JobListing> getJobListingsByIndustry(UUID industryId) {
-        return jobListingRepository.findByIndustry_Id(industryId);
+    public CursorPage<JobListingDTO> getJobListingsByIndustry(UUID industryId, PageQuery page) {
+        return KeysetPager.page(entityManager, VIEW, BY_POSTED_AT,
+                KeysetPager.equalTo("industry.id", industryId), page);
     }
 
     @Transactional(readOnly = true)
-    public List<JobListing> searchJobListings(String keyword) {
-        return jobListingRepository.findByTitleContainingIgnoreCase(keyword);
+    public CursorPage<JobListingDTO> searchJobListings(String keyword, PageQuery page) {
+        return searchIndex.search(keyword, page, ids -> VIEW.findAllById(entityManager, ids));
     }
 
     // =========================
     // WRITE (ADMIN)
     // =========================
     @Transactional
-    public JobListing createJobListing(JobListing jobListing, UUID companyId, UUID industryId) {
+    public JobListingDTO createJobListing(JobListing jobListing, UUID companyId, UUID industryId) {
+        catalogCaches.forCatalog(CATALOG.type()).invalidateAfterCommit();
 
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new EntityNotFoundException("Company not found"));
@@ -64,23 +111,58 @@ public class JobListingService {
         jobListing.setCompany(company);
         jobListing.setIndustry(industry);
 
-        return jobListingRepository.save(jobListing);
+        return searchIndex.indexAfterCommit(JobListingDTO.of(jobListingRepository.save(jobListing)));
     }
 
     @Transactional
-    public JobListing updateJobListing(UUID id, JobListing details) {
-        return jobListingRepository.findById(id)
+    public JobListingDTO updateJobListing(UUID id, JobListing details) {
+        catalogCaches.forCatalog(CATALOG.type()).invalidateAfterCommit();
+        return jobListingRepository.findWithRefsById(id)
                 .map(job -> {
                     job.setTitle(details.getTitle());
                     job.setDescription(details.getDescription());
                     job.setSalary(details.getSalary());
-                    return jobListingRepository.save(job);
+                    return searchIndex.indexAfterCommit(JobListingDTO.of(jobListingRepository.save(job)));
                 })
                 .orElseThrow(() -> new EntityNotFoundException("Job listing not found"));
     }
 
     @Transactional
     public void deleteJobListing(UUID id) {
+        catalogCaches.forCatalog(CATALOG.type()).invalidateAfterCommit();
         jobListingRepository.deleteById(id);
+        searchIndex.removeAfterCommit(id);
+    }
+
+    // =========================
+    // CATALOG
+    // =========================
+    @Override
+    public Catalog<JobListing> catalog() {
+        return CATALOG;
+    }
+
+    // =========================
+    // CITY-WIDE SEARCH
+    // =========================
+    @Override
+    public List<TrigramIndex.Ranked<UUID>> rankCity(String query, int limit) {
+        return searchIndex.rank(query, limit);
+    }
+
+    @Override
+    public List<CitySearchHit> loadCity(List<TrigramIndex.Ranked<UUID>> ranked) {
+        return CitySearchHit.of(this, ranked, ids -> VIEW.findAllById(entityManager, ids),
+                JobListingDTO::id, JobListingDTO::title, job -> null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval-ms:900000}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:900000}"
+    )
+    @Transactional(readOnly = true)
+    public void rebuildSearchIndex() {
+        searchIndex.rebuild(() -> VIEW.findAll(entityManager, null));
     }
 }
@@ -0,0 +1,144 @@
+package backend.backend.security;
+
+import backend.backend.core.user.user_repository.UserRepository;
+import backend.backend.enums.Role;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory "account status epoch" table used by the stateless JWT filter.
+ *
+ * Access tokens carry the username and role, so the filter can build a principal without
+ * touching the database. This registry only remembers accounts whose status changed after
+ * tokens may have been issued (deactivation, deletion, role change), which lets those changes
+ * apply to live tokens immediately. Entries older than the access token lifetime are useless
+ * (every token they could affect has expired) and are pruned.
+ *
+ * Callers report changes once they are committed (see AfterCommit), so a rolled back change never
+ * locks an account out.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountStatusRegistry {
+
+    private final UserRepository userRepository;
+    private final JwtService jwtService;
+
+    private final Map<String, AccountStatus> users = new ConcurrentHashMap<>();
+    private final Map<Role, RoleRemap> roleRemaps = new ConcurrentHashMap<>();
+
+    // deleted: the username is gone and may be registered again, so only tokens issued before changedAt are refused
+    private record AccountStatus(boolean active, boolean deleted, Role role, Instant changedAt) {
+    }
+
+    private record RoleRemap(Role newRole, Instant changedAt) {
+    }
+
+    // Accounts deactivated before a restart must stay locked out for the tokens still in flight
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInactiveAccounts() {
+        Instant now = Instant.now();
+        userRepository.findInactiveUsernames()
+                .forEach(username -> users.put(username, new AccountStatus(false, false, null, now)));
+        log.info("Account status registry initialised with {} inactive accounts", users.size());
+    }
+
+    // =========================
+    // Status changes
+    // =========================
+
+    public void markActive(String username, boolean active, Role role) {
+        record(username, new AccountStatus(active, false, role, Instant.now()));
+    }
+
+    public void markRoleChanged(String username, Role role) {
+        record(username, new AccountStatus(true, false, role, Instant.now()));
+    }
+
+    // Also used for the old name of a renamed account: its tokens carry a username that no longer exists
+    public void markDeleted(String username) {
+        record(username, new AccountStatus(false, true, null, Instant.now()));
+    }
+
+    public void markRoleRemapped(Role oldRole, Role newRole) {
+        roleRemaps.put(oldRole, new RoleRemap(newRole, Instant.now()));
+        prune();
+    }
+
+    // =========================
+    // Lookup (hot path)
+    // =========================
+
+    /**
+     * Returns the role a token holder currently has, or null if the account must not be authenticated.
+     */
+    public String resolveRole(String username, String tokenRole, Instant issuedAt) {
+        Instant tokenTime = issuedAt != null ? issuedAt : Instant.EPOCH;
+        String role = tokenRole;
+        Instant since = tokenTime;
+
+        AccountStatus status = users.get(username);
+        if (status != null && status.deleted() && tokenTime.isAfter(status.changedAt())) {
+            status = null; // issued to whoever registered the username afterwards
+        }
+        if (status != null && !status.active()) {
+            return null;
+        }
+        if (status != null && !status.changedAt().isBefore(tokenTime)) {
+            if (status.role() != null) {
+                role = status.role().name();
+                since = status.changedAt();
+            }
+        }
+
+        Role current = parseRole(role);
+        if (current == null) {
+            return null;
+        }
+
+        RoleRemap remap = roleRemaps.get(current);
+        if (remap != null && since.isBefore(remap.changedAt())) {
+            return remap.newRole().name();
+        }
+        return role;
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private void record(String username, AccountStatus status) {
+        if (username == null) {
+            return;
+        }
+        users.put(username, status);
+        prune();
+    }
+
+    private void prune() {
+        Duration ttl = jwtService.getAccessTokenTtl();
+        Instant cutoff = Instant.now().minus(ttl);
+        users.values().removeIf(status -> status.changedAt().isBefore(cutoff));
+        roleRemaps.values().removeIf(remap -> remap.changedAt().isBefore(cutoff));
+    }
+
+    private static Role parseRole(String role) {
+        if (role == null) {
+            return null;
+        }
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
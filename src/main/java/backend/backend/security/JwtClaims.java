@@ -0,0 +1,30 @@
+package backend.backend.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * Immutable view of the claims of a token whose signature has already been verified.
+ * Built once per token by {@link JwtService#verify(String)} and shared through the verified-token cache.
+ */
+public record JwtClaims(
+        String subject,
+        String role,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
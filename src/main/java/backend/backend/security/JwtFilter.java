@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -31,6 +32,11 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final AccountStatusRegistry accountStatusRegistry;
+
+    // Stateless mode builds the principal from the token claims instead of loading the user row
+    @Value("${security.jwt.stateless:true}")
+    private boolean stateless;
 
     // Public endpoints that don't require JWT
     private static final List<String> PUBLIC_ENDPOINTS = Arrays.asList(
@@ -51,31 +57,38 @@ public class JwtFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtService.validateJwtToken(jwt)) {
-                String username = jwtService.getUsernameFromJwtToken(jwt);
-                logger.info("Authenticating user: {}", username);
-
-                if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    
-                    if (jwtService.isTokenValid(jwt, userDetails)) {
-                        String role = jwtService.extractRole(jwt);
-                        logger.info("User {} has role: {}", username, role);
-
-                        UsernamePasswordAuthenticationToken authentication = 
-                            new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                List.of(new SimpleGrantedAuthority("ROLE_" + role))
-                            );
-
-                        authentication.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(request)
+            // Signature and expiry are checked once; everything below reads the verified claims
+            JwtClaims claims = jwt != null ? jwtService.verify(jwt).orElse(null) : null;
+
+            if (claims != null && claims.subject() != null
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                String username = claims.subject();
+                logger.debug("Authenticating user: {}", username);
+
+                UserDetails userDetails;
+                String role;
+                if (stateless) {
+                    role = accountStatusRegistry.resolveRole(username, claims.role(), claims.issuedAt());
+                    userDetails = role != null ? principalFromClaims(username, role) : null;
+                } else {
+                    userDetails = userDetailsService.loadUserByUsername(username);
+                    role = claims.role();
+                }
+
+                if (userDetails != null && userDetails.isEnabled() && username.equals(userDetails.getUsername())) {
+                    UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null,
+                            List.of(new SimpleGrantedAuthority("ROLE_" + role))
                         );
 
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                        logger.info("User {} authenticated successfully with role: {}", username, role);
-                    }
+                    authentication.setDetails(
+                        new WebAuthenticationDetailsSource().buildDetails(request)
+                    );
+
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    logger.debug("User {} authenticated successfully with role: {}", username, role);
                 }
             }
         } catch (Exception e) {
@@ -86,6 +99,14 @@ public class JwtFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails principalFromClaims(String username, String role) {
+        return new org.springframework.security.core.userdetails.User(
+                username,
+                "",
+                List.of(new SimpleGrantedAuthority("ROLE_" + role))
+        );
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader(AUTH_HEADER);
         if (StringUtils.hasText(headerAuth) && headerAuth.startsWith(BEARER_PREFIX)) {
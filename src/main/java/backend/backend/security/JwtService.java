@@ -2,16 +2,22 @@ package backend.backend.security;
 
 import backend.backend.core.user.user_entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class JwtService {
@@ -25,6 +31,17 @@ public class JwtService {
     private final SecretKey secretKey =
             Keys.hmacShaKeyFor(SECRET_STRING.getBytes(StandardCharsets.UTF_8));
 
+    // Parsers are immutable and thread-safe: build it once instead of per call
+    private final JwtParser parser = Jwts.parserBuilder()
+            .setSigningKey(secretKey)
+            .build();
+
+    private final VerifiedTokenCache verifiedTokens;
+
+    public JwtService(@Value("${jwt.verified-cache.max-entries:10000}") int verifiedCacheMaxEntries) {
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheMaxEntries);
+    }
+
     /**
      * Generate access token (24h expiration)
      */
@@ -44,37 +61,52 @@ public class JwtService {
     public String generateRefreshToken(UserDetails userDetails) {
         return Jwts.builder()
                 .setSubject(userDetails.getUsername())
+                // Unique id so two devices logging in within the same second get distinct tokens
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION_MS))
                 .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    public Duration getAccessTokenTtl() {
+        return Duration.ofMillis(ACCESS_TOKEN_EXPIRATION_MS);
+    }
+
+    public Duration getRefreshTokenTtl() {
+        return Duration.ofMillis(REFRESH_TOKEN_EXPIRATION_MS);
+    }
+
+    /**
+     * Verify signature and expiry once and return the claims.
+     * Tokens seen before are answered from the verified-token cache without re-parsing.
+     */
+    public Optional<JwtClaims> verify(String token) {
+        try {
+            return Optional.of(parseClaims(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseClaims(token).subject();
     }
 
     public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
+        return parseClaims(token).role();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return verify(token)
+                .map(claims -> claims.subject().equals(userDetails.getUsername()))
+                .orElse(false);
     }
-    
+
     public boolean validateJwtToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token).isPresent();
     }
-    
+
     public String getUsernameFromJwtToken(String token) {
         return extractUsername(token);
     }
@@ -83,23 +115,19 @@ public class JwtService {
     // Helpers
     // =========================
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
+    private JwtClaims parseClaims(String token) {
+        Instant now = Instant.now();
+        String digest = VerifiedTokenCache.digest(token);
 
-    private <T> T extractClaim(String token, Function<Claims, T> resolver) {
-        return resolver.apply(extractAllClaims(token));
-    }
+        JwtClaims cached = verifiedTokens.get(digest, now);
+        if (cached != null) {
+            return cached;
+        }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        // Throws ExpiredJwtException for expired tokens, so only live tokens get cached
+        Claims body = parser.parseClaimsJws(token).getBody();
+        JwtClaims claims = JwtClaims.from(body);
+        verifiedTokens.put(digest, claims, now);
+        return claims;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package backend.backend.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/password-hashing")
+@RequiredArgsConstructor
+public class PasswordHashingController {
+
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    // ADMIN ONLY: hash latency and queue depth
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/stats")
+    public ResponseEntity<PasswordHashingExecutor.Stats> getStats() {
+        return ResponseEntity.ok(passwordHashingExecutor.stats());
+    }
+}
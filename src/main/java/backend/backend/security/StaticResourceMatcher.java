@@ -0,0 +1,145 @@
+package backend.backend.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiled matcher for static files and public documentation endpoints.
+ *
+ * Replaces a long list of ant patterns with two lookups: a file extension table and a
+ * prefix trie. Both run in time proportional to the path length, whatever the number of
+ * entries. API paths are never matched, so they always go through the security chain.
+ */
+public final class StaticResourceMatcher implements RequestMatcher {
+
+    private static final Set<String> DEFAULT_EXTENSIONS = Set.of(
+            "html", "css", "js", "map",
+            "png", "jpg", "jpeg", "gif", "svg", "ico", "webp",
+            "ttf", "woff", "woff2"
+    );
+
+    private static final Set<String> DEFAULT_EXACT_PATHS = Set.of(
+            "/",
+            "/swagger-ui.html",
+            "/v3/api-docs",
+            "/v3/api-docs.yaml"
+    );
+
+    private static final Set<String> DEFAULT_PREFIXES = Set.of(
+            "/assets/",
+            "/shared/",
+            "/services/",
+            "/modules/",
+            "/uploads/",
+            "/swagger-ui/",
+            "/swagger-resources/",
+            "/v3/api-docs/",
+            "/webjars/"
+    );
+
+    private static final String EXCLUDED_PREFIX = "/api/";
+
+    private final Set<String> extensions;
+    private final Set<String> exactPaths;
+    private final Node prefixes = new Node();
+    private final boolean readOnlyMethods;
+
+    /**
+     * @param readOnlyMethods when true only GET and HEAD requests can match
+     */
+    public StaticResourceMatcher(Set<String> extensions, Set<String> exactPaths, Set<String> prefixes,
+                                 boolean readOnlyMethods) {
+        this.extensions = Set.copyOf(extensions);
+        this.exactPaths = Set.copyOf(exactPaths);
+        this.readOnlyMethods = readOnlyMethods;
+        prefixes.forEach(this::addPrefix);
+    }
+
+    public static StaticResourceMatcher defaults(boolean readOnlyMethods) {
+        return new StaticResourceMatcher(DEFAULT_EXTENSIONS, DEFAULT_EXACT_PATHS, DEFAULT_PREFIXES, readOnlyMethods);
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        if (readOnlyMethods) {
+            String method = request.getMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                return false;
+            }
+        }
+        String path = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (contextPath != null && !contextPath.isEmpty() && path.startsWith(contextPath)) {
+            path = path.substring(contextPath.length());
+        }
+        return matchesPath(path);
+    }
+
+    public boolean matchesPath(String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return false;
+        }
+        // Anything unusual (encoded chars, parameters, traversal) goes through the full chain
+        if (path.indexOf('%') >= 0 || path.indexOf(';') >= 0 || path.contains("..") || path.contains("//")) {
+            return false;
+        }
+        if (path.startsWith(EXCLUDED_PREFIX)) {
+            return false;
+        }
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+        return hasStaticExtension(path) || hasPrefix(path) || hasAssetsSegment(path);
+    }
+
+    // =========================
+    // Lookups
+    // =========================
+
+    private boolean hasStaticExtension(String path) {
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        if (dot <= slash || dot == path.length() - 1) {
+            return false;
+        }
+        String ext = path.substring(dot + 1);
+        return extensions.contains(ext) || extensions.contains(ext.toLowerCase(Locale.ROOT));
+    }
+
+    private boolean hasPrefix(String path) {
+        Node node = prefixes;
+        for (int i = 0; i < path.length(); i++) {
+            node = node.children.get(path.charAt(i));
+            if (node == null) {
+                return false;
+            }
+            if (node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Covers the old "/**/assets/**" pattern
+    private static boolean hasAssetsSegment(String path) {
+        return path.contains("/assets/");
+    }
+
+    private void addPrefix(String prefix) {
+        Node node = prefixes;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Node());
+        }
+        node.terminal = true;
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private boolean terminal;
+    }
+}
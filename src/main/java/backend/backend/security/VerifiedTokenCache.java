@@ -0,0 +1,67 @@
+package backend.backend.security;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of already verified tokens.
+ * Keys are SHA-256 digests of the raw token so the cache never holds usable credentials,
+ * and entries are dropped as soon as the token they describe has expired.
+ */
+class VerifiedTokenCache {
+
+    private final int maxEntries;
+    private final Map<String, JwtClaims> entries = new ConcurrentHashMap<>();
+
+    VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    JwtClaims get(String digest, Instant now) {
+        JwtClaims claims = entries.get(digest);
+        if (claims != null && claims.isExpired(now)) {
+            entries.remove(digest, claims);
+            return null;
+        }
+        return claims;
+    }
+
+    void put(String digest, JwtClaims claims, Instant now) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+        entries.put(digest, claims);
+    }
+
+    void invalidate(String digest) {
+        entries.remove(digest);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // Expired entries go first; if the cache is still full, drop an arbitrary tenth of it.
+    private void evict(Instant now) {
+        entries.values().removeIf(claims -> claims.isExpired(now));
+        if (entries.size() < maxEntries) {
+            return;
+        }
+
+        int toDrop = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+        Iterator<String> it = entries.keySet().iterator();
+        while (toDrop-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    static String digest(String token) {
+        return TokenDigests.sha256(token);
+    }
+}
@@ -50,7 +50,7 @@ public class CoachingCenter {
     @Column(length = 500)
     private String description;
 
-    // URL/path e.g. "/uploads/coaching/<uuid>.jpg"
+    // URL/path e.g. "/uploads/coaching/<sha-256>.jpg", as returned by POST /api/uploads/coaching
     @Size(max = 500)
     @Column(name = "image_url", length = 500)
     private String imageUrl;
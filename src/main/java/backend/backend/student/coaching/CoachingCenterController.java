@@ -1,5 +1,8 @@
 package backend.backend.student.coaching;
 
+import backend.backend.core.cache.CatalogVersioned;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.UUID;
 
 @RestController
+@CatalogVersioned("coaching-center")
 @RequestMapping("/api/coaching-centers")
 @RequiredArgsConstructor
 public class CoachingCenterController {
@@ -21,8 +25,8 @@ public class CoachingCenterController {
     // VIEW (all authenticated users)
     // =========================
     @GetMapping
-    public ResponseEntity<List<CoachingCenter>> getAll() {
-        return ResponseEntity.ok(coachingCenterService.getAllCenters());
+    public ResponseEntity<List<CoachingCenter>> getAll(PageQuery page) {
+        return PageResponses.ok(coachingCenterService.getAllCenters(page));
     }
 
     @GetMapping("/{id}")
@@ -31,8 +35,8 @@ public class CoachingCenterController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<CoachingCenter>> search(@RequestParam String query) {
-        return ResponseEntity.ok(coachingCenterService.searchCenters(query));
+    public ResponseEntity<List<CoachingCenter>> search(@RequestParam String query, PageQuery page) {
+        return PageResponses.ok(coachingCenterService.searchCenters(query, page));
     }
 
     // =========================
@@ -1,7 +1,22 @@
 package backend.backend.student.coaching;
 
+import backend.backend.core.bulk.ExportSource;
+import backend.backend.core.bulk.ImportTarget;
+import backend.backend.core.cache.CatalogCache;
+import backend.backend.core.cache.CatalogCaches;
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.TrigramIndex;
+import backend.backend.core.search.CitySearchHit;
+import backend.backend.core.search.CitySearchSource;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,28 +25,44 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-public class CoachingCenterService {
+public class CoachingCenterService implements CitySearchSource, ImportTarget<CoachingCenter>, ExportSource<CoachingCenter> {
+
+    private static final Catalog<CoachingCenter> CATALOG = new Catalog<>("coaching-center", "/api/coaching-centers", CoachingCenter.class);
+
+    // Keyset order for list/search pages
+    private static final KeysetSort<CoachingCenter> BY_NAME =
+            KeysetSort.asc("name", CoachingCenter::getName, CoachingCenter::getId);
 
     private final CoachingCenterRepository coachingCenterRepository;
+    private final CatalogCaches catalogCaches;
 
-    @Transactional(readOnly = true)
-    public List<CoachingCenter> getAllCenters() {
-        return coachingCenterRepository.findAll();
+    // Serves search over name, address and specialization without LIKE scans
+    private final TrigramIndex<CoachingCenter> searchIndex =
+            TrigramIndex.of(CATALOG.type(), BY_NAME, CoachingCenter::getName, CoachingCenter::getAddress, CoachingCenter::getSpecialization);
+
+    // Read-through cache for list pages and single rows, dropped on every write
+    private CatalogCache cache() {
+        return catalogCaches.forCatalog(CATALOG.type());
+    }
+
+    public CursorPage<CoachingCenter> getAllCenters(PageQuery page) {
+        return cache().get(page, () -> KeysetPager.page(coachingCenterRepository, BY_NAME, null, page));
     }
 
-    @Transactional(readOnly = true)
     public CoachingCenter getCenterById(UUID id) {
-        return coachingCenterRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Coaching center not found"));
+        return cache().get(id, () -> coachingCenterRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Coaching center not found")));
     }
 
     @Transactional
     public CoachingCenter createCenter(CoachingCenter center) {
-        return coachingCenterRepository.save(center);
+        cache().invalidateAfterCommit();
+        return searchIndex.indexAfterCommit(coachingCenterRepository.save(center));
     }
 
     @Transactional
     public CoachingCenter updateCenter(UUID id, CoachingCenter details) {
+        cache().invalidateAfterCommit();
         return coachingCenterRepository.findById(id)
                 .map(c -> {
                     c.setName(details.getName());
@@ -41,21 +72,62 @@ public class CoachingCenterService {
                     c.setDescription(details.getDescription());
                     c.setOpenTime(details.getOpenTime());
                     c.setCloseTime(details.getCloseTime());
-                    return coachingCenterRepository.save(c);
+                    return searchIndex.indexAfterCommit(coachingCenterRepository.save(c));
                 })
                 .orElseThrow(() -> new EntityNotFoundException("Coaching center not found"));
     }
 
     @Transactional
     public void deleteCenter(UUID id) {
+        cache().invalidateAfterCommit();
         coachingCenterRepository.deleteById(id);
+        searchIndex.removeAfterCommit(id);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CoachingCenter> searchCenters(String query, PageQuery page) {
+        return searchIndex.search(query, page, coachingCenterRepository::findAllById);
+    }
+
+    // =========================
+    // BULK IMPORT
+    // =========================
+    @Override
+    @Transactional(readOnly = true)
+    public void afterImport() {
+        cache().invalidate();
+        rebuildSearchIndex();
+    }
+
+    // =========================
+    // CATALOG
+    // =========================
+    @Override
+    public Catalog<CoachingCenter> catalog() {
+        return CATALOG;
+    }
+
+    // =========================
+    // CITY-WIDE SEARCH
+    // =========================
+    @Override
+    public List<TrigramIndex.Ranked<UUID>> rankCity(String query, int limit) {
+        return searchIndex.rank(query, limit);
+    }
+
+    @Override
+    public List<CitySearchHit> loadCity(List<TrigramIndex.Ranked<UUID>> ranked) {
+        return CitySearchHit.of(this, ranked, coachingCenterRepository::findAllById,
+                CoachingCenter::getId, CoachingCenter::getName, CoachingCenter::getSpecialization);
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval-ms:900000}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:900000}"
+    )
     @Transactional(readOnly = true)
-    public List<CoachingCenter> searchCenters(String query) {
-        return coachingCenterRepository
-                .findByNameContainingIgnoreCaseOrAddressContainingIgnoreCaseOrSpecializationContainingIgnoreCase(
-                        query, query, query
-                );
+    public void rebuildSearchIndex() {
+        searchIndex.rebuild(coachingCenterRepository::findAll);
     }
 }
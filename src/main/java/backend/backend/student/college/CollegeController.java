@@ -1,5 +1,8 @@
 package backend.backend.student.college;
 
+import backend.backend.core.cache.CatalogVersioned;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.UUID;
 
 @RestController
+@CatalogVersioned("college")
 @RequestMapping("/api/colleges")
 @RequiredArgsConstructor
 public class CollegeController {
@@ -21,8 +25,8 @@ public class CollegeController {
     // VIEW (all authenticated users)
     // =========================
     @GetMapping
-    public ResponseEntity<List<College>> getAll() {
-        return ResponseEntity.ok(collegeService.getAllColleges());
+    public ResponseEntity<List<College>> getAll(PageQuery page) {
+        return PageResponses.ok(collegeService.getAllColleges(page));
     }
 
     @GetMapping("/{id}")
@@ -31,8 +35,8 @@ public class CollegeController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<College>> search(@RequestParam String query) {
-        return ResponseEntity.ok(collegeService.searchColleges(query));
+    public ResponseEntity<List<College>> search(@RequestParam String query, PageQuery page) {
+        return PageResponses.ok(collegeService.searchColleges(query, page));
     }
 
     // =========================
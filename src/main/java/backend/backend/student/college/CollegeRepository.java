@@ -2,15 +2,11 @@ package backend.backend.student.college;
 
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface CollegeRepository extends JpaRepository<College, UUID> {
-
-    List<College> findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase(
-            String name, String address
-    );
+public interface CollegeRepository extends JpaRepository<College, UUID>, JpaSpecificationExecutor<College> {
 }
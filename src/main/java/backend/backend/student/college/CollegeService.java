@@ -1,8 +1,28 @@
 package backend.backend.student.college;
 
 
+import backend.backend.core.bulk.ExportSource;
+import backend.backend.core.bulk.ImportTarget;
+import backend.backend.core.cache.CatalogCache;
+import backend.backend.core.cache.CatalogCaches;
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.Rebuild;
+import backend.backend.core.common.TrigramIndex;
+import backend.backend.core.hours.HoursSource;
+import backend.backend.core.hours.OpeningHours;
+import backend.backend.core.hours.OpeningHoursIndex;
+import backend.backend.core.hours.WeeklySchedule;
+import backend.backend.core.search.CitySearchHit;
+import backend.backend.core.search.CitySearchSource;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,28 +31,45 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-public class CollegeService {
+public class CollegeService implements CitySearchSource, HoursSource, ImportTarget<College>, ExportSource<College> {
+
+    private static final Catalog<College> CATALOG = new Catalog<>("college", "/api/colleges", College.class);
+
+    // Keyset order for list/search pages
+    private static final KeysetSort<College> BY_NAME =
+            KeysetSort.asc("name", College::getName, College::getId);
 
     private final CollegeRepository collegeRepository;
+    private final CatalogCaches catalogCaches;
+    private final OpeningHoursIndex hoursIndex;
 
-    @Transactional(readOnly = true)
-    public List<College> getAllColleges() {
-        return collegeRepository.findAll();
+    // Serves search over name and address without LIKE scans
+    private final TrigramIndex<College> searchIndex =
+            TrigramIndex.of(CATALOG.type(), BY_NAME, College::getName, College::getAddress);
+
+    // Read-through cache for list pages and single rows, dropped on every write
+    private CatalogCache cache() {
+        return catalogCaches.forCatalog(CATALOG.type());
+    }
+
+    public CursorPage<College> getAllColleges(PageQuery page) {
+        return cache().get(page, () -> KeysetPager.page(collegeRepository, BY_NAME, null, page));
     }
 
-    @Transactional(readOnly = true)
     public College getCollegeById(UUID id) {
-        return collegeRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("College not found"));
+        return cache().get(id, () -> collegeRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("College not found")));
     }
 
     @Transactional
     public College createCollege(College college) {
-        return collegeRepository.save(college);
+        cache().invalidateAfterCommit();
+        return indexAfterCommit(collegeRepository.save(college));
     }
 
     @Transactional
     public College updateCollege(UUID id, College details) {
+        cache().invalidateAfterCommit();
         return collegeRepository.findById(id)
                 .map(college -> {
                     college.setName(details.getName());
@@ -41,19 +78,80 @@ public class CollegeService {
                     college.setDescription(details.getDescription());
                     college.setOpenTime(details.getOpenTime());
                     college.setCloseTime(details.getCloseTime());
-                    return collegeRepository.save(college);
+                    return indexAfterCommit(collegeRepository.save(college));
                 })
                 .orElseThrow(() -> new EntityNotFoundException("College not found"));
     }
 
     @Transactional
     public void deleteCollege(UUID id) {
+        cache().invalidateAfterCommit();
         collegeRepository.deleteById(id);
+        searchIndex.removeAfterCommit(id);
+        hoursIndex.removeAfterCommit(CATALOG.type(), id);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<College> searchColleges(String query, PageQuery page) {
+        return searchIndex.search(query, page, collegeRepository::findAllById);
     }
 
+    // =========================
+    // BULK IMPORT
+    // =========================
+    @Override
     @Transactional(readOnly = true)
-    public List<College> searchColleges(String query) {
-        return collegeRepository
-                .findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase(query, query);
+    public void afterImport() {
+        cache().invalidate();
+        rebuildIndexes();
+    }
+
+    // =========================
+    // CATALOG
+    // =========================
+    @Override
+    public Catalog<College> catalog() {
+        return CATALOG;
+    }
+
+    // =========================
+    // CITY-WIDE SEARCH
+    // =========================
+    @Override
+    public List<TrigramIndex.Ranked<UUID>> rankCity(String query, int limit) {
+        return searchIndex.rank(query, limit);
+    }
+
+    @Override
+    public List<CitySearchHit> loadCity(List<TrigramIndex.Ranked<UUID>> ranked) {
+        return CitySearchHit.of(this, ranked, collegeRepository::findAllById,
+                College::getId, College::getName, College::getAddress);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval-ms:900000}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:900000}"
+    )
+    @Transactional(readOnly = true)
+    public void rebuildIndexes() {
+        Rebuild.run(collegeRepository::findAll,
+                searchIndex.beginRebuild(),
+                hoursIndex.beginRebuild(CATALOG.type(), CollegeService::toOpeningHours));
+    }
+
+    // Keeps the search and opening hours indexes in step with committed writes
+    private College indexAfterCommit(College college) {
+        hoursIndex.putAfterCommit(CATALOG.type(), college.getId(), toOpeningHours(college));
+        return searchIndex.indexAfterCommit(college);
+    }
+
+    // =========================
+    // OPEN NOW
+    // =========================
+    // Same hours every day; rows missing either time have no schedule
+    private static OpeningHours toOpeningHours(College college) {
+        WeeklySchedule schedule = WeeklySchedule.daily(college.getOpenTime(), college.getCloseTime());
+        return schedule == null ? null : new OpeningHours(CATALOG.type(), college.getId(), college.getName(), schedule);
     }
 }
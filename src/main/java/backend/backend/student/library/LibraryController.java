@@ -1,5 +1,8 @@
 package backend.backend.student.library;
 
+import backend.backend.core.cache.CatalogVersioned;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.UUID;
 
 @RestController
+@CatalogVersioned("library")
 @RequestMapping("/api/libraries")
 @RequiredArgsConstructor
 public class LibraryController {
@@ -21,8 +25,8 @@ public class LibraryController {
     // VIEW (all authenticated users)
     // =========================
     @GetMapping
-    public ResponseEntity<List<Library>> getAll() {
-        return ResponseEntity.ok(libraryService.getAllLibraries());
+    public ResponseEntity<List<Library>> getAll(PageQuery page) {
+        return PageResponses.ok(libraryService.getAllLibraries(page));
     }
 
     @GetMapping("/{id}")
@@ -31,8 +35,8 @@ public class LibraryController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<Library>> search(@RequestParam String query) {
-        return ResponseEntity.ok(libraryService.searchLibraries(query));
+    public ResponseEntity<List<Library>> search(@RequestParam String query, PageQuery page) {
+        return PageResponses.ok(libraryService.searchLibraries(query, page));
     }
 
     // =========================
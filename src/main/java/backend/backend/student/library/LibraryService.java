@@ -1,7 +1,27 @@
 package backend.backend.student.library;
 
+import backend.backend.core.bulk.ExportSource;
+import backend.backend.core.bulk.ImportTarget;
+import backend.backend.core.cache.CatalogCache;
+import backend.backend.core.cache.CatalogCaches;
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.Rebuild;
+import backend.backend.core.common.TrigramIndex;
+import backend.backend.core.hours.HoursSource;
+import backend.backend.core.hours.OpeningHours;
+import backend.backend.core.hours.OpeningHoursIndex;
+import backend.backend.core.hours.WeeklySchedule;
+import backend.backend.core.search.CitySearchHit;
+import backend.backend.core.search.CitySearchSource;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,28 +30,45 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-public class LibraryService {
+public class LibraryService implements CitySearchSource, HoursSource, ImportTarget<Library>, ExportSource<Library> {
+
+    private static final Catalog<Library> CATALOG = new Catalog<>("library", "/api/libraries", Library.class);
+
+    // Keyset order for list/search pages
+    private static final KeysetSort<Library> BY_NAME =
+            KeysetSort.asc("name", Library::getName, Library::getId);
 
     private final LibraryRepository libraryRepository;
+    private final CatalogCaches catalogCaches;
+    private final OpeningHoursIndex hoursIndex;
 
-    @Transactional(readOnly = true)
-    public List<Library> getAllLibraries() {
-        return libraryRepository.findAll();
+    // Serves search over name and address without LIKE scans
+    private final TrigramIndex<Library> searchIndex =
+            TrigramIndex.of(CATALOG.type(), BY_NAME, Library::getName, Library::getAddress);
+
+    // Read-through cache for list pages and single rows, dropped on every write
+    private CatalogCache cache() {
+        return catalogCaches.forCatalog(CATALOG.type());
+    }
+
+    public CursorPage<Library> getAllLibraries(PageQuery page) {
+        return cache().get(page, () -> KeysetPager.page(libraryRepository, BY_NAME, null, page));
     }
 
-    @Transactional(readOnly = true)
     public Library getLibraryById(UUID id) {
-        return libraryRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Library not found"));
+        return cache().get(id, () -> libraryRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Library not found")));
     }
 
     @Transactional
     public Library createLibrary(Library library) {
-        return libraryRepository.save(library);
+        cache().invalidateAfterCommit();
+        return indexAfterCommit(libraryRepository.save(library));
     }
 
     @Transactional
     public Library updateLibrary(UUID id, Library details) {
+        cache().invalidateAfterCommit();
         return libraryRepository.findById(id)
                 .map(lib -> {
                     lib.setName(details.getName());
@@ -40,19 +77,80 @@ public class LibraryService {
                     lib.setDescription(details.getDescription());
                     lib.setOpenTime(details.getOpenTime());
                     lib.setCloseTime(details.getCloseTime());
-                    return libraryRepository.save(lib);
+                    return indexAfterCommit(libraryRepository.save(lib));
                 })
                 .orElseThrow(() -> new EntityNotFoundException("Library not found"));
     }
 
     @Transactional
     public void deleteLibrary(UUID id) {
+        cache().invalidateAfterCommit();
         libraryRepository.deleteById(id);
+        searchIndex.removeAfterCommit(id);
+        hoursIndex.removeAfterCommit(CATALOG.type(), id);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Library> searchLibraries(String query, PageQuery page) {
+        return searchIndex.search(query, page, libraryRepository::findAllById);
     }
 
+    // =========================
+    // BULK IMPORT
+    // =========================
+    @Override
     @Transactional(readOnly = true)
-    public List<Library> searchLibraries(String query) {
-        return libraryRepository
-                .findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase(query, query);
+    public void afterImport() {
+        cache().invalidate();
+        rebuildIndexes();
+    }
+
+    // =========================
+    // CATALOG
+    // =========================
+    @Override
+    public Catalog<Library> catalog() {
+        return CATALOG;
+    }
+
+    // =========================
+    // CITY-WIDE SEARCH
+    // =========================
+    @Override
+    public List<TrigramIndex.Ranked<UUID>> rankCity(String query, int limit) {
+        return searchIndex.rank(query, limit);
+    }
+
+    @Override
+    public List<CitySearchHit> loadCity(List<TrigramIndex.Ranked<UUID>> ranked) {
+        return CitySearchHit.of(this, ranked, libraryRepository::findAllById,
+                Library::getId, Library::getName, Library::getAddress);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval-ms:900000}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:900000}"
+    )
+    @Transactional(readOnly = true)
+    public void rebuildIndexes() {
+        Rebuild.run(libraryRepository::findAll,
+                searchIndex.beginRebuild(),
+                hoursIndex.beginRebuild(CATALOG.type(), LibraryService::toOpeningHours));
+    }
+
+    // Keeps the search and opening hours indexes in step with committed writes
+    private Library indexAfterCommit(Library library) {
+        hoursIndex.putAfterCommit(CATALOG.type(), library.getId(), toOpeningHours(library));
+        return searchIndex.indexAfterCommit(library);
+    }
+
+    // =========================
+    // OPEN NOW
+    // =========================
+    // Same hours every day; rows missing either time have no schedule
+    private static OpeningHours toOpeningHours(Library library) {
+        WeeklySchedule schedule = WeeklySchedule.daily(library.getOpenTime(), library.getCloseTime());
+        return schedule == null ? null : new OpeningHours(CATALOG.type(), library.getId(), library.getName(), schedule);
     }
 }
@@ -1,5 +1,8 @@
 package backend.backend.student.university;
 
+import backend.backend.core.cache.CatalogVersioned;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.UUID;
 
 @RestController
+@CatalogVersioned("university")
 @RequestMapping("/api/universities")
 @RequiredArgsConstructor
 public class UniversityController {
@@ -19,8 +23,8 @@ public class UniversityController {
 
     // ✅ VIEW (all authenticated)
     @GetMapping
-    public ResponseEntity<List<University>> getAll() {
-        return ResponseEntity.ok(universityService.getAllUniversities());
+    public ResponseEntity<List<University>> getAll(PageQuery page) {
+        return PageResponses.ok(universityService.getAllUniversities(page));
     }
 
     // ✅ VIEW (all authenticated)
@@ -31,8 +35,8 @@ public class UniversityController {
 
     // ✅ VIEW (all authenticated)
     @GetMapping("/search")
-    public ResponseEntity<List<University>> search(@RequestParam String query) {
-        return ResponseEntity.ok(universityService.search(query));
+    public ResponseEntity<List<University>> search(@RequestParam String query, PageQuery page) {
+        return PageResponses.ok(universityService.search(query, page));
     }
 
     // ✅ ADMIN ONLY
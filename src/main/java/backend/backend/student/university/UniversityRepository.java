@@ -1,14 +1,11 @@
 package backend.backend.student.university;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface UniversityRepository extends JpaRepository<University, UUID> {
-
-    // Simple search (name or address)
-    List<University> findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase(String name, String address);
+public interface UniversityRepository extends JpaRepository<University, UUID>, JpaSpecificationExecutor<University> {
 }
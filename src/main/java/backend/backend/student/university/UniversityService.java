@@ -1,7 +1,28 @@
 package backend.backend.student.university;
 
+import backend.backend.core.bulk.ExportSource;
+import backend.backend.core.bulk.ImportTarget;
+import backend.backend.core.cache.CatalogCache;
+import backend.backend.core.cache.CatalogCaches;
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.Rebuild;
+import backend.backend.core.common.TrigramIndex;
+import backend.backend.core.hours.HoursSource;
+import backend.backend.core.hours.OpeningHours;
+import backend.backend.core.hours.OpeningHoursIndex;
+import backend.backend.core.hours.WeeklySchedule;
+import backend.backend.core.search.CitySearchHit;
+import backend.backend.core.search.CitySearchSource;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,28 +31,54 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-public class UniversityService {
+public class UniversityService implements CitySearchSource, HoursSource, ImportTarget<University>, ExportSource<University> {
+
+    private static final Catalog<University> CATALOG = new Catalog<>("university", "/api/universities", University.class);
+
+    // Keyset order for list/search pages
+    private static final KeysetSort<University> BY_NAME =
+            KeysetSort.asc("name", University::getName, University::getId);
 
     private final UniversityRepository universityRepository;
+    private final CatalogCaches catalogCaches;
+    private final OpeningHoursIndex hoursIndex;
 
-    @Transactional(readOnly = true)
-    public List<University> getAllUniversities() {
-        return universityRepository.findAll();
+    // Serves search over name and address without LIKE scans
+    private final TrigramIndex<University> searchIndex =
+            TrigramIndex.of(CATALOG.type(), BY_NAME, University::getName, University::getAddress);
+
+    // Read-through cache for list pages and single rows, dropped on every write
+    private CatalogCache cache() {
+        return catalogCaches.forCatalog(CATALOG.type());
+    }
+
+    public CursorPage<University> getAllUniversities(PageQuery page) {
+        return cache().get(page, () -> {
+            CursorPage<University> result = KeysetPager.page(universityRepository, BY_NAME, null, page);
+            result.items().forEach(u -> Hibernate.initialize(u.getFaculties()));
+            return result;
+        });
     }
 
-    @Transactional(readOnly = true)
     public University getUniversityById(UUID id) {
-        return universityRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("University not found"));
+        return cache().get(id, () -> {
+            University university = universityRepository.findById(id)
+                    .orElseThrow(() -> new EntityNotFoundException("University not found"));
+            // Cached rows outlive the session: load faculties while it is still open
+            Hibernate.initialize(university.getFaculties());
+            return university;
+        });
     }
 
     @Transactional
     public University createUniversity(University university) {
-        return universityRepository.save(university);
+        cache().invalidateAfterCommit();
+        return indexAfterCommit(universityRepository.save(university));
     }
 
     @Transactional
     public University updateUniversity(UUID id, University details) {
+        cache().invalidateAfterCommit();
         return universityRepository.findById(id)
                 .map(u -> {
                     u.setName(details.getName());
@@ -41,21 +88,83 @@ public class UniversityService {
                     u.setCloseTime(details.getCloseTime());
                     u.setDescription(details.getDescription());
                     u.setFaculties(details.getFaculties());
-                    return universityRepository.save(u);
+                    return indexAfterCommit(universityRepository.save(u));
                 })
                 .orElseThrow(() -> new EntityNotFoundException("University not found"));
     }
 
     @Transactional
     public void deleteUniversity(UUID id) {
+        cache().invalidateAfterCommit();
         if (!universityRepository.existsById(id)) {
             throw new EntityNotFoundException("University not found");
         }
         universityRepository.deleteById(id);
+        searchIndex.removeAfterCommit(id);
+        hoursIndex.removeAfterCommit(CATALOG.type(), id);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<University> search(String query, PageQuery page) {
+        return searchIndex.search(query, page, universityRepository::findAllById);
     }
 
+    // =========================
+    // BULK IMPORT
+    // =========================
+    @Override
     @Transactional(readOnly = true)
-    public List<University> search(String query) {
-        return universityRepository.findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase(query, query);
+    public void afterImport() {
+        cache().invalidate();
+        rebuildIndexes();
+    }
+
+    // =========================
+    // CATALOG
+    // =========================
+    @Override
+    public Catalog<University> catalog() {
+        return CATALOG;
+    }
+
+    // =========================
+    // CITY-WIDE SEARCH
+    // =========================
+    @Override
+    public List<TrigramIndex.Ranked<UUID>> rankCity(String query, int limit) {
+        return searchIndex.rank(query, limit);
+    }
+
+    @Override
+    public List<CitySearchHit> loadCity(List<TrigramIndex.Ranked<UUID>> ranked) {
+        return CitySearchHit.of(this, ranked, universityRepository::findAllById,
+                University::getId, University::getName, University::getAddress);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval-ms:900000}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:900000}"
+    )
+    @Transactional(readOnly = true)
+    public void rebuildIndexes() {
+        Rebuild.run(universityRepository::findAll,
+                searchIndex.beginRebuild(),
+                hoursIndex.beginRebuild(CATALOG.type(), UniversityService::toOpeningHours));
+    }
+
+    // Keeps the search and opening hours indexes in step with committed writes
+    private University indexAfterCommit(University university) {
+        hoursIndex.putAfterCommit(CATALOG.type(), university.getId(), toOpeningHours(university));
+        return searchIndex.indexAfterCommit(university);
+    }
+
+    // =========================
+    // OPEN NOW
+    // =========================
+    // Same hours every day; rows missing either time have no schedule
+    private static OpeningHours toOpeningHours(University university) {
+        WeeklySchedule schedule = WeeklySchedule.daily(university.getOpenTime(), university.getCloseTime());
+        return schedule == null ? null : new OpeningHours(CATALOG.type(), university.getId(), university.getName(), schedule);
     }
 }
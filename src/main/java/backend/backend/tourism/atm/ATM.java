@@ -1,6 +1,8 @@
 package backend.backend.tourism.atm;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
@@ -43,6 +45,17 @@ public class ATM {
     @Column(nullable = false, length = 200)
     private String address;
 
+    // =========================
+    // Location (WGS84, optional)
+    // =========================
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
     @Size(max = 500)
     @Column(length = 500)
     private String description;
@@ -1,5 +1,8 @@
 package backend.backend.tourism.atm;
 
+import backend.backend.core.cache.CatalogVersioned;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.UUID;
 
 @RestController
+@CatalogVersioned("atm")
 @RequestMapping("/api/atms")
 @RequiredArgsConstructor
 public class ATMController {
@@ -19,8 +23,8 @@ public class ATMController {
 
     //  VIEW: tourists can view
     @GetMapping
-    public ResponseEntity<List<ATM>> getAllATMs() {
-        return ResponseEntity.ok(atmService.getAllATMs());
+    public ResponseEntity<List<ATM>> getAllATMs(PageQuery page) {
+        return PageResponses.ok(atmService.getAllATMs(page));
     }
 
     //  VIEW: tourists can view
@@ -31,8 +35,8 @@ public class ATMController {
 
     //  VIEW: tourists can view
     @GetMapping("/search")
-    public ResponseEntity<List<ATM>> searchATMs(@RequestParam String query) {
-        return ResponseEntity.ok(atmService.searchATMs(query));
+    public ResponseEntity<List<ATM>> searchATMs(@RequestParam String query, PageQuery page) {
+        return PageResponses.ok(atmService.searchATMs(query, page));
     }
 
     //  ADMIN ONLY: create
@@ -1,11 +1,8 @@
 package backend.backend.tourism.atm;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.List;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import java.util.UUID;
 
-public interface ATMRepository extends JpaRepository<ATM, UUID> {
-    List<ATM> findByNameContainingIgnoreCaseOrBankNameContainingIgnoreCaseOrAddressContainingIgnoreCase(
-            String nameQuery, String bankNameQuery, String addressQuery
-    );
-}
\ No newline at end of file
+public interface ATMRepository extends JpaRepository<ATM, UUID>, JpaSpecificationExecutor<ATM> {
+}
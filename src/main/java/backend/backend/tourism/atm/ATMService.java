@@ -1,7 +1,26 @@
 package backend.backend.tourism.atm;
 
+import backend.backend.core.bulk.ExportSource;
+import backend.backend.core.bulk.ImportTarget;
+import backend.backend.core.cache.CatalogCache;
+import backend.backend.core.cache.CatalogCaches;
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.Rebuild;
+import backend.backend.core.common.TrigramIndex;
+import backend.backend.core.geo.Place;
+import backend.backend.core.geo.PlaceIndex;
+import backend.backend.core.geo.PlaceSource;
+import backend.backend.core.search.CitySearchHit;
+import backend.backend.core.search.CitySearchSource;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,52 +29,135 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-public class ATMService {
+public class ATMService implements CitySearchSource, PlaceSource, ImportTarget<ATM>, ExportSource<ATM> {
+
+    private static final Catalog<ATM> CATALOG = new Catalog<>("atm", "/api/atms", ATM.class);
+
+    // Keyset order for list/search pages
+    private static final KeysetSort<ATM> BY_NAME =
+            KeysetSort.asc("name", ATM::getName, ATM::getId);
 
     private final ATMRepository atmRepository;
+    private final CatalogCaches catalogCaches;
+    private final PlaceIndex placeIndex;
 
-    @Transactional(readOnly = true)
-    public List<ATM> getAllATMs() {
-        return atmRepository.findAll();
+    // Serves search over name, bankName and address without LIKE scans
+    private final TrigramIndex<ATM> searchIndex =
+            TrigramIndex.of(CATALOG.type(), BY_NAME, ATM::getName, ATM::getBankName, ATM::getAddress);
+
+    // Read-through cache for list pages and single rows, dropped on every write
+    private CatalogCache cache() {
+        return catalogCaches.forCatalog(CATALOG.type());
+    }
+
+    public CursorPage<ATM> getAllATMs(PageQuery page) {
+        return cache().get(page, () -> KeysetPager.page(atmRepository, BY_NAME, null, page));
     }
 
-    @Transactional(readOnly = true)
     public ATM getATMById(UUID id) {
-        return atmRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("ATM not found"));
+        return cache().get(id, () -> atmRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("ATM not found")));
     }
 
     @Transactional
     public ATM createATM(ATM atm) {
-        return atmRepository.save(atm);
+        cache().invalidateAfterCommit();
+        return indexAfterCommit(atmRepository.save(atm));
     }
 
     @Transactional
     public ATM updateATM(UUID id, ATM details) {
+        cache().invalidateAfterCommit();
         return atmRepository.findById(id)
                 .map(atm -> {
                     // Basic information
                     atm.setName(details.getName());
                     atm.setBankName(details.getBankName());
                     atm.setAddress(details.getAddress());
+                    atm.setLatitude(details.getLatitude());
+                    atm.setLongitude(details.getLongitude());
                     atm.setDescription(details.getDescription());
                     
                     // Status
                     atm.setActive(details.isActive());
                     
-                    return atmRepository.save(atm);
+                    return indexAfterCommit(atmRepository.save(atm));
                 })
                 .orElseThrow(() -> new EntityNotFoundException("ATM not found"));
     }
 
     @Transactional
     public void deleteATM(UUID id) {
+        cache().invalidateAfterCommit();
         atmRepository.deleteById(id);
+        searchIndex.removeAfterCommit(id);
+        placeIndex.removeAfterCommit(CATALOG.type(), id);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ATM> searchATMs(String query, PageQuery page) {
+        return searchIndex.search(query, page, atmRepository::findAllById);
     }
 
+    // =========================
+    // BULK IMPORT
+    // =========================
+    @Override
     @Transactional(readOnly = true)
-    public List<ATM> searchATMs(String query) {
-        return atmRepository.findByNameContainingIgnoreCaseOrBankNameContainingIgnoreCaseOrAddressContainingIgnoreCase(
-                query, query, query);
+    public void afterImport() {
+        cache().invalidate();
+        rebuildIndexes();
+    }
+
+    // =========================
+    // CATALOG
+    // =========================
+    @Override
+    public Catalog<ATM> catalog() {
+        return CATALOG;
+    }
+
+    // =========================
+    // CITY-WIDE SEARCH
+    // =========================
+    @Override
+    public List<TrigramIndex.Ranked<UUID>> rankCity(String query, int limit) {
+        return searchIndex.rank(query, limit);
+    }
+
+    @Override
+    public List<CitySearchHit> loadCity(List<TrigramIndex.Ranked<UUID>> ranked) {
+        return CitySearchHit.of(this, ranked, atmRepository::findAllById,
+                ATM::getId, ATM::getName, ATM::getBankName);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval-ms:900000}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:900000}"
+    )
+    @Transactional(readOnly = true)
+    public void rebuildIndexes() {
+        Rebuild.run(atmRepository::findAll,
+                searchIndex.beginRebuild(),
+                placeIndex.beginRebuild(CATALOG.type(), ATMService::toPlace));
+    }
+
+    // Keeps the search and place indexes in step with committed writes
+    private ATM indexAfterCommit(ATM atm) {
+        placeIndex.putAfterCommit(CATALOG.type(), atm.getId(), toPlace(atm));
+        return searchIndex.indexAfterCommit(atm);
+    }
+
+    // =========================
+    // MAP / NEARBY
+    // =========================
+    // Rows without coordinates are not on the map
+    private static Place toPlace(ATM atm) {
+        if (atm.getLatitude() == null || atm.getLongitude() == null) {
+            return null;
+        }
+        return new Place(CATALOG.type(), atm.getId(), atm.getName(), atm.getAddress(),
+                atm.getLatitude(), atm.getLongitude(), atm.isActive());
     }
 }
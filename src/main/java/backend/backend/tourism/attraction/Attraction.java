@@ -1,6 +1,7 @@
 package backend.backend.tourism.attraction;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -50,6 +51,17 @@ public class Attraction {
     @Column(length = 200)  // Remove nullable = false
     private String address;
 
+    // =========================
+    // Location (WGS84, optional)
+    // =========================
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
     @Size(max = 20)
     @Column(name = "contact_number", length = 20)  // Remove nullable = false
     private String contactNumber;
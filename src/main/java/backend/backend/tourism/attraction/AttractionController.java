@@ -1,5 +1,8 @@
 package backend.backend.tourism.attraction;
 
+import backend.backend.core.cache.CatalogVersioned;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
 import backend.backend.tourism.attraction.Attraction;
 import backend.backend.tourism.attraction.AttractionService;
 import jakarta.validation.Valid;
@@ -16,6 +19,7 @@ import java.util.List;
 import java.util.UUID;
 
 @RestController
+@CatalogVersioned("attraction")
 @RequestMapping("/api/attractions")
 @RequiredArgsConstructor
 @Validated
@@ -25,8 +29,8 @@ public class AttractionController {
 
     //  VIEW (Tourist can view)
     @GetMapping
-    public ResponseEntity<List<Attraction>> getAll() {
-        return ResponseEntity.ok(attractionService.getAllAttractions());
+    public ResponseEntity<List<Attraction>> getAll(PageQuery page) {
+        return PageResponses.ok(attractionService.getAllAttractions(page));
     }
 
     //  VIEW (Tourist can view)
@@ -37,8 +41,11 @@ public class AttractionController {
 
     //  VIEW (Tourist can view)
     @GetMapping("/search")
-    public ResponseEntity<List<Attraction>> search(@RequestParam @NotBlank(message = "Search query cannot be empty") String query) {
-        return ResponseEntity.ok(attractionService.searchAttractions(query));
+    public ResponseEntity<List<Attraction>> search(
+            @RequestParam @NotBlank(message = "Search query cannot be empty") String query,
+            PageQuery page
+    ) {
+        return PageResponses.ok(attractionService.searchAttractions(query, page));
     }
 
     //  ADMIN only: create
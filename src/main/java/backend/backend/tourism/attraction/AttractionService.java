@@ -1,9 +1,28 @@
 package backend.backend.tourism.attraction;
 
+import backend.backend.core.bulk.ExportSource;
+import backend.backend.core.bulk.ImportTarget;
+import backend.backend.core.cache.CatalogCache;
+import backend.backend.core.cache.CatalogCaches;
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.Rebuild;
+import backend.backend.core.common.TrigramIndex;
+import backend.backend.core.geo.Place;
+import backend.backend.core.geo.PlaceIndex;
+import backend.backend.core.geo.PlaceSource;
+import backend.backend.core.search.CitySearchHit;
+import backend.backend.core.search.CitySearchSource;
 import backend.backend.tourism.attraction.Attraction;
 import backend.backend.tourism.attraction.AttractionRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,28 +31,45 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-public class AttractionService {
+public class AttractionService implements CitySearchSource, PlaceSource, ImportTarget<Attraction>, ExportSource<Attraction> {
+
+    private static final Catalog<Attraction> CATALOG = new Catalog<>("attraction", "/api/attractions", Attraction.class);
+
+    // Keyset order for list/search pages
+    private static final KeysetSort<Attraction> BY_NAME =
+            KeysetSort.asc("name", Attraction::getName, Attraction::getId);
 
     private final AttractionRepository attractionRepository;
+    private final CatalogCaches catalogCaches;
+    private final PlaceIndex placeIndex;
 
-    @Transactional(readOnly = true)
-    public List<Attraction> getAllAttractions() {
-        return attractionRepository.findAll();
+    // Serves search over name and category without LIKE scans
+    private final TrigramIndex<Attraction> searchIndex =
+            TrigramIndex.of(CATALOG.type(), BY_NAME, Attraction::getName, Attraction::getCategory);
+
+    // Read-through cache for list pages and single rows, dropped on every write
+    private CatalogCache cache() {
+        return catalogCaches.forCatalog(CATALOG.type());
+    }
+
+    public CursorPage<Attraction> getAllAttractions(PageQuery page) {
+        return cache().get(page, () -> KeysetPager.page(attractionRepository, BY_NAME, null, page));
     }
 
-    @Transactional(readOnly = true)
     public Attraction getAttractionById(UUID id) {
-        return attractionRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Attraction not found"));
+        return cache().get(id, () -> attractionRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Attraction not found")));
     }
 
     @Transactional
     public Attraction createAttraction(Attraction attraction) {
-        return attractionRepository.save(attraction);
+        cache().invalidateAfterCommit();
+        return indexAfterCommit(attractionRepository.save(attraction));
     }
 
     @Transactional
     public Attraction updateAttraction(UUID id, Attraction details) {
+        cache().invalidateAfterCommit();
         return attractionRepository.findById(id)
                 .map(attraction -> {
                     attraction.setName(details.getName());
@@ -41,20 +77,87 @@ public class AttractionService {
                     attraction.setDescription(details.getDescription());
                     attraction.setTicketPrice(details.getTicketPrice());
                     attraction.setAddress(details.getAddress());
+                    attraction.setLatitude(details.getLatitude());
+                    attraction.setLongitude(details.getLongitude());
                     attraction.setContactNumber(details.getContactNumber());
                     attraction.setImageUrl(details.getImageUrl());
-                    return attractionRepository.save(attraction);
+                    return indexAfterCommit(attractionRepository.save(attraction));
                 })
                 .orElseThrow(() -> new EntityNotFoundException("Attraction not found"));
     }
 
     @Transactional
     public void deleteAttraction(UUID id) {
+        cache().invalidateAfterCommit();
         attractionRepository.deleteById(id);
+        searchIndex.removeAfterCommit(id);
+        placeIndex.removeAfterCommit(CATALOG.type(), id);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Attraction> searchAttractions(String query, PageQuery page) {
+        return searchIndex.search(query, page, attractionRepository::findAllById);
     }
 
+    // =========================
+    // BULK IMPORT
+    // =========================
+    @Override
     @Transactional(readOnly = true)
-    public List<Attraction> searchAttractions(String query) {
-        return attractionRepository.findByNameContainingIgnoreCaseOrCategoryContainingIgnoreCase(query, query);
+    public void afterImport() {
+        cache().invalidate();
+        rebuildIndexes();
+    }
+
+    // =========================
+    // CATALOG
+    // =========================
+    @Override
+    public Catalog<Attraction> catalog() {
+        return CATALOG;
+    }
+
+    // =========================
+    // CITY-WIDE SEARCH
+    // =========================
+    @Override
+    public List<TrigramIndex.Ranked<UUID>> rankCity(String query, int limit) {
+        return searchIndex.rank(query, limit);
+    }
+
+    @Override
+    public List<CitySearchHit> loadCity(List<TrigramIndex.Ranked<UUID>> ranked) {
+        return CitySearchHit.of(this, ranked, attractionRepository::findAllById,
+                Attraction::getId, Attraction::getName, Attraction::getCategory);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval-ms:900000}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:900000}"
+    )
+    @Transactional(readOnly = true)
+    public void rebuildIndexes() {
+        Rebuild.run(attractionRepository::findAll,
+                searchIndex.beginRebuild(),
+                placeIndex.beginRebuild(CATALOG.type(), AttractionService::toPlace));
+    }
+
+    // Keeps the search and place indexes in step with committed writes
+    private Attraction indexAfterCommit(Attraction attraction) {
+        placeIndex.putAfterCommit(CATALOG.type(), attraction.getId(), toPlace(attraction));
+        return searchIndex.indexAfterCommit(attraction);
+    }
+
+    // =========================
+    // MAP / NEARBY
+    // =========================
+    // Rows without coordinates are not on the map
+    private static Place toPlace(Attraction attraction) {
+        if (attraction.getLatitude() == null || attraction.getLongitude() == null) {
+            return null;
+        }
+        return new Place(CATALOG.type(), attraction.getId(), attraction.getName(), attraction.getAddress(),
+                attraction.getLatitude(), attraction.getLongitude(), true);
     }
 }
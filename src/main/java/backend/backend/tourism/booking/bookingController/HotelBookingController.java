@@ -1,7 +1,8 @@
 package backend.backend.tourism.booking.bookingController;
 
-import backend.backend.tourism.booking.bookingEntity.HotelBooking;
+import backend.backend.core.sql.QueryBudget;
 import backend.backend.tourism.booking.bookingService.HotelBookingService;
+import backend.backend.tourism.booking.dto.HotelBookingDTO;
 import backend.backend.tourism.booking.dto.HotelBookingRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,8 @@ import org.springframework.web.bind.annotation.*;
 import java.net.URI;
 import java.util.UUID;
 
+// Create: profile and hotel lookups + insert
+@QueryBudget(3)
 @RestController
 @RequestMapping("/api/hotel-bookings")
 @RequiredArgsConstructor
@@ -19,9 +22,9 @@ public class HotelBookingController {
     private final HotelBookingService hotelBookingService;
 
     @PostMapping
-    public ResponseEntity<HotelBooking> createBooking(@Valid @RequestBody HotelBookingRequest request) {
-        HotelBooking created = hotelBookingService.createBooking(request);
-        return ResponseEntity.created(URI.create("/api/hotel-bookings/" + created.getId()))
+    public ResponseEntity<HotelBookingDTO> createBooking(@Valid @RequestBody HotelBookingRequest request) {
+        HotelBookingDTO created = hotelBookingService.createBooking(request);
+        return ResponseEntity.created(URI.create("/api/hotel-bookings/" + created.id()))
                 .body(created);
     }
 
@@ -32,12 +35,12 @@ public class HotelBookingController {
     }
 
     @GetMapping("/{bookingId}")
-    public ResponseEntity<HotelBooking> getBooking(@PathVariable UUID bookingId) {
+    public ResponseEntity<HotelBookingDTO> getBooking(@PathVariable UUID bookingId) {
         return ResponseEntity.ok(hotelBookingService.getBookingById(bookingId));
     }
 
     @GetMapping("/my-bookings")
-    public ResponseEntity<java.util.List<HotelBooking>> getMyBookings() {
+    public ResponseEntity<java.util.List<HotelBookingDTO>> getMyBookings() {
         // In a real app, extract user ID from SecurityContext
         // For now, we will assume the frontend sends the user ID or we extract it if
         // possible
@@ -1,7 +1,8 @@
 package backend.backend.tourism.booking.bookingController;
 
-import backend.backend.tourism.booking.bookingEntity.RestaurantReservation;
+import backend.backend.core.sql.QueryBudget;
 import backend.backend.tourism.booking.bookingService.RestaurantReservationService;
+import backend.backend.tourism.booking.dto.RestaurantReservationDTO;
 import backend.backend.tourism.booking.dto.RestaurantReservationRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,8 @@ import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
+// Create: profile and restaurant lookups, slot check + insert
+@QueryBudget(4)
 @RestController
 @RequestMapping("/api/restaurant-reservations")
 @RequiredArgsConstructor
@@ -23,15 +26,15 @@ public class RestaurantReservationController {
     // ✅ TOURIST: create reservation
     @PreAuthorize("hasRole('TOURIST')")
     @PostMapping
-    public ResponseEntity<RestaurantReservation> create(@Valid @RequestBody RestaurantReservationRequest request) {
-        RestaurantReservation created = reservationService.createReservation(request);
-        return ResponseEntity.created(URI.create("/api/restaurant-reservations/" + created.getId()))
+    public ResponseEntity<RestaurantReservationDTO> create(@Valid @RequestBody RestaurantReservationRequest request) {
+        RestaurantReservationDTO created = reservationService.createReservation(request);
+        return ResponseEntity.created(URI.create("/api/restaurant-reservations/" + created.id()))
                 .body(created);
     }
 
     //  TOURIST (or ADMIN) can view by id (you can restrict later if you want)
     @GetMapping("/{id}")
-    public ResponseEntity<RestaurantReservation> getById(@PathVariable UUID id) {
+    public ResponseEntity<RestaurantReservationDTO> getById(@PathVariable UUID id) {
         return ResponseEntity.ok(reservationService.getReservationById(id));
     }
 
@@ -46,14 +49,14 @@ public class RestaurantReservationController {
     // TOURIST: list all reservations of a touristProfile
     @PreAuthorize("hasRole('TOURIST')")
     @GetMapping("/tourist/{touristProfileId}")
-    public ResponseEntity<List<RestaurantReservation>> getByTouristProfile(@PathVariable UUID touristProfileId) {
+    public ResponseEntity<List<RestaurantReservationDTO>> getByTouristProfile(@PathVariable UUID touristProfileId) {
         return ResponseEntity.ok(reservationService.getReservationsByTouristProfile(touristProfileId));
     }
 
     //  TOURIST: list upcoming reservations
     @PreAuthorize("hasRole('TOURIST')")
     @GetMapping("/tourist/{touristProfileId}/upcoming")
-    public ResponseEntity<List<RestaurantReservation>> getUpcomingByTouristProfile(@PathVariable UUID touristProfileId) {
+    public ResponseEntity<List<RestaurantReservationDTO>> getUpcomingByTouristProfile(@PathVariable UUID touristProfileId) {
         return ResponseEntity.ok(reservationService.getUpcomingReservationsByTouristProfile(touristProfileId));
     }
 }
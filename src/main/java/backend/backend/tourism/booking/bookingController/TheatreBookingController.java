@@ -1,7 +1,8 @@
 package backend.backend.tourism.booking.bookingController;
 
-import backend.backend.tourism.booking.bookingEntity.TheatreBooking;
+import backend.backend.core.sql.QueryBudget;
 import backend.backend.tourism.booking.bookingService.TheatreBookingService;
+import backend.backend.tourism.booking.dto.TheatreBookingDTO;
 import backend.backend.tourism.booking.dto.TheatreBookingRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,8 @@ import org.springframework.web.bind.annotation.*;
 import java.net.URI;
 import java.util.UUID;
 
+// Create: profile and theatre lookups + insert
+@QueryBudget(3)
 @RestController
 @RequestMapping("/api/theatre-bookings")
 @RequiredArgsConstructor
@@ -19,20 +22,20 @@ public class TheatreBookingController {
     private final TheatreBookingService theatreBookingService;
 
     @PostMapping
-    public ResponseEntity<TheatreBooking> create(@Valid @RequestBody TheatreBookingRequest request) {
-        TheatreBooking created = theatreBookingService.createBooking(request);
-        return ResponseEntity.created(URI.create("/api/theatre-bookings/" + created.getId()))
+    public ResponseEntity<TheatreBookingDTO> create(@Valid @RequestBody TheatreBookingRequest request) {
+        TheatreBookingDTO created = theatreBookingService.createBooking(request);
+        return ResponseEntity.created(URI.create("/api/theatre-bookings/" + created.id()))
                 .body(created);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TheatreBooking> getById(@PathVariable UUID id) {
+    public ResponseEntity<TheatreBookingDTO> getById(@PathVariable UUID id) {
         return ResponseEntity.ok(theatreBookingService.getById(id));
     }
 
     // TOURIST: list all bookings of a touristProfile
     @GetMapping("/tourist/{touristProfileId}")
-    public ResponseEntity<java.util.List<TheatreBooking>> getByTouristProfile(@PathVariable UUID touristProfileId) {
+    public ResponseEntity<java.util.List<TheatreBookingDTO>> getByTouristProfile(@PathVariable UUID touristProfileId) {
         return ResponseEntity.ok(theatreBookingService.getBookingsByTouristProfileId(touristProfileId));
     }
 
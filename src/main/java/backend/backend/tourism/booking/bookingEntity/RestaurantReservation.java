@@ -16,6 +16,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "restaurant_reservations")
+@NamedEntityGraph(name = RestaurantReservation.WITH_RESTAURANT, attributeNodes = @NamedAttributeNode("restaurant"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,6 +24,9 @@ import java.util.UUID;
 @ToString(exclude = {"touristProfile", "restaurant"})
 public class RestaurantReservation {
 
+    // Fetch plan for status changes that answer with a RestaurantReservationDTO
+    public static final String WITH_RESTAURANT = "RestaurantReservation.withRestaurant";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     @Column(updatable = false, nullable = false, columnDefinition = "uuid")
@@ -1,13 +1,28 @@
 package backend.backend.tourism.booking.bookingRepository;
 
 import backend.backend.tourism.booking.bookingEntity.HotelBooking;
+import backend.backend.tourism.booking.dto.HotelBookingDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface HotelBookingRepository extends JpaRepository<HotelBooking, UUID> {
+    // Read views: one statement joining the hotel, no managed entities
+    String VIEW = "SELECT new backend.backend.tourism.booking.dto.HotelBookingDTO(" +
+            "b.id, h.id, h.name, b.touristProfile.id, b.checkInDate, b.checkOutDate, b.numberOfGuests, " +
+            "b.totalPrice, b.status, b.bookingDate) FROM HotelBooking b JOIN b.hotel h ";
+
     List<HotelBooking> findByTouristProfileId(UUID touristProfileId);
+
+    @Query(VIEW + "WHERE b.id = :id")
+    Optional<HotelBookingDTO> findViewById(@Param("id") UUID id);
+
+    @Query(VIEW + "WHERE b.touristProfile.id = :touristProfileId ORDER BY b.checkInDate DESC, b.id")
+    List<HotelBookingDTO> findViewsByTouristProfileId(@Param("touristProfileId") UUID touristProfileId);
 }
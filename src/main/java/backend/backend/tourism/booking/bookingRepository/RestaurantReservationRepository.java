@@ -2,6 +2,8 @@ package backend.backend.tourism.booking.bookingRepository;
 
 import backend.backend.enums.ReservationStatus;
 import backend.backend.tourism.booking.bookingEntity.RestaurantReservation;
+import backend.backend.tourism.booking.dto.RestaurantReservationDTO;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,10 +12,15 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface RestaurantReservationRepository extends JpaRepository<RestaurantReservation, UUID> {
+    // Read views: one statement joining the restaurant, no managed entities
+    String VIEW = "SELECT new backend.backend.tourism.booking.dto.RestaurantReservationDTO(" +
+            "r.id, rs.id, rs.name, r.touristProfile.id, r.reservationDate, r.reservationTime, r.status, " +
+            "r.createdAt) FROM RestaurantReservation r JOIN r.restaurant rs ";
 
     // Basic CRUD operations are provided by JpaRepository
     // Custom query methods
@@ -57,4 +64,26 @@ public interface RestaurantReservationRepository extends JpaRepository<Restauran
             @Param("touristProfileId") UUID touristProfileId,
             @Param("status") ReservationStatus status
     );
+
+    @EntityGraph(RestaurantReservation.WITH_RESTAURANT)
+    Optional<RestaurantReservation> findWithRestaurantById(UUID id);
+
+    @Query(VIEW + "WHERE r.id = :id")
+    Optional<RestaurantReservationDTO> findViewById(@Param("id") UUID id);
+
+    @Query(VIEW + "WHERE r.touristProfile.id = :touristProfileId ORDER BY r.reservationDate DESC, r.reservationTime DESC, r.id")
+    List<RestaurantReservationDTO> findViewsByTouristProfileId(@Param("touristProfileId") UUID touristProfileId);
+
+    @Query(VIEW + "WHERE r.touristProfile.id = :touristProfileId AND r.reservationDate >= CURRENT_DATE " +
+            "ORDER BY r.reservationDate, r.reservationTime, r.id")
+    List<RestaurantReservationDTO> findUpcomingViewsByTouristProfileId(@Param("touristProfileId") UUID touristProfileId);
+
+    @Query(VIEW + "WHERE rs.id = :restaurantId ORDER BY r.reservationDate, r.reservationTime, r.id")
+    List<RestaurantReservationDTO> findViewsByRestaurantId(@Param("restaurantId") UUID restaurantId);
+
+    @Query(VIEW + "WHERE rs.id = :restaurantId AND r.reservationDate = :date ORDER BY r.reservationTime, r.id")
+    List<RestaurantReservationDTO> findViewsByRestaurantAndDate(
+            @Param("restaurantId") UUID restaurantId,
+            @Param("date") LocalDate date
+    );
 }
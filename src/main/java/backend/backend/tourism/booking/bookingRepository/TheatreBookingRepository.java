@@ -1,12 +1,27 @@
 package backend.backend.tourism.booking.bookingRepository;
 
 import backend.backend.tourism.booking.bookingEntity.TheatreBooking;
+import backend.backend.tourism.booking.dto.TheatreBookingDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface TheatreBookingRepository extends JpaRepository<TheatreBooking, UUID> {
+    // Read views: one statement joining the theatre, no managed entities
+    String VIEW = "SELECT new backend.backend.tourism.booking.dto.TheatreBookingDTO(" +
+            "b.id, t.id, t.name, b.touristProfile.id, b.showTime, b.numberOfTickets, b.totalPrice, " +
+            "b.seatNumbers, b.status, b.bookingDate) FROM TheatreBooking b JOIN b.theatre t ";
+
     java.util.List<TheatreBooking> findByTouristProfileId(UUID touristProfileId);
+
+    @Query(VIEW + "WHERE b.id = :id")
+    Optional<TheatreBookingDTO> findViewById(@Param("id") UUID id);
+
+    @Query(VIEW + "WHERE b.touristProfile.id = :touristProfileId ORDER BY b.showTime DESC, b.id")
+    java.util.List<TheatreBookingDTO> findViewsByTouristProfileId(@Param("touristProfileId") UUID touristProfileId);
 }
@@ -5,6 +5,7 @@ import backend.backend.core.user.user_repository.TouristProfileRepository;
 import backend.backend.enums.BookingStatus;
 import backend.backend.tourism.booking.bookingEntity.HotelBooking;
 import backend.backend.tourism.booking.bookingRepository.HotelBookingRepository;
+import backend.backend.tourism.booking.dto.HotelBookingDTO;
 import backend.backend.tourism.booking.dto.HotelBookingRequest;
 import backend.backend.tourism.hotel.Hotel;
 import backend.backend.tourism.hotel.HotelRepository;
@@ -25,7 +26,7 @@ public class HotelBookingService {
     private final HotelRepository hotelRepository;
 
     @Transactional
-    public HotelBooking createBooking(HotelBookingRequest request) {
+    public HotelBookingDTO createBooking(HotelBookingRequest request) {
 
         // ✅ simple date logic check
         if (request.getCheckOutDate().isBefore(request.getCheckInDate())
@@ -47,7 +48,7 @@ public class HotelBookingService {
         booking.setNumberOfGuests(request.getNumberOfGuests());
         booking.setTotalPrice(BigDecimal.valueOf(request.getTotalPrice()));
         // status/bookingDate handled by @PrePersist
-        return hotelBookingRepository.save(booking);
+        return HotelBookingDTO.of(hotelBookingRepository.save(booking));
     }
 
     @Transactional
@@ -60,13 +61,13 @@ public class HotelBookingService {
     }
 
     @Transactional(readOnly = true)
-    public java.util.List<HotelBooking> getBookingsByTouristProfileId(UUID touristProfileId) {
-        return hotelBookingRepository.findByTouristProfileId(touristProfileId);
+    public java.util.List<HotelBookingDTO> getBookingsByTouristProfileId(UUID touristProfileId) {
+        return hotelBookingRepository.findViewsByTouristProfileId(touristProfileId);
     }
 
     @Transactional(readOnly = true)
-    public HotelBooking getBookingById(UUID bookingId) {
-        return hotelBookingRepository.findById(bookingId)
+    public HotelBookingDTO getBookingById(UUID bookingId) {
+        return hotelBookingRepository.findViewById(bookingId)
                 .orElseThrow(() -> new EntityNotFoundException("Booking not found"));
     }
 }
@@ -5,6 +5,7 @@ import backend.backend.core.user.user_repository.TouristProfileRepository;
 import backend.backend.enums.ReservationStatus;
 import backend.backend.tourism.booking.bookingEntity.RestaurantReservation;
 import backend.backend.tourism.booking.bookingRepository.RestaurantReservationRepository;
+import backend.backend.tourism.booking.dto.RestaurantReservationDTO;
 import backend.backend.tourism.booking.dto.RestaurantReservationRequest;
 import backend.backend.tourism.restaurant.Restaurant;
 import backend.backend.tourism.restaurant.RestaurantRepository;
@@ -28,7 +29,7 @@ public class RestaurantReservationService {
     private final RestaurantRepository restaurantRepository;
 
     @Transactional
-    public RestaurantReservation createReservation(RestaurantReservationRequest request) {
+    public RestaurantReservationDTO createReservation(RestaurantReservationRequest request) {
         LocalDateTime reservationDateTime = LocalDateTime.of(
             request.getReservationDate(), 
             request.getReservationTime()
@@ -62,40 +63,41 @@ public class RestaurantReservationService {
         reservation.setReservationTime(request.getReservationTime());
         // Status is set to CONFIRMED by default in the entity
 
-        return reservationRepository.save(reservation);
+        return RestaurantReservationDTO.of(reservationRepository.save(reservation));
     }
 
     @Transactional(readOnly = true)
-    public RestaurantReservation getReservationById(UUID id) {
-        return reservationRepository.findById(id)
+    public RestaurantReservationDTO getReservationById(UUID id) {
+        return reservationRepository.findViewById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Reservation not found with id: " + id));
     }
 
     @Transactional(readOnly = true)
-    public List<RestaurantReservation> getReservationsByTouristProfile(UUID touristProfileId) {
-        return reservationRepository.findByTouristProfileId(touristProfileId);
+    public List<RestaurantReservationDTO> getReservationsByTouristProfile(UUID touristProfileId) {
+        return reservationRepository.findViewsByTouristProfileId(touristProfileId);
     }
 
     @Transactional(readOnly = true)
-    public List<RestaurantReservation> getUpcomingReservationsByTouristProfile(UUID touristProfileId) {
-        return reservationRepository.findUpcomingReservationsByTouristProfile(touristProfileId);
+    public List<RestaurantReservationDTO> getUpcomingReservationsByTouristProfile(UUID touristProfileId) {
+        return reservationRepository.findUpcomingViewsByTouristProfileId(touristProfileId);
     }
 
     @Transactional(readOnly = true)
-    public List<RestaurantReservation> getReservationsByRestaurant(UUID restaurantId) {
-        return reservationRepository.findByRestaurantId(restaurantId);
+    public List<RestaurantReservationDTO> getReservationsByRestaurant(UUID restaurantId) {
+        return reservationRepository.findViewsByRestaurantId(restaurantId);
     }
 
     @Transactional(readOnly = true)
-    public List<RestaurantReservation> getReservationsByRestaurantAndDate(UUID restaurantId, LocalDate date) {
-        return reservationRepository.findByRestaurantAndDate(restaurantId, date);
+    public List<RestaurantReservationDTO> getReservationsByRestaurantAndDate(UUID restaurantId, LocalDate date) {
+        return reservationRepository.findViewsByRestaurantAndDate(restaurantId, date);
     }
 
     @Transactional
-    public RestaurantReservation updateReservationStatus(UUID reservationId, ReservationStatus newStatus) {
-        RestaurantReservation reservation = getReservationById(reservationId);
+    public RestaurantReservationDTO updateReservationStatus(UUID reservationId, ReservationStatus newStatus) {
+        RestaurantReservation reservation = reservationRepository.findWithRestaurantById(reservationId)
+                .orElseThrow(() -> new EntityNotFoundException("Reservation not found with id: " + reservationId));
         reservation.setStatus(newStatus);
-        return reservationRepository.save(reservation);
+        return RestaurantReservationDTO.of(reservationRepository.save(reservation));
     }
 
     @Transactional
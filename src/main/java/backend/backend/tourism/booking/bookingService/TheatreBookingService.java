@@ -5,6 +5,7 @@ import backend.backend.core.user.user_repository.TouristProfileRepository;
 import backend.backend.enums.BookingStatus;
 import backend.backend.tourism.booking.bookingEntity.TheatreBooking;
 import backend.backend.tourism.booking.bookingRepository.TheatreBookingRepository;
+import backend.backend.tourism.booking.dto.TheatreBookingDTO;
 import backend.backend.tourism.booking.dto.TheatreBookingRequest;
 import backend.backend.tourism.theatre.Theatre;
 import backend.backend.tourism.theatre.TheatreRepository;
@@ -25,7 +26,7 @@ public class TheatreBookingService {
     private final TheatreRepository theatreRepository;
 
     @Transactional
-    public TheatreBooking createBooking(TheatreBookingRequest request) {
+    public TheatreBookingDTO createBooking(TheatreBookingRequest request) {
 
         TouristProfile profile = touristProfileRepository.findById(request.getTouristProfileId())
                 .orElseThrow(() -> new EntityNotFoundException("Tourist profile not found"));
@@ -47,23 +48,24 @@ public class TheatreBookingService {
         booking.setSeatNumbers(request.getSeatNumbers());
         booking.setStatus(BookingStatus.CONFIRMED);
 
-        return theatreBookingRepository.save(booking);
+        return TheatreBookingDTO.of(theatreBookingRepository.save(booking));
     }
 
     @Transactional(readOnly = true)
-    public TheatreBooking getById(UUID id) {
-        return theatreBookingRepository.findById(id)
+    public TheatreBookingDTO getById(UUID id) {
+        return theatreBookingRepository.findViewById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Theatre booking not found"));
     }
 
     @Transactional(readOnly = true)
-    public java.util.List<TheatreBooking> getBookingsByTouristProfileId(UUID touristProfileId) {
-        return theatreBookingRepository.findByTouristProfileId(touristProfileId);
+    public java.util.List<TheatreBookingDTO> getBookingsByTouristProfileId(UUID touristProfileId) {
+        return theatreBookingRepository.findViewsByTouristProfileId(touristProfileId);
     }
 
     @Transactional
     public void cancel(UUID id) {
-        TheatreBooking booking = getById(id);
+        TheatreBooking booking = theatreBookingRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Theatre booking not found"));
         booking.setStatus(BookingStatus.CANCELLED);
         theatreBookingRepository.save(booking); // explicit like we did for reservation
     }
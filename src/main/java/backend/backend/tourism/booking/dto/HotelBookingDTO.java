@@ -0,0 +1,41 @@
+package backend.backend.tourism.booking.dto;
+
+import backend.backend.core.common.EntityRef;
+import backend.backend.enums.BookingStatus;
+import backend.backend.tourism.booking.bookingEntity.HotelBooking;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Read view of a hotel booking: the hotel reduced to id and name, the tourist profile to its id.
+ * Selected directly by JPQL (see HotelBookingRepository), so no entity is loaded to build it.
+ */
+public record HotelBookingDTO(
+        UUID id,
+        EntityRef hotel,
+        UUID touristProfileId,
+        LocalDate checkInDate,
+        LocalDate checkOutDate,
+        Integer numberOfGuests,
+        BigDecimal totalPrice,
+        BookingStatus status,
+        LocalDate bookingDate
+) {
+
+    // Flat form used by the constructor expression
+    public HotelBookingDTO(UUID id, UUID hotelId, String hotelName, UUID touristProfileId, LocalDate checkInDate,
+                           LocalDate checkOutDate, Integer numberOfGuests, BigDecimal totalPrice,
+                           BookingStatus status, LocalDate bookingDate) {
+        this(id, new EntityRef(hotelId, hotelName), touristProfileId, checkInDate, checkOutDate, numberOfGuests,
+                totalPrice, status, bookingDate);
+    }
+
+    // For write responses, built inside the transaction that saved the row
+    public static HotelBookingDTO of(HotelBooking booking) {
+        return new HotelBookingDTO(booking.getId(), booking.getHotel().getId(), booking.getHotel().getName(),
+                booking.getTouristProfile().getId(), booking.getCheckInDate(), booking.getCheckOutDate(),
+                booking.getNumberOfGuests(), booking.getTotalPrice(), booking.getStatus(), booking.getBookingDate());
+    }
+}
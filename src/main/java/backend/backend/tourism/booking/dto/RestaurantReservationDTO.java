@@ -0,0 +1,41 @@
+package backend.backend.tourism.booking.dto;
+
+import backend.backend.core.common.EntityRef;
+import backend.backend.enums.ReservationStatus;
+import backend.backend.tourism.booking.bookingEntity.RestaurantReservation;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Read view of a restaurant reservation: the restaurant reduced to id and name, the tourist profile to its id.
+ * Selected directly by JPQL (see RestaurantReservationRepository), so no entity is loaded to build it.
+ */
+public record RestaurantReservationDTO(
+        UUID id,
+        EntityRef restaurant,
+        UUID touristProfileId,
+        LocalDate reservationDate,
+        LocalTime reservationTime,
+        ReservationStatus status,
+        LocalDateTime createdAt
+) {
+
+    // Flat form used by the constructor expression
+    public RestaurantReservationDTO(UUID id, UUID restaurantId, String restaurantName, UUID touristProfileId,
+                                    LocalDate reservationDate, LocalTime reservationTime,
+                                    ReservationStatus status, LocalDateTime createdAt) {
+        this(id, new EntityRef(restaurantId, restaurantName), touristProfileId, reservationDate, reservationTime,
+                status, createdAt);
+    }
+
+    // For write responses, built inside the transaction that saved the row
+    public static RestaurantReservationDTO of(RestaurantReservation reservation) {
+        return new RestaurantReservationDTO(reservation.getId(), reservation.getRestaurant().getId(),
+                reservation.getRestaurant().getName(), reservation.getTouristProfile().getId(),
+                reservation.getReservationDate(), reservation.getReservationTime(), reservation.getStatus(),
+                reservation.getCreatedAt());
+    }
+}
@@ -0,0 +1,41 @@
+package backend.backend.tourism.booking.dto;
+
+import backend.backend.core.common.EntityRef;
+import backend.backend.enums.BookingStatus;
+import backend.backend.tourism.booking.bookingEntity.TheatreBooking;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read view of a theatre booking: the theatre reduced to id and name, the tourist profile to its id.
+ * Selected directly by JPQL (see TheatreBookingRepository), so no entity is loaded to build it.
+ */
+public record TheatreBookingDTO(
+        UUID id,
+        EntityRef theatre,
+        UUID touristProfileId,
+        LocalDateTime showTime,
+        Integer numberOfTickets,
+        BigDecimal totalPrice,
+        String seatNumbers,
+        BookingStatus status,
+        LocalDateTime bookingDate
+) {
+
+    // Flat form used by the constructor expression
+    public TheatreBookingDTO(UUID id, UUID theatreId, String theatreName, UUID touristProfileId,
+                             LocalDateTime showTime, Integer numberOfTickets, BigDecimal totalPrice,
+                             String seatNumbers, BookingStatus status, LocalDateTime bookingDate) {
+        this(id, new EntityRef(theatreId, theatreName), touristProfileId, showTime, numberOfTickets, totalPrice,
+                seatNumbers, status, bookingDate);
+    }
+
+    // For write responses, built inside the transaction that saved the row
+    public static TheatreBookingDTO of(TheatreBooking booking) {
+        return new TheatreBookingDTO(booking.getId(), booking.getTheatre().getId(), booking.getTheatre().getName(),
+                booking.getTouristProfile().getId(), booking.getShowTime(), booking.getNumberOfTickets(),
+                booking.getTotalPrice(), booking.getSeatNumbers(), booking.getStatus(), booking.getBookingDate());
+    }
+}
@@ -36,6 +36,17 @@ public class Hotel {
     @Column(nullable = false, length = 200)
     private String address;
 
+    // =========================
+    // Location (WGS84, optional)
+    // =========================
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
     @Email(message = "Invalid email format")
     @Size(max = 100)
     @Column(length = 100)
@@ -74,7 +85,7 @@ public class Hotel {
     @Column(name = "starting_price", precision = 10, scale = 2)
     private BigDecimal startingPrice;
 
-    // stores the public URL or relative path, e.g. "/uploads/hotels/<uuid>.jpg"
+    // stores the public URL or relative path, e.g. "/uploads/hotels/<sha-256>.jpg" (POST /api/uploads/hotels)
     @Size(max = 500)
     @Column(name = "image_url", length = 500, nullable = true)
     private String imageUrl;
@@ -1,9 +1,15 @@
 package backend.backend.tourism.hotel;
 
+import backend.backend.core.cache.CatalogVersioned;
+import backend.backend.core.common.FacetQuery;
+import backend.backend.core.common.FacetResult;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
@@ -11,6 +17,7 @@ import java.util.List;
 import java.util.UUID;
 
 @RestController
+@CatalogVersioned("hotel")
 @RequestMapping("/api/hotels")
 @RequiredArgsConstructor
 public class HotelController {
@@ -19,8 +26,8 @@ public class HotelController {
 
     //  VIEW: tourists can view
     @GetMapping
-    public ResponseEntity<List<Hotel>> getAllHotels() {
-        return ResponseEntity.ok(hotelService.getAllHotels());
+    public ResponseEntity<List<Hotel>> getAllHotels(PageQuery page) {
+        return PageResponses.ok(hotelService.getAllHotels(page));
     }
 
     //  VIEW: tourists can view
@@ -31,8 +38,15 @@ public class HotelController {
 
     // VIEW: tourists can view
     @GetMapping("/search")
-    public ResponseEntity<List<Hotel>> searchHotels(@RequestParam String query) {
-        return ResponseEntity.ok(hotelService.searchHotels(query));
+    public ResponseEntity<List<Hotel>> searchHotels(@RequestParam String query, PageQuery page) {
+        return PageResponses.ok(hotelService.searchHotels(query, page));
+    }
+
+    // VIEW: tourists can view
+    // e.g. ?starRating=4,5&rating.min=4&startingPrice.max=200&active=true&sort=-rating&limit=20
+    @GetMapping("/filter")
+    public ResponseEntity<FacetResult<Hotel>> filterHotels(@RequestParam MultiValueMap<String, String> params) {
+        return ResponseEntity.ok(hotelService.filterHotels(FacetQuery.from(params)));
     }
 
     //  ADMIN ONLY: create
@@ -1,7 +1,29 @@
 package backend.backend.tourism.hotel;
 
+import backend.backend.core.bulk.ExportSource;
+import backend.backend.core.bulk.ImportTarget;
+import backend.backend.core.cache.CatalogCache;
+import backend.backend.core.cache.CatalogCaches;
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.FacetIndex;
+import backend.backend.core.common.FacetQuery;
+import backend.backend.core.common.FacetResult;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.Rebuild;
+import backend.backend.core.common.TrigramIndex;
+import backend.backend.core.geo.Place;
+import backend.backend.core.geo.PlaceIndex;
+import backend.backend.core.geo.PlaceSource;
+import backend.backend.core.search.CitySearchHit;
+import backend.backend.core.search.CitySearchSource;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,33 +32,65 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-public class HotelService {
+public class HotelService implements CitySearchSource, PlaceSource, ImportTarget<Hotel>, ExportSource<Hotel> {
+
+    private static final Catalog<Hotel> CATALOG = new Catalog<>("hotel", "/api/hotels", Hotel.class);
+
+    // Keyset order for list/search pages
+    private static final KeysetSort<Hotel> BY_NAME =
+            KeysetSort.asc("name", Hotel::getName, Hotel::getId);
+
+    // Lower edges of the price facet buckets
+    private static final double[] PRICE_BUCKETS = {0, 50, 100, 200, 500, 1000};
 
     private final HotelRepository hotelRepository;
+    private final CatalogCaches catalogCaches;
+    private final PlaceIndex placeIndex;
 
-    @Transactional(readOnly = true)
-    public List<Hotel> getAllHotels() {
-        return hotelRepository.findAll();
+    // Serves search over name and address without LIKE scans
+    private final TrigramIndex<Hotel> searchIndex =
+            TrigramIndex.of(CATALOG.type(), BY_NAME, Hotel::getName, Hotel::getAddress);
+
+    // Columnar snapshot behind /filter: star and status facets, rating and price ranges
+    private final FacetIndex<Hotel> facetIndex = FacetIndex.builder(CATALOG.type(), BY_NAME)
+            .term("starRating", Hotel::getStarRating)
+            .term("active", Hotel::isActive)
+            .range("rating", Hotel::getRating, 0, 1, 2, 3, 4)
+            .range("minPrice", Hotel::getMinPrice, PRICE_BUCKETS)
+            .range("maxPrice", Hotel::getMaxPrice, PRICE_BUCKETS)
+            .range("startingPrice", Hotel::getStartingPrice, PRICE_BUCKETS)
+            .build();
+
+    // Read-through cache for list pages and single rows, dropped on every write
+    private CatalogCache cache() {
+        return catalogCaches.forCatalog(CATALOG.type());
+    }
+
+    public CursorPage<Hotel> getAllHotels(PageQuery page) {
+        return cache().get(page, () -> KeysetPager.page(hotelRepository, BY_NAME, null, page));
     }
 
-    @Transactional(readOnly = true)
     public Hotel getHotelById(UUID id) {
-        return hotelRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Hotel not found"));
+        return cache().get(id, () -> hotelRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Hotel not found")));
     }
 
     @Transactional
     public Hotel createHotel(Hotel hotel) {
-        return hotelRepository.save(hotel);
+        cache().invalidateAfterCommit();
+        return indexAfterCommit(hotelRepository.save(hotel));
     }
 
     @Transactional
     public Hotel updateHotel(UUID id, Hotel hotelDetails) {
+        cache().invalidateAfterCommit();
         return hotelRepository.findById(id)
                 .map(hotel -> {
                     // Basic info
                     hotel.setName(hotelDetails.getName());
                     hotel.setAddress(hotelDetails.getAddress());
+                    hotel.setLatitude(hotelDetails.getLatitude());
+                    hotel.setLongitude(hotelDetails.getLongitude());
                     hotel.setEmail(hotelDetails.getEmail());
                     hotel.setPhoneNumber(hotelDetails.getPhoneNumber());
                     hotel.setDescription(hotelDetails.getDescription());
@@ -54,18 +108,91 @@ public class HotelService {
                     hotel.setImageUrl(hotelDetails.getImageUrl());
                     hotel.setActive(hotelDetails.isActive());
 
-                    return hotelRepository.save(hotel);
+                    return indexAfterCommit(hotelRepository.save(hotel));
                 })
                 .orElseThrow(() -> new EntityNotFoundException("Hotel not found"));
     }
 
     @Transactional
     public void deleteHotel(UUID id) {
+        cache().invalidateAfterCommit();
         hotelRepository.deleteById(id);
+        searchIndex.removeAfterCommit(id);
+        facetIndex.removeAfterCommit(id);
+        placeIndex.removeAfterCommit(CATALOG.type(), id);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Hotel> searchHotels(String query, PageQuery page) {
+        return searchIndex.search(query, page, hotelRepository::findAllById);
+    }
+
+    @Transactional(readOnly = true)
+    public FacetResult<Hotel> filterHotels(FacetQuery query) {
+        return facetIndex.filter(query, hotelRepository::findAllById);
     }
 
+    // =========================
+    // BULK IMPORT
+    // =========================
+    @Override
     @Transactional(readOnly = true)
-    public List<Hotel> searchHotels(String query) {
-        return hotelRepository.findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase(query, query);
+    public void afterImport() {
+        cache().invalidate();
+        rebuildIndexes();
+    }
+
+    // =========================
+    // CATALOG
+    // =========================
+    @Override
+    public Catalog<Hotel> catalog() {
+        return CATALOG;
+    }
+
+    // =========================
+    // CITY-WIDE SEARCH
+    // =========================
+    @Override
+    public List<TrigramIndex.Ranked<UUID>> rankCity(String query, int limit) {
+        return searchIndex.rank(query, limit);
+    }
+
+    @Override
+    public List<CitySearchHit> loadCity(List<TrigramIndex.Ranked<UUID>> ranked) {
+        return CitySearchHit.of(this, ranked, hotelRepository::findAllById,
+                Hotel::getId, Hotel::getName, Hotel::getAddress);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval-ms:900000}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:900000}"
+    )
+    @Transactional(readOnly = true)
+    public void rebuildIndexes() {
+        Rebuild.run(hotelRepository::findAll,
+                searchIndex.beginRebuild(),
+                facetIndex.beginRebuild(),
+                placeIndex.beginRebuild(CATALOG.type(), HotelService::toPlace));
+    }
+
+    // Keeps the search, facet and place indexes in step with committed writes
+    private Hotel indexAfterCommit(Hotel hotel) {
+        facetIndex.indexAfterCommit(hotel);
+        placeIndex.putAfterCommit(CATALOG.type(), hotel.getId(), toPlace(hotel));
+        return searchIndex.indexAfterCommit(hotel);
+    }
+
+    // =========================
+    // MAP / NEARBY
+    // =========================
+    // Rows without coordinates are not on the map
+    private static Place toPlace(Hotel hotel) {
+        if (hotel.getLatitude() == null || hotel.getLongitude() == null) {
+            return null;
+        }
+        return new Place(CATALOG.type(), hotel.getId(), hotel.getName(), hotel.getAddress(),
+                hotel.getLatitude(), hotel.getLongitude(), hotel.isActive());
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package backend.backend.tourism.restaurant;
 
+import backend.backend.core.hours.WeeklySchedule;
+import backend.backend.core.hours.WeeklyScheduleConverter;
 import backend.backend.tourism.booking.bookingEntity.RestaurantReservation;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -40,6 +42,17 @@ public class Restaurant {
     @Column(nullable = false, length = 200)
     private String address;
 
+    // =========================
+    // Location (WGS84, optional)
+    // =========================
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
     @NotNull(message = "Star rating is required")
     @Min(value = 1, message = "Star rating must be between 1 and 5")
     @Max(value = 5, message = "Star rating must be between 1 and 5")
@@ -74,7 +87,13 @@ public class Restaurant {
     @Column(length = 100)
     private String openingHours;
 
-    // stores the public URL or relative path, e.g. "/uploads/hotels/<uuid>.jpg"
+    // openingHours as read by WeeklySchedule.parse, set by the service on create/update
+    @Convert(converter = WeeklyScheduleConverter.class)
+    @Column(name = "opening_schedule", length = 500)
+    @com.fasterxml.jackson.annotation.JsonProperty(access = com.fasterxml.jackson.annotation.JsonProperty.Access.READ_ONLY)
+    private WeeklySchedule openingSchedule;
+
+    // stores the public URL or relative path, e.g. "/uploads/restaurants/<sha-256>.jpg" (POST /api/uploads/restaurants)
     @Size(max = 500)
     @Column(name = "image_url", length = 500)
     private String imageUrl;
@@ -1,9 +1,15 @@
 package backend.backend.tourism.restaurant;
 
+import backend.backend.core.cache.CatalogVersioned;
+import backend.backend.core.common.FacetQuery;
+import backend.backend.core.common.FacetResult;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
@@ -11,6 +17,7 @@ import java.util.List;
 import java.util.UUID;
 
 @RestController
+@CatalogVersioned("restaurant")
 @RequestMapping("/api/restaurants")
 @RequiredArgsConstructor
 public class RestaurantController {
@@ -19,8 +26,8 @@ public class RestaurantController {
 
     //  VIEW: tourists can view
     @GetMapping
-    public ResponseEntity<List<Restaurant>> getAll() {
-        return ResponseEntity.ok(restaurantService.getAllRestaurants());
+    public ResponseEntity<List<Restaurant>> getAll(PageQuery page) {
+        return PageResponses.ok(restaurantService.getAllRestaurants(page));
     }
 
     //  VIEW: tourists can view
@@ -31,8 +38,15 @@ public class RestaurantController {
 
     //  VIEW: tourists can view
     @GetMapping("/search")
-    public ResponseEntity<List<Restaurant>> search(@RequestParam String query) {
-        return ResponseEntity.ok(restaurantService.searchRestaurants(query));
+    public ResponseEntity<List<Restaurant>> search(@RequestParam String query, PageQuery page) {
+        return PageResponses.ok(restaurantService.searchRestaurants(query, page));
+    }
+
+    //  VIEW: tourists can view
+    // e.g. ?cuisineType=moroccan,italian&priceRange=$$&rating.min=4&sort=-rating&limit=20
+    @GetMapping("/filter")
+    public ResponseEntity<FacetResult<Restaurant>> filter(@RequestParam MultiValueMap<String, String> params) {
+        return ResponseEntity.ok(restaurantService.filterRestaurants(FacetQuery.from(params)));
     }
 
     //  ADMIN ONLY: create
@@ -1,7 +1,34 @@
 package backend.backend.tourism.restaurant;
 
+import backend.backend.core.bulk.ExportSource;
+import backend.backend.core.bulk.ImportTarget;
+import backend.backend.core.cache.CatalogCache;
+import backend.backend.core.cache.CatalogCaches;
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.FacetIndex;
+import backend.backend.core.common.FacetQuery;
+import backend.backend.core.common.FacetResult;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.Rebuild;
+import backend.backend.core.common.TrigramIndex;
+import backend.backend.core.geo.Place;
+import backend.backend.core.geo.PlaceIndex;
+import backend.backend.core.geo.PlaceSource;
+import backend.backend.core.hours.HoursSource;
+import backend.backend.core.hours.InvalidOpeningHoursException;
+import backend.backend.core.hours.OpeningHours;
+import backend.backend.core.hours.OpeningHoursIndex;
+import backend.backend.core.hours.WeeklySchedule;
+import backend.backend.core.search.CitySearchHit;
+import backend.backend.core.search.CitySearchSource;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,33 +37,63 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-public class RestaurantService {
+public class RestaurantService implements CitySearchSource, PlaceSource, HoursSource, ImportTarget<Restaurant>, ExportSource<Restaurant> {
+
+    private static final Catalog<Restaurant> CATALOG = new Catalog<>("restaurant", "/api/restaurants", Restaurant.class);
+
+    // Keyset order for list/search pages
+    private static final KeysetSort<Restaurant> BY_NAME =
+            KeysetSort.asc("name", Restaurant::getName, Restaurant::getId);
 
     private final RestaurantRepository restaurantRepository;
+    private final CatalogCaches catalogCaches;
+    private final PlaceIndex placeIndex;
+    private final OpeningHoursIndex hoursIndex;
 
-    @Transactional(readOnly = true)
-    public List<Restaurant> getAllRestaurants() {
-        return restaurantRepository.findAll();
+    // Serves search over name, address and cuisineType without LIKE scans
+    private final TrigramIndex<Restaurant> searchIndex =
+            TrigramIndex.of(CATALOG.type(), BY_NAME, Restaurant::getName, Restaurant::getAddress, Restaurant::getCuisineType);
+
+    // Columnar snapshot behind /filter: cuisine, price range and star facets, rating range
+    private final FacetIndex<Restaurant> facetIndex = FacetIndex.builder(CATALOG.type(), BY_NAME)
+            .term("cuisineType", Restaurant::getCuisineType)
+            .term("priceRange", Restaurant::getPriceRange)
+            .term("starRating", Restaurant::getStarRating)
+            .range("rating", Restaurant::getRating, 0, 1, 2, 3, 4)
+            .build();
+
+    // Read-through cache for list pages and single rows, dropped on every write
+    private CatalogCache cache() {
+        return catalogCaches.forCatalog(CATALOG.type());
+    }
+
+    public CursorPage<Restaurant> getAllRestaurants(PageQuery page) {
+        return cache().get(page, () -> KeysetPager.page(restaurantRepository, BY_NAME, null, page));
     }
 
-    @Transactional(readOnly = true)
     public Restaurant getRestaurantById(UUID id) {
-        return restaurantRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Restaurant not found"));
+        return cache().get(id, () -> restaurantRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Restaurant not found")));
     }
 
     @Transactional
     public Restaurant createRestaurant(Restaurant restaurant) {
-        return restaurantRepository.save(restaurant);
+        restaurant.setOpeningSchedule(WeeklySchedule.parse(restaurant.getOpeningHours()));
+        cache().invalidateAfterCommit();
+        return indexAfterCommit(restaurantRepository.save(restaurant));
     }
 
     @Transactional
     public Restaurant updateRestaurant(UUID id, Restaurant details) {
+        WeeklySchedule schedule = WeeklySchedule.parse(details.getOpeningHours());
+        cache().invalidateAfterCommit();
         return restaurantRepository.findById(id)
                 .map(restaurant -> {
                     // Basic information
                     restaurant.setName(details.getName());
                     restaurant.setAddress(details.getAddress());
+                    restaurant.setLatitude(details.getLatitude());
+                    restaurant.setLongitude(details.getLongitude());
                     restaurant.setDescription(details.getDescription());
                     
                     // Contact information
@@ -50,22 +107,120 @@ public class RestaurantService {
                     // Additional details
                     restaurant.setCuisineType(details.getCuisineType());
                     restaurant.setImageUrl(details.getImageUrl());
+                    restaurant.setOpeningHours(details.getOpeningHours());
+                    restaurant.setOpeningSchedule(schedule);
                     
-                    return restaurantRepository.save(restaurant);
+                    return indexAfterCommit(restaurantRepository.save(restaurant));
                 })
                 .orElseThrow(() -> new EntityNotFoundException("Restaurant not found"));
     }
 
     @Transactional
     public void deleteRestaurant(UUID id) {
+        cache().invalidateAfterCommit();
         restaurantRepository.deleteById(id);
+        searchIndex.removeAfterCommit(id);
+        facetIndex.removeAfterCommit(id);
+        placeIndex.removeAfterCommit(CATALOG.type(), id);
+        hoursIndex.removeAfterCommit(CATALOG.type(), id);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Restaurant> searchRestaurants(String query, PageQuery page) {
+        return searchIndex.search(query, page, restaurantRepository::findAllById);
     }
 
     @Transactional(readOnly = true)
-    public List<Restaurant> searchRestaurants(String query) {
-        return restaurantRepository
-                .findByNameContainingIgnoreCaseOrAddressContainingIgnoreCaseOrCuisineTypeContainingIgnoreCase(
-                        query, query, query
-                );
+    public FacetResult<Restaurant> filterRestaurants(FacetQuery query) {
+        return facetIndex.filter(query, restaurantRepository::findAllById);
+    }
+
+    // =========================
+    // BULK IMPORT
+    // =========================
+    // Same derived fields as createRestaurant; unreadable opening hours reject the row
+    @Override
+    public void prepareImport(Restaurant restaurant) {
+        restaurant.setOpeningSchedule(WeeklySchedule.parse(restaurant.getOpeningHours()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void afterImport() {
+        cache().invalidate();
+        rebuildIndexes();
+    }
+
+    // =========================
+    // CATALOG
+    // =========================
+    @Override
+    public Catalog<Restaurant> catalog() {
+        return CATALOG;
+    }
+
+    // =========================
+    // CITY-WIDE SEARCH
+    // =========================
+    @Override
+    public List<TrigramIndex.Ranked<UUID>> rankCity(String query, int limit) {
+        return searchIndex.rank(query, limit);
+    }
+
+    @Override
+    public List<CitySearchHit> loadCity(List<TrigramIndex.Ranked<UUID>> ranked) {
+        return CitySearchHit.of(this, ranked, restaurantRepository::findAllById,
+                Restaurant::getId, Restaurant::getName, Restaurant::getCuisineType);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval-ms:900000}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:900000}"
+    )
+    @Transactional(readOnly = true)
+    public void rebuildIndexes() {
+        Rebuild.run(restaurantRepository::findAll,
+                searchIndex.beginRebuild(),
+                facetIndex.beginRebuild(),
+                placeIndex.beginRebuild(CATALOG.type(), RestaurantService::toPlace),
+                hoursIndex.beginRebuild(CATALOG.type(), RestaurantService::toOpeningHours));
+    }
+
+    // Keeps the search, facet, place and opening hours indexes in step with committed writes
+    private Restaurant indexAfterCommit(Restaurant restaurant) {
+        facetIndex.indexAfterCommit(restaurant);
+        placeIndex.putAfterCommit(CATALOG.type(), restaurant.getId(), toPlace(restaurant));
+        hoursIndex.putAfterCommit(CATALOG.type(), restaurant.getId(), toOpeningHours(restaurant));
+        return searchIndex.indexAfterCommit(restaurant);
+    }
+
+    // =========================
+    // MAP / NEARBY
+    // =========================
+    // Rows without coordinates are not on the map
+    private static Place toPlace(Restaurant restaurant) {
+        if (restaurant.getLatitude() == null || restaurant.getLongitude() == null) {
+            return null;
+        }
+        return new Place(CATALOG.type(), restaurant.getId(), restaurant.getName(), restaurant.getAddress(),
+                restaurant.getLatitude(), restaurant.getLongitude(), true);
+    }
+
+    // =========================
+    // OPEN NOW
+    // =========================
+    // Rows saved before schedules were stored only have the text; unreadable text means no schedule
+    private static OpeningHours toOpeningHours(Restaurant restaurant) {
+        WeeklySchedule schedule = restaurant.getOpeningSchedule();
+        if (schedule == null) {
+            try {
+                schedule = WeeklySchedule.parse(restaurant.getOpeningHours());
+            } catch (InvalidOpeningHoursException e) {
+                return null;
+            }
+        }
+        return schedule == null ? null
+                : new OpeningHours(CATALOG.type(), restaurant.getId(), restaurant.getName(), schedule);
     }
 }
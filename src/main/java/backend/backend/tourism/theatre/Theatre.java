@@ -34,6 +34,17 @@ public class Theatre {
     @Column(nullable = false, length = 200)
     private String address;
 
+    // =========================
+    // Location (WGS84, optional)
+    // =========================
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
     @NotNull(message = "Rating is required")
     @DecimalMin(value = "0.0", inclusive = true, message = "Rating must be at least 0")
     @DecimalMax(value = "5.0", message = "Rating cannot exceed 5")
@@ -1,5 +1,8 @@
 package backend.backend.tourism.theatre;
 
+import backend.backend.core.cache.CatalogVersioned;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.PageResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.UUID;
 
 @RestController
+@CatalogVersioned("theatre")
 @RequestMapping("/api/theatres")
 @RequiredArgsConstructor
 public class TheatreController {
@@ -19,8 +23,8 @@ public class TheatreController {
 
     //  VIEW: tourists can view
     @GetMapping
-    public ResponseEntity<List<Theatre>> getAll() {
-        return ResponseEntity.ok(theatreService.getAllTheatres());
+    public ResponseEntity<List<Theatre>> getAll(PageQuery page) {
+        return PageResponses.ok(theatreService.getAllTheatres(page));
     }
 
     //  VIEW: tourists can view
@@ -31,8 +35,8 @@ public class TheatreController {
 
     //  VIEW: tourists can view
     @GetMapping("/search")
-    public ResponseEntity<List<Theatre>> search(@RequestParam String query) {
-        return ResponseEntity.ok(theatreService.searchTheatres(query));
+    public ResponseEntity<List<Theatre>> search(@RequestParam String query, PageQuery page) {
+        return PageResponses.ok(theatreService.searchTheatres(query, page));
     }
 
     //  ADMIN ONLY: create
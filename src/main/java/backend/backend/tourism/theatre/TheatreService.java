@@ -1,7 +1,26 @@
 package backend.backend.tourism.theatre;
 
+import backend.backend.core.bulk.ExportSource;
+import backend.backend.core.bulk.ImportTarget;
+import backend.backend.core.cache.CatalogCache;
+import backend.backend.core.cache.CatalogCaches;
+import backend.backend.core.common.Catalog;
+import backend.backend.core.common.CursorPage;
+import backend.backend.core.common.KeysetPager;
+import backend.backend.core.common.KeysetSort;
+import backend.backend.core.common.PageQuery;
+import backend.backend.core.common.Rebuild;
+import backend.backend.core.common.TrigramIndex;
+import backend.backend.core.geo.Place;
+import backend.backend.core.geo.PlaceIndex;
+import backend.backend.core.geo.PlaceSource;
+import backend.backend.core.search.CitySearchHit;
+import backend.backend.core.search.CitySearchSource;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,33 +29,52 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-public class TheatreService {
+public class TheatreService implements CitySearchSource, PlaceSource, ImportTarget<Theatre>, ExportSource<Theatre> {
+
+    private static final Catalog<Theatre> CATALOG = new Catalog<>("theatre", "/api/theatres", Theatre.class);
+
+    // Keyset order for list/search pages
+    private static final KeysetSort<Theatre> BY_NAME =
+            KeysetSort.asc("name", Theatre::getName, Theatre::getId);
 
     private final TheatreRepository theatreRepository;
+    private final CatalogCaches catalogCaches;
+    private final PlaceIndex placeIndex;
 
-    @Transactional(readOnly = true)
-    public List<Theatre> getAllTheatres() {
-        return theatreRepository.findAll();
+    // Serves search over name and address without LIKE scans
+    private final TrigramIndex<Theatre> searchIndex =
+            TrigramIndex.of(CATALOG.type(), BY_NAME, Theatre::getName, Theatre::getAddress);
+
+    // Read-through cache for list pages and single rows, dropped on every write
+    private CatalogCache cache() {
+        return catalogCaches.forCatalog(CATALOG.type());
+    }
+
+    public CursorPage<Theatre> getAllTheatres(PageQuery page) {
+        return cache().get(page, () -> KeysetPager.page(theatreRepository, BY_NAME, null, page));
     }
 
-    @Transactional(readOnly = true)
     public Theatre getTheatreById(UUID id) {
-        return theatreRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Theatre not found"));
+        return cache().get(id, () -> theatreRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Theatre not found")));
     }
 
     @Transactional
     public Theatre createTheatre(Theatre theatre) {
-        return theatreRepository.save(theatre);
+        cache().invalidateAfterCommit();
+        return indexAfterCommit(theatreRepository.save(theatre));
     }
 
     @Transactional
     public Theatre updateTheatre(UUID id, Theatre details) {
+        cache().invalidateAfterCommit();
         return theatreRepository.findById(id)
                 .map(theatre -> {
                     // Basic information
                     theatre.setName(details.getName());
                     theatre.setAddress(details.getAddress());
+                    theatre.setLatitude(details.getLatitude());
+                    theatre.setLongitude(details.getLongitude());
                     theatre.setDescription(details.getDescription());
                     
                     // Contact information
@@ -48,18 +86,83 @@ public class TheatreService {
                     // Image URL
                     theatre.setImageUrl(details.getImageUrl());
                     
-                    return theatreRepository.save(theatre);
+                    return indexAfterCommit(theatreRepository.save(theatre));
                 })
                 .orElseThrow(() -> new EntityNotFoundException("Theatre not found"));
     }
 
     @Transactional
     public void deleteTheatre(UUID id) {
+        cache().invalidateAfterCommit();
         theatreRepository.deleteById(id);
+        searchIndex.removeAfterCommit(id);
+        placeIndex.removeAfterCommit(CATALOG.type(), id);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Theatre> searchTheatres(String query, PageQuery page) {
+        return searchIndex.search(query, page, theatreRepository::findAllById);
     }
 
+    // =========================
+    // BULK IMPORT
+    // =========================
+    @Override
     @Transactional(readOnly = true)
-    public List<Theatre> searchTheatres(String query) {
-        return theatreRepository.findByNameContainingIgnoreCaseOrAddressContainingIgnoreCase(query, query);
+    public void afterImport() {
+        cache().invalidate();
+        rebuildIndexes();
+    }
+
+    // =========================
+    // CATALOG
+    // =========================
+    @Override
+    public Catalog<Theatre> catalog() {
+        return CATALOG;
+    }
+
+    // =========================
+    // CITY-WIDE SEARCH
+    // =========================
+    @Override
+    public List<TrigramIndex.Ranked<UUID>> rankCity(String query, int limit) {
+        return searchIndex.rank(query, limit);
+    }
+
+    @Override
+    public List<CitySearchHit> loadCity(List<TrigramIndex.Ranked<UUID>> ranked) {
+        return CitySearchHit.of(this, ranked, theatreRepository::findAllById,
+                Theatre::getId, Theatre::getName, Theatre::getAddress);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval-ms:900000}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:900000}"
+    )
+    @Transactional(readOnly = true)
+    public void rebuildIndexes() {
+        Rebuild.run(theatreRepository::findAll,
+                searchIndex.beginRebuild(),
+                placeIndex.beginRebuild(CATALOG.type(), TheatreService::toPlace));
+    }
+
+    // Keeps the search and place indexes in step with committed writes
+    private Theatre indexAfterCommit(Theatre theatre) {
+        placeIndex.putAfterCommit(CATALOG.type(), theatre.getId(), toPlace(theatre));
+        return searchIndex.indexAfterCommit(theatre);
+    }
+
+    // =========================
+    // MAP / NEARBY
+    // =========================
+    // Rows without coordinates are not on the map
+    private static Place toPlace(Theatre theatre) {
+        if (theatre.getLatitude() == null || theatre.getLongitude() == null) {
+            return null;
+        }
+        return new Place(CATALOG.type(), theatre.getId(), theatre.getName(), theatre.getAddress(),
+                theatre.getLatitude(), theatre.getLongitude(), true);
     }
 }
@@ -7,9 +7,13 @@ document.addEventListener('DOMContentLoaded', () => {
         Components.renderNavbar();
     }
 
-    // 2. Setup Search
+    // 2. Setup Search: filters the module cards and, where searchApi.js is loaded,
+    //    searches every catalog at once through /api/search
     const searchInput = document.getElementById('searchInput');
     if (searchInput) {
+        const results = window.searchApi ? createSearchResults(searchInput) : null;
+        let searchTimer = null;
+
         searchInput.addEventListener('input', (e) => {
             const term = e.target.value.toLowerCase();
             const cards = document.querySelectorAll('.card');
@@ -22,8 +26,85 @@ document.addEventListener('DOMContentLoaded', () => {
                     card.style.display = 'none';
                 }
             });
+
+            if (results) {
+                clearTimeout(searchTimer);
+                searchTimer = setTimeout(() => citySearch(e.target.value.trim(), results), 300);
+            }
         });
     }
 
     // 3. Update active state based on current page (optional)
 });
+
+// =========================
+// City-wide search results
+// =========================
+
+function createSearchResults(searchInput) {
+    const results = document.createElement('div');
+    results.className = 'search-results';
+    results.style.display = 'none';
+    searchInput.insertAdjacentElement('afterend', results);
+    return results;
+}
+
+let citySearchGeneration = 0;
+
+async function citySearch(query, results) {
+    const generation = ++citySearchGeneration;
+    if (query.length < 2) {
+        results.style.display = 'none';
+        return;
+    }
+    try {
+        const response = await searchApi.search(query, 8);
+        if (generation === citySearchGeneration) {
+            renderSearchResults(response, results);
+        }
+    } catch (e) {
+        console.error('City search failed', e);
+        results.style.display = 'none';
+    }
+}
+
+function renderSearchResults(response, results) {
+    const root = typeof Components !== 'undefined' ? Components.getRootPath() : '../';
+    results.innerHTML = '';
+
+    if (response.hits.length === 0) {
+        const empty = document.createElement('p');
+        empty.className = 'search-results-note';
+        empty.textContent = 'Nothing found.';
+        results.appendChild(empty);
+    }
+
+    response.hits.forEach(hit => {
+        const page = searchApi.pageFor(hit.type);
+        const item = document.createElement(page ? 'a' : 'div');
+        item.className = 'search-result';
+        if (page) item.href = root + page;
+
+        const title = document.createElement('strong');
+        title.textContent = hit.title;
+        const type = document.createElement('span');
+        type.className = 'search-result-type';
+        type.textContent = hit.type.replace('-', ' ');
+        item.append(title, type);
+
+        if (hit.subtitle) {
+            const subtitle = document.createElement('small');
+            subtitle.textContent = hit.subtitle;
+            item.appendChild(subtitle);
+        }
+        results.appendChild(item);
+    });
+
+    if (response.partial) {
+        const note = document.createElement('p');
+        note.className = 'search-results-note';
+        note.textContent = 'Some catalogs did not answer in time; results may be incomplete.';
+        results.appendChild(note);
+    }
+    results.style.display = 'block';
+}
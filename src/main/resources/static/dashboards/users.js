@@ -23,7 +23,8 @@ document.addEventListener('DOMContentLoaded', () => {
         cancelBtn: document.getElementById('cancelBtn'),
         addBtn: document.getElementById('addUserBtn'),
         activeToggle: document.getElementById('userActive'),
-        loadingIndicator: document.getElementById('loadingIndicator')
+        loadingIndicator: document.getElementById('loadingIndicator'),
+        stats: document.getElementById('userStats')
     };
 
     // Form fields
@@ -38,21 +39,27 @@ document.addEventListener('DOMContentLoaded', () => {
         active: document.getElementById('userActive')
     };
 
+    // Users arrive a page at a time ("Load more" under the table); role and status are filtered
+    // by the server, the search box only narrows the rows loaded so far
+    const pages = api.pagedList(
+        cursor => usersApi.getPage(cursor, serverFilters()),
+        els.tableBody.closest('table'),
+        items => { users = items; renderTable(); });
+
     // --- Initialization ---
     init();
 
     async function init() {
         setupEventListeners();
         await loadUsers();
-        renderTable();
+        loadStats();
     }
 
     // --- Data Management ---
     async function loadUsers() {
         try {
             showLoading(true);
-            users = await usersApi.getAll();
-            renderTable();
+            await pages.reload();
         } catch (error) {
             console.error('Failed to load users:', error);
             showError('Failed to load users. Please try again.');
@@ -61,6 +68,30 @@ document.addEventListener('DOMContentLoaded', () => {
         }
     }
 
+    function serverFilters() {
+        const filters = {};
+        const role = els.roleFilter ? els.roleFilter.value : 'all';
+        const status = els.statusFilter ? els.statusFilter.value : 'all';
+        if (role && role !== 'all') filters.role = role;
+        if (status === 'active' || status === 'inactive') filters.active = status === 'active';
+        return filters;
+    }
+
+    // Counts come from /api/users/stats (no per-role COUNT queries)
+    async function loadStats() {
+        if (!els.stats) return;
+        try {
+            const stats = await usersApi.getStats();
+            const roles = Object.entries(stats.byRole || {})
+                .map(([role, count]) => `<span class="stat"><strong>${count.total}</strong> ${role}</span>`)
+                .join('');
+            els.stats.innerHTML =
+                `<span class="stat"><strong>${stats.total}</strong> users (${stats.active} active)</span>${roles}`;
+        } catch (error) {
+            console.warn('Failed to load user stats:', error);
+        }
+    }
+
     async function saveUser(userData) {
         try {
             showLoading(true);
@@ -73,10 +104,10 @@ document.addEventListener('DOMContentLoaded', () => {
                 }
                 showSuccess('User updated successfully');
             } else {
-                // Create new user
-                const newUser = await usersApi.create(userData);
-                users.push(newUser);
+                // Create new user; the list is reloaded so it shows in its place in the order
+                await usersApi.create(userData);
                 showSuccess('User created successfully');
+                await pages.reload();
             }
             renderTable();
             closeModal();
@@ -94,8 +125,7 @@ document.addEventListener('DOMContentLoaded', () => {
         try {
             showLoading(true);
             await usersApi.delete(id);
-            users = users.filter(user => user.id !== id);
-            renderTable();
+            await pages.reload();
             showSuccess('User deleted successfully');
         } catch (error) {
             console.error('Error deleting user:', error);
@@ -225,26 +255,13 @@ document.addEventListener('DOMContentLoaded', () => {
     function renderTable() {
         if (!els.tableBody) return;
         
-        // Get filter values
+        // Role and status were applied by the server
         const searchTerm = els.searchInput ? els.searchInput.value.toLowerCase() : '';
-        const roleFilter = els.roleFilter ? els.roleFilter.value : '';
-        const statusFilter = els.statusFilter ? els.statusFilter.value : '';
-        
-        // Filter users
-        const filteredUsers = users.filter(user => {
-            const matchesSearch = 
-                user.firstName.toLowerCase().includes(searchTerm) ||
-                user.lastName.toLowerCase().includes(searchTerm) ||
-                user.email.toLowerCase().includes(searchTerm) ||
-                user.username.toLowerCase().includes(searchTerm);
-                
-            const matchesRole = !roleFilter || user.role === roleFilter;
-            const matchesStatus = statusFilter === '' || 
-                                (statusFilter === 'active' && user.active) ||
-                                (statusFilter === 'inactive' && !user.active);
-            
-            return matchesSearch && matchesRole && matchesStatus;
-        });
+        const filteredUsers = users.filter(user =>
+            user.firstName.toLowerCase().includes(searchTerm) ||
+            user.lastName.toLowerCase().includes(searchTerm) ||
+            user.email.toLowerCase().includes(searchTerm) ||
+            user.username.toLowerCase().includes(searchTerm));
         
         // Clear table
         els.tableBody.innerHTML = '';
@@ -320,12 +337,13 @@ document.addEventListener('DOMContentLoaded', () => {
             els.form.addEventListener('submit', handleFormSubmit);
         }
         
-        // Search and filter inputs
-        const filterInputs = [els.searchInput, els.roleFilter, els.statusFilter];
-        filterInputs.forEach(input => {
-            if (input) {
-                input.addEventListener('input', () => renderTable());
-                input.addEventListener('change', () => renderTable());
+        // Search narrows the loaded rows; role and status fetch the first page again
+        if (els.searchInput) {
+            els.searchInput.addEventListener('input', () => renderTable());
+        }
+        [els.roleFilter, els.statusFilter].forEach(select => {
+            if (select) {
+                select.addEventListener('change', loadUsers);
             }
         });
         
@@ -355,239 +373,4 @@ document.addEventListener('DOMContentLoaded', () => {
     window.toggleUserStatus = (id, active) => {
         toggleUserStatus(id, active);
     };
-});
-                    createdAt: new Date().toISOString()
-                },
-                {
-                    id: generateId(),
-                    firstName: 'Jane',
-                    lastName: 'Student',
-                    username: 'student1',
-                    email: 'student@example.com',
-                    password: 'password123',
-                    role: 'STUDENT',
-                    active: true,
-                    createdAt: new Date().toISOString()
-                },
-                {
-                    id: generateId(),
-                    firstName: 'Bob',
-                    lastName: 'Job',
-                    username: 'jobseeker',
-                    email: 'job@example.com',
-                    password: 'password123',
-                    role: 'JOB_APPLICANT',
-                    active: false,
-                    createdAt: new Date().toISOString()
-                },
-                {
-                    id: generateId(),
-                    firstName: 'Alice',
-                    lastName: 'Business',
-                    username: 'bizowner',
-                    email: 'biz@example.com',
-                    password: 'password123',
-                    role: 'BUSINESS_USER',
-                    active: true,
-                    createdAt: new Date().toISOString()
-                }
-            ];
-            localStorage.setItem(STORAGE_KEY, JSON.stringify(initialUsers));
-        }
-    }
-
-    function loadUsers() {
-        users = JSON.parse(localStorage.getItem(STORAGE_KEY)) || [];
-    }
-
-    function saveUsers() {
-        localStorage.setItem(STORAGE_KEY, JSON.stringify(users));
-        renderTable();
-    }
-
-    function generateId() {
-        return 'xxxxxxxx-xxxx-4xxx-yxxx-xxxxxxxxxxxx'.replace(/[xy]/g, function (c) {
-            var r = Math.random() * 16 | 0, v = c == 'x' ? r : (r & 0x3 | 0x8);
-            return v.toString(16);
-        });
-    }
-
-    // --- UI Rendering ---
-    function renderTable() {
-        const searchTerm = els.searchInput.value.toLowerCase();
-        const roleFilter = els.roleFilter.value;
-        const statusFilter = els.statusFilter.value;
-
-        const filteredUsers = users.filter(user => {
-            const matchesSearch =
-                user.username.toLowerCase().includes(searchTerm) ||
-                user.email.toLowerCase().includes(searchTerm);
-
-            const matchesRole = roleFilter === 'all' || user.role === roleFilter;
-
-            const matchesStatus = statusFilter === 'all' ||
-                (statusFilter === 'active' ? user.active : !user.active);
-
-            return matchesSearch && matchesRole && matchesStatus;
-        });
-
-        els.tableBody.innerHTML = '';
-
-        if (filteredUsers.length === 0) {
-            els.tableBody.innerHTML = `<tr><td colspan="7" style="text-align:center; padding: 2rem; color: #718096;">No users found.</td></tr>`;
-            return;
-        }
-
-        filteredUsers.forEach(user => {
-            const createdDate = new Date(user.createdAt).toLocaleDateString();
-            const row = document.createElement('tr');
-            row.innerHTML = `
-                <td>
-                    <div style="display:flex; align-items:center;">
-                        <div class="user-avatar" style="width: 32px; height: 32px; background: #e2e8f0; border-radius: 50%; display: flex; align-items: center; justify-content: center; margin-right: 10px; color: #4a5568;">
-                            ${user.firstName.charAt(0)}${user.lastName.charAt(0)}
-                        </div>
-                        ${user.firstName} ${user.lastName}
-                    </div>
-                </td>
-                <td>@${user.username}</td>
-                <td>${user.email}</td>
-                <td><span class="badge role-${user.role.toLowerCase()}">${user.role}</span></td>
-                <td>
-                    <span class="badge ${user.active ? 'status-active' : 'status-inactive'}">
-                        ${user.active ? 'Active' : 'Inactive'}
-                    </span>
-                </td>
-                <td>${createdDate}</td>
-                <td>
-                    <div class="action-buttons">
-                        <button class="btn-icon btn-edit" onclick="openEditModal('${user.id}')" title="Edit">
-                            <i class="fas fa-edit"></i>
-                        </button>
-                        <button class="btn-icon btn-delete" onclick="deleteUser('${user.id}')" title="Delete">
-                            <i class="fas fa-trash"></i>
-                        </button>
-                    </div>
-                </td>
-            `;
-            els.tableBody.appendChild(row);
-        });
-    }
-
-    // --- Event Listeners ---
-    function setupEventListeners() {
-        els.searchInput.addEventListener('input', renderTable);
-        els.roleFilter.addEventListener('change', renderTable);
-        els.statusFilter.addEventListener('change', renderTable);
-
-        els.addBtn.addEventListener('click', () => openModal());
-        els.closeBtn.addEventListener('click', closeModal);
-        els.cancelBtn.addEventListener('click', closeModal);
-        els.modal.addEventListener('click', (e) => {
-            if (e.target === els.modal) closeModal();
-        });
-
-        els.form.addEventListener('submit', handleFormSubmit);
-    }
-
-    // --- Form Handling ---
-    function openModal() {
-        isEditMode = false;
-        els.modalTitle.textContent = 'Add New User';
-        els.form.reset();
-        document.getElementById('userId').value = '';
-        els.activeToggle.checked = true;
-        document.getElementById('password').required = true;
-        els.modal.classList.add('show');
-    }
-
-    window.openEditModal = (id) => {
-        const user = users.find(u => u.id === id);
-        if (!user) return;
-
-        isEditMode = true;
-        els.modalTitle.textContent = 'Edit User';
-        document.getElementById('userId').value = user.id;
-        document.getElementById('firstName').value = user.firstName;
-        document.getElementById('lastName').value = user.lastName;
-        document.getElementById('username').value = user.username;
-        document.getElementById('email').value = user.email;
-        document.getElementById('role').value = user.role;
-        document.getElementById('password').value = ''; // Don't show password
-        document.getElementById('password').required = false; // Not required on edit
-
-        els.activeToggle.checked = user.active;
-
-        els.modal.classList.add('show');
-    };
-
-    function closeModal() {
-        els.modal.classList.remove('show');
-    }
-
-    function handleFormSubmit(e) {
-        e.preventDefault();
-
-        const formData = {
-            firstName: document.getElementById('firstName').value,
-            lastName: document.getElementById('lastName').value,
-            username: document.getElementById('username').value,
-            email: document.getElementById('email').value,
-            role: document.getElementById('role').value,
-            active: els.activeToggle.checked,
-            password: document.getElementById('password').value
-        };
-
-        if (isEditMode) {
-            updateUser(document.getElementById('userId').value, formData);
-        } else {
-            createUser(formData);
-        }
-
-        closeModal();
-    }
-
-    // --- CRUD Operations ---
-    function createUser(data) {
-        if (users.some(u => u.username === data.username)) {
-            alert('Username already exists!');
-            return;
-        }
-
-        const newUser = {
-            id: generateId(),
-            ...data,
-            createdAt: new Date().toISOString()
-        };
-
-        users.unshift(newUser);
-        saveUsers();
-    }
-
-    function updateUser(id, data) {
-        const index = users.findIndex(u => u.id === id);
-        if (index === -1) return;
-
-        // Validation for duplication (excluding self)
-        if (users.some(u => u.username === data.username && u.id !== id)) {
-            alert('Username already exists!');
-            return;
-        }
-
-        const existingUser = users[index];
-        users[index] = {
-            ...existingUser,
-            ...data,
-            // Keep old password if new one is empty
-            password: data.password || existingUser.password
-        };
-        saveUsers();
-    }
-
-    window.deleteUser = (id) => {
-        if (confirm('Are you sure you want to delete this user?')) {
-            users = users.filter(u => u.id !== id);
-            saveUsers();
-        }
-    };
 });
@@ -2,6 +2,18 @@
 
 let map;
 let markers = [];
+let currentType = 'all';
+// While the "near me" results are shown, panning does not replace them
+let showingNearest = false;
+
+// Filter buttons use plural names, the places API uses catalog tags
+const PLACE_TYPES = {
+    hotels: 'hotel',
+    restaurants: 'restaurant',
+    theatres: 'theatre',
+    attractions: 'attraction',
+    atms: 'atm'
+};
 
 document.addEventListener('DOMContentLoaded', () => {
     initMap();
@@ -19,36 +31,97 @@ function initMap() {
         attribution: '&copy; OpenStreetMap contributors'
     }).addTo(map);
 
+    // Reload the visible places whenever the viewport changes
+    map.on('moveend', () => {
+        if (!showingNearest) loadMarkers(currentType);
+    });
+
     // Load initial markers (all)
     loadMarkers('all');
 }
 
 function filterMap(type) {
     if (!map) return;
+    currentType = type;
+    showingNearest = false;
     loadMarkers(type);
 }
 
-function loadMarkers(type) {
-    // Clear existing markers
+async function loadMarkers(type) {
+    const bounds = map.getBounds();
+    const types = type === 'all' ? undefined : [PLACE_TYPES[type] || type];
+
+    try {
+        const result = await placesApi.markers({
+            south: bounds.getSouth(),
+            west: bounds.getWest(),
+            north: bounds.getNorth(),
+            east: bounds.getEast()
+        }, map.getZoom(), { types });
+        showMarkers(result);
+    } catch (error) {
+        console.error('Failed to load map places:', error);
+    }
+}
+
+// Closest places of the selected type to the user's position
+function findNearMe(k = 5) {
+    if (!map || !navigator.geolocation) return;
+
+    navigator.geolocation.getCurrentPosition(async position => {
+        const { latitude, longitude } = position.coords;
+        const types = currentType === 'all' ? undefined : [PLACE_TYPES[currentType] || currentType];
+        try {
+            const places = await placesApi.nearest(latitude, longitude, { k, types, activeOnly: true });
+            showingNearest = true;
+            showPlaces(places);
+            map.setView([latitude, longitude], map.getZoom());
+        } catch (error) {
+            console.error('Failed to load nearby places:', error);
+        }
+    });
+}
+
+// Server-side clusters: a count bubble zooms in on click, single places get a normal marker
+function showMarkers({ clusters, points }) {
+    clearMarkers();
+
+    clusters.forEach(([lat, lng, count]) => {
+        const marker = L.marker([lat, lng], {
+            icon: L.divIcon({ className: 'map-cluster', html: `<span>${count}</span>`, iconSize: [36, 36] })
+        })
+            .addTo(map)
+            .on('click', () => map.setView([lat, lng], map.getZoom() + 2));
+        markers.push(marker);
+    });
+
+    points.forEach(([type, id, lat, lng, name]) => {
+        const marker = L.marker([lat, lng])
+            .addTo(map)
+            .bindPopup(`<b>${escapeHtml(name)}</b><br>${type}`);
+        markers.push(marker);
+    });
+}
+
+function clearMarkers() {
     markers.forEach(marker => map.removeLayer(marker));
     markers = [];
+}
 
-    // Mock Data for Casablanca
-    const places = [
-        { name: 'Grand Mogador City Center', type: 'hotels', lat: 33.5900, lng: -7.6000 },
-        { name: 'Hyatt Regency', type: 'hotels', lat: 33.5950, lng: -7.6100 },
-        { name: 'Rick\'s Café', type: 'restaurants', lat: 33.6060, lng: -7.6180 },
-        { name: 'La Sqala', type: 'restaurants', lat: 33.6010, lng: -7.6150 },
-        { name: 'Megarama Cinema', type: 'theatres', lat: 33.6000, lng: -7.6500 },
-        { name: 'Hassan II Mosque', type: 'attractions', lat: 33.6080, lng: -7.6320 }
-    ];
+function showPlaces(places) {
+    clearMarkers();
 
     places.forEach(place => {
-        if (type === 'all' || place.type === type) {
-            const marker = L.marker([place.lat, place.lng])
-                .addTo(map)
-                .bindPopup(`<b>${place.name}</b><br>${place.type}`);
-            markers.push(marker);
-        }
+        const marker = L.marker([place.latitude, place.longitude])
+            .addTo(map)
+            .bindPopup(`<b>${escapeHtml(place.name)}</b><br>${place.type}`
+                + (place.address ? `<br>${escapeHtml(place.address)}` : ''));
+        markers.push(marker);
     });
 }
+
+function escapeHtml(value) {
+    const div = document.createElement('div');
+    div.textContent = value;
+    return div.innerHTML;
+}
@@ -15,6 +15,13 @@ document.addEventListener('DOMContentLoaded', () => {
         imgPre: document.getElementById('imagePreview')
     };
 
+    // Rows arrive a page at a time ("Load more" under the table); the search box queries the server
+    const pages = api.pagedList(
+        cursor => businessCentersApi.getPage(cursor, els.search.value.trim()),
+        els.table.closest('table'),
+        items => { entities = items; renderTable(); });
+    let searchTimer = null;
+
     init();
 
     async function init() {
@@ -24,8 +31,7 @@ document.addEventListener('DOMContentLoaded', () => {
 
     async function loadData() {
         try {
-            entities = await businessCentersApi.getAll();
-            renderTable();
+            await pages.reload();
         } catch (e) {
             console.error('Failed to load data', e);
             els.table.innerHTML = `<tr><td colspan="7" class="text-center text-danger">Failed to load data.</td></tr>`;
@@ -33,7 +39,10 @@ document.addEventListener('DOMContentLoaded', () => {
     }
 
     function setupEvents() {
-        els.search.addEventListener('input', renderTable);
+        els.search.addEventListener('input', () => {
+            clearTimeout(searchTimer);
+            searchTimer = setTimeout(loadData, 300);
+        });
         els.sectorFilter.addEventListener('change', renderTable);
         els.openNowFilter.addEventListener('change', renderTable);
         document.getElementById('addBtn').addEventListener('click', openAdd);
@@ -45,20 +54,18 @@ document.addEventListener('DOMContentLoaded', () => {
     }
 
     function renderTable() {
-        const q = els.search.value.toLowerCase();
         const sector = els.sectorFilter.value;
         const openNow = els.openNowFilter.checked;
         const now = new Date();
         const currentTime = now.getHours() + ':' + String(now.getMinutes()).padStart(2, '0');
 
         const res = entities.filter(e => {
-            const matchesSearch = e.name.toLowerCase().includes(q) || e.sector.toLowerCase().includes(q);
             const matchesSector = sector === 'all' || e.sector === sector;
             let matchesOpen = true;
             if (openNow && e.openTime && e.closeTime) {
                 matchesOpen = currentTime >= e.openTime && currentTime <= e.closeTime;
             }
-            return matchesSearch && matchesSector && matchesOpen;
+            return matchesSector && matchesOpen;
         });
 
         els.table.innerHTML = '';
@@ -18,6 +18,12 @@ document.addEventListener('DOMContentLoaded', () => {
         industrySelect: document.getElementById('industry')
     };
 
+    // Rows arrive a page at a time ("Load more" under the table); the filters apply to the loaded rows
+    const pages = api.pagedList(
+        cursor => businessNewsApi.getPage(cursor),
+        els.table.closest('table'),
+        items => { entities = items; renderTable(); });
+
     init();
 
     async function init() {
@@ -27,8 +33,7 @@ document.addEventListener('DOMContentLoaded', () => {
 
     async function loadData() {
         try {
-            entities = await businessNewsApi.getAll();
-            renderTable();
+            await pages.reload();
         } catch (e) {
             console.error(e);
             els.table.innerHTML = `<tr><td colspan="7" class="text-center text-danger">Failed to load data.</td></tr>`;
@@ -37,7 +42,8 @@ document.addEventListener('DOMContentLoaded', () => {
 
     async function loadIndustries() {
         try {
-            industries = await industriesApi.getAll();
+            // The picker offers one page at the server maximum rather than the whole catalog
+            industries = (await industriesApi.getPage(null, 200)).items;
             populateIndustrySelect();
             populateIndustryFilter();
         } catch (e) {
@@ -13,6 +13,12 @@ document.addEventListener('DOMContentLoaded', () => {
         form: document.getElementById('form'),
     };
 
+    // Rows arrive a page at a time ("Load more" under the table); the filters apply to the loaded rows
+    const pages = api.pagedList(
+        cursor => businessesApi.getPage(cursor),
+        els.table.closest('table'),
+        items => { entities = items; renderTable(); });
+
     init();
 
     async function init() {
@@ -22,8 +28,7 @@ document.addEventListener('DOMContentLoaded', () => {
 
     async function loadData() {
         try {
-            entities = await businessesApi.getAll();
-            renderTable();
+            await pages.reload();
         } catch (e) {
             console.error(e);
             els.table.innerHTML = `<tr><td colspan="6" class="text-center text-danger">Failed to load data.</td></tr>`;
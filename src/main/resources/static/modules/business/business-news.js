@@ -3,20 +3,20 @@
  */
 
 let newsArticles = [];
+let newsPages = null;
 
 document.addEventListener('DOMContentLoaded', async () => {
     await initBusinessNews();
 });
 
 async function initBusinessNews() {
+    setupEventListeners();
     try {
-        newsArticles = await businessNewsApi.getAll();
-        renderNews(newsArticles);
+        await newsPages.reload();
     } catch (e) {
         console.error('Failed to load business news', e);
         document.getElementById('news-list').innerHTML = '<p class="text-center text-danger">Failed to load business news.</p>';
     }
-    setupEventListeners();
 }
 
 function renderNews(data) {
@@ -33,7 +33,7 @@ function renderNews(data) {
         card.className = 'card';
         // Content might be long, so summary is useful. Backend might return full content.
         // Assuming backend has: title, industry, summary, content, imageUrl, date, author, active.
-        const img = article.imageUrl || 'https://via.placeholder.com/300x200?text=News';
+        const img = api.thumbnailUrl(article.imageUrl) || 'https://via.placeholder.com/300x200?text=News';
         const dateStr = article.date ? new Date(article.date).toLocaleDateString() : 'Recent';
 
         card.innerHTML = `
@@ -77,6 +77,12 @@ function setupEventListeners() {
         renderNews(filtered);
     };
 
+    // No server-side search here: the filters apply to the pages loaded so far
+    newsPages = api.pagedList(
+        cursor => businessNewsApi.getPage(cursor),
+        document.getElementById('news-list'),
+        items => { newsArticles = items; applyFilters(); });
+
     if (filterBtn) filterBtn.addEventListener('click', applyFilters);
     if (searchInput) searchInput.addEventListener('input', applyFilters);
     if (industryFilter) industryFilter.addEventListener('change', applyFilters);
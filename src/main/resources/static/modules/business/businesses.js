@@ -3,20 +3,20 @@
  */
 
 let businesses = [];
+let businessPages = null;
 
 document.addEventListener('DOMContentLoaded', async () => {
     await initBusinesses();
 });
 
 async function initBusinesses() {
+    setupEventListeners();
     try {
-        businesses = await businessesApi.getAll();
-        renderBusinesses(businesses);
+        await businessPages.reload();
     } catch (e) {
         console.error('Failed to load businesses', e);
         document.getElementById('business-list').innerHTML = '<p class="text-center text-danger">Failed to load businesses.</p>';
     }
-    setupEventListeners();
 }
 
 function renderBusinesses(data) {
@@ -77,6 +77,12 @@ function setupEventListeners() {
         renderBusinesses(filtered);
     };
 
+    // No server-side search here: the filters apply to the pages loaded so far
+    businessPages = api.pagedList(
+        cursor => businessesApi.getPage(cursor),
+        document.getElementById('business-list'),
+        items => { businesses = items; applyFilters(); });
+
     if (filterBtn) filterBtn.addEventListener('click', applyFilters);
     if (searchInput) searchInput.addEventListener('input', applyFilters);
     if (sectorFilter) sectorFilter.addEventListener('change', applyFilters);
@@ -3,20 +3,20 @@
  */
 
 let centers = [];
+let centerPages = null;
 
 document.addEventListener('DOMContentLoaded', async () => {
     await initCenters();
 });
 
 async function initCenters() {
+    setupEventListeners();
     try {
-        centers = await businessCentersApi.getAll();
-        renderCenters(centers);
+        await centerPages.reload();
     } catch (e) {
         console.error('Failed to load centers', e);
         document.getElementById('center-list').innerHTML = '<p class="text-center text-danger">Failed to load business centers.</p>';
     }
-    setupEventListeners();
 }
 
 function renderCenters(data) {
@@ -31,7 +31,7 @@ function renderCenters(data) {
     data.filter(c => c.active).forEach(center => {
         const card = document.createElement('div');
         card.className = 'card';
-        const img = center.imageUrl || 'https://via.placeholder.com/300x200?text=Business+Center';
+        const img = api.thumbnailUrl(center.imageUrl) || 'https://via.placeholder.com/300x200?text=Business+Center';
 
         card.innerHTML = `
             <img src="${img}" alt="${center.name}" style="width:100%; height: 180px; object-fit: cover; border-radius: 8px;" onerror="this.src='https://via.placeholder.com/300x200'">
@@ -66,21 +66,23 @@ function setupEventListeners() {
     const detailsModal = document.getElementById('detailsModal');
     const closeModal = document.getElementById('closeModal');
 
+    // The search term goes to the server; the type filter narrows the pages loaded so far
     const applyFilters = () => {
-        const term = searchInput.value.toLowerCase();
         const type = typeFilter ? typeFilter.value : 'All';
-
-        const filtered = centers.filter(c => {
-            const matchesSearch = c.name.toLowerCase().includes(term) || c.address.toLowerCase().includes(term);
-            const matchesType = type === 'All' || (c.type && c.type === type);
-            return matchesSearch && matchesType;
-        });
-
-        renderCenters(filtered);
+        renderCenters(centers.filter(c => type === 'All' || (c.type && c.type === type)));
     };
 
+    centerPages = api.pagedList(
+        cursor => businessCentersApi.getPage(cursor, searchInput.value.trim()),
+        document.getElementById('center-list'),
+        items => { centers = items; applyFilters(); });
+
     if (filterBtn) filterBtn.addEventListener('click', applyFilters);
-    if (searchInput) searchInput.addEventListener('input', applyFilters);
+    let searchTimer = null;
+    if (searchInput) searchInput.addEventListener('input', () => {
+        clearTimeout(searchTimer);
+        searchTimer = setTimeout(() => centerPages.reload().catch(e => console.error('Search failed', e)), 300);
+    });
     if (typeFilter) typeFilter.addEventListener('change', applyFilters);
 
     const closeAllModals = () => {
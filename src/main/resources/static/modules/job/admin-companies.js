@@ -17,6 +17,12 @@ document.addEventListener('DOMContentLoaded', () => {
         side: document.querySelector('.sidebar')
     };
 
+    // Rows arrive a page at a time ("Load more" under the table); the filters apply to the loaded rows
+    const pages = api.pagedList(
+        cursor => companiesApi.getPage(cursor),
+        els.table.closest('table'),
+        items => { entities = items; renderTable(); });
+
     init();
 
     async function init() {
@@ -26,8 +32,7 @@ document.addEventListener('DOMContentLoaded', () => {
 
     async function loadData() {
         try {
-            entities = await companiesApi.getAll();
-            renderTable();
+            await pages.reload();
         } catch (e) {
             console.error(e);
             els.table.innerHTML = `<tr><td colspan="7" class="text-center text-danger">Failed to load data.</td></tr>`;
@@ -36,7 +41,8 @@ document.addEventListener('DOMContentLoaded', () => {
 
     async function loadIndustries() {
         try {
-            industries = await industriesApi.getAll();
+            // The picker offers one page at the server maximum rather than the whole catalog
+            industries = (await industriesApi.getPage(null, 200)).items;
             populateIndustrySelect();
         } catch (e) {
             console.error('Failed to load industries', e);
@@ -13,6 +13,12 @@ document.addEventListener('DOMContentLoaded', () => {
         side: document.querySelector('.sidebar')
     };
 
+    // Rows arrive a page at a time ("Load more" under the table); the filters apply to the loaded rows
+    const pages = api.pagedList(
+        cursor => industriesApi.getPage(cursor),
+        els.table.closest('table'),
+        items => { entities = items; renderTable(); });
+
     init();
 
     async function init() {
@@ -22,8 +28,7 @@ document.addEventListener('DOMContentLoaded', () => {
 
     async function loadData() {
         try {
-            entities = await industriesApi.getAll();
-            renderTable();
+            await pages.reload();
         } catch (err) {
             console.error('Failed to load industries', err);
             els.table.innerHTML = `<tr><td colspan="4" class="text-center text-danger">Error loading data. Is the backend running?</td></tr>`;
@@ -17,6 +17,13 @@ document.addEventListener('DOMContentLoaded', () => {
         side: document.querySelector('.sidebar')
     };
 
+    // Rows arrive a page at a time ("Load more" under the table); the search box queries the server
+    const pages = api.pagedList(
+        cursor => jobsApi.getPage(cursor, els.search.value.trim()),
+        els.table.closest('table'),
+        items => { entities = items; renderTable(); });
+    let searchTimer = null;
+
     init();
 
     async function init() {
@@ -26,8 +33,7 @@ document.addEventListener('DOMContentLoaded', () => {
 
     async function loadData() {
         try {
-            entities = await jobsApi.getAll();
-            renderTable();
+            await pages.reload();
         } catch (e) {
             console.error(e);
             els.table.innerHTML = `<tr><td colspan="7" class="text-center text-danger">Failed to load data.</td></tr>`;
@@ -36,7 +42,8 @@ document.addEventListener('DOMContentLoaded', () => {
 
     async function loadCompanies() {
         try {
-            companies = await companiesApi.getAll();
+            // The picker offers one page at the server maximum rather than the whole catalog
+            companies = (await companiesApi.getPage(null, 200)).items;
             populateCompanySelect();
         } catch (e) {
             console.error('Failed to load companies', e);
@@ -45,7 +52,7 @@ document.addEventListener('DOMContentLoaded', () => {
 
     async function loadIndustries() {
         try {
-            industries = await industriesApi.getAll();
+            industries = (await industriesApi.getPage(null, 200)).items;
             populateIndustrySelect();
         } catch (e) {
             console.error('Failed to load industries', e);
@@ -67,7 +74,10 @@ document.addEventListener('DOMContentLoaded', () => {
     }
 
     function setupEvents() {
-        els.search.addEventListener('input', renderTable);
+        els.search.addEventListener('input', () => {
+            clearTimeout(searchTimer);
+            searchTimer = setTimeout(loadData, 300);
+        });
         document.getElementById('addBtn').addEventListener('click', openAdd);
         document.getElementById('closeModal').addEventListener('click', close);
         document.getElementById('cancelBtn').addEventListener('click', close);
@@ -77,11 +87,7 @@ document.addEventListener('DOMContentLoaded', () => {
     }
 
     function renderTable() {
-        const q = els.search.value.toLowerCase();
-        const res = entities.filter(e =>
-            e.title.toLowerCase().includes(q) ||
-            (e.company && e.company.name && e.company.name.toLowerCase().includes(q))
-        );
+        const res = entities;
         els.table.innerHTML = '';
         if (res.length === 0) {
             els.table.innerHTML = `<tr><td colspan="7" class="text-center">No listings found.</td></tr>`;
@@ -3,20 +3,20 @@
  */
 
 let companies = [];
+let companyPages = null;
 
 document.addEventListener('DOMContentLoaded', async () => {
     await initCompanies();
 });
 
 async function initCompanies() {
+    setupEventListeners();
     try {
-        companies = await companiesApi.getAll();
-        renderCompanies(companies);
+        await companyPages.reload();
     } catch (e) {
         console.error('Failed to load companies', e);
         document.getElementById('company-list').innerHTML = '<p class="text-center text-danger">Failed to load companies.</p>';
     }
-    setupEventListeners();
 }
 
 function renderCompanies(data) {
@@ -31,7 +31,7 @@ function renderCompanies(data) {
     data.filter(c => c.active).forEach(company => {
         const card = document.createElement('div');
         card.className = 'card';
-        const img = company.imageUrl || 'https://via.placeholder.com/300x200?text=Company';
+        const img = api.thumbnailUrl(company.imageUrl) || 'https://via.placeholder.com/300x200?text=Company';
         const industryName = company.industry ? company.industry.name : 'General';
 
         card.innerHTML = `
@@ -80,6 +80,12 @@ function setupEventListeners() {
         renderCompanies(filtered);
     };
 
+    // No server-side search here: the filters apply to the pages loaded so far
+    companyPages = api.pagedList(
+        cursor => companiesApi.getPage(cursor),
+        document.getElementById('company-list'),
+        items => { companies = items; applyFilters(); });
+
     if (filterBtn) filterBtn.addEventListener('click', applyFilters);
     if (searchInput) searchInput.addEventListener('input', applyFilters);
 
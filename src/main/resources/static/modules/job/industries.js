@@ -3,20 +3,20 @@
  */
 
 let industries = [];
+let industryPages = null;
 
 document.addEventListener('DOMContentLoaded', async () => {
     await initIndustries();
 });
 
 async function initIndustries() {
+    setupEventListeners();
     try {
-        industries = await industriesApi.getAll();
-        renderIndustries(industries);
+        await industryPages.reload();
     } catch (e) {
         console.error('Failed to load industries', e);
         document.getElementById('industry-list').innerHTML = '<p class="text-center text-danger">Failed to load industries.</p>';
     }
-    setupEventListeners();
 }
 
 function renderIndustries(data) {
@@ -62,13 +62,18 @@ function setupEventListeners() {
     const detailsModal = document.getElementById('detailsModal');
     const closeModal = document.getElementById('closeModal');
 
-    if (searchInput) {
-        searchInput.addEventListener('input', () => {
-            const term = searchInput.value.toLowerCase();
-            const filtered = industries.filter(i => i.name.toLowerCase().includes(term));
-            renderIndustries(filtered);
-        });
-    }
+    const applyFilters = () => {
+        const term = searchInput ? searchInput.value.toLowerCase() : '';
+        renderIndustries(industries.filter(i => i.name.toLowerCase().includes(term)));
+    };
+
+    // No server-side search here: the filter applies to the pages loaded so far
+    industryPages = api.pagedList(
+        cursor => industriesApi.getPage(cursor),
+        document.getElementById('industry-list'),
+        items => { industries = items; applyFilters(); });
+
+    if (searchInput) searchInput.addEventListener('input', applyFilters);
 
     const closeAllModals = () => {
         detailsModal.style.display = 'none';
@@ -3,20 +3,20 @@
  */
 
 let jobs = [];
+let jobPages = null;
 
 document.addEventListener('DOMContentLoaded', async () => {
     await initJobListings();
 });
 
 async function initJobListings() {
+    setupEventListeners();
     try {
-        jobs = await jobsApi.getAll();
-        renderJobs(jobs);
+        await jobPages.reload();
     } catch (e) {
         console.error('Failed to load jobs', e);
         document.getElementById('job-list').innerHTML = '<p class="text-center text-danger">Failed to load jobs.</p>';
     }
-    setupEventListeners();
 }
 
 function renderJobs(data) {
@@ -65,22 +65,23 @@ function setupEventListeners() {
     const detailsModal = document.getElementById('detailsModal');
     const closeModal = document.getElementById('closeModal');
 
+    // The search term goes to the server; the type filter narrows the pages loaded so far
     const applyFilters = () => {
-        const term = searchInput.value.toLowerCase();
         const type = typeFilter ? typeFilter.value : 'All';
-
-        const filtered = jobs.filter(job => {
-            const companyName = job.company ? job.company.name.toLowerCase() : '';
-            const matchesSearch = job.title.toLowerCase().includes(term) || companyName.includes(term);
-            const matchesType = type === 'All' || job.type === type;
-            return matchesSearch && matchesType;
-        });
-
-        renderJobs(filtered);
+        renderJobs(jobs.filter(job => type === 'All' || job.type === type));
     };
 
+    jobPages = api.pagedList(
+        cursor => jobsApi.getPage(cursor, searchInput.value.trim()),
+        document.getElementById('job-list'),
+        items => { jobs = items; applyFilters(); });
+
     if (filterBtn) filterBtn.addEventListener('click', applyFilters);
-    if (searchInput) searchInput.addEventListener('input', applyFilters);
+    let searchTimer = null;
+    if (searchInput) searchInput.addEventListener('input', () => {
+        clearTimeout(searchTimer);
+        searchTimer = setTimeout(() => jobPages.reload().catch(e => console.error('Search failed', e)), 300);
+    });
     if (typeFilter) typeFilter.addEventListener('change', applyFilters);
 
     const closeAllModals = () => {
@@ -15,6 +15,13 @@ document.addEventListener('DOMContentLoaded', () => {
         side: document.querySelector('.sidebar')
     };
 
+    // Rows arrive a page at a time ("Load more" under the table); the search box queries the server
+    const pages = api.pagedList(
+        cursor => universitiesApi.getPage(cursor, els.search.value.trim()),
+        els.table.closest('table'),
+        items => { entities = items; renderTable(); });
+    let searchTimer = null;
+
     init();
 
     async function init() {
@@ -24,8 +31,7 @@ document.addEventListener('DOMContentLoaded', () => {
 
     async function loadData() {
         try {
-            entities = await universitiesApi.getAll();
-            renderTable();
+            await pages.reload();
         } catch (e) {
             console.error(e);
             els.table.innerHTML = `<tr><td colspan="7" class="text-center text-danger">Failed to load data.</td></tr>`;
@@ -33,7 +39,10 @@ document.addEventListener('DOMContentLoaded', () => {
     }
 
     function setupEvents() {
-        els.search.addEventListener('input', renderTable);
+        els.search.addEventListener('input', () => {
+            clearTimeout(searchTimer);
+            searchTimer = setTimeout(loadData, 300);
+        });
         document.getElementById('addBtn').addEventListener('click', openAdd);
         document.getElementById('closeModal').addEventListener('click', close);
         document.getElementById('cancelBtn').addEventListener('click', close);
@@ -44,11 +53,7 @@ document.addEventListener('DOMContentLoaded', () => {
     }
 
     function renderTable() {
-        const q = els.search.value.toLowerCase();
-        const res = entities.filter(e =>
-            e.name.toLowerCase().includes(q) ||
-            (e.faculties && e.faculties.some(f => f.toLowerCase().includes(q)))
-        );
+        const res = entities;
         els.table.innerHTML = '';
         if (res.length === 0) {
             els.table.innerHTML = `<tr><td colspan="7" class="text-center">No universities found.</td></tr>`;
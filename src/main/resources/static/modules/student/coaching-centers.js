@@ -3,20 +3,20 @@
  */
 
 let coachingCenters = [];
+let coachingPages = null;
 
 document.addEventListener('DOMContentLoaded', async () => {
     await initCoaching();
 });
 
 async function initCoaching() {
+    setupEventListeners();
     try {
-        coachingCenters = await coachingApi.getAll();
-        renderCoaching(coachingCenters);
+        await coachingPages.reload();
     } catch (e) {
         console.error('Failed to load coaching centers', e);
         document.getElementById('coaching-list').innerHTML = '<p class="text-center text-danger">Failed to load coaching centers.</p>';
     }
-    setupEventListeners();
 }
 
 function renderCoaching(data) {
@@ -57,13 +57,17 @@ function setupEventListeners() {
     const detailsModal = document.getElementById('detailsModal');
     const closeModal = document.getElementById('closeModal');
 
-    if (searchInput) {
-        searchInput.addEventListener('input', () => {
-            const term = searchInput.value.toLowerCase();
-            const filtered = coachingCenters.filter(c => c.name.toLowerCase().includes(term) || c.specialization.toLowerCase().includes(term));
-            renderCoaching(filtered);
-        });
-    }
+    // Searching is done by the server, a page at a time
+    coachingPages = api.pagedList(
+        cursor => coachingApi.getPage(cursor, searchInput ? searchInput.value.trim() : ''),
+        document.getElementById('coaching-list'),
+        items => { coachingCenters = items; renderCoaching(coachingCenters); });
+
+    let searchTimer = null;
+    if (searchInput) searchInput.addEventListener('input', () => {
+        clearTimeout(searchTimer);
+        searchTimer = setTimeout(() => coachingPages.reload().catch(e => console.error('Search failed', e)), 300);
+    });
 
     const closeAllModals = () => {
         detailsModal.style.display = 'none';
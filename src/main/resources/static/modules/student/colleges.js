@@ -3,20 +3,20 @@
  */
 
 let colleges = [];
+let collegePages = null;
 
 document.addEventListener('DOMContentLoaded', async () => {
     await initColleges();
 });
 
 async function initColleges() {
+    setupEventListeners();
     try {
-        colleges = await collegesApi.getAll();
-        renderColleges(colleges);
+        await collegePages.reload();
     } catch (e) {
         console.error('Failed to load colleges', e);
         document.getElementById('college-list').innerHTML = '<p class="text-center text-danger">Failed to load colleges.</p>';
     }
-    setupEventListeners();
 }
 
 function renderColleges(data) {
@@ -63,21 +63,23 @@ function setupEventListeners() {
     const detailsModal = document.getElementById('detailsModal');
     const closeModal = document.getElementById('closeModal');
 
+    // The search term goes to the server; the type filter narrows the pages loaded so far
     const applyFilters = () => {
-        const term = searchInput ? searchInput.value.toLowerCase() : '';
         const type = typeFilter ? typeFilter.value : 'All';
-
-        const filtered = colleges.filter(c => {
-            const matchesSearch = c.name.toLowerCase().includes(term) || c.address.toLowerCase().includes(term);
-            const matchesType = type === 'All' || (c.type && c.type === type);
-            return matchesSearch && matchesType;
-        });
-
-        renderColleges(filtered);
+        renderColleges(colleges.filter(c => type === 'All' || (c.type && c.type === type)));
     };
 
+    collegePages = api.pagedList(
+        cursor => collegesApi.getPage(cursor, searchInput ? searchInput.value.trim() : ''),
+        document.getElementById('college-list'),
+        items => { colleges = items; applyFilters(); });
+
     if (filterBtn) filterBtn.addEventListener('click', applyFilters);
-    if (searchInput) searchInput.addEventListener('input', applyFilters);
+    let searchTimer = null;
+    if (searchInput) searchInput.addEventListener('input', () => {
+        clearTimeout(searchTimer);
+        searchTimer = setTimeout(() => collegePages.reload().catch(e => console.error('Search failed', e)), 300);
+    });
     if (typeFilter) typeFilter.addEventListener('change', applyFilters);
 
     const closeAllModals = () => {
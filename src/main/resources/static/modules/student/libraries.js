@@ -3,20 +3,20 @@
  */
 
 let libraries = [];
+let libraryPages = null;
 
 document.addEventListener('DOMContentLoaded', async () => {
     await initLibraries();
 });
 
 async function initLibraries() {
+    setupEventListeners();
     try {
-        libraries = await librariesApi.getAll();
-        renderLibraries(libraries);
+        await libraryPages.reload();
     } catch (e) {
         console.error('Failed to load libraries', e);
         document.getElementById('library-list').innerHTML = '<p class="text-center text-danger">Failed to load libraries.</p>';
     }
-    setupEventListeners();
 }
 
 function renderLibraries(data) {
@@ -54,18 +54,21 @@ function renderLibraries(data) {
 
 function setupEventListeners() {
     const searchInput = document.getElementById('searchInput');
-    const filterBtn = document.getElementById('filterBtn');
 
     const detailsModal = document.getElementById('detailsModal');
     const closeModal = document.getElementById('closeModal');
 
-    const applyFilters = () => {
-        const term = searchInput ? searchInput.value.toLowerCase() : '';
-        const filtered = libraries.filter(l => l.name.toLowerCase().includes(term) || l.address.toLowerCase().includes(term));
-        renderLibraries(filtered);
-    };
+    // Searching is done by the server, a page at a time
+    libraryPages = api.pagedList(
+        cursor => librariesApi.getPage(cursor, searchInput ? searchInput.value.trim() : ''),
+        document.getElementById('library-list'),
+        items => { libraries = items; renderLibraries(libraries); });
 
-    if (searchInput) searchInput.addEventListener('input', applyFilters);
+    let searchTimer = null;
+    if (searchInput) searchInput.addEventListener('input', () => {
+        clearTimeout(searchTimer);
+        searchTimer = setTimeout(() => libraryPages.reload().catch(e => console.error('Search failed', e)), 300);
+    });
 
     const closeAllModals = () => {
         detailsModal.style.display = 'none';
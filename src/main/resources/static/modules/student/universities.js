@@ -3,20 +3,20 @@
  */
 
 let universities = [];
+let universityPages = null;
 
 document.addEventListener('DOMContentLoaded', async () => {
     await initUniversities();
 });
 
 async function initUniversities() {
+    setupEventListeners();
     try {
-        universities = await universitiesApi.getAll();
-        renderUniversities(universities);
+        await universityPages.reload();
     } catch (e) {
         console.error('Failed to load universities', e);
         document.getElementById('university-list').innerHTML = '<p class="text-center text-danger">Failed to load universities.</p>';
     }
-    setupEventListeners();
 }
 
 function renderUniversities(data) {
@@ -71,24 +71,30 @@ function setupEventListeners() {
     const detailsModal = document.getElementById('detailsModal');
     const closeModal = document.getElementById('closeModal');
 
-    // Filter Logic
+    // Filter Logic: the search term goes to the server, the faculty narrows the pages loaded so far
     const applyFilters = () => {
-        const term = searchInput.value.toLowerCase();
         const faculty = facultyFilter.value;
 
         const filtered = universities.filter(uni => {
-            const matchesSearch = uni.name.toLowerCase().includes(term) || uni.address.toLowerCase().includes(term);
             // Check if faculties array includes the selected faculty
             const faculties = Array.isArray(uni.faculties) ? uni.faculties : [];
-            const matchesFaculty = faculty === 'All' || faculties.includes(faculty);
-            return matchesSearch && matchesFaculty;
+            return faculty === 'All' || faculties.includes(faculty);
         });
 
         renderUniversities(filtered);
     };
 
+    universityPages = api.pagedList(
+        cursor => universitiesApi.getPage(cursor, searchInput.value.trim()),
+        document.getElementById('university-list'),
+        items => { universities = items; applyFilters(); });
+
     if (filterBtn) filterBtn.addEventListener('click', applyFilters);
-    if (searchInput) searchInput.addEventListener('input', applyFilters);
+    let searchTimer = null;
+    if (searchInput) searchInput.addEventListener('input', () => {
+        clearTimeout(searchTimer);
+        searchTimer = setTimeout(() => universityPages.reload().catch(e => console.error('Search failed', e)), 300);
+    });
     if (facultyFilter) facultyFilter.addEventListener('change', applyFilters);
 
     // Modal Close Logic
@@ -18,6 +18,14 @@
   const itemsPerPage = 5;
   let currentFilter = 'all';
   let searchQuery = '';
+  let searchTimer = null;
+  // Server pages of 50 are fetched as the pager reaches the end of what is loaded;
+  // the search term is sent to the server, the other filters apply to the loaded rows
+  const pages = api.pagedList(
+    (cursor) => atmsApi.getPage(cursor, searchQuery),
+    null,
+    (items) => { atms = items; renderTable(); }
+  );
   const isEditMode = { active: false, id: null };
 
   // --- DOM Elements ---
@@ -58,9 +66,8 @@
   async function loadATMs() {
     try {
       renderLoading();
-      atms = await atmsApi.getAll();
+      await pages.reload();
       console.log('ATMs loaded:', atms.length);
-      renderTable();
     } catch (error) {
       console.error('Failed to load ATMs', error);
       tableBody.innerHTML = `<tr><td colspan="5" class="text-center text-danger">Failed to load data.</td></tr>`;
@@ -72,9 +79,10 @@
 
     if (searchInput) {
       searchInput.addEventListener('input', (e) => {
-        searchQuery = (e.target.value || '').toLowerCase();
+        searchQuery = (e.target.value || '').trim();
         currentPage = 1;
-        renderTable();
+        clearTimeout(searchTimer);
+        searchTimer = setTimeout(loadATMs, 300);
       });
     }
 
@@ -96,9 +104,11 @@
     }
 
     if (nextBtn) {
-      nextBtn.addEventListener('click', () => {
-        const totalPages = Math.ceil(getFilteredATMs().length / itemsPerPage) || 1;
-        if (currentPage < totalPages) {
+      nextBtn.addEventListener('click', async () => {
+        if (currentPage >= loadedPages() && pages.hasMore()) {
+          await pages.more();
+        }
+        if (currentPage < loadedPages()) {
           currentPage++;
           renderTable();
         }
@@ -138,19 +148,10 @@
   }
 
   function getFilteredATMs() {
-    return atms.filter((atm) => {
-      const name = (atm.name || '').toLowerCase();
-      const bankName = (atm.bankName || '').toLowerCase();
-      const address = (atm.address || '').toLowerCase();
-
-      const matchesSearch = name.includes(searchQuery) || bankName.includes(searchQuery) || address.includes(searchQuery);
-      const matchesFilter =
-        currentFilter === 'all' ||
-        (currentFilter === 'active' && !!atm.active) ||
-        (currentFilter === 'inactive' && !atm.active);
-
-      return matchesSearch && matchesFilter;
-    });
+    return atms.filter((atm) =>
+      currentFilter === 'all' ||
+      (currentFilter === 'active' && !!atm.active) ||
+      (currentFilter === 'inactive' && !atm.active));
   }
 
   function renderTable() {
@@ -203,9 +204,13 @@
 
   function updatePagination(current, total) {
     if (!pageInfo || !prevBtn || !nextBtn) return;
-    pageInfo.textContent = `Page ${current} of ${total}`;
+    pageInfo.textContent = `Page ${current} of ${total}${pages.hasMore() ? '+' : ''}`;
     prevBtn.disabled = current <= 1;
-    nextBtn.disabled = current >= total;
+    nextBtn.disabled = current >= total && !pages.hasMore();
+  }
+
+  function loadedPages() {
+    return Math.ceil(getFilteredATMs().length / itemsPerPage) || 1;
   }
 
   function openAddModal() {
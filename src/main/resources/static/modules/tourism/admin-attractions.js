@@ -17,6 +17,14 @@
   let currentPage = 1;
   const itemsPerPage = 5;
   let searchQuery = '';
+  let searchTimer = null;
+  // Server pages of 50 are fetched as the pager reaches the end of what is loaded;
+  // the search term is sent to the server, the other filters apply to the loaded rows
+  const pages = api.pagedList(
+    (cursor) => attractionsApi.getPage(cursor, searchQuery),
+    null,
+    (items) => { attractions = items; renderTable(); }
+  );
   const isEditMode = { active: false, id: null };
 
   // --- DOM Elements ---
@@ -58,9 +66,8 @@
   async function loadAttractions() {
     try {
       renderLoading();
-      attractions = await attractionsApi.getAll();
+      await pages.reload();
       console.log('Attractions loaded:', attractions.length);
-      renderTable();
     } catch (error) {
       console.error('Failed to load attractions', error);
       tableBody.innerHTML = `<tr><td colspan="7" class="text-center text-danger">Failed to load data.</td></tr>`;
@@ -72,9 +79,10 @@
 
     if (searchInput) {
       searchInput.addEventListener('input', (e) => {
-        searchQuery = (e.target.value || '').toLowerCase();
+        searchQuery = (e.target.value || '').trim();
         currentPage = 1;
-        renderTable();
+        clearTimeout(searchTimer);
+        searchTimer = setTimeout(loadAttractions, 300);
       });
     }
 
@@ -88,9 +96,11 @@
     }
 
     if (nextBtn) {
-      nextBtn.addEventListener('click', () => {
-        const totalPages = Math.ceil(getFilteredAttractions().length / itemsPerPage) || 1;
-        if (currentPage < totalPages) {
+      nextBtn.addEventListener('click', async () => {
+        if (currentPage >= loadedPages() && pages.hasMore()) {
+          await pages.more();
+        }
+        if (currentPage < loadedPages()) {
           currentPage++;
           renderTable();
         }
@@ -130,15 +140,8 @@
   }
 
   function getFilteredAttractions() {
-    return attractions.filter((attraction) => {
-      const name = (attraction.name || '').toLowerCase();
-      const category = (attraction.category || '').toLowerCase();
-      const address = (attraction.address || '').toLowerCase();
-      const contact = (attraction.contactNumber || '').toLowerCase();
-
-      return name.includes(searchQuery) || category.includes(searchQuery) ||
-             address.includes(searchQuery) || contact.includes(searchQuery);
-    });
+    // Search results already come filtered from the server
+    return attractions;
   }
 
   function renderTable() {
@@ -193,9 +196,13 @@
 
   function updatePagination(current, total) {
     if (!pageInfo || !prevBtn || !nextBtn) return;
-    pageInfo.textContent = `Page ${current} of ${total}`;
+    pageInfo.textContent = `Page ${current} of ${total}${pages.hasMore() ? '+' : ''}`;
     prevBtn.disabled = current <= 1;
-    nextBtn.disabled = current >= total;
+    nextBtn.disabled = current >= total && !pages.hasMore();
+  }
+
+  function loadedPages() {
+    return Math.ceil(getFilteredAttractions().length / itemsPerPage) || 1;
   }
 
   function openAddModal() {
@@ -20,6 +20,14 @@
   const itemsPerPage = 5;
   let currentFilter = 'all';
   let searchQuery = '';
+  let searchTimer = null;
+  // Server pages of 50 are fetched as the pager reaches the end of what is loaded;
+  // the search term is sent to the server, the other filters apply to the loaded rows
+  const pages = api.pagedList(
+    (cursor) => hotelsApi.getPage(cursor, searchQuery),
+    null,
+    (items) => { hotels = items; renderTable(); }
+  );
   const isEditMode = { active: false, id: null };
 
   // --- DOM Elements ---
@@ -38,6 +46,7 @@
   const cancelBtn = document.getElementById('cancelBtn');
 
   const imageInput = document.getElementById('hotelImage');
+  const imageFileInput = document.getElementById('hotelImageFile');
   const imagePreview = document.getElementById('imagePreview');
   const imagePreviewContainer = document.getElementById('imagePreviewContainer');
 
@@ -80,9 +89,8 @@
   async function loadHotels() {
     try {
       renderLoading();
-      hotels = await hotelsApi.getAll();
+      await pages.reload();
       console.log('Hotels loaded:', hotels.length);
-      renderTable();
     } catch (error) {
       console.error('Failed to load hotels', error);
       tableBody.innerHTML = `<tr><td colspan="9" class="text-center text-danger">Failed to load data.</td></tr>`;
@@ -94,9 +102,10 @@
 
     if (searchInput) {
       searchInput.addEventListener('input', (e) => {
-        searchQuery = (e.target.value || '').toLowerCase();
+        searchQuery = (e.target.value || '').trim();
         currentPage = 1;
-        renderTable();
+        clearTimeout(searchTimer);
+        searchTimer = setTimeout(loadHotels, 300);
       });
     }
 
@@ -118,9 +127,11 @@
     }
 
     if (nextBtn) {
-      nextBtn.addEventListener('click', () => {
-        const totalPages = Math.ceil(getFilteredHotels().length / itemsPerPage) || 1;
-        if (currentPage < totalPages) {
+      nextBtn.addEventListener('click', async () => {
+        if (currentPage >= loadedPages() && pages.hasMore()) {
+          await pages.more();
+        }
+        if (currentPage < loadedPages()) {
           currentPage++;
           renderTable();
         }
@@ -154,6 +165,9 @@
     if (imageInput) {
       imageInput.addEventListener('input', handleImagePreview);
     }
+    if (imageFileInput) {
+      imageFileInput.addEventListener('change', handleImageUpload);
+    }
 
     tableBody.addEventListener('click', async (e) => {
       const editBtn = e.target.closest('[data-action="edit"]');
@@ -174,18 +188,10 @@
   }
 
   function getFilteredHotels() {
-    return hotels.filter((hotel) => {
-      const name = (hotel.name || '').toLowerCase();
-      const address = (hotel.address || '').toLowerCase();
-
-      const matchesSearch = name.includes(searchQuery) || address.includes(searchQuery);
-      const matchesFilter =
-        currentFilter === 'all' ||
-        (currentFilter === 'active' && !!hotel.active) ||
-        (currentFilter === 'inactive' && !hotel.active);
-
-      return matchesSearch && matchesFilter;
-    });
+    return hotels.filter((hotel) =>
+      currentFilter === 'all' ||
+      (currentFilter === 'active' && !!hotel.active) ||
+      (currentFilter === 'inactive' && !hotel.active));
   }
 
   function renderTable() {
@@ -221,7 +227,7 @@
       console.log(`Rendering row for ${hotel.name}: startingPrice=${hotel.startingPrice}, displaying="${price}"`);
 
       row.innerHTML = `
-        <td><img src="${hotel.imageUrl || noImageSVG}" class="hotel-thumb" alt="Thumb"></td>
+        <td><img src="${api.thumbnailUrl(hotel.imageUrl) || noImageSVG}" class="hotel-thumb" alt="Thumb"></td>
         <td><strong>${hotel.name || '-'}</strong></td>
         <td>${hotel.address || '-'}</td>
         <td>
@@ -256,9 +262,13 @@
 
   function updatePagination(current, total) {
     if (!pageInfo || !prevBtn || !nextBtn) return;
-    pageInfo.textContent = `Page ${current} of ${total}`;
+    pageInfo.textContent = `Page ${current} of ${total}${pages.hasMore() ? '+' : ''}`;
     prevBtn.disabled = current <= 1;
-    nextBtn.disabled = current >= total;
+    nextBtn.disabled = current >= total && !pages.hasMore();
+  }
+
+  function loadedPages() {
+    return Math.ceil(getFilteredHotels().length / itemsPerPage) || 1;
   }
 
   function openAddModal() {
@@ -270,6 +280,7 @@
     hotelForm.reset();
 
     if (imageInput) imageInput.value = '';
+    if (imageFileInput) imageFileInput.value = '';
     if (imagePreview) imagePreview.src = placeholderSVG;
     if (imagePreviewContainer) imagePreviewContainer.style.display = 'none';
 
@@ -444,6 +455,21 @@
     }
   }
 
+  // Uploads the chosen file and puts its stored URL in the Image URL field
+  async function handleImageUpload(e) {
+    const file = e.target.files && e.target.files[0];
+    if (!file || !imageInput) return;
+    try {
+      const stored = await api.upload('hotels', file);
+      imageInput.value = stored.url;
+      imageInput.dispatchEvent(new Event('input'));
+    } catch (err) {
+      console.error(err);
+      alert('Image upload failed: ' + err.message);
+      e.target.value = '';
+    }
+  }
+
   async function deleteHotel(id) {
     if (!confirm('Are you sure you want to delete this hotel?')) return;
     try {
@@ -18,6 +18,14 @@
   let currentPage = 1;
   const itemsPerPage = 5;
   let searchQuery = '';
+  let searchTimer = null;
+  // Server pages of 50 are fetched as the pager reaches the end of what is loaded;
+  // the search term is sent to the server, the other filters apply to the loaded rows
+  const pages = api.pagedList(
+    (cursor) => restaurantsApi.getPage(cursor, searchQuery),
+    null,
+    (items) => { restaurants = items; renderTable(); }
+  );
   const isEditMode = { active: false, id: null };
 
   // --- DOM Elements ---
@@ -72,9 +80,8 @@
   async function loadRestaurants() {
     try {
       renderLoading();
-      restaurants = await restaurantsApi.getAll();
+      await pages.reload();
       console.log('Restaurants loaded:', restaurants.length);
-      renderTable();
     } catch (error) {
       console.error('Failed to load restaurants', error);
       tableBody.innerHTML = '<tr><td colspan="7" class="text-center text-danger">Failed to load data.</td></tr>';
@@ -86,9 +93,10 @@
 
     if (searchInput) {
       searchInput.addEventListener('input', (e) => {
-        searchQuery = (e.target.value || '').toLowerCase();
+        searchQuery = (e.target.value || '').trim();
         currentPage = 1;
-        renderTable();
+        clearTimeout(searchTimer);
+        searchTimer = setTimeout(loadRestaurants, 300);
       });
     }
 
@@ -102,9 +110,11 @@
     }
 
     if (nextBtn) {
-      nextBtn.addEventListener('click', () => {
-        const totalPages = Math.ceil(getFilteredRestaurants().length / itemsPerPage) || 1;
-        if (currentPage < totalPages) {
+      nextBtn.addEventListener('click', async () => {
+        if (currentPage >= loadedPages() && pages.hasMore()) {
+          await pages.more();
+        }
+        if (currentPage < loadedPages()) {
           currentPage++;
           renderTable();
         }
@@ -158,12 +168,8 @@
   }
 
   function getFilteredRestaurants() {
-    return restaurants.filter((restaurant) => {
-      const name = (restaurant.name || '').toLowerCase();
-      const cuisine = (restaurant.cuisineType || '').toLowerCase();
-
-      return name.includes(searchQuery) || cuisine.includes(searchQuery);
-    });
+    // Search results already come filtered from the server
+    return restaurants;
   }
 
   function renderTable() {
@@ -215,9 +221,13 @@
 
   function updatePagination(current, total) {
     if (!pageInfo || !prevBtn || !nextBtn) return;
-    pageInfo.textContent = `Page ${current} of ${total}`;
+    pageInfo.textContent = `Page ${current} of ${total}${pages.hasMore() ? '+' : ''}`;
     prevBtn.disabled = current <= 1;
-    nextBtn.disabled = current >= total;
+    nextBtn.disabled = current >= total && !pages.hasMore();
+  }
+
+  function loadedPages() {
+    return Math.ceil(getFilteredRestaurants().length / itemsPerPage) || 1;
   }
 
   function openAddModal() {
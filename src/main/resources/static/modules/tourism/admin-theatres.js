@@ -20,6 +20,14 @@
   let currentPage = 1;
   const itemsPerPage = 5;
   let searchQuery = '';
+  let searchTimer = null;
+  // Server pages of 50 are fetched as the pager reaches the end of what is loaded;
+  // the search term is sent to the server, the other filters apply to the loaded rows
+  const pages = api.pagedList(
+    (cursor) => theatresApi.getPage(cursor, searchQuery),
+    null,
+    (items) => { theatres = items; renderTable(); }
+  );
   const isEditMode = { active: false, id: null };
 
   // --- DOM Elements ---
@@ -59,9 +67,8 @@
   async function loadTheatres() {
     try {
       renderLoading();
-      theatres = await theatresApi.getAll();
+      await pages.reload();
       console.log('Theatres loaded:', theatres.length);
-      renderTable();
     } catch (error) {
       console.error('Failed to load theatres', error);
       tableBody.innerHTML = `<tr><td colspan="6" class="text-center text-danger">Failed to load data.</td></tr>`;
@@ -73,9 +80,10 @@
 
     if (searchInput) {
       searchInput.addEventListener('input', (e) => {
-        searchQuery = (e.target.value || '').toLowerCase();
+        searchQuery = (e.target.value || '').trim();
         currentPage = 1;
-        renderTable();
+        clearTimeout(searchTimer);
+        searchTimer = setTimeout(loadTheatres, 300);
       });
     }
 
@@ -89,9 +97,11 @@
     }
 
     if (nextBtn) {
-      nextBtn.addEventListener('click', () => {
-        const totalPages = Math.ceil(getFilteredTheatres().length / itemsPerPage) || 1;
-        if (currentPage < totalPages) {
+      nextBtn.addEventListener('click', async () => {
+        if (currentPage >= loadedPages() && pages.hasMore()) {
+          await pages.more();
+        }
+        if (currentPage < loadedPages()) {
           currentPage++;
           renderTable();
         }
@@ -136,12 +146,8 @@
   }
 
   function getFilteredTheatres() {
-    return theatres.filter((theatre) => {
-      const name = (theatre.name || '').toLowerCase();
-      const address = (theatre.address || '').toLowerCase();
-      const contact = (theatre.contactNumber || '').toLowerCase();
-      return name.includes(searchQuery) || address.includes(searchQuery) || contact.includes(searchQuery);
-    });
+    // Search results already come filtered from the server
+    return theatres;
   }
 
   // ✅ UPDATED renderTable() (with image + colspan 6)
@@ -200,9 +206,13 @@
 
   function updatePagination(current, total) {
     if (!pageInfo || !prevBtn || !nextBtn) return;
-    pageInfo.textContent = `Page ${current} of ${total}`;
+    pageInfo.textContent = `Page ${current} of ${total}${pages.hasMore() ? '+' : ''}`;
     prevBtn.disabled = current <= 1;
-    nextBtn.disabled = current >= total;
+    nextBtn.disabled = current >= total && !pages.hasMore();
+  }
+
+  function loadedPages() {
+    return Math.ceil(getFilteredTheatres().length / itemsPerPage) || 1;
   }
 
   function openAddModal() {
@@ -64,8 +64,10 @@ async function initHotels() {
 
   try {
     console.log('Fetching hotels...');
-    hotels = await window.hotelsApi.getAll();
-    console.log('Received hotels:', hotels);
+    // One server-filtered page instead of the whole catalog; searching goes to the server too
+    const result = await window.hotelsApi.filter({ active: true, limit: 200 });
+    hotels = result.items || [];
+    console.log(`Received ${hotels.length} of ${result.total} hotels`);
 
     if (!Array.isArray(hotels)) {
       throw new Error('Invalid hotels data format (expected array)');
@@ -129,7 +131,7 @@ function renderHotels(data) {
 
   data.forEach((hotel) => {
     // ✅ Image optional
-    const img = hotel.imageUrl || 'https://via.placeholder.com/300x200?text=No+Image';
+    const img = api.thumbnailUrl(hotel.imageUrl) || 'https://via.placeholder.com/300x200?text=No+Image';
 
     const name = hotel.name || 'Unnamed hotel';
     const address = hotel.address || 'Address not available';
@@ -201,11 +203,35 @@ function setupEventListeners() {
 
   if (!searchInput || !ratingFilter || !priceFilter || !filterBtn) return;
 
-  const applyFilters = () => {
+  const applyFilters = async () => {
     const term = (searchInput.value || '').toLowerCase();
     const rating = parseInt(ratingFilter.value, 10) || 0;
     const maxPrice = priceFilter.value ? parseFloat(priceFilter.value) : Infinity;
 
+    // Without a search term the server filters, so only the matching hotels are downloaded
+    if (!term) {
+      const params = { active: true, limit: 200 };
+      if (rating > 0) params.starRating = [1, 2, 3, 4, 5].filter(star => star >= rating).join(',');
+      if (priceFilter.value) params['startingPrice.max'] = maxPrice;
+      try {
+        const result = await window.hotelsApi.filter(params);
+        hotels = result.items || [];
+        renderHotels(hotels);
+        return;
+      } catch (error) {
+        console.warn('Server-side filter failed, filtering locally:', error);
+      }
+    }
+
+    if (term) {
+      try {
+        // Same bound as the filter above: the best 200 matches
+        hotels = (await window.hotelsApi.getPage(null, term, 200)).items;
+      } catch (error) {
+        console.warn('Server-side search failed, searching loaded hotels:', error);
+      }
+    }
+
     const filtered = hotels
       .filter(h => h && h.active !== false)
       .filter(hotel => {
@@ -226,8 +252,12 @@ function setupEventListeners() {
     renderHotels(filtered);
   };
 
+  let searchTimer = null;
   filterBtn.onclick = applyFilters;
-  searchInput.oninput = applyFilters;
+  searchInput.oninput = () => {
+    clearTimeout(searchTimer);
+    searchTimer = setTimeout(applyFilters, 300);
+  };
 
   const closeAllModals = () => {
     if (detailsModal) detailsModal.style.display = 'none';
@@ -3,6 +3,7 @@
  */
 
 let restaurants = [];
+let restaurantPages = null;
 let currentUser = null;
 
 document.addEventListener('DOMContentLoaded', async () => {
@@ -23,15 +24,14 @@ async function initAuth() {
 }
 
 async function initRestaurants() {
+    setupEventListeners();
     try {
-        restaurants = await restaurantsApi.getAll();
-        renderRestaurants(restaurants);
+        await restaurantPages.reload();
     } catch (e) {
         console.error('Failed to load restaurants', e);
         document.getElementById('restaurant-list').innerHTML = '<p class="text-center text-danger">Failed to load restaurants.</p>';
         // restaurants = []; 
     }
-    setupEventListeners();
 }
 
 function renderRestaurants(data) {
@@ -47,7 +47,7 @@ function renderRestaurants(data) {
         const card = document.createElement('div');
         card.className = 'card';
         // Handle images
-        const img = restaurant.imageUrl || 'https://via.placeholder.com/300x200?text=Dining';
+        const img = api.thumbnailUrl(restaurant.imageUrl) || 'https://via.placeholder.com/300x200?text=Dining';
 
         card.innerHTML = `
             <img src="${img}" alt="${restaurant.name}" style="width:100%; height: 180px; object-fit: cover; border-radius: 8px;" onerror="this.src='https://via.placeholder.com/300x200'">
@@ -89,22 +89,23 @@ function setupEventListeners() {
     const closeBookingModal = document.getElementById('closeBookingModal');
     const bookingForm = document.getElementById('bookingForm');
 
-    // Filter Logic
+    // Filter Logic: the search term goes to the server, the cuisine narrows the pages loaded so far
     const applyFilters = () => {
-        const term = searchInput.value.toLowerCase();
         const cuisine = cuisineFilter.value;
-
-        const filtered = restaurants.filter(r => {
-            const matchesSearch = r.name.toLowerCase().includes(term) || r.address.toLowerCase().includes(term);
-            const matchesCuisine = cuisine === 'All' || (r.cuisineType && r.cuisineType === cuisine);
-            return matchesSearch && matchesCuisine;
-        });
-
-        renderRestaurants(filtered);
+        renderRestaurants(restaurants.filter(r => cuisine === 'All' || (r.cuisineType && r.cuisineType === cuisine)));
     };
 
+    restaurantPages = api.pagedList(
+        cursor => restaurantsApi.getPage(cursor, searchInput.value.trim()),
+        document.getElementById('restaurant-list'),
+        items => { restaurants = items; applyFilters(); });
+
     filterBtn.addEventListener('click', applyFilters);
-    searchInput.addEventListener('input', applyFilters);
+    let searchTimer = null;
+    if (searchInput) searchInput.addEventListener('input', () => {
+        clearTimeout(searchTimer);
+        searchTimer = setTimeout(() => restaurantPages.reload().catch(e => console.error('Search failed', e)), 300);
+    });
 
     // Modal Close Logic
     const closeAllModals = () => {
@@ -3,6 +3,7 @@
  */
 
 let theatres = [];
+let theatrePages = null;
 let currentUser = null;
 
 document.addEventListener('DOMContentLoaded', async () => {
@@ -23,14 +24,13 @@ async function initAuth() {
 }
 
 async function initTheatres() {
+    setupEventListeners();
     try {
-        theatres = await theatresApi.getAll();
-        renderTheatres(theatres);
+        await theatrePages.reload();
     } catch (e) {
         console.error('Failed to load theatres', e);
         document.getElementById('theatre-list').innerHTML = '<p class="text-center text-danger">Failed to load theatres.</p>';
     }
-    setupEventListeners();
 }
 
 function renderTheatres(data) {
@@ -45,7 +45,7 @@ function renderTheatres(data) {
     data.filter(t => t.active).forEach(theatre => {
         const card = document.createElement('div');
         card.className = 'card';
-        const img = theatre.imageUrl || 'https://via.placeholder.com/300x200?text=Cinema';
+        const img = api.thumbnailUrl(theatre.imageUrl) || 'https://via.placeholder.com/300x200?text=Cinema';
 
         card.innerHTML = `
             <img src="${img}" alt="${theatre.name}" style="width:100%; height: 180px; object-fit: cover; border-radius: 8px;" onerror="this.src='https://via.placeholder.com/300x200'">
@@ -86,13 +86,17 @@ function setupEventListeners() {
     const closeBookingModal = document.getElementById('closeBookingModal');
     const bookingForm = document.getElementById('bookingForm');
 
-    if (searchInput) {
-        searchInput.addEventListener('input', () => {
-            const term = searchInput.value.toLowerCase();
-            const filtered = theatres.filter(t => t.name.toLowerCase().includes(term) || t.address.toLowerCase().includes(term));
-            renderTheatres(filtered);
-        });
-    }
+    // Searching is done by the server, a page at a time
+    theatrePages = api.pagedList(
+        cursor => theatresApi.getPage(cursor, searchInput ? searchInput.value.trim() : ''),
+        document.getElementById('theatre-list'),
+        items => { theatres = items; renderTheatres(theatres); });
+
+    let searchTimer = null;
+    if (searchInput) searchInput.addEventListener('input', () => {
+        clearTimeout(searchTimer);
+        searchTimer = setTimeout(() => theatrePages.reload().catch(e => console.error('Search failed', e)), 300);
+    });
 
     const closeAllModals = () => {
         detailsModal.style.display = 'none';
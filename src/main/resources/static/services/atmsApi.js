@@ -6,18 +6,18 @@ class AtmsApi {
         this.baseUrl = '/api/atms';
     }
 
-    async getAll() {
-        return await api.get(this.baseUrl);
+    // One page of the catalog; a non-empty query narrows it on the server
+    async getPage(cursor = null, query = '') {
+        const endpoint = query
+            ? `${this.baseUrl}/search?query=${encodeURIComponent(query)}`
+            : this.baseUrl;
+        return await api.getPage(endpoint, cursor);
     }
 
     async getById(id) {
         return await api.get(`${this.baseUrl}/${id}`);
     }
 
-    async search(query) {
-        return await api.get(`${this.baseUrl}/search?query=${encodeURIComponent(query)}`);
-    }
-
     async create(item) {
         return await api.post(this.baseUrl, item);
     }
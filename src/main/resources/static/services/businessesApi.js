@@ -6,8 +6,8 @@ class BusinessesApi {
         this.baseUrl = '/api/businesses';
     }
 
-    async getAll() {
-        return await api.get(this.baseUrl);
+    async getPage(cursor = null, size = 50) {
+        return await api.getPage(this.baseUrl, cursor, size);
     }
 
     async getById(id) {
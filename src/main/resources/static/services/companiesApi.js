@@ -6,18 +6,14 @@ class CompaniesApi {
         this.baseUrl = '/api/companies';
     }
 
-    async getAll() {
-        return await api.get(this.baseUrl);
+    async getPage(cursor = null, size = 50) {
+        return await api.getPage(this.baseUrl, cursor, size);
     }
 
     async getById(id) {
         return await api.get(`${this.baseUrl}/${id}`);
     }
 
-    async search(query) {
-        return await api.get(`${this.baseUrl}/search?query=${encodeURIComponent(query)}`);
-    }
-
     async create(item, industryId) {
         return await api.post(`${this.baseUrl}?industryId=${industryId}`, item);
     }
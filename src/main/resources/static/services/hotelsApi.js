@@ -13,25 +13,12 @@
 
   const baseUrl = '/api/hotels';
 
-  function normalizeHotelsResponse(response) {
-    if (Array.isArray(response)) return response;
-    if (response && typeof response === 'object') {
-      return response.data || response.content || response.hotels || [];
-    }
-    return [];
-  }
-
   const hotelsApi = {
-    async getAll() {
-      console.log('[HotelsApi] GET', baseUrl);
-      const response = await window.api.get(baseUrl);
-      console.log('[HotelsApi] Raw response:', response);
-
-      const hotels = normalizeHotelsResponse(response);
-      console.log(`[HotelsApi] Found ${hotels.length} hotels`);
-      if (hotels.length > 0) console.log('[HotelsApi] First hotel:', hotels[0]);
-
-      return hotels;
+    // One page of the catalog; a non-empty query narrows it on the server
+    async getPage(cursor = null, query = '', size = 50) {
+      const endpoint = query ? `${baseUrl}/search?query=${encodeURIComponent(query)}` : baseUrl;
+      console.log('[HotelsApi] GET', endpoint, cursor ? `from ${cursor}` : '');
+      return window.api.getPage(endpoint, cursor, size);
     },
 
     async getById(id) {
@@ -39,9 +26,12 @@
       return window.api.get(`${baseUrl}/${id}`);
     },
 
-    async search(query) {
-      console.log(`[HotelsApi] GET ${baseUrl}/search?query=${query}`);
-      return window.api.get(`${baseUrl}/search?query=${encodeURIComponent(query)}`);
+    // Server-side facet filter, e.g. { starRating: '4,5', 'startingPrice.max': 200, sort: '-rating' }
+    // Returns { items, total, facets }
+    async filter(params = {}) {
+      const query = new URLSearchParams(params);
+      console.log(`[HotelsApi] GET ${baseUrl}/filter?${query}`);
+      return window.api.get(`${baseUrl}/filter?${query}`);
     },
 
     async create(hotel) {
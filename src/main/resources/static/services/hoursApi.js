@@ -0,0 +1,24 @@
+/**
+ * Opening Hours API Service
+ * "Open now" queries over restaurants, universities, libraries and colleges.
+ * types: optional list of catalog tags ('restaurant', 'university', 'library', 'college').
+ */
+class HoursApi {
+    constructor() {
+        this.baseUrl = '/api/open-now';
+    }
+
+    // Places open at `at` (ISO local date-time, default now) and for at least `forMinutes` more:
+    // [{ type, id, path, name, hours, closesAt }]
+    async openNow({ at, forMinutes, types, limit } = {}) {
+        const params = new URLSearchParams();
+        Object.entries({ at, forMinutes, types, limit }).forEach(([key, value]) => {
+            if (value === undefined || value === null) return;
+            params.set(key, Array.isArray(value) ? value.join(',') : value);
+        });
+        return await api.get(`${this.baseUrl}?${params}`);
+    }
+}
+
+const hoursApi = new HoursApi();
+window.hoursApi = hoursApi;
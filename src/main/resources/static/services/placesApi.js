@@ -0,0 +1,41 @@
+/**
+ * Places API Service
+ * Map and "near me" queries over hotels, restaurants, theatres, attractions and ATMs.
+ * types: optional list of catalog tags ('hotel', 'restaurant', 'theatre', 'attraction', 'atm').
+ */
+class PlacesApi {
+    constructor() {
+        this.baseUrl = '/api/places';
+    }
+
+    async nearest(lat, lng, { k, types, activeOnly, maxDistance } = {}) {
+        return await api.get(`${this.baseUrl}/nearest?${this.params({ lat, lng, k, types, activeOnly, maxDistance })}`);
+    }
+
+    async within(lat, lng, radius, { limit, types, activeOnly } = {}) {
+        return await api.get(`${this.baseUrl}/within?${this.params({ lat, lng, radius, limit, types, activeOnly })}`);
+    }
+
+    async box(bounds, { limit, types, activeOnly } = {}) {
+        const { south, west, north, east } = bounds;
+        return await api.get(`${this.baseUrl}/box?${this.params({ south, west, north, east, limit, types, activeOnly })}`);
+    }
+
+    // Clustered markers for a viewport: { zoom, clusters: [[lat, lng, count]], points: [[type, id, lat, lng, name]] }
+    async markers(bounds, zoom, { types } = {}) {
+        const { south, west, north, east } = bounds;
+        return await api.get(`/api/map/markers?${this.params({ bbox: [west, south, east, north], zoom, types })}`);
+    }
+
+    params(values) {
+        const params = new URLSearchParams();
+        Object.entries(values).forEach(([key, value]) => {
+            if (value === undefined || value === null) return;
+            params.set(key, Array.isArray(value) ? value.join(',') : value);
+        });
+        return params;
+    }
+}
+
+const placesApi = new PlacesApi();
+window.placesApi = placesApi;
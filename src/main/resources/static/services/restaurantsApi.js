@@ -6,9 +6,12 @@ class RestaurantsApi {
         this.baseUrl = '/api/restaurants';
     }
 
-    async getAll() {
-        console.log('[RestaurantsApi] GET /api/restaurants');
-        return await api.get(this.baseUrl);
+    // One page of the catalog; a non-empty query narrows it on the server
+    async getPage(cursor = null, query = '') {
+        const endpoint = query
+            ? `${this.baseUrl}/search?query=${encodeURIComponent(query)}`
+            : this.baseUrl;
+        return await api.getPage(endpoint, cursor);
     }
 
     async getById(id) {
@@ -16,9 +19,10 @@ class RestaurantsApi {
         return await api.get(`${this.baseUrl}/${id}`);
     }
 
-    async search(query) {
-        console.log(`[RestaurantsApi] SEARCH /api/restaurants?query=${query}`);
-        return await api.get(`${this.baseUrl}/search?query=${encodeURIComponent(query)}`);
+    // Server-side facet filter, e.g. { cuisineType: 'moroccan', 'rating.min': 4, sort: '-rating' }
+    // Returns { items, total, facets }
+    async filter(params = {}) {
+        return await api.get(`${this.baseUrl}/filter?${new URLSearchParams(params)}`);
     }
 
     async create(item) {
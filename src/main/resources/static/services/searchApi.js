@@ -0,0 +1,42 @@
+/**
+ * City-wide Search API Service
+ * One call searches every catalog the user can read; hits carry a type tag and a score.
+ */
+class SearchApi {
+    constructor() {
+        this.baseUrl = '/api/search';
+        // Catalog type tag of a hit -> page listing that catalog (relative to the site root)
+        this.pages = {
+            'hotel': 'modules/tourism/hotels.html',
+            'restaurant': 'modules/tourism/restaurants.html',
+            'theatre': 'modules/tourism/theatres.html',
+            'attraction': 'modules/tourism/attractions.html',
+            'atm': 'modules/tourism/map.html',
+            'university': 'modules/student/universities.html',
+            'college': 'modules/student/colleges.html',
+            'library': 'modules/student/libraries.html',
+            'coaching-center': 'modules/student/coaching-centers.html',
+            'job-listing': 'modules/job/job-listings.html',
+            'company': 'modules/job/companies.html',
+            'industry': 'modules/job/industries.html',
+            'business': 'modules/business/businesses.html',
+            'business-center': 'modules/business/centers.html',
+            'business-news': 'modules/business/business-news.html'
+        };
+    }
+
+    async search(query, limit) {
+        const params = new URLSearchParams({ q: query });
+        if (limit) {
+            params.set('limit', limit);
+        }
+        return await api.get(`${this.baseUrl}?${params}`);
+    }
+
+    pageFor(type) {
+        return this.pages[type] || null;
+    }
+}
+
+const searchApi = new SearchApi();
+window.searchApi = searchApi;
@@ -6,9 +6,12 @@ class TheatresApi {
         this.baseUrl = '/api/theatres';
     }
 
-    async getAll() {
-        console.log('[TheatresApi] GET /api/theatres');
-        return await api.get(this.baseUrl);
+    // One page of the catalog; a non-empty query narrows it on the server
+    async getPage(cursor = null, query = '') {
+        const endpoint = query
+            ? `${this.baseUrl}/search?query=${encodeURIComponent(query)}`
+            : this.baseUrl;
+        return await api.getPage(endpoint, cursor);
     }
 
     async getById(id) {
@@ -16,11 +19,6 @@ class TheatresApi {
         return await api.get(`${this.baseUrl}/${id}`);
     }
 
-    async search(query) {
-        console.log(`[TheatresApi] SEARCH /api/theatres?query=${query}`);
-        return await api.get(`${this.baseUrl}/search?query=${encodeURIComponent(query)}`);
-    }
-
     async create(item) {
         console.log('[TheatresApi] POST /api/theatres', item);
         return await api.post(this.baseUrl, item);
@@ -15,9 +15,19 @@
   const baseUrl = '/api/users';
 
   const usersApi = {
-    async getAll() {
-      console.log('[UsersApi] GET /api/users');
-      return window.api.get(baseUrl);
+    // GET /api/users is keyset-paginated like the catalogs; filters: { role, active }
+    // Resolves to { items, nextCursor }
+    async getPage(cursor = null, filters = {}, size = 50) {
+      const query = new URLSearchParams(filters).toString();
+      const endpoint = query ? `${baseUrl}?${query}` : baseUrl;
+      console.log(`[UsersApi] GET ${endpoint}`, cursor ? `from ${cursor}` : '');
+      return window.api.getPage(endpoint, cursor, size);
+    },
+
+    // Per-role totals from in-memory counters (ADMIN): { total, active, byRole: { ROLE: { total, active } } }
+    async getStats() {
+      console.log('[UsersApi] GET /api/users/stats');
+      return window.api.get(`${baseUrl}/stats`);
     },
 
     async getById(id) {
@@ -106,7 +106,10 @@ class Api {
             }
         };
 
-        if (options.body && typeof options.body === 'object') {
+        if (options.body instanceof FormData) {
+            // Multipart: the browser sets Content-Type with its boundary
+            delete config.headers['Content-Type'];
+        } else if (options.body && typeof options.body === 'object') {
             config.body = JSON.stringify(options.body);
         }
 
@@ -131,6 +134,10 @@ class Api {
                 throw new Error(data.message || data || `Error ${response.status}`);
             }
 
+            // Paged list endpoints carry the next cursor in headers (Link / X-Next-Cursor)
+            if (options.withResponse) {
+                return { data, headers: response.headers };
+            }
             return data;
         } catch (error) {
             console.error('API Request Failed:', error);
@@ -189,6 +196,23 @@ class Api {
         return this.request(endpoint, { method: 'GET' });
     }
 
+    // One page of a list endpoint. The body is the items; the cursor of the following page comes in
+    // X-Next-Cursor (absent on the last page). size is capped by the server (CursorPage.MAX_SIZE).
+    async getPage(endpoint, cursor = null, size = 50) {
+        const params = new URLSearchParams({ size: String(size) });
+        if (cursor) {
+            params.set('cursor', cursor);
+        }
+        const { data, headers } = await this.request(
+            `${endpoint}${endpoint.includes('?') ? '&' : '?'}${params}`, { method: 'GET', withResponse: true });
+        return { items: Array.isArray(data) ? data : [], nextCursor: headers.get('X-Next-Cursor') };
+    }
+
+    // A listing shown one page at a time, see PagedList
+    pagedList(fetchPage, anchor, onChange) {
+        return new PagedList(fetchPage, anchor, onChange);
+    }
+
     post(endpoint, body) {
         return this.request(endpoint, {
             method: 'POST',
@@ -206,6 +230,103 @@ class Api {
     delete(endpoint) {
         return this.request(endpoint, { method: 'DELETE' });
     }
+
+    // Image upload (admin): resolves to { url, thumbnailUrl, ... }; store url in imageUrl / logoUrl
+    upload(folder, file) {
+        const form = new FormData();
+        form.append('file', file);
+        return this.request(`/api/uploads/${folder}`, {
+            method: 'POST',
+            body: form
+        });
+    }
+
+    // Card-sized thumbnail of an uploaded image; other URLs (and WebP, which gets no thumbnail) are returned unchanged
+    thumbnailUrl(url) {
+        const match = url && url.match(/^(\/uploads\/[\w-]+\/)([0-9a-f]{64})\.(jpg|png|gif)$/);
+        return match ? `${match[1]}thumbs/${match[2]}.jpg` : url;
+    }
+}
+
+/**
+ * Loads a listing one page at a time instead of downloading the whole catalog.
+ * fetchPage(cursor) resolves to { items, nextCursor }; onChange(items) receives every item loaded so far.
+ * A "Load more" button is placed right after anchor while the server has further pages;
+ * without an anchor the caller drives more() itself, e.g. from its own pager.
+ */
+class PagedList {
+    constructor(fetchPage, anchor, onChange) {
+        this.fetchPage = fetchPage;
+        this.anchor = anchor;
+        this.onChange = onChange;
+        this.items = [];
+        this.nextCursor = null;
+        this.generation = 0;
+        this.loading = false;
+        this.button = null;
+    }
+
+    // First page again, e.g. after a write or when the search term changes
+    async reload() {
+        const generation = ++this.generation;
+        const page = await this.fetchPage(null);
+        if (generation === this.generation) {
+            this.items = page.items;
+            this.nextCursor = page.nextCursor;
+            this.update();
+        }
+        return this.items;
+    }
+
+    hasMore() {
+        return !!this.nextCursor;
+    }
+
+    async more() {
+        if (!this.nextCursor || this.loading) {
+            return this.items;
+        }
+        const generation = this.generation;
+        this.setLoading(true);
+        try {
+            const page = await this.fetchPage(this.nextCursor);
+            if (generation === this.generation) {
+                this.items = this.items.concat(page.items);
+                this.nextCursor = page.nextCursor;
+                this.update();
+            }
+        } finally {
+            this.setLoading(false);
+        }
+        return this.items;
+    }
+
+    setLoading(loading) {
+        this.loading = loading;
+        if (this.button) {
+            this.button.disabled = loading;
+        }
+    }
+
+    update() {
+        this.onChange(this.items);
+        if (!this.anchor) {
+            return;
+        }
+        if (!this.button) {
+            const wrapper = document.createElement('div');
+            wrapper.className = 'text-center load-more';
+            wrapper.style.margin = '20px 0';
+            this.button = document.createElement('button');
+            this.button.type = 'button';
+            this.button.className = 'btn btn-secondary';
+            this.button.textContent = 'Load more';
+            this.button.addEventListener('click', () => this.more().catch(e => console.error('Failed to load more', e)));
+            wrapper.appendChild(this.button);
+            this.anchor.insertAdjacentElement('afterend', wrapper);
+        }
+        this.button.parentElement.style.display = this.nextCursor ? '' : 'none';
+    }
 }
 
 // Make api globally available instead of using export
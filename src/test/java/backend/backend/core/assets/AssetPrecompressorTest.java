@@ -0,0 +1,61 @@
+package backend.backend.core.assets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetPrecompressorTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void compressesScriptsButNotPagesOrSmallFiles() throws IOException {
+        String script = "console.log('hello');\n".repeat(200);
+        Path js = write("shared/api.js", script);
+        write("index.html", "<p>page</p>\n".repeat(200));
+        write("shared/layout.css", "body { margin: 0; }\n".repeat(200));
+        write("shared/tiny.js", "let a = 1;");
+
+        List<Path> written = AssetPrecompressor.compressAll(root);
+
+        assertEquals(List.of(root.resolve("shared/api.js.gz")), written);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(written.get(0)))) {
+            assertEquals(script, new String(in.readAllBytes()));
+        }
+        assertTrue(Files.size(written.get(0)) < Files.size(js));
+    }
+
+    @Test
+    void skipsUpToDateVariantsOnTheNextBuild() throws IOException {
+        write("app.js", "console.log('hello');\n".repeat(200));
+
+        assertEquals(1, AssetPrecompressor.compressAll(root).size());
+        assertEquals(0, AssetPrecompressor.compressAll(root).size());
+    }
+
+    @Test
+    void recognisesLocalAssetLinks() {
+        assertTrue(AssetLinkResourceTransformer.isLocalAsset("../../shared/api.js"));
+        assertTrue(AssetLinkResourceTransformer.isLocalAsset("/assets/images/logo.svg"));
+        assertFalse(AssetLinkResourceTransformer.isLocalAsset("admin-hotels.html"));
+        assertFalse(AssetLinkResourceTransformer.isLocalAsset("https://cdn.example.com/all.min.css"));
+        assertFalse(AssetLinkResourceTransformer.isLocalAsset("//cdn.example.com/all.min.css"));
+        assertFalse(AssetLinkResourceTransformer.isLocalAsset("data:image/png;base64,AAAA"));
+        assertFalse(AssetLinkResourceTransformer.isLocalAsset("../v1.2/readme"));
+    }
+
+    private Path write(String path, String content) throws IOException {
+        Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content);
+    }
+}
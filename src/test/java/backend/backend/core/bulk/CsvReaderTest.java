@@ -0,0 +1,54 @@
+package backend.backend.core.bulk;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    void readsQuotedFieldsAndLineBreaks() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader(
+                "\uFEFFname,address,description\r\n"
+                        + "Atlas,\"12, Bd Zerktouni\",\"Says \"\"hello\"\"\"\r\n"
+                        + "\r\n"
+                        + "Riad,Medina,\"two\nlines\"\n"
+                        + "Last,,"));
+
+        assertEquals(List.of("name", "address", "description"), csv.next());
+        assertEquals(1, csv.recordLine());
+        assertEquals(List.of("Atlas", "12, Bd Zerktouni", "Says \"hello\""), csv.next());
+        assertEquals(2, csv.recordLine());
+        assertEquals(List.of("Riad", "Medina", "two\nlines"), csv.next());
+        assertEquals(4, csv.recordLine());
+        assertEquals(List.of("Last", "", ""), csv.next());
+        assertEquals(6, csv.recordLine());
+        assertNull(csv.next());
+    }
+
+    @Test
+    void rejectsAnUnclosedQuote() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("name\n\"Atlas\nRiad\n"));
+
+        assertEquals(List.of("name"), csv.next());
+        assertThrows(IllegalArgumentException.class, csv::next);
+        assertEquals(2, csv.recordLine());
+        assertNull(csv.next());
+    }
+
+    @Test
+    void readsBackWhatCsvWriterWrites() throws IOException {
+        List<String> record = List.of("12, Bd \"Zerktouni\"", "two\r\nlines", "", "plain");
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).write(record);
+
+        CsvReader csv = new CsvReader(new StringReader(out.toString()));
+        assertEquals(record, csv.next());
+        assertNull(csv.next());
+    }
+}
@@ -0,0 +1,133 @@
+package backend.backend.core.common;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FacetIndexTest {
+
+    private record Hotel(UUID id, String name, Integer stars, String city, Double rating) {
+    }
+
+    private static final KeysetSort<Hotel> BY_NAME = KeysetSort.asc("name", Hotel::name, Hotel::id);
+
+    private final Map<UUID, Hotel> table = new HashMap<>();
+    private final FacetIndex<Hotel> index = FacetIndex.builder("hotels", BY_NAME)
+            .term("stars", Hotel::stars)
+            .term("city", Hotel::city)
+            .range("rating", Hotel::rating, 0, 2, 4)
+            .build();
+
+    @Test
+    void filtersSortsAndCountsLikeABruteForceScan() {
+        Random random = new Random(7);
+        String[] cities = {"Casablanca", "Rabat", "Fes", null};
+        List<Hotel> hotels = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            hotels.add(hotel(String.format("Hotel %04d", random.nextInt(10000)), 1 + random.nextInt(5),
+                    cities[random.nextInt(cities.length)], random.nextInt(10) == 0 ? null : random.nextInt(51) / 10.0));
+        }
+        load(hotels);
+
+        FacetResult<Hotel> result = filter("stars", "4,5", "city", "rabat", "rating.min", "3", "sort", "-rating", "limit", "15");
+
+        Predicate<Hotel> stars = h -> h.stars() >= 4;
+        Predicate<Hotel> city = h -> "Rabat".equals(h.city());
+        Predicate<Hotel> rating = h -> h.rating() != null && h.rating() >= 3;
+        List<Hotel> expected = hotels.stream()
+                .filter(stars.and(city).and(rating))
+                .sorted(Comparator.comparing(Hotel::rating).reversed().thenComparing(Hotel::name).thenComparing(Hotel::id))
+                .toList();
+        assertEquals(expected.size(), result.total());
+        assertEquals(expected.subList(0, 15), result.items());
+
+        // Each facet is counted under the other fields' filters only
+        assertEquals(count(hotels, city.and(rating).and(h -> h.stars() == 3)), result.facets().get("stars").get("3"));
+        assertEquals(count(hotels, stars.and(rating).and(h -> "Fes".equals(h.city()))), result.facets().get("city").get("Fes"));
+        assertEquals(count(hotels, stars.and(city).and(h -> h.rating() != null && h.rating() >= 4)),
+                result.facets().get("rating").get("4+"));
+        assertEquals(count(hotels, stars.and(city).and(h -> h.rating() != null && h.rating() >= 2 && h.rating() < 4)),
+                result.facets().get("rating").get("2-4"));
+    }
+
+    @Test
+    void facetValuesKeepTheirSpellingAndNaturalOrder() {
+        load(List.of(
+                hotel("A", 5, "Rabat", 4.0),
+                hotel("B", 10, "rabat ", 4.0),
+                hotel("C", 2, "Casablanca", 4.0)
+        ));
+
+        FacetResult<Hotel> result = filter("city", "RABAT");
+        assertEquals(List.of("A", "B"), result.items().stream().map(Hotel::name).toList());
+        assertEquals(List.of("2", "5", "10"), List.copyOf(result.facets().get("stars").keySet()));
+        assertEquals(Map.of("Casablanca", 1, "Rabat", 2), result.facets().get("city"));
+    }
+
+    @Test
+    void writesMoveRowsBetweenBitmaps() {
+        Hotel a = hotel("A", 3, "Rabat", 2.5);
+        Hotel b = hotel("B", 3, "Rabat", 3.5);
+        load(List.of(a, b));
+        assertEquals(2, filter("stars", "3").total());
+
+        Hotel moved = new Hotel(a.id(), "A", 4, "Fes", 4.5);
+        table.put(moved.id(), moved);
+        index.indexAfterCommit(moved);
+        assertEquals(List.of(b), filter("stars", "3").items());
+        assertEquals(List.of(moved), filter("city", "fes", "rating.min", "4").items());
+
+        table.remove(b.id());
+        index.removeAfterCommit(b.id());
+        assertEquals(0, filter("stars", "3").total());
+        assertFalse(filter().facets().get("stars").containsKey("3"));
+
+        // Freed slots are reused without leaking the old row's values
+        Hotel c = hotel("C", 5, null, null);
+        table.put(c.id(), c);
+        index.indexAfterCommit(c);
+        assertEquals(List.of(moved, c), filter().items());
+        assertEquals(0, filter("rating.max", "5").items().stream().filter(c::equals).count());
+    }
+
+    @Test
+    void rejectsUnknownFields() {
+        assertThrows(InvalidFacetQueryException.class, () -> filter("color", "red"));
+        assertThrows(InvalidFacetQueryException.class, () -> filter("stars.min", "3"));
+        assertThrows(InvalidFacetQueryException.class, () -> filter("sort", "city"));
+        assertThrows(InvalidFacetQueryException.class, () -> filter("rating.min", "high"));
+    }
+
+    private void load(List<Hotel> hotels) {
+        hotels.forEach(hotel -> table.put(hotel.id(), hotel));
+        index.rebuild(() -> hotels);
+    }
+
+    private FacetResult<Hotel> filter(String... params) {
+        MultiValueMap<String, String> query = new LinkedMultiValueMap<>();
+        for (int i = 0; i < params.length; i += 2) {
+            query.add(params[i], params[i + 1]);
+        }
+        return index.filter(FacetQuery.from(query), ids -> ids.stream().map(table::get).filter(Objects::nonNull).toList());
+    }
+
+    private static int count(List<Hotel> hotels, Predicate<Hotel> filter) {
+        return (int) hotels.stream().filter(filter).count();
+    }
+
+    private static Hotel hotel(String name, Integer stars, String city, Double rating) {
+        return new Hotel(UUID.randomUUID(), name, stars, city, rating);
+    }
+}
@@ -0,0 +1,123 @@
+package backend.backend.core.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RebuildJournalTest {
+
+    private record Item(UUID id, String name) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RebuildJournal<String, Item, Map<UUID, Item>> journal = new RebuildJournal<>(
+            lock.writeLock(), Item::id, HashMap::new, (state, item) -> state.put(item.id(), item), Map::remove);
+    private Map<UUID, Item> live = new HashMap<>();
+
+    @Test
+    void replaysWritesMadeBetweenBeginAndFinish() {
+        Item kept = item("kept");
+        Item deleted = item("deleted");
+        Item added = item("added");
+
+        Rebuild<Item> rebuild = journal.begin("items", item -> item, fresh -> live = fresh);
+        write(added);
+        delete(deleted.id());
+        rebuild.finish(List.of(kept, deleted));
+
+        assertEquals(Map.of(kept.id(), kept, added.id(), added), live);
+
+        // The journal is closed: later writes only touch the live state
+        write(item("later"));
+        assertEquals(3, live.size());
+    }
+
+    @Test
+    void secondRebuildOfTheSameKeyIsSkipped() {
+        Item first = item("first");
+        Rebuild<Item> rebuild = journal.begin("items", item -> item, fresh -> live = fresh);
+        Rebuild<Item> concurrent = journal.begin("items", item -> item, fresh -> fail("installed twice"));
+
+        concurrent.finish(List.of(item("ignored")));
+        rebuild.finish(List.of(first));
+
+        assertEquals(Map.of(first.id(), first), live);
+    }
+
+    @Test
+    void failingLoaderKeepsTheCurrentStateAndClosesTheJournal() {
+        Item current = item("current");
+        live.put(current.id(), current);
+
+        assertThrows(IllegalStateException.class, () -> journal.rebuild("items",
+                () -> { throw new IllegalStateException("db down"); }, (Item item) -> item, fresh -> live = fresh));
+        assertEquals(Map.of(current.id(), current), live);
+
+        Item reloaded = item("reloaded");
+        journal.rebuild("items", () -> List.of(reloaded), item -> item, fresh -> live = fresh);
+        assertEquals(Map.of(reloaded.id(), reloaded), live);
+    }
+
+    @Test
+    void failingRebuildDoesNotLeaveTheOthersOpen() {
+        Map<String, Map<UUID, Item>> installed = new HashMap<>();
+        Item row = item("row");
+        Rebuild<Item> first = journal.begin("first", item -> item, fresh -> installed.put("first", fresh));
+        Rebuild<Item> broken = journal.begin("broken", (Item item) -> { throw new IllegalArgumentException("bad row"); },
+                fresh -> installed.put("broken", fresh));
+        Rebuild<Item> last = journal.begin("last", item -> item, fresh -> installed.put("last", fresh));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> Rebuild.run(() -> List.of(row), first, broken, last));
+        assertEquals("bad row", e.getMessage());
+        assertEquals(Map.of(row.id(), row), installed.get("first"));
+        assertEquals(Map.of(row.id(), row), installed.get("last"));
+        assertFalse(installed.containsKey("broken"));
+
+        // Every key was closed: the next rebuild of each one runs
+        for (String key : List.of("first", "broken", "last")) {
+            journal.rebuild(key, List::<Item>of, item -> item, fresh -> installed.put(key, fresh));
+            assertEquals(Map.of(), installed.get(key));
+        }
+    }
+
+    @Test
+    void failingInstallClosesTheJournal() {
+        assertThrows(IllegalStateException.class, () -> journal.rebuild("items", () -> List.of(item("a")),
+                item -> item, fresh -> { throw new IllegalStateException("install failed"); }));
+
+        Item reloaded = item("reloaded");
+        journal.rebuild("items", () -> List.of(reloaded), item -> item, fresh -> live = fresh);
+        assertEquals(Map.of(reloaded.id(), reloaded), live);
+    }
+
+    private void write(Item item) {
+        lock.writeLock().lock();
+        try {
+            live.put(item.id(), item);
+            journal.put("items", item);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void delete(UUID id) {
+        lock.writeLock().lock();
+        try {
+            live.remove(id);
+            journal.remove("items", id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Item item(String name) {
+        return new Item(UUID.randomUUID(), name);
+    }
+}
@@ -0,0 +1,158 @@
+package backend.backend.core.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    private record Place(UUID id, String name, String address) {
+    }
+
+    private static final KeysetSort<Place> BY_NAME = KeysetSort.asc("name", Place::name, Place::id);
+
+    private final Map<UUID, Place> table = new HashMap<>();
+    private final TrigramIndex<Place> index = TrigramIndex.of("places", BY_NAME, Place::name, Place::address);
+
+    @Test
+    void matchesExactlyLikeCaseInsensitiveContains() {
+        load(List.of(
+                place("Grand Hotel", "1 Main Street"),
+                place("Hotel Lumiere", "Rue de Paris"),
+                place("Seaside Inn", "Beach Road"),
+                place("Mainland Lodge", null)
+        ));
+
+        assertEquals(List.of("Grand Hotel", "Hotel Lumiere"), names(search("HOTEL")));
+        assertEquals(List.of("Grand Hotel", "Mainland Lodge"), names(search("main")));
+        assertEquals(List.of("Seaside Inn"), names(search("  beach ")));
+        assertEquals(List.of("Grand Hotel", "Hotel Lumiere"), names(search("te")));
+        assertTrue(search("nowhere").items().isEmpty());
+        assertEquals(4, search("").items().size());
+    }
+
+    @Test
+    void neverMatchesAcrossFields() {
+        load(List.of(place("Abc", "def")));
+
+        assertTrue(search("cde").items().isEmpty());
+        assertTrue(search("c d").items().isEmpty());
+    }
+
+    @Test
+    void pagesFollowTheCursorInKeysetOrder() {
+        List<Place> places = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            places.add(place(String.format("Hotel %02d", i), "Street " + i));
+        }
+        load(places);
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Place> page = index.search("hotel", new PageQuery(cursor, 10, true), this::findAllById);
+            assertEquals(25L, page.total());
+            seen.addAll(names(page));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(places.stream().map(Place::name).sorted().toList(), seen);
+    }
+
+    @Test
+    void appliesUpdatesAndRemovals() {
+        Place old = place("Old Name", "Somewhere");
+        load(List.of(old));
+
+        Place renamed = new Place(old.id(), "New Name", "Somewhere");
+        table.put(renamed.id(), renamed);
+        index.indexAfterCommit(renamed);
+        assertTrue(search("old").items().isEmpty());
+        assertEquals(List.of("New Name"), names(search("new")));
+
+        table.remove(renamed.id());
+        index.removeAfterCommit(renamed.id());
+        assertTrue(search("new").items().isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void ranksNameMatchesByQualityAndOtherFieldsLower() {
+        load(List.of(
+                place("Seaside Plaza", "Harbour"),
+                place("Plazaview", "Harbour"),
+                place("Plaza", "Harbour"),
+                place("Megaplaza", "Harbour"),
+                place("Old Inn", "Plaza Square")
+        ));
+
+        List<String> ranked = index.rank("plaza", 10).stream()
+                .map(r -> table.get(r.row()).name())
+                .toList();
+        assertEquals(List.of("Plaza", "Plazaview", "Seaside Plaza", "Old Inn", "Megaplaza"), ranked);
+        assertEquals(2, index.rank("plaza", 2).size());
+        assertTrue(index.rank(" ", 10).isEmpty());
+    }
+
+    @Test
+    void agreesWithNaiveScanOnGeneratedData() {
+        String[] words = {"grand", "hotel", "inn", "lodge", "plaza", "royal", "city", "park", "view", "rue"};
+        Random random = new Random(42);
+        List<Place> places = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            places.add(place(words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " " + i,
+                    random.nextInt(1000) + " " + words[random.nextInt(words.length)] + " street"));
+        }
+        load(places);
+
+        for (String query : List.of("gra", "otel", "l p", "park v", "1 ro", "7 s", "12", "x", "y street")) {
+            List<String> expected = places.stream()
+                    .filter(p -> contains(p.name(), query) || contains(p.address(), query))
+                    .sorted(Comparator.comparing(Place::name).thenComparing(Place::id))
+                    .map(Place::name)
+                    .limit(CursorPage.MAX_SIZE)
+                    .toList();
+            CursorPage<Place> page = index.search(query, new PageQuery(null, CursorPage.MAX_SIZE, false), this::findAllById);
+            assertEquals(expected, names(page), query);
+        }
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private Place place(String name, String address) {
+        return new Place(UUID.randomUUID(), name, address);
+    }
+
+    private void load(List<Place> places) {
+        places.forEach(p -> table.put(p.id(), p));
+        index.rebuild(() -> places);
+    }
+
+    private CursorPage<Place> search(String query) {
+        return index.search(query, new PageQuery(null, null, null), this::findAllById);
+    }
+
+    private List<Place> findAllById(List<UUID> ids) {
+        return ids.stream().map(table::get).filter(Objects::nonNull).toList();
+    }
+
+    private static List<String> names(CursorPage<Place> page) {
+        return page.items().stream().map(Place::name).toList();
+    }
+
+    private static boolean contains(String field, String query) {
+        return field != null && field.toLowerCase(Locale.ROOT).contains(query.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,182 @@
+package backend.backend.core.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceIndexTest {
+
+    // Around Casablanca
+    private static final double LAT = 33.5731;
+    private static final double LNG = -7.5898;
+
+    private final PlaceIndex index = new PlaceIndex(0.01, 16);
+
+    @Test
+    void nearestMatchesBruteForce() {
+        Random random = new Random(7);
+        List<Place> all = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            String type = i % 3 == 0 ? "atm" : "restaurant";
+            all.add(place(type, "p" + i, LAT + (random.nextDouble() - 0.5) * 0.4,
+                    LNG + (random.nextDouble() - 0.5) * 0.4, i % 7 != 0));
+        }
+        load(all);
+
+        // A short reach walks the grid rings; a long one falls back to scanning every ATM
+        for (double reach : new double[]{3_000, 50_000}) {
+            for (int q = 0; q < 50; q++) {
+                double lat = LAT + (random.nextDouble() - 0.5) * 0.5;
+                double lng = LNG + (random.nextDouble() - 0.5) * 0.5;
+                List<Place> expected = all.stream()
+                        .filter(p -> p.type().equals("atm") && p.active())
+                        .filter(p -> PlaceIndex.distanceMeters(lat, lng, p.latitude(), p.longitude()) <= reach)
+                        .sorted(Comparator.comparingDouble(p -> PlaceIndex.distanceMeters(lat, lng, p.latitude(), p.longitude())))
+                        .limit(5)
+                        .toList();
+                assertEquals(expected, placesOf(index.nearest(lat, lng, 5, Set.of("atm"), true, reach)));
+            }
+        }
+    }
+
+    @Test
+    void nearestStopsAtMaxDistance() {
+        load(List.of(place("atm", "far", LAT + 1, LNG, true)));
+
+        assertTrue(index.nearest(LAT, LNG, 5, Set.of("atm"), false, 50_000).isEmpty());
+        assertEquals(1, index.nearest(LAT, LNG, 5, Set.of("atm"), false, 200_000).size());
+    }
+
+    @Test
+    void withinReturnsPlacesInsideTheRadiusNearestFirst() {
+        Place near = place("hotel", "near", LAT + 0.001, LNG, true);
+        Place mid = place("hotel", "mid", LAT, LNG + 0.005, true);
+        Place far = place("hotel", "far", LAT + 0.02, LNG, true);
+        load(List.of(far, mid, near));
+
+        List<PlaceIndex.Hit> hits = index.within(LAT, LNG, 1000, Set.of("hotel"), false, 10);
+
+        assertEquals(List.of(near, mid), hits.stream().map(PlaceIndex.Hit::place).toList());
+        assertEquals(111, hits.get(0).distanceMeters(), 1);
+    }
+
+    @Test
+    void boxFiltersByTypeAndHandlesTheAntimeridian() {
+        Place inside = place("theatre", "inside", LAT, LNG, true);
+        Place otherType = place("atm", "otherType", LAT, LNG, true);
+        Place outside = place("theatre", "outside", LAT + 1, LNG, true);
+        Place east = place("theatre", "east", 0, 179.5, true);
+        Place west = place("theatre", "west", 0, -179.5, true);
+        load(List.of(inside, otherType, outside, east, west));
+
+        assertEquals(List.of(inside),
+                placesOf(index.box(LAT - 0.1, LNG - 0.1, LAT + 0.1, LNG + 0.1, Set.of("theatre"), false, 10)));
+        assertEquals(Set.of(east, west),
+                Set.copyOf(placesOf(index.box(-1, 179, 1, -179, Set.of("theatre"), false, 10))));
+    }
+
+    @Test
+    void writesMoveAndRemovePlaces() {
+        Place atm = place("atm", "atm", LAT, LNG, true);
+        load(List.of(atm));
+
+        Place moved = new Place("atm", atm.id(), "atm", null, LAT + 0.5, LNG, true);
+        index.putAfterCommit("atm", atm.id(), moved);
+        assertTrue(index.within(LAT, LNG, 1000, Set.of("atm"), false, 10).isEmpty());
+        assertEquals(1, index.within(LAT + 0.5, LNG, 1000, Set.of("atm"), false, 10).size());
+
+        // Coordinates cleared: off the map
+        index.putAfterCommit("atm", atm.id(), null);
+        assertEquals(0, index.size("atm"));
+    }
+
+    @Test
+    void rebuildKeepsWritesCommittedWhileLoading() {
+        Place kept = place("atm", "kept", LAT, LNG, true);
+        Place deleted = place("atm", "deleted", LAT, LNG, true);
+        Place created = place("atm", "created", LAT, LNG, true);
+
+        index.rebuild("atm", () -> {
+            // Commits landing between the snapshot and the swap
+            index.putAfterCommit("atm", created.id(), created);
+            index.removeAfterCommit("atm", deleted.id());
+            return List.of(kept, deleted);
+        });
+
+        assertEquals(Set.of(kept, created),
+                Set.copyOf(placesOf(index.nearest(LAT, LNG, 10, Set.of("atm"), false, 1000))));
+    }
+
+    @Test
+    void markersClusterEveryPlaceInTheViewportAtEachZoom() {
+        Random random = new Random(3);
+        List<Place> all = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            all.add(place(i % 2 == 0 ? "hotel" : "atm", "p" + i, LAT + (random.nextDouble() - 0.5) * 0.2,
+                    LNG + (random.nextDouble() - 0.5) * 0.2, true));
+        }
+        load(all);
+
+        int previous = 0;
+        for (int zoom = 0; zoom <= 16; zoom++) {
+            List<PlaceIndex.Marker> markers = index.markers(zoom, LAT - 1, LNG - 1, LAT + 1, LNG + 1, Set.of("hotel", "atm"), 1000);
+            assertEquals(500, markers.stream().mapToInt(PlaceIndex.Marker::count).sum());
+            assertTrue(markers.size() >= previous, "markers only split as the zoom grows");
+            markers.stream().filter(m -> m.count() == 1).forEach(m -> assertNotNull(m.place()));
+            previous = markers.size();
+        }
+        assertEquals(1, index.markers(0, -90, -180, 90, 180, Set.of("hotel", "atm"), 1000).size());
+        assertEquals(250, index.markers(0, -90, -180, 90, 180, Set.of("atm"), 1000).get(0).count());
+    }
+
+    @Test
+    void markersFollowWrites() {
+        Place a = place("atm", "a", LAT, LNG, true);
+        Place b = place("atm", "b", LAT + 0.0001, LNG, true);
+        load(List.of(a, b));
+        assertEquals(List.of(2), counts(index.markers(10, LAT - 0.1, LNG - 0.1, LAT + 0.1, LNG + 0.1, Set.of("atm"), 10)));
+
+        // Moving b away splits the cluster; the remaining cell names its single place
+        index.putAfterCommit("atm", b.id(), new Place("atm", b.id(), "b", null, LAT + 5, LNG, true));
+        List<PlaceIndex.Marker> near = index.markers(10, LAT - 0.1, LNG - 0.1, LAT + 0.1, LNG + 0.1, Set.of("atm"), 10);
+        assertEquals(List.of(1), counts(near));
+        assertEquals(a, near.get(0).place());
+
+        index.removeAfterCommit("atm", a.id());
+        assertTrue(index.markers(10, LAT - 0.1, LNG - 0.1, LAT + 0.1, LNG + 0.1, Set.of("atm"), 10).isEmpty());
+    }
+
+    @Test
+    void markersBeyondTheClusterZoomAreSinglePlaces() {
+        Place a = place("hotel", "a", LAT, LNG, true);
+        Place b = place("hotel", "b", LAT, LNG, true);
+        load(List.of(a, b));
+
+        List<PlaceIndex.Marker> markers = index.markers(17, LAT - 0.01, LNG - 0.01, LAT + 0.01, LNG + 0.01, Set.of("hotel"), 10);
+        assertEquals(Set.of(a, b), Set.copyOf(markers.stream().map(PlaceIndex.Marker::place).toList()));
+    }
+
+    private void load(List<Place> places) {
+        places.stream().map(Place::type).distinct()
+                .forEach(type -> index.rebuild(type, () -> places.stream().filter(p -> p.type().equals(type)).toList()));
+    }
+
+    private static List<Place> placesOf(List<PlaceIndex.Hit> hits) {
+        return hits.stream().map(PlaceIndex.Hit::place).toList();
+    }
+
+    private static List<Integer> counts(List<PlaceIndex.Marker> markers) {
+        return markers.stream().map(PlaceIndex.Marker::count).toList();
+    }
+
+    private static Place place(String type, String name, double lat, double lng, boolean active) {
+        return new Place(type, UUID.randomUUID(), name, null, lat, lng, active);
+    }
+}
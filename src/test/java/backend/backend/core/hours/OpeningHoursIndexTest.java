@@ -0,0 +1,89 @@
+package backend.backend.core.hours;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpeningHoursIndexTest {
+
+    private final OpeningHoursIndex index = new OpeningHoursIndex();
+
+    @Test
+    void parsesHandWrittenHoursIntoCanonicalText() {
+        assertEquals("Mon-Sun 08:00-22:00", WeeklySchedule.parse("8:00 AM - 10:00 PM").toString());
+        assertEquals("Mon-Fri 09:00-18:00; Sat 10:00-14:00",
+                WeeklySchedule.parse("Mon-Fri 09:00-18:00; Sat 10:00-14:00; Sun closed").toString());
+        assertEquals("Tue-Sun 12:00-15:00, 19:00-23:30",
+                WeeklySchedule.parse("Tue-Sun 12:00-15:00, 19:00-23:30").toString());
+        assertEquals("Fri, Sat 20:00-02:00", WeeklySchedule.parse("Fri, Sat 20h-2h").toString());
+        assertTrue(WeeklySchedule.parse("24/7").isAlwaysOpen());
+        assertNull(WeeklySchedule.parse(" "));
+        assertThrows(InvalidOpeningHoursException.class, () -> WeeklySchedule.parse("Whenever"));
+
+        WeeklySchedule schedule = WeeklySchedule.parse("Lundi-Vendredi 9h-12h et 14h-18h");
+        assertEquals(schedule, WeeklySchedule.parse(schedule.toString()));
+    }
+
+    @Test
+    void openAtHonoursSplitShifts() {
+        OpeningHours lunchAndDinner = hours("restaurant", "bistro", "Tue-Sun 12:00-15:00, 19:00-23:30");
+        index.rebuild("restaurant", () -> List.of(lunchAndDinner));
+
+        assertEquals(1, open(DayOfWeek.TUESDAY, "13:00", 0).size());
+        assertTrue(open(DayOfWeek.TUESDAY, "16:00", 0).isEmpty());
+        assertTrue(open(DayOfWeek.MONDAY, "13:00", 0).isEmpty());
+        assertEquals(30, open(DayOfWeek.TUESDAY, "23:00", 0).get(0).minutesLeft());
+    }
+
+    @Test
+    void overnightShiftsRunIntoTheNextDayAndAcrossTheWeek() {
+        OpeningHours club = hours("restaurant", "club", "Sun 22:00-04:00");
+        index.rebuild("restaurant", () -> List.of(club));
+
+        assertEquals(1, open(DayOfWeek.SUNDAY, "23:00", 0).size());
+        // Sunday night runs into Monday morning
+        List<OpeningHoursIndex.Open> monday = open(DayOfWeek.MONDAY, "02:00", 0);
+        assertEquals(1, monday.size());
+        assertEquals(120, monday.get(0).minutesLeft());
+        assertTrue(open(DayOfWeek.MONDAY, "04:00", 0).isEmpty());
+    }
+
+    @Test
+    void forMinutesKeepsOnlyPlacesStayingOpenLongEnough() {
+        OpeningHours library = new OpeningHours("library", UUID.randomUUID(), "library",
+                WeeklySchedule.daily(LocalTime.of(8, 0), LocalTime.of(18, 0)));
+        OpeningHours station = hours("library", "station", "24/7");
+        index.rebuild("library", () -> List.of(library, station));
+
+        assertEquals(2, open(DayOfWeek.WEDNESDAY, "17:00", 60).size());
+        List<OpeningHoursIndex.Open> late = open(DayOfWeek.WEDNESDAY, "17:30", 60);
+        assertEquals(List.of(station), late.stream().map(OpeningHoursIndex.Open::place).toList());
+        assertEquals(Integer.MAX_VALUE, late.get(0).minutesLeft());
+    }
+
+    @Test
+    void queriesOnlyTheRequestedCatalogs() {
+        index.rebuild("restaurant", () -> List.of(hours("restaurant", "r", "24/7")));
+        index.rebuild("university", () -> List.of(hours("university", "u", "24/7")));
+
+        int minute = WeeklySchedule.minuteOfWeek(DayOfWeek.MONDAY, LocalTime.NOON);
+        assertEquals(1, index.openAt(minute, 0, Set.of("university")).size());
+        assertEquals(2, index.openAt(minute, 0, Set.of("restaurant", "university")).size());
+        assertTrue(index.openAt(minute, 0, Set.of("library")).isEmpty());
+    }
+
+    private List<OpeningHoursIndex.Open> open(DayOfWeek day, String time, int forMinutes) {
+        int minute = WeeklySchedule.minuteOfWeek(day, LocalTime.parse(time));
+        return index.openAt(minute, forMinutes, Set.of("restaurant", "library"));
+    }
+
+    private static OpeningHours hours(String type, String name, String text) {
+        return new OpeningHours(type, UUID.randomUUID(), name, WeeklySchedule.parse(text));
+    }
+}
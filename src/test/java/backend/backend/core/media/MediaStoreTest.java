@@ -0,0 +1,120 @@
+package backend.backend.core.media;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MediaStoreTest {
+
+    @TempDir
+    Path root;
+
+    private MediaStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new MediaStore(root.toString(), List.of("hotels"), 1024 * 1024, 48, 32, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    void storesByContentHashOnce() throws IOException {
+        byte[] png = png(400, 300);
+
+        StoredImage first = store.store("hotels", new ByteArrayInputStream(png));
+        StoredImage second = store.store("hotels", new ByteArrayInputStream(png));
+
+        assertTrue(first.url().matches("/uploads/hotels/[0-9a-f]{64}\\.png"));
+        assertEquals("image/png", first.contentType());
+        assertFalse(first.duplicate());
+        assertTrue(second.duplicate());
+        assertEquals(first.url(), second.url());
+        try (var files = Files.list(root.resolve("hotels"))) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void writesACoverCroppedThumbnail() throws Exception {
+        StoredImage stored = store.store("hotels", new ByteArrayInputStream(png(400, 300)));
+        String name = stored.thumbnailUrl().substring(stored.thumbnailUrl().lastIndexOf('/') + 1);
+
+        MediaStore.Media media = store.thumbnail("hotels", name);
+        for (int i = 0; i < 100 && !media.immutable(); i++) {
+            Thread.sleep(20);
+            media = store.thumbnail("hotels", name);
+        }
+
+        assertTrue(media.immutable());
+        assertEquals("image/jpeg", media.contentType());
+        BufferedImage thumbnail = ImageIO.read(media.path().toFile());
+        assertEquals(48, thumbnail.getWidth());
+        assertEquals(32, thumbnail.getHeight());
+    }
+
+    @Test
+    void webpIsItsOwnThumbnail() throws IOException {
+        byte[] webp = "RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII);
+
+        StoredImage stored = store.store("hotels", new ByteArrayInputStream(webp));
+
+        assertTrue(stored.url().matches("/uploads/hotels/[0-9a-f]{64}\\.webp"));
+        assertEquals(stored.url(), stored.thumbnailUrl());
+    }
+
+    @Test
+    void corruptOriginalIsServedInPlaceOfItsThumbnail() throws Exception {
+        StoredImage stored = store.store("hotels", new ByteArrayInputStream(Arrays.copyOf(png(400, 300), 40)));
+        String name = stored.thumbnailUrl().substring(stored.thumbnailUrl().lastIndexOf('/') + 1);
+
+        Thread.sleep(200); // the failed attempt queued by the upload
+        MediaStore.Media media = store.thumbnail("hotels", name);
+
+        assertFalse(media.immutable());
+        assertEquals("image/png", media.contentType());
+        assertFalse(Files.exists(root.resolve("hotels/thumbs").resolve(name)));
+    }
+
+    @Test
+    void rejectsWhatIsNotAnImage() {
+        assertThrows(InvalidUploadException.class,
+                () -> store.store("hotels", new ByteArrayInputStream("<html></html>".getBytes())));
+        assertThrows(InvalidUploadException.class,
+                () -> store.store("secrets", new ByteArrayInputStream(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})));
+    }
+
+    @Test
+    void rejectsTooLargeUploads() {
+        byte[] large = new byte[1024 * 1024 + 1];
+        large[0] = (byte) 0xFF;
+        large[1] = (byte) 0xD8;
+        large[2] = (byte) 0xFF;
+
+        assertThrows(InvalidUploadException.class, () -> store.store("hotels", new ByteArrayInputStream(large)));
+        assertFalse(Files.exists(root.resolve("hotels")));
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,57 @@
+package backend.backend.core.sql;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementCounterTest {
+
+    private final StatementCounter counter = new StatementCounter();
+
+    @AfterEach
+    void tearDown() {
+        StatementCounter.close();
+    }
+
+    @Test
+    void countsOnlyWhileAScopeIsOpen() {
+        assertEquals("select 1", counter.inspect("select 1"));
+        assertNull(StatementCounter.close());
+
+        StatementCounter.open("GET /api/job-listings", 2, false);
+        counter.inspect("select 1");
+        counter.inspect("select 2");
+        StatementCounter.Scope scope = StatementCounter.close();
+
+        assertEquals(2, scope.count());
+        assertFalse(scope.exceeded());
+        counter.inspect("select 3");
+        assertEquals(2, scope.count());
+    }
+
+    @Test
+    void reportsTheMostRepeatedStatement() {
+        StatementCounter.open("GET /api/business-news", 2, false);
+        counter.inspect("select n from business_news n");
+        for (int i = 0; i < 5; i++) {
+            counter.inspect("select u from users u\n   where u.id = ?");
+        }
+        StatementCounter.Scope scope = StatementCounter.close();
+
+        assertTrue(scope.exceeded());
+        assertEquals("GET /api/business-news ran 6 SQL statements (budget 2); "
+                + "most repeated (5x): select u from users u where u.id = ?", scope.report());
+    }
+
+    @Test
+    void failFastThrowsOnTheFirstStatementOverBudget() {
+        StatementCounter.open("GET /api/companies", 1, true);
+        counter.inspect("select 1");
+
+        QueryBudgetExceededException e =
+                assertThrows(QueryBudgetExceededException.class, () -> counter.inspect("select 2"));
+        assertTrue(e.getMessage().startsWith("GET /api/companies ran 2 SQL statements (budget 1)"));
+        assertDoesNotThrow(() -> counter.inspect("rollback work"));
+    }
+}
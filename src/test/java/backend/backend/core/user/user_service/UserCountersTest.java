@@ -0,0 +1,49 @@
+package backend.backend.core.user.user_service;
+
+import backend.backend.core.user.user_repository.UserRepository;
+import backend.backend.enums.Role;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserCountersTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserCounters counters = new UserCounters(userRepository);
+
+    @Test
+    void reconcileReplacesDriftWithTheCountedRows() {
+        counters.userAdded(Role.TOURIST, true);
+        when(userRepository.countGroupedByRoleAndActive()).thenReturn(rows(
+                new Object[]{Role.TOURIST, true, 3L},
+                new Object[]{Role.TOURIST, false, 2L}));
+
+        counters.reconcile();
+
+        assertEquals(5, counters.countByRole(Role.TOURIST));
+        assertEquals(3, counters.stats().getByRole().get(Role.TOURIST).active());
+    }
+
+    @Test
+    void reconcileKeepsUpdatesAppliedWhileTheQueryRuns() {
+        counters.userAdded(Role.STUDENT, true);
+        when(userRepository.countGroupedByRoleAndActive()).thenAnswer(invocation -> {
+            // Committed after the query read its snapshot: not in the rows below
+            counters.userAdded(Role.STUDENT, true);
+            return rows(new Object[]{Role.STUDENT, true, 1L});
+        });
+
+        counters.reconcile();
+
+        assertEquals(2, counters.countByRole(Role.STUDENT));
+        assertEquals(2, counters.stats().getByRole().get(Role.STUDENT).active());
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,70 @@
+package backend.backend.security;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Rough per-request cost of the old ant pattern list versus the compiled StaticResourceMatcher.
+ * Not a test: run main() by hand (e.g. from the IDE) and compare the printed ns/request.
+ */
+public final class StaticResourceMatcherBenchmark {
+
+    private static final int ROUNDS = 200_000;
+
+    private StaticResourceMatcherBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        List<RequestMatcher> antMatchers = antMatchers();
+        StaticResourceMatcher matcher = StaticResourceMatcher.defaults(true);
+        List<MockHttpServletRequest> requests = requests();
+
+        long ant = time(requests, request -> antMatchers.stream().anyMatch(m -> m.matches(request)));
+        long compiled = time(requests, matcher::matches);
+
+        System.out.printf("ant patterns: %d ns/request, compiled matcher: %d ns/request%n", ant, compiled);
+    }
+
+    // The permitAll() patterns SecurityConfig listed before the compiled matcher
+    static List<RequestMatcher> antMatchers() {
+        return Stream.of(
+                "/", "/index.html", "/auth/**", "/api/public/**", "/shared/**", "/services/**", "/modules/**",
+                "/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html", "/swagger-resources/**", "/webjars/**",
+                "/v3/api-docs", "/v3/api-docs.yaml", "/v3/api-docs/swagger-config", "/error",
+                "/**/*.html", "/**/*.css", "/**/*.js", "/**/*.js.map", "/**/*.png", "/**/*.jpg", "/**/*.jpeg",
+                "/**/*.gif", "/**/*.svg", "/**/*.ico", "/**/*.ttf", "/**/*.woff", "/**/*.woff2", "/**/assets/**"
+        ).<RequestMatcher>map(AntPathRequestMatcher::new).toList();
+    }
+
+    static List<MockHttpServletRequest> requests() {
+        return Stream.of(
+                "/dashboards/tourist/dashboard.css", "/map/map.js", "/assets/images/hero.jpg",
+                "/modules/job/companies.html", "/api/hotels", "/api/users/stats"
+        ).map(path -> {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+            request.setServletPath(path);
+            return request;
+        }).toList();
+    }
+
+    private static long time(List<MockHttpServletRequest> requests, Predicate<MockHttpServletRequest> match) {
+        int hits = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            hits += match.test(requests.get(i % requests.size())) ? 1 : 0;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            hits += match.test(requests.get(i % requests.size())) ? 1 : 0;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (hits == 0) {
+            throw new IllegalStateException("no request matched");
+        }
+        return Math.max(1, elapsed / ROUNDS);
+    }
+}
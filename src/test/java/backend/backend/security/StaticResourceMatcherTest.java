@@ -0,0 +1,55 @@
+package backend.backend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticResourceMatcherTest {
+
+    private final StaticResourceMatcher matcher = StaticResourceMatcher.defaults(true);
+
+    @Test
+    void matchesStaticFilesAndDocs() {
+        assertTrue(matcher.matchesPath("/"));
+        assertTrue(matcher.matchesPath("/index.html"));
+        assertTrue(matcher.matchesPath("/auth/login.html"));
+        assertTrue(matcher.matchesPath("/dashboards/admin/dashboard.js"));
+        assertTrue(matcher.matchesPath("/assets/images/logo.PNG"));
+        assertTrue(matcher.matchesPath("/modules/tourism/hotel"));
+        assertTrue(matcher.matchesPath("/swagger-ui/index.html"));
+        assertTrue(matcher.matchesPath("/v3/api-docs"));
+        assertTrue(matcher.matchesPath("/v3/api-docs/swagger-config"));
+    }
+
+    @Test
+    void neverMatchesApiOrSuspiciousPaths() {
+        assertFalse(matcher.matchesPath("/api/users"));
+        assertFalse(matcher.matchesPath("/api/hotels/export.js"));
+        assertFalse(matcher.matchesPath("/auth/login"));
+        assertFalse(matcher.matchesPath("/assets/../api/users"));
+        assertFalse(matcher.matchesPath("/shared/api.js;jsessionid=1"));
+        assertFalse(matcher.matchesPath("/shared/%2e%2e/api/users"));
+        assertFalse(matcher.matchesPath("/v3/api-docsx"));
+        assertFalse(matcher.matchesPath("/README"));
+    }
+
+    @Test
+    void onlyBypassesReadOnlyMethods() {
+        assertTrue(matcher.matches(new MockHttpServletRequest("GET", "/shared/api.js")));
+        assertTrue(matcher.matches(new MockHttpServletRequest("HEAD", "/shared/api.js")));
+        assertFalse(matcher.matches(new MockHttpServletRequest("POST", "/shared/api.js")));
+    }
+
+    @Test
+    void agreesWithTheAntPatternsItReplaced() {
+        List<RequestMatcher> antMatchers = StaticResourceMatcherBenchmark.antMatchers();
+        for (MockHttpServletRequest request : StaticResourceMatcherBenchmark.requests()) {
+            boolean ant = antMatchers.stream().anyMatch(m -> m.matches(request));
+            assertEquals(ant, matcher.matches(request), request.getServletPath());
+        }
+    }
+}